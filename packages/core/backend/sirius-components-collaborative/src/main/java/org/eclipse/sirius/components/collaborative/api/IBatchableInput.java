@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * Used to indicate that an input can be processed in a batch with the other batchable inputs received in a row.
+ *
+ * <p>
+ * Such inputs are usually sent at a high frequency, for example while the end user is dragging an element. Each input
+ * of a batch is still handled separately and receives its own payload, but the change descriptions emitted by the
+ * handlers are coalesced and the representations are only refreshed once for the whole batch. The handlers of those
+ * inputs should thus only emit change descriptions whose last occurrence is enough to refresh the representations.
+ * </p>
+ *
+ * <p>
+ * The {@link IInputPreProcessor} are told when a batch starts, using
+ * {@link IInputPreProcessor#preProcessBatch(org.eclipse.sirius.components.core.api.IEditingContext, java.util.List)},
+ * and should keep the state they collect for the change descriptions, such as the objects changed, until the whole
+ * batch has been handled. The parameters of the coalesced change descriptions are contributed once all of them have
+ * been handled.
+ * </p>
+ *
+ * <p>
+ * Inputs whose handling depends on the state of the representations after the refresh of the previous inputs, such as
+ * the layout of a diagram which is only applied to its latest revision, must not be batchable.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IBatchableInput extends IInput {
+}
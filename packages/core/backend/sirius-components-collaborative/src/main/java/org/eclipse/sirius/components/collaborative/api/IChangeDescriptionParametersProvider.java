@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+import java.util.Map;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Used to contribute additional parameters to a change description before it is used to refresh the representations.
+ *
+ * @author sbegaudeau
+ */
+public interface IChangeDescriptionParametersProvider {
+
+    /**
+     * The name of the parameter containing the set of the semantic objects which have been touched by a semantic
+     * change.
+     */
+    String CHANGED_OBJECTS = "changedObjects";
+
+    Map<String, Object> getParameters(IEditingContext editingContext, ChangeDescription changeDescription);
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -33,10 +33,34 @@ public interface IEditingContextEventProcessor extends IDisposablePublisher {
 
     List<IRepresentationEventProcessor> getRepresentationEventProcessors();
 
+    /**
+     * Submits the given input for its processing.
+     *
+     * <p>
+     * The caller is never blocked while the input is processed, the payload is emitted once the processing is over.
+     * Cancelling the subscription to the payload before the start of the processing prevents it.
+     * </p>
+     *
+     * @param input
+     *            The input to process
+     * @return The payload computed for the input
+     */
     Mono<IPayload> handle(IInput input);
 
     Flux<IPayload> getOutputEvents();
 
+    /**
+     * Indicates if the processing of all the inputs received has ended once this event processor has been disposed.
+     *
+     * <p>
+     * An editing context can only be reused by another event processor once the event processor using it has been
+     * terminated, otherwise both of them could modify it at the same time.
+     * </p>
+     *
+     * @return <code>true</code> if the event processor has been terminated, <code>false</code> otherwise
+     */
+    boolean isTerminated();
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -79,6 +103,11 @@ public interface IEditingContextEventProcessor extends IDisposablePublisher {
             return Flux.empty();
         }
 
+        @Override
+        public boolean isTerminated() {
+            return true;
+        }
+
     }
 
 }
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Used to detect the modifications of an editing context while it should only be read.
+ *
+ * <p>
+ * The guard is enabled while the representations of an editing context are refreshed in parallel since the semantic
+ * data cannot be safely modified by several threads. The modifications are not interrupted, they are only reported
+ * once the guard is disabled so that the caller can compute again what has been computed concurrently.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IEditingContextReadOnlyGuard {
+
+    /**
+     * Prepares the given editing context to be read by several threads and starts detecting its modifications.
+     *
+     * @param editingContext
+     *            The editing context
+     */
+    void enable(IEditingContext editingContext);
+
+    /**
+     * Stops guarding the given editing context.
+     *
+     * @param editingContext
+     *            The editing context
+     * @return <code>true</code> if the editing context has been modified while it was guarded
+     */
+    boolean disable(IEditingContext editingContext);
+}
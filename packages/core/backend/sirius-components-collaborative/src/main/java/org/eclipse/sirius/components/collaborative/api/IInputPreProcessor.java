@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.api;
 
+import java.util.List;
+
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
 
@@ -25,4 +27,17 @@ import reactor.core.publisher.Sinks.Many;
 public interface IInputPreProcessor {
 
     IInput preProcess(IEditingContext editingContext, IInput input, Many<ChangeDescription> changeDescriptionSink);
+
+    /**
+     * Called once before the inputs of a batch are pre-processed and handled one by one.
+     *
+     * @param editingContext
+     *         The editing context
+     * @param inputs
+     *         The inputs of the batch
+     * @see IBatchableInput
+     */
+    default void preProcessBatch(IEditingContext editingContext, List<IInput> inputs) {
+        // Nothing to do by default
+    }
 }
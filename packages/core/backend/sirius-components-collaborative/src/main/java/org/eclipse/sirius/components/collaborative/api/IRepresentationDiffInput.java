@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * Input of a representation subscription which can ask to receive diffs instead of complete representations.
+ *
+ * @author sbegaudeau
+ */
+public interface IRepresentationDiffInput extends IInput {
+
+    /**
+     * Indicates if the subscriber can apply diffs computed between two successive versions of the representation.
+     *
+     * @return <code>true</code> if diffs should be sent, <code>false</code> or <code>null</code> otherwise
+     */
+    Boolean diff();
+
+}
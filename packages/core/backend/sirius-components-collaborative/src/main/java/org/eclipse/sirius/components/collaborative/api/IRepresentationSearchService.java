@@ -25,6 +25,24 @@ import org.eclipse.sirius.components.representations.IRepresentation;
 public interface IRepresentationSearchService {
     <T extends IRepresentation> Optional<T> findById(IEditingContext editingContext, String representationId, Class<T> representationClass);
 
+    /**
+     * Indicates if a representation exists with the given identifier.
+     *
+     * <p>
+     * Implementations should rely on the metadata of the representations only, without loading their content, since
+     * this method is used to quickly discard identifiers which do not match any representation.
+     * </p>
+     *
+     * @param editingContext
+     *            The editing context
+     * @param representationId
+     *            The identifier of the representation
+     * @return <code>true</code> if the representation exists, <code>false</code> otherwise
+     */
+    default boolean existsById(IEditingContext editingContext, String representationId) {
+        return this.findById(editingContext, representationId, IRepresentation.class).isPresent();
+    }
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -22,11 +22,28 @@ public final class Monitoring {
     public static final String EVENT_HANDLER = "siriusweb_eventhandlers";
     public static final String REPRESENTATION_EVENT_PROCESSOR_REFRESH = "siriusweb_representationeventprocessor_refresh";
     public static final String TIMER_REFRESH_REPRESENTATION = "timer_refresh_representation";
+    public static final String TIMER_REFRESH_SINGLE_REPRESENTATION = "siriusweb_representation_refresh";
     public static final String TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR = "timer_create_representation_event_processor";
     public static final String TIMER_PROCESSING_INPUT = "timer_processing_input";
 
     public static final String NAME = "name";
 
+    public static final String INPUT = "input";
+
+    public static final String KIND = "kind";
+
+    public static final String OUTCOME = "outcome";
+
+    public static final String OUTCOME_SUCCESS = "success";
+
+    public static final String OUTCOME_FAILURE = "failure";
+
+    public static final String OUTCOME_CANCELLED = "cancelled";
+
+    public static final String OUTCOME_REJECTED = "rejected";
+
+    public static final String NONE = "none";
+
     private Monitoring() {
         // Prevent instantiation
     }
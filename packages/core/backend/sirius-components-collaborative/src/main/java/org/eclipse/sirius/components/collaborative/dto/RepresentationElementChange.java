@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.dto;
+
+import java.util.Objects;
+
+/**
+ * An element of a representation which has been added, updated or moved since the previous version of the
+ * representation.
+ *
+ * <p>
+ * The element should replace, with all its descendants, the element with the same id and it should be located at the
+ * given index of the given containment feature of its parent.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record RepresentationElementChange(String parentId, String containmentFeature, int index, Object element) {
+    public RepresentationElementChange {
+        Objects.requireNonNull(parentId);
+        Objects.requireNonNull(containmentFeature);
+        Objects.requireNonNull(element);
+    }
+}
@@ -14,16 +14,20 @@ package org.eclipse.sirius.components.collaborative.editingcontext;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -31,6 +35,8 @@ import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IBatchableInput;
+import org.eclipse.sirius.components.collaborative.api.IChangeDescriptionParametersProvider;
 import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
@@ -44,6 +50,8 @@ import org.eclipse.sirius.components.collaborative.dto.DeleteRepresentationInput
 import org.eclipse.sirius.components.collaborative.dto.RenameRepresentationInput;
 import org.eclipse.sirius.components.collaborative.dto.RepresentationRefreshedEvent;
 import org.eclipse.sirius.components.collaborative.dto.RepresentationRenamedEventPayload;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceQueue;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IRepresentationRefreshExecutor;
 import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
 import org.eclipse.sirius.components.core.api.ErrorPayload;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -56,7 +64,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 
-import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
@@ -83,6 +90,10 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     public static final String INPUT = "INPUT";
 
+    private static final Duration PAYLOAD_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final Duration TERMINATION_TIMEOUT = Duration.ofSeconds(30);
+
     private final Logger logger = LoggerFactory.getLogger(EditingContextEventProcessor.class);
 
     private final ICollaborativeMessageService messageService;
@@ -91,6 +102,8 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final IEditingContextPersistenceService editingContextPersistenceService;
 
+    private final IEditingContextPersistenceQueue editingContextPersistenceQueue;
+
     private final ApplicationEventPublisher applicationEventPublisher;
 
     private final List<IEditingContextEventHandler> editingContextEventHandlers;
@@ -99,6 +112,8 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final IDanglingRepresentationDeletionService danglingRepresentationDeletionService;
 
+    private final IRepresentationRefreshExecutor representationRefreshExecutor;
+
     private final Map<String, RepresentationEventProcessorEntry> representationEventProcessors = new ConcurrentHashMap<>();
 
     private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
@@ -115,74 +130,125 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final List<IInputPostProcessor> inputPostProcessors;
 
-    private final MeterRegistry meterRegistry;
+    private final List<IChangeDescriptionParametersProvider> changeDescriptionParametersProviders;
+
+    private final EditingContextMetrics editingContextMetrics;
+
+    private final Object inputBatchLock = new Object();
+
+    private List<PendingInput> openInputBatch;
+
+    private List<ChangeDescription> batchedChangeDescriptions;
 
     public EditingContextEventProcessor(EditingContextEventProcessorParameters parameters) {
         this.messageService = parameters.messageService();
         this.editingContext = parameters.editingContext();
         this.editingContextPersistenceService = parameters.editingContextPersistenceService();
+        this.editingContextPersistenceQueue = parameters.editingContextPersistenceQueue();
         this.applicationEventPublisher = parameters.applicationEventPublisher();
         this.editingContextEventHandlers = parameters.editingContextEventHandlers();
         this.representationEventProcessorComposedFactory = parameters.representationEventProcessorComposedFactory();
         this.danglingRepresentationDeletionService = parameters.danglingRepresentationDeletionService();
+        this.representationRefreshExecutor = parameters.representationRefreshExecutor();
         this.executorService = parameters.executorServiceProvider().getExecutorService(this.editingContext);
         this.inputPreProcessors = parameters.inputPreProcessors();
         this.inputPostProcessors = parameters.inputPostProcessors();
+        this.changeDescriptionParametersProviders = parameters.changeDescriptionParametersProviders();
         this.changeDescriptionDisposable = this.setupChangeDescriptionSinkConsumer();
-        this.meterRegistry = parameters.meterRegistry();
+        this.editingContextMetrics = new EditingContextMetrics(parameters.meterRegistry());
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatch")
     private Disposable setupChangeDescriptionSinkConsumer() {
         Consumer<ChangeDescription> consumer = changeDescription -> {
-            if (ChangeKind.REPRESENTATION_TO_DELETE.equals(changeDescription.getKind())) {
-                Object representationId = changeDescription.getParameters().get(REPRESENTATION_ID);
-                if (representationId instanceof String) {
-                    DeleteRepresentationInput deleteRepresentationInput = new DeleteRepresentationInput(UUID.randomUUID(), (String) representationId);
-                    this.doHandle(Sinks.one(), deleteRepresentationInput);
-                }
-            } else if (ChangeKind.REPRESENTATION_TO_RENAME.equals(changeDescription.getKind())) {
-                Object representationId = changeDescription.getParameters().get(REPRESENTATION_ID);
-                Object representationLabel = changeDescription.getParameters().get(REPRESENTATION_LABEL);
-                if (representationId instanceof String && representationLabel instanceof String) {
-                    RenameRepresentationInput renameRepresentationInput = new RenameRepresentationInput(UUID.randomUUID(), this.getEditingContextId(), (String) representationId,
-                            (String) representationLabel);
-                    this.doHandle(Sinks.one(), renameRepresentationInput);
-                }
-            } else if (ChangeKind.NOTHING.equals(changeDescription.getKind())) {
-                return;
+            if (this.batchedChangeDescriptions != null) {
+                this.batchedChangeDescriptions.add(changeDescription);
+            } else {
+                this.processChangeDescription(changeDescription);
             }
+        };
 
-            this.publishEvent(changeDescription);
-            this.disposeRepresentationIfNeeded();
+        Consumer<Throwable> errorConsumer = throwable -> this.logger.warn(throwable.getMessage(), throwable);
 
-            var refreshRepresentationSample = Timer.start(this.meterRegistry);
+        return this.changeDescriptionSink.asFlux().subscribe(consumer, errorConsumer);
+    }
 
-            RepresentationEventProcessorEntry representationEventProcessorEntry = this.representationEventProcessors.get(changeDescription.getSourceId());
-            if (representationEventProcessorEntry != null) {
-                try {
-                    IRepresentationEventProcessor representationEventProcessor = representationEventProcessorEntry.getRepresentationEventProcessor();
-                    representationEventProcessor.refresh(changeDescription);
-                    IRepresentation representation = representationEventProcessor.getRepresentation();
-                    this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
-                } catch (Exception exception) {
-                    this.logger.warn(exception.getMessage(), exception);
-                }
+    private void processChangeDescription(ChangeDescription emittedChangeDescription) {
+        this.processContributedChangeDescription(this.contributeParameters(emittedChangeDescription));
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void processContributedChangeDescription(ChangeDescription changeDescription) {
+        if (ChangeKind.REPRESENTATION_TO_DELETE.equals(changeDescription.getKind())) {
+            Object representationId = changeDescription.getParameters().get(REPRESENTATION_ID);
+            if (representationId instanceof String) {
+                DeleteRepresentationInput deleteRepresentationInput = new DeleteRepresentationInput(UUID.randomUUID(), (String) representationId);
+                this.doHandle(Sinks.one(), deleteRepresentationInput);
             }
-            this.refreshOtherRepresentations(changeDescription);
+        } else if (ChangeKind.REPRESENTATION_TO_RENAME.equals(changeDescription.getKind())) {
+            Object representationId = changeDescription.getParameters().get(REPRESENTATION_ID);
+            Object representationLabel = changeDescription.getParameters().get(REPRESENTATION_LABEL);
+            if (representationId instanceof String && representationLabel instanceof String) {
+                RenameRepresentationInput renameRepresentationInput = new RenameRepresentationInput(UUID.randomUUID(), this.getEditingContextId(), (String) representationId,
+                        (String) representationLabel);
+                this.doHandle(Sinks.one(), renameRepresentationInput);
+            }
+        } else if (ChangeKind.NOTHING.equals(changeDescription.getKind())) {
+            return;
+        }
+
+        this.publishEvent(changeDescription);
+        this.disposeRepresentationIfNeeded();
 
-            if (this.shouldPersistTheEditingContext(changeDescription)) {
-                this.editingContextPersistenceService.persist(this.editingContext);
+        var refreshRepresentationSample = this.editingContextMetrics.start();
+
+        IRepresentation representation = null;
+        RepresentationEventProcessorEntry representationEventProcessorEntry = this.representationEventProcessors.get(changeDescription.getSourceId());
+        if (representationEventProcessorEntry != null) {
+            try {
+                IRepresentationEventProcessor representationEventProcessor = representationEventProcessorEntry.getRepresentationEventProcessor();
+                representationEventProcessor.refresh(changeDescription);
+                representation = representationEventProcessor.getRepresentation();
+                this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
+            } catch (Exception exception) {
+                this.logger.warn(exception.getMessage(), exception);
             }
-            this.danglingRepresentationDeletionService.deleteDanglingRepresentations(this.editingContext.getId());
+        }
+        this.refreshOtherRepresentations(changeDescription);
 
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_REFRESH_REPRESENTATION, "changeDescription", changeDescription.getSourceId());
-            refreshRepresentationSample.stop(timer);
-        };
+        if (this.shouldPersistTheEditingContext(changeDescription)) {
+            this.editingContextPersistenceQueue.schedule(this.editingContext.getId(), this.executorService, this::persistEditingContext);
+        }
 
-        Consumer<Throwable> errorConsumer = throwable -> this.logger.warn(throwable.getMessage(), throwable);
+        this.editingContextMetrics.recordRepresentationRefresh(refreshRepresentationSample, representation);
+    }
 
-        return this.changeDescriptionSink.asFlux().subscribe(consumer, errorConsumer);
+    /**
+     * Persists the editing context, the dangling representations are only deleted once the semantic data have been
+     * persisted since their deletion relies on them.
+     */
+    private void persistEditingContext() {
+        this.editingContextPersistenceService.persist(this.editingContext);
+        this.danglingRepresentationDeletionService.deleteDanglingRepresentations(this.editingContext.getId());
+    }
+
+    /**
+     * Adds the parameters contributed by the {@link IChangeDescriptionParametersProvider} to the given change description.
+     *
+     * @param changeDescription
+     *         The change description emitted by an event handler
+     * @return The change description to use to refresh the representations
+     */
+    private ChangeDescription contributeParameters(ChangeDescription changeDescription) {
+        Map<String, Object> contributedParameters = new HashMap<>();
+        this.changeDescriptionParametersProviders.forEach(provider -> contributedParameters.putAll(provider.getParameters(this.editingContext, changeDescription)));
+
+        if (contributedParameters.isEmpty()) {
+            return changeDescription;
+        }
+
+        Map<String, Object> parameters = new HashMap<>(changeDescription.getParameters());
+        parameters.putAll(contributedParameters);
+        return new ChangeDescription(changeDescription.getKind(), changeDescription.getSourceId(), changeDescription.getInput(), parameters);
     }
 
     private void publishEvent(ChangeDescription changeDescription) {
@@ -227,33 +293,136 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     @Override
     public Mono<IPayload> handle(IInput input) {
-        Timer.Sample handleTimer = Timer.start(this.meterRegistry);
+        Timer.Sample handleTimer = this.editingContextMetrics.start();
         if (this.executorService.isShutdown()) {
             this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId());
-            handleTimer.stop(this.meterRegistry.timer(Monitoring.EVENT_HANDLER, INPUT, input.getClass().getSimpleName(),
-                    "inputId", input.id().toString()));
+            this.editingContextMetrics.recordInputProcessing(handleTimer, input, Monitoring.OUTCOME_REJECTED);
             return Mono.empty();
         }
 
         this.logger.trace(input.toString());
 
+        // The input is submitted right away to keep the order of the inputs but the caller is never blocked, the payload
+        // is emitted from the thread of the executor service once the input has been processed and then published on
+        // another thread so that the subscribers of the payload never delay the processing of the next inputs
         One<IPayload> payloadSink = Sinks.one();
-        Future<?> future = this.executorService.submit(() -> this.doHandle(payloadSink, input));
-        try {
-            // Block until the event has been processed
-            future.get();
-        } catch (InterruptedException | ExecutionException exception) {
-            this.logger.warn(exception.getMessage(), exception);
-        }
-        handleTimer.stop(this.meterRegistry.timer(Monitoring.TIMER_PROCESSING_INPUT, "input", input.getClass().getSimpleName(),
-                "inputId", input.id().toString()));
+        CompletableFuture<Void> processing = new CompletableFuture<>();
+        this.submit(new PendingInput(input, payloadSink, processing));
+        processing.whenComplete((result, throwable) -> {
+            String outcome = Monitoring.OUTCOME_SUCCESS;
+            if (throwable instanceof CancellationException) {
+                outcome = Monitoring.OUTCOME_CANCELLED;
+                this.logger.debug("The processing of the input {} has been cancelled", input);
+            } else if (throwable != null) {
+                outcome = Monitoring.OUTCOME_FAILURE;
+                this.logger.warn(throwable.getMessage(), throwable);
+            }
+            this.editingContextMetrics.recordInputProcessing(handleTimer, input, outcome);
+        });
 
-        var timeoutFallback = Mono.just(new ErrorPayload(input.id(), this.messageService.timeout()))
+        // The timeout starts with the submission of the input in order to include the time spent waiting for the executor
+        long deadline = System.nanoTime() + PAYLOAD_TIMEOUT.toNanos();
+        var timeoutFallback = Mono.fromSupplier(() -> new ErrorPayload(input.id(), this.messageService.timeout()))
                 .doOnSuccess(payload -> this.logger.warn("Timeout fallback for the input {}", input));
-        return payloadSink.asMono()
+        return Mono.defer(() -> payloadSink.asMono()
                 .log(this.getClass().getName(), Level.FINEST, SignalType.ON_NEXT, SignalType.ON_ERROR)
-                .timeout(Duration.ofSeconds(5), timeoutFallback)
-                .doOnError(throwable -> this.logger.warn(throwable.getMessage(), throwable));
+                .doOnCancel(() -> processing.cancel(false))
+                .timeout(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())), timeoutFallback)
+                .doOnError(throwable -> this.logger.warn(throwable.getMessage(), throwable))
+                .publishOn(Schedulers.boundedElastic()));
+    }
+
+    /**
+     * Submits the given input to the executor service.
+     *
+     * <p>
+     * Batchable inputs received in a row join the batch which has been submitted for the first of them as long as this
+     * batch has not started. Any other input closes the current batch so that the order of the inputs is kept.
+     * </p>
+     *
+     * @param pendingInput
+     *         The input to process
+     */
+    private void submit(PendingInput pendingInput) {
+        synchronized (this.inputBatchLock) {
+            if (pendingInput.input() instanceof IBatchableInput && this.openInputBatch != null) {
+                this.openInputBatch.add(pendingInput);
+            } else if (pendingInput.input() instanceof IBatchableInput) {
+                List<PendingInput> inputBatch = new ArrayList<>();
+                inputBatch.add(pendingInput);
+                this.executorService.execute(() -> this.doHandleBatch(inputBatch));
+                this.openInputBatch = inputBatch;
+            } else {
+                this.openInputBatch = null;
+                this.executorService.execute(() -> this.doHandle(pendingInput));
+            }
+        }
+    }
+
+    /**
+     * Handles all the inputs of the given batch and then refreshes the representations once with the coalesced change
+     * descriptions emitted while handling them.
+     *
+     * @param inputBatch
+     *         The batch of inputs
+     */
+    private void doHandleBatch(List<PendingInput> inputBatch) {
+        List<PendingInput> pendingInputs;
+        synchronized (this.inputBatchLock) {
+            if (this.openInputBatch == inputBatch) {
+                this.openInputBatch = null;
+            }
+            pendingInputs = List.copyOf(inputBatch);
+        }
+
+        List<IInput> inputs = pendingInputs.stream()
+                .map(PendingInput::input)
+                .toList();
+        this.inputPreProcessors.forEach(preProcessor -> preProcessor.preProcessBatch(this.editingContext, inputs));
+
+        List<ChangeDescription> changeDescriptions = new ArrayList<>();
+        this.batchedChangeDescriptions = changeDescriptions;
+        try {
+            pendingInputs.forEach(this::doHandle);
+        } finally {
+            this.batchedChangeDescriptions = null;
+
+            // The parameters are all contributed first since processing a change description may handle other inputs
+            this.coalesce(changeDescriptions).stream()
+                    .map(this::contributeParameters)
+                    .toList()
+                    .forEach(this::processContributedChangeDescription);
+        }
+    }
+
+    /**
+     * Keeps only the last change description of each kind for each source since the refresh it triggers covers the
+     * previous ones.
+     *
+     * @param changeDescriptions
+     *         The change descriptions emitted while handling a batch of inputs
+     * @return The change descriptions to process
+     */
+    private Collection<ChangeDescription> coalesce(List<ChangeDescription> changeDescriptions) {
+        Map<ChangeDescriptionKey, ChangeDescription> coalescedChangeDescriptions = new LinkedHashMap<>();
+        for (ChangeDescription changeDescription : changeDescriptions) {
+            var key = new ChangeDescriptionKey(changeDescription.getKind(), changeDescription.getSourceId());
+            coalescedChangeDescriptions.remove(key);
+            coalescedChangeDescriptions.put(key, changeDescription);
+        }
+        return coalescedChangeDescriptions.values();
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void doHandle(PendingInput pendingInput) {
+        if (!pendingInput.processing().isDone()) {
+            try {
+                this.doHandle(pendingInput.payloadSink(), pendingInput.input());
+                pendingInput.processing().complete(null);
+            } catch (RuntimeException exception) {
+                pendingInput.processing().completeExceptionally(exception);
+            }
+        }
     }
 
     /**
@@ -288,15 +457,18 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
      *         The description of change to consider in order to determine if the representation should be refreshed
      */
     private void refreshOtherRepresentations(ChangeDescription changeDescription) {
-        this.representationEventProcessors.entrySet().stream()
+        List<IRepresentationEventProcessor> otherRepresentationEventProcessors = this.representationEventProcessors.entrySet().stream()
             .filter(entry -> !Objects.equals(entry.getKey(), changeDescription.getSourceId()))
             .map(Entry::getValue)
             .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor)
-            .forEach(representationEventProcessor -> {
-                representationEventProcessor.refresh(changeDescription);
-                IRepresentation representation = representationEventProcessor.getRepresentation();
-                this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
-            });
+            .toList();
+
+        this.representationRefreshExecutor.refresh(this.editingContext, changeDescription, otherRepresentationEventProcessors);
+
+        otherRepresentationEventProcessors.forEach(representationEventProcessor -> {
+            IRepresentation representation = representationEventProcessor.getRepresentation();
+            this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
+        });
     }
 
     private boolean shouldPersistTheEditingContext(ChangeDescription changeDescription) {
@@ -353,7 +525,7 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     @Override
     public <T extends IRepresentationEventProcessor> Optional<T> acquireRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
             IInput input) {
-        var getRepresentationEventProcessorSample = Timer.start(this.meterRegistry);
+        var getRepresentationEventProcessorSample = this.editingContextMetrics.start();
 
         var optionalRepresentationEventProcessor = Optional.ofNullable(this.representationEventProcessors.get(configuration.getId()))
                 .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor)
@@ -385,12 +557,8 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         }
 
         if (optionalRepresentationEventProcessor.isPresent()) {
-            var representationId = optionalRepresentationEventProcessor.get().getRepresentation().getId();
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR,
-                    "editingContext", this.editingContext.getId(),
-                    "input", input.getClass().getSimpleName(),
-                    REPRESENTATION_ID, representationId);
-            getRepresentationEventProcessorSample.stop(timer);
+            var representation = optionalRepresentationEventProcessor.get().getRepresentation();
+            this.editingContextMetrics.recordRepresentationEventProcessorCreation(getRepresentationEventProcessorSample, input, representation);
         }
 
         this.logger.trace("Representation event processors count: {}", this.representationEventProcessors.size());
@@ -432,6 +600,10 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     public void dispose() {
         this.logger.trace("Disposing the editing context event processor {}", this.editingContext.getId());
 
+        // The inputs already submitted are processed, along with their change descriptions, before the last persistence
+        this.executorService.shutdown();
+        boolean isTerminated = this.awaitTermination();
+
         EmitResult changeDescriptionEmitResult = this.changeDescriptionSink.tryEmitComplete();
         if (changeDescriptionEmitResult.isFailure()) {
             String pattern = "An error has occurred while marking the publisher as complete: {}";
@@ -439,12 +611,18 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         }
         this.changeDescriptionDisposable.dispose();
 
-        this.executorService.shutdown();
+        if (isTerminated) {
+            this.editingContextPersistenceQueue.flush(this.editingContext.getId());
+        } else {
+            // The pending persistence cannot run while an input may still modify the editing context but it should not absorb the persistences of the next event processor
+            this.logger.warn("The processing of the inputs of the editing context {} is still running, its last changes may not be persisted", this.editingContext.getId());
+            this.editingContextPersistenceQueue.discard(this.editingContext.getId());
+        }
 
         this.representationEventProcessors.values().forEach(RepresentationEventProcessorEntry::dispose);
         this.representationEventProcessors.clear();
 
-        this.editingContext.dispose();
+        // The editing context is not disposed here since the registry may reuse it for the next event processor
 
         EmitResult emitResult = this.sink.tryEmitComplete();
         if (emitResult.isFailure()) {
@@ -453,4 +631,36 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         }
 
     }
+
+    @Override
+    public boolean isTerminated() {
+        return this.executorService.isTerminated();
+    }
+
+    private boolean awaitTermination() {
+        boolean isTerminated = false;
+        try {
+            isTerminated = this.executorService.awaitTermination(TERMINATION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            this.logger.warn("The termination of the editing context event processor {} has been interrupted", this.editingContext.getId(), exception);
+            Thread.currentThread().interrupt();
+        }
+        return isTerminated;
+    }
+
+    /**
+     * An input waiting to be processed.
+     *
+     * @author sbegaudeau
+     */
+    private record PendingInput(IInput input, One<IPayload> payloadSink, CompletableFuture<Void> processing) {
+    }
+
+    /**
+     * Used to identify the change descriptions which can be coalesced.
+     *
+     * @author sbegaudeau
+     */
+    private record ChangeDescriptionKey(String kind, String sourceId) {
+    }
 }
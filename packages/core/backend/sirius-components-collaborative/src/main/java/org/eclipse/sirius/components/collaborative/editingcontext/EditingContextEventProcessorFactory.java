@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Objects;
 
 import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.sirius.components.collaborative.api.IChangeDescriptionParametersProvider;
 import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
@@ -24,6 +25,8 @@ import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorComposedFactory;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceQueue;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IRepresentationRefreshExecutor;
 import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
@@ -42,6 +45,8 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
 
     private final IEditingContextPersistenceService editingContextPersistenceService;
 
+    private final IEditingContextPersistenceQueue editingContextPersistenceQueue;
+
     private final ApplicationEventPublisher applicationEventPublisher;
 
     private final List<IEditingContextEventHandler> editingContextEventHandlers;
@@ -50,25 +55,34 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
 
     private final IDanglingRepresentationDeletionService representationDeletionService;
 
+    private final IRepresentationRefreshExecutor representationRefreshExecutor;
+
     private final IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider;
 
     private final List<IInputPreProcessor> inputPreProcessors;
 
     private final List<IInputPostProcessor> inputPostProcessors;
 
+    private final List<IChangeDescriptionParametersProvider> changeDescriptionParametersProviders;
+
     private final MeterRegistry meterRegistry;
 
     public EditingContextEventProcessorFactory(ICollaborativeMessageService messageService, ApplicationEventPublisher applicationEventPublisher,
-            IDanglingRepresentationDeletionService representationDeletionService, EditingContextEventProcessorFactoryParameters parameters) {
+            IDanglingRepresentationDeletionService representationDeletionService, EditingContextEventProcessorFactoryParameters parameters,
+            List<IChangeDescriptionParametersProvider> changeDescriptionParametersProviders, IEditingContextPersistenceQueue editingContextPersistenceQueue,
+            IRepresentationRefreshExecutor representationRefreshExecutor) {
         this.messageService = Objects.requireNonNull(messageService);
         this.editingContextPersistenceService = parameters.getEditingContextPersistenceService();
+        this.editingContextPersistenceQueue = Objects.requireNonNull(editingContextPersistenceQueue);
         this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
         this.editingContextEventHandlers = parameters.getEditingContextEventHandlers();
         this.representationEventProcessorComposedFactory = parameters.getRepresentationEventProcessorComposedFactory();
         this.representationDeletionService = Objects.requireNonNull(representationDeletionService);
+        this.representationRefreshExecutor = Objects.requireNonNull(representationRefreshExecutor);
         this.executorServiceProvider = parameters.getExecutorServiceProvider();
         this.inputPreProcessors = parameters.getInputPreProcessors();
         this.inputPostProcessors = parameters.getInputPostProcessors();
+        this.changeDescriptionParametersProviders = Objects.requireNonNull(changeDescriptionParametersProviders);
         this.meterRegistry = parameters.getMeterRegistry();
     }
 
@@ -78,13 +92,16 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
                 .messageService(this.messageService)
                 .editingContext(editingContext)
                 .editingContextPersistenceService(this.editingContextPersistenceService)
+                .editingContextPersistenceQueue(this.editingContextPersistenceQueue)
                 .applicationEventPublisher(this.applicationEventPublisher)
                 .editingContextEventHandlers(this.editingContextEventHandlers)
                 .representationEventProcessorComposedFactory(this.representationEventProcessorComposedFactory)
                 .danglingRepresentationDeletionService(this.representationDeletionService)
+                .representationRefreshExecutor(this.representationRefreshExecutor)
                 .executorServiceProvider(this.executorServiceProvider)
                 .inputPreProcessors(this.inputPreProcessors)
                 .inputPostProcessors(this.inputPostProcessors)
+                .changeDescriptionParametersProviders(this.changeDescriptionParametersProviders)
                 .meterRegistry(this.meterRegistry)
                 .build();
         return new EditingContextEventProcessor(parameters);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -17,12 +17,15 @@ import java.util.Objects;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.sirius.components.annotations.Builder;
+import org.eclipse.sirius.components.collaborative.api.IChangeDescriptionParametersProvider;
 import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
 import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorComposedFactory;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceQueue;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IRepresentationRefreshExecutor;
 import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
@@ -37,13 +40,16 @@ public record EditingContextEventProcessorParameters(
         ICollaborativeMessageService messageService,
         IEditingContext editingContext,
         IEditingContextPersistenceService editingContextPersistenceService,
+        IEditingContextPersistenceQueue editingContextPersistenceQueue,
         ApplicationEventPublisher applicationEventPublisher,
         List<IEditingContextEventHandler> editingContextEventHandlers,
         IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory,
         IDanglingRepresentationDeletionService danglingRepresentationDeletionService,
+        IRepresentationRefreshExecutor representationRefreshExecutor,
         IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider,
         List<IInputPreProcessor> inputPreProcessors,
         List<IInputPostProcessor> inputPostProcessors,
+        List<IChangeDescriptionParametersProvider> changeDescriptionParametersProviders,
         MeterRegistry meterRegistry
 ) {
 
@@ -51,13 +57,16 @@ public record EditingContextEventProcessorParameters(
         Objects.requireNonNull(messageService);
         Objects.requireNonNull(editingContext);
         Objects.requireNonNull(editingContextPersistenceService);
+        Objects.requireNonNull(editingContextPersistenceQueue);
         Objects.requireNonNull(applicationEventPublisher);
         Objects.requireNonNull(editingContextEventHandlers);
         Objects.requireNonNull(representationEventProcessorComposedFactory);
         Objects.requireNonNull(danglingRepresentationDeletionService);
+        Objects.requireNonNull(representationRefreshExecutor);
         Objects.requireNonNull(executorServiceProvider);
         Objects.requireNonNull(inputPreProcessors);
         Objects.requireNonNull(inputPostProcessors);
+        Objects.requireNonNull(changeDescriptionParametersProviders);
         Objects.requireNonNull(meterRegistry);
     }
 
@@ -80,6 +89,8 @@ public record EditingContextEventProcessorParameters(
 
         private IEditingContextPersistenceService editingContextPersistenceService;
 
+        private IEditingContextPersistenceQueue editingContextPersistenceQueue;
+
         private ApplicationEventPublisher applicationEventPublisher;
 
         private List<IEditingContextEventHandler> editingContextEventHandlers;
@@ -88,12 +99,16 @@ public record EditingContextEventProcessorParameters(
 
         private IDanglingRepresentationDeletionService danglingRepresentationDeletionService;
 
+        private IRepresentationRefreshExecutor representationRefreshExecutor;
+
         private IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider;
 
         private List<IInputPreProcessor> inputPreProcessors;
         
         private List<IInputPostProcessor> inputPostProcessors;
 
+        private List<IChangeDescriptionParametersProvider> changeDescriptionParametersProviders;
+
         private MeterRegistry meterRegistry;
 
         private EditingContextEventProcessorParametersBuilder() {
@@ -115,6 +130,11 @@ public record EditingContextEventProcessorParameters(
             return this;
         }
 
+        public EditingContextEventProcessorParametersBuilder editingContextPersistenceQueue(IEditingContextPersistenceQueue editingContextPersistenceQueue) {
+            this.editingContextPersistenceQueue = Objects.requireNonNull(editingContextPersistenceQueue);
+            return this;
+        }
+
         public EditingContextEventProcessorParametersBuilder applicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
             this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
             return this;
@@ -135,6 +155,11 @@ public record EditingContextEventProcessorParameters(
             return this;
         }
 
+        public EditingContextEventProcessorParametersBuilder representationRefreshExecutor(IRepresentationRefreshExecutor representationRefreshExecutor) {
+            this.representationRefreshExecutor = Objects.requireNonNull(representationRefreshExecutor);
+            return this;
+        }
+
         public EditingContextEventProcessorParametersBuilder executorServiceProvider(IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider) {
             this.executorServiceProvider = Objects.requireNonNull(executorServiceProvider);
             return this;
@@ -150,6 +175,11 @@ public record EditingContextEventProcessorParameters(
             return this;
         }
 
+        public EditingContextEventProcessorParametersBuilder changeDescriptionParametersProviders(List<IChangeDescriptionParametersProvider> changeDescriptionParametersProviders) {
+            this.changeDescriptionParametersProviders = Objects.requireNonNull(changeDescriptionParametersProviders);
+            return this;
+        }
+
         public EditingContextEventProcessorParametersBuilder meterRegistry(MeterRegistry meterRegistry) {
             this.meterRegistry = Objects.requireNonNull(meterRegistry);
             return this;
@@ -160,13 +190,16 @@ public record EditingContextEventProcessorParameters(
                     this.messageService,
                     this.editingContext,
                     this.editingContextPersistenceService,
+                    this.editingContextPersistenceQueue,
                     this.applicationEventPublisher,
                     this.editingContextEventHandlers,
                     this.representationEventProcessorComposedFactory,
                     this.danglingRepresentationDeletionService,
+                    this.representationRefreshExecutor,
                     this.executorServiceProvider,
                     this.inputPreProcessors,
                     this.inputPostProcessors,
+                    this.changeDescriptionParametersProviders,
                     this.meterRegistry
             );
         }
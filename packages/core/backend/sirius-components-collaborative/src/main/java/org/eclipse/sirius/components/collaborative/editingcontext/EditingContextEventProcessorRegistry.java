@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -17,12 +17,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorFactory;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextCache;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
 import org.eclipse.sirius.components.core.api.IInput;
@@ -35,10 +37,25 @@ import org.springframework.stereotype.Service;
 import jakarta.annotation.PreDestroy;
 import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Registry of the editing context event processors.
  *
+ * <p>
+ * Editing context event processors are created without any global lock so that different editing contexts can be
+ * loaded in parallel. Concurrent requests for an editing context which is being loaded wait for the end of this load
+ * instead of loading it again.
+ * </p>
+ *
+ * <p>
+ * Once its event processor has been disposed and has processed all its inputs, an editing context is released in the
+ * {@link IEditingContextCache}, if any, in order to be reused by the next event processor created for it instead of
+ * being loaded again. The cache is then responsible for disposing the editing context. A new event processor requested
+ * during the disposal of the previous one waits for the persistence of the last changes before loading the editing
+ * context.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -50,14 +67,21 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
 
     private final IEditingContextSearchService editingContextSearchService;
 
+    private final IEditingContextCache editingContextCache;
+
     private final Duration disposeDelay;
 
     private final Map<String, EditingContextEventProcessorEntry> editingContextEventProcessors = new ConcurrentHashMap<>();
 
+    private final Map<String, CompletableFuture<Optional<IEditingContextEventProcessor>>> pendingCreations = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<Void>> pendingDisposals = new ConcurrentHashMap<>();
+
     public EditingContextEventProcessorRegistry(IEditingContextEventProcessorFactory editingContextEventProcessorFactory, IEditingContextSearchService editingContextSearchService,
-            @Value("${sirius.components.editingContext.disposeDelay:1s}") Duration disposeDelay) {
+            Optional<IEditingContextCache> optionalEditingContextCache, @Value("${sirius.components.editingContext.disposeDelay:1s}") Duration disposeDelay) {
         this.editingContextEventProcessorFactory = editingContextEventProcessorFactory;
         this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
+        this.editingContextCache = optionalEditingContextCache.orElseGet(IEditingContextCache.NoOp::new);
         this.disposeDelay = disposeDelay;
     }
 
@@ -72,22 +96,65 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
 
     @Override
     public Mono<IPayload> dispatchEvent(String editingContextId, IInput input) {
-        return this.getOrCreateEditingContextEventProcessor(editingContextId).map(processor -> processor.handle(input)).orElse(Mono.empty());
+        var optionalEditingContextEventProcessor = this.getEditingContextEventProcessor(editingContextId);
+        if (optionalEditingContextEventProcessor.isPresent()) {
+            return optionalEditingContextEventProcessor.get().handle(input);
+        }
+
+        // Loading the editing context may take a while, it should not block the thread of the caller
+        return Mono.fromCallable(() -> this.getOrCreateEditingContextEventProcessor(editingContextId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(optionalProcessor -> optionalProcessor.map(processor -> processor.handle(input)).orElse(Mono.empty()));
     }
 
     @Override
-    public synchronized Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
+    public Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
         Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
         if (this.editingContextSearchService.existsById(editingContextId)) {
-            optionalEditingContextEventProcessor = Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId))
-                    .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
+            optionalEditingContextEventProcessor = this.getEditingContextEventProcessor(editingContextId);
             if (optionalEditingContextEventProcessor.isEmpty()) {
-                Optional<IEditingContext> optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
-                if (optionalEditingContext.isPresent()) {
-                    IEditingContext editingContext = optionalEditingContext.get();
+                CompletableFuture<Optional<IEditingContextEventProcessor>> creation = new CompletableFuture<>();
+                var pendingCreation = this.pendingCreations.putIfAbsent(editingContextId, creation);
+                if (pendingCreation != null) {
+                    optionalEditingContextEventProcessor = pendingCreation.join();
+                } else {
+                    try {
+                        // An editing context being disposed would be loaded before the persistence of its last changes
+                        Optional.ofNullable(this.pendingDisposals.get(editingContextId)).ifPresent(CompletableFuture::join);
+
+                        // The editing context event processor may have been created since our first check
+                        optionalEditingContextEventProcessor = this.getEditingContextEventProcessor(editingContextId)
+                                .or(() -> this.createEditingContextEventProcessor(editingContextId));
+                    } finally {
+                        creation.complete(optionalEditingContextEventProcessor);
+                        this.pendingCreations.remove(editingContextId, creation);
+                    }
+                }
+            }
+        }
+
+        return optionalEditingContextEventProcessor;
+    }
 
-                    var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
-                    Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).subscribe(canBeDisposed -> {
+    private Optional<IEditingContextEventProcessor> getEditingContextEventProcessor(String editingContextId) {
+        return Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId))
+                .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
+    }
+
+    private Optional<IEditingContextEventProcessor> createEditingContextEventProcessor(String editingContextId) {
+        Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
+
+        Optional<IEditingContext> optionalEditingContext = this.editingContextCache.acquire(editingContextId)
+                .or(() -> this.editingContextSearchService.findById(editingContextId));
+        if (optionalEditingContext.isPresent()) {
+            IEditingContext editingContext = optionalEditingContext.get();
+
+            var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
+            // The disposal waits for the end of the processing of the inputs and releases the editing context, it should not block the parallel scheduler
+            Disposable subscription = editingContextEventProcessor.canBeDisposed()
+                    .delayElements(this.disposeDelay)
+                    .publishOn(Schedulers.boundedElastic())
+                    .subscribe(canBeDisposed -> {
                         // We will wait for the delay before trying to dispose the editing context event processor
                         // We will check if the editing context event processor is still empty
                         if (canBeDisposed.booleanValue() && editingContextEventProcessor.getRepresentationEventProcessors().isEmpty()) {
@@ -97,12 +164,10 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
                         }
                     });
 
-                    var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContextEventProcessor, subscription);
-                    this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
+            var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContext, editingContextEventProcessor, subscription);
+            this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
 
-                    optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
-                }
-            }
+            optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
         }
 
         return optionalEditingContextEventProcessor;
@@ -110,16 +175,41 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
 
     @Override
     public void disposeEditingContextEventProcessor(String editingContextId) {
-        Optional.ofNullable(this.editingContextEventProcessors.remove(editingContextId)).ifPresent(EditingContextEventProcessorEntry::dispose);
+        // The disposal is registered before the removal of the event processor so that a new one waits for its end
+        CompletableFuture<Void> disposal = new CompletableFuture<>();
+        if (this.pendingDisposals.putIfAbsent(editingContextId, disposal) == null) {
+            try {
+                Optional.ofNullable(this.editingContextEventProcessors.remove(editingContextId)).ifPresent(this::disposeEditingContextEventProcessorEntry);
+            } finally {
+                disposal.complete(null);
+                this.pendingDisposals.remove(editingContextId, disposal);
+            }
+        }
 
         this.logger.trace("Editing context event processors count: {}", this.editingContextEventProcessors.size());
     }
 
+    private void disposeEditingContextEventProcessorEntry(EditingContextEventProcessorEntry editingContextEventProcessorEntry) {
+        editingContextEventProcessorEntry.dispose();
+
+        // An editing context which may still be modified by the inputs of its previous event processor is not reused
+        IEditingContext editingContext = editingContextEventProcessorEntry.getEditingContext();
+        if (editingContextEventProcessorEntry.getEditingContextEventProcessor().isTerminated()) {
+            this.editingContextCache.release(editingContext);
+        } else {
+            this.logger.warn("The editing context {} is still used by its event processor, it will not be reused", editingContext.getId());
+            editingContext.dispose();
+        }
+    }
+
     @PreDestroy
     public void dispose() {
         this.logger.debug("Shutting down all the editing context event processors");
 
-        this.editingContextEventProcessors.values().forEach(EditingContextEventProcessorEntry::dispose);
+        this.editingContextEventProcessors.values().forEach(editingContextEventProcessorEntry -> {
+            editingContextEventProcessorEntry.dispose();
+            editingContextEventProcessorEntry.getEditingContext().dispose();
+        });
         this.editingContextEventProcessors.clear();
     }
 }
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.representations.IRepresentation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the metrics of the editing context event processors.
+ *
+ * <p>
+ * The timers are only tagged with values taken from a bounded set: the type of the input, the kind of the
+ * representation and the outcome of the processing. Tagging them with the id of an input, a representation or an
+ * editing context would register a new meter for each of them, and the registry would grow for the whole life of the
+ * server.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextMetrics {
+
+    private static final Duration[] SERVICE_LEVEL_OBJECTIVES = {
+        Duration.ofMillis(10),
+        Duration.ofMillis(50),
+        Duration.ofMillis(100),
+        Duration.ofMillis(250),
+        Duration.ofMillis(500),
+        Duration.ofSeconds(1),
+        Duration.ofSeconds(5),
+    };
+
+    private final MeterRegistry meterRegistry;
+
+    public EditingContextMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(this.meterRegistry);
+    }
+
+    public void recordInputProcessing(Timer.Sample sample, IInput input, String outcome) {
+        Timer timer = Timer.builder(Monitoring.TIMER_PROCESSING_INPUT)
+                .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                .tag(Monitoring.OUTCOME, outcome)
+                .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                .register(this.meterRegistry);
+        sample.stop(timer);
+    }
+
+    public void recordRepresentationRefresh(Timer.Sample sample, IRepresentation representation) {
+        Timer timer = Timer.builder(Monitoring.TIMER_REFRESH_REPRESENTATION)
+                .tag(Monitoring.KIND, this.getKind(representation))
+                .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                .register(this.meterRegistry);
+        sample.stop(timer);
+    }
+
+    /**
+     * Records the refresh of a single representation, performed after a change of the editing context possibly in
+     * parallel with the refresh of the other representations.
+     *
+     * @param sample
+     *            The sample started before the refresh
+     * @param representation
+     *            The representation refreshed, if any
+     */
+    public void recordSingleRepresentationRefresh(Timer.Sample sample, IRepresentation representation) {
+        Timer timer = Timer.builder(Monitoring.TIMER_REFRESH_SINGLE_REPRESENTATION)
+                .tag(Monitoring.KIND, this.getKind(representation))
+                .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                .register(this.meterRegistry);
+        sample.stop(timer);
+    }
+
+    public void recordRepresentationEventProcessorCreation(Timer.Sample sample, IInput input, IRepresentation representation) {
+        Timer timer = Timer.builder(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR)
+                .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                .tag(Monitoring.KIND, this.getKind(representation))
+                .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                .register(this.meterRegistry);
+        sample.stop(timer);
+    }
+
+    private String getKind(IRepresentation representation) {
+        return Optional.ofNullable(representation)
+                .map(IRepresentation::getKind)
+                .orElse(Monitoring.NONE);
+    }
+}
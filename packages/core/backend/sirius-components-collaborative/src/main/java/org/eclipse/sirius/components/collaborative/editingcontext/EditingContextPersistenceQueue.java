@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Used to persist the editing contexts in a write-behind fashion.
+ *
+ * <p>
+ * When a delay is configured with the property <code>sirius.components.editingContext.persistenceDelay</code>, the
+ * requests received for an editing context during this delay are coalesced into a single persistence. A single
+ * scheduler thread is used to wait for the end of the delay, the persistence itself is then submitted to the executor
+ * of the editing context. Without any delay, the editing contexts are persisted immediately.
+ * </p>
+ *
+ * <p>
+ * A pending persistence is always removed from the queue once it has been executed, flushed or discarded so that the
+ * requests of the next event processor of the same editing context are never coalesced with a pending persistence
+ * whose executor has been shut down.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class EditingContextPersistenceQueue implements IEditingContextPersistenceQueue {
+
+    private static final String QUEUE_DEPTH = "siriusweb_editingcontext_persistence_queue_depth";
+
+    private static final String REQUESTS = "siriusweb_editingcontext_persistence_requests";
+
+    private static final String FLUSHES = "siriusweb_editingcontext_persistence_flushes";
+
+    private static final String FLUSH_LATENCY = "siriusweb_editingcontext_persistence_flush_latency";
+
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Logger logger = LoggerFactory.getLogger(EditingContextPersistenceQueue.class);
+
+    private final Duration persistenceDelay;
+
+    private final Map<String, PendingPersistence> pendingPersistences = new ConcurrentHashMap<>();
+
+    private final Optional<ScheduledExecutorService> optionalScheduledExecutorService;
+
+    private final Counter requestCounter;
+
+    private final Counter flushCounter;
+
+    private final Timer flushTimer;
+
+    public EditingContextPersistenceQueue(@Value("${sirius.components.editingContext.persistenceDelay:0s}") Duration persistenceDelay, MeterRegistry meterRegistry) {
+        this.persistenceDelay = persistenceDelay;
+        if (persistenceDelay.isNegative() || persistenceDelay.isZero()) {
+            this.optionalScheduledExecutorService = Optional.empty();
+        } else {
+            this.optionalScheduledExecutorService = Optional.of(Executors.newSingleThreadScheduledExecutor((Runnable runnable) -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName("Editing context persistence queue");
+                thread.setDaemon(true);
+                return thread;
+            }));
+        }
+
+        Gauge.builder(QUEUE_DEPTH, this.pendingPersistences, Map::size).register(meterRegistry);
+        this.requestCounter = Counter.builder(REQUESTS).register(meterRegistry);
+        this.flushCounter = Counter.builder(FLUSHES).register(meterRegistry);
+        this.flushTimer = Timer.builder(FLUSH_LATENCY).register(meterRegistry);
+    }
+
+    @Override
+    public void schedule(String editingContextId, Executor executor, Runnable persistenceTask) {
+        this.requestCounter.increment();
+
+        if (this.optionalScheduledExecutorService.isPresent()) {
+            var scheduledExecutorService = this.optionalScheduledExecutorService.get();
+            this.pendingPersistences.compute(editingContextId, (key, existingPendingPersistence) -> {
+                if (existingPendingPersistence != null && existingPendingPersistence.executor() == executor) {
+                    return existingPendingPersistence;
+                }
+                var pendingPersistence = new PendingPersistence(executor, persistenceTask, System.nanoTime());
+                scheduledExecutorService.schedule(() -> this.dispatch(key, pendingPersistence), this.persistenceDelay.toMillis(), TimeUnit.MILLISECONDS);
+                return pendingPersistence;
+            });
+        } else {
+            this.execute(new PendingPersistence(executor, persistenceTask, System.nanoTime()));
+        }
+    }
+
+    private void dispatch(String editingContextId, PendingPersistence pendingPersistence) {
+        if (this.pendingPersistences.remove(editingContextId, pendingPersistence)) {
+            try {
+                pendingPersistence.executor().execute(() -> this.execute(pendingPersistence));
+            } catch (RejectedExecutionException exception) {
+                // The executor of the editing context has been shut down, the persistence is not put back in the queue since its flush may already be over
+                this.logger.debug("The persistence of the editing context {} has been rejected, it will be performed by the scheduler", editingContextId, exception);
+                this.execute(pendingPersistence);
+            }
+        }
+    }
+
+    @Override
+    public void flush(String editingContextId) {
+        var pendingPersistence = this.pendingPersistences.remove(editingContextId);
+        if (pendingPersistence != null) {
+            try {
+                CompletableFuture.runAsync(() -> this.execute(pendingPersistence), pendingPersistence.executor()).get(FLUSH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException exception) {
+                // The executor of the editing context has already been shut down, nothing else can modify it anymore
+                this.execute(pendingPersistence);
+            } catch (InterruptedException exception) {
+                this.logger.warn("The flush of the editing context {} has been interrupted", editingContextId, exception);
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException exception) {
+                this.logger.warn("The flush of the editing context {} has failed", editingContextId, exception);
+            }
+        }
+    }
+
+    @Override
+    public void discard(String editingContextId) {
+        var pendingPersistence = this.pendingPersistences.remove(editingContextId);
+        if (pendingPersistence != null) {
+            this.logger.warn("The pending persistence of the editing context {} has been discarded", editingContextId);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void execute(PendingPersistence pendingPersistence) {
+        try {
+            pendingPersistence.persistenceTask().run();
+        } catch (Exception exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        } finally {
+            this.flushCounter.increment();
+            this.flushTimer.record(System.nanoTime() - pendingPersistence.requestTime(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void dispose() {
+        List.copyOf(this.pendingPersistences.keySet()).forEach(this::flush);
+        this.optionalScheduledExecutorService.ifPresent(ScheduledExecutorService::shutdown);
+    }
+
+    /**
+     * A persistence waiting for the end of the delay.
+     *
+     * @author sbegaudeau
+     */
+    private record PendingPersistence(Executor executor, Runnable persistenceTask, long requestTime) {
+    }
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextReadOnlyGuard;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IRepresentationRefreshExecutor;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Used to refresh the representations of an editing context, possibly in parallel.
+ *
+ * <p>
+ * When the refresh parallelism is greater than one, the representations are refreshed in parallel on a fork-join pool
+ * shared by all the editing contexts and bounded by this parallelism. The thread of the editing context waits for the
+ * end of all the refreshes, so the modifications of the editing context stay serialized. The executor service used to
+ * submit the refreshes can be decorated, for example to propagate the context of the request to the threads of the
+ * pool.
+ * </p>
+ *
+ * <p>
+ * Since the refresh of a representation should only read the semantic data, the editing context is guarded during this
+ * parallel phase. The guards prepare the editing context to be read concurrently and detect its modifications. If the
+ * editing context has been modified during the parallel refresh, the representations computed concurrently may be
+ * inconsistent, they are thus all refreshed again sequentially.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationRefreshExecutor implements IRepresentationRefreshExecutor {
+
+    private final Logger logger = LoggerFactory.getLogger(RepresentationRefreshExecutor.class);
+
+    private final List<IEditingContextReadOnlyGuard> editingContextReadOnlyGuards;
+
+    private final EditingContextMetrics editingContextMetrics;
+
+    private final Optional<ForkJoinPool> optionalForkJoinPool;
+
+    private final Optional<ExecutorService> optionalExecutorService;
+
+    /**
+     * The constructor.
+     *
+     * @param refreshParallelism
+     *            The number of representations which can be refreshed in parallel, they are refreshed one after the
+     *            other if it is lower than 2
+     * @param executorServiceDecorator
+     *            Used to decorate the executor service of the parallel refreshes, for example to propagate the context
+     *            of the request
+     * @param editingContextReadOnlyGuards
+     *            The guards of the editing context during the parallel refreshes
+     * @param meterRegistry
+     *            The meter registry
+     */
+    public RepresentationRefreshExecutor(int refreshParallelism, UnaryOperator<ExecutorService> executorServiceDecorator, List<IEditingContextReadOnlyGuard> editingContextReadOnlyGuards,
+            MeterRegistry meterRegistry) {
+        this.editingContextReadOnlyGuards = Objects.requireNonNull(editingContextReadOnlyGuards);
+        this.editingContextMetrics = new EditingContextMetrics(meterRegistry);
+
+        if (refreshParallelism > 1) {
+            ForkJoinPool forkJoinPool = new ForkJoinPool(refreshParallelism, (ForkJoinPool pool) -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("Representation refresh " + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+            this.optionalForkJoinPool = Optional.of(forkJoinPool);
+            this.optionalExecutorService = Optional.of(executorServiceDecorator.apply(forkJoinPool));
+        } else {
+            this.optionalForkJoinPool = Optional.empty();
+            this.optionalExecutorService = Optional.empty();
+        }
+    }
+
+    @Override
+    public void refresh(IEditingContext editingContext, ChangeDescription changeDescription, List<IRepresentationEventProcessor> representationEventProcessors) {
+        if (this.optionalExecutorService.isPresent() && representationEventProcessors.size() > 1) {
+            this.refreshInParallel(this.optionalExecutorService.get(), editingContext, changeDescription, representationEventProcessors);
+        } else {
+            representationEventProcessors.forEach(representationEventProcessor -> this.refresh(changeDescription, representationEventProcessor));
+        }
+    }
+
+    private void refreshInParallel(ExecutorService executorService, IEditingContext editingContext, ChangeDescription changeDescription, List<IRepresentationEventProcessor> representationEventProcessors) {
+        this.editingContextReadOnlyGuards.forEach(guard -> guard.enable(editingContext));
+        boolean isModified;
+        try {
+            List<Future<?>> futures = representationEventProcessors.stream()
+                    .<Future<?>>map(representationEventProcessor -> executorService.submit(() -> this.refresh(changeDescription, representationEventProcessor)))
+                    .toList();
+            futures.forEach(this::await);
+        } finally {
+            isModified = this.editingContextReadOnlyGuards.stream()
+                    .map(guard -> guard.disable(editingContext))
+                    .reduce(false, Boolean::logicalOr);
+        }
+
+        if (isModified) {
+            this.logger.warn("The editing context {} has been modified during the parallel refresh of its representations, they will be refreshed again sequentially", editingContext.getId());
+            representationEventProcessors.forEach(representationEventProcessor -> this.refresh(changeDescription, representationEventProcessor));
+        }
+    }
+
+    private void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            this.logger.warn(exception.getMessage(), exception);
+        } catch (ExecutionException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void refresh(ChangeDescription changeDescription, IRepresentationEventProcessor representationEventProcessor) {
+        var refreshSample = this.editingContextMetrics.start();
+        try {
+            representationEventProcessor.refresh(changeDescription);
+        } catch (Exception exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        } finally {
+            this.editingContextMetrics.recordSingleRepresentationRefresh(refreshSample, representationEventProcessor.getRepresentation());
+        }
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.optionalForkJoinPool.ifPresent(ForkJoinPool::shutdown);
+    }
+}
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An executor service which runs its tasks one after the other, in the order of their submission, using the threads of
+ * another executor.
+ *
+ * <p>
+ * No thread is used while there is no task to run. Each task is submitted separately to the underlying executor once
+ * the previous one is over, the tasks of several serial executor services sharing the same underlying executor are
+ * thus interleaved fairly. As with a single thread executor, the tasks already submitted are still run after a
+ * shutdown. The tasks submitted after a shutdown are given to the rejected execution handler of the underlying executor.
+ * If the underlying executor rejects the execution of the queued tasks, they are cancelled.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SerialExecutorService extends AbstractExecutorService {
+
+    private final Logger logger = LoggerFactory.getLogger(SerialExecutorService.class);
+
+    private final ThreadPoolExecutor delegate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition termination = this.lock.newCondition();
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    private boolean isRunning;
+
+    private boolean isShutdown;
+
+    public SerialExecutorService(ThreadPoolExecutor delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command);
+
+        boolean isRejected = false;
+        boolean shouldSchedule = false;
+        this.lock.lock();
+        try {
+            if (this.isShutdown) {
+                isRejected = true;
+            } else {
+                this.tasks.add(command);
+                if (!this.isRunning) {
+                    this.isRunning = true;
+                    shouldSchedule = true;
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        if (isRejected) {
+            this.delegate.getRejectedExecutionHandler().rejectedExecution(command, this.delegate);
+        } else if (shouldSchedule) {
+            this.schedule();
+        }
+    }
+
+    private void schedule() {
+        try {
+            this.delegate.execute(this::runNext);
+        } catch (RejectedExecutionException exception) {
+            this.reject(exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * Cancels the tasks which cannot be run anymore since the underlying executor has rejected them, usually because it
+     * has been shut down, so that the callers waiting for their result are not blocked.
+     */
+    private void reject(RejectedExecutionException exception) {
+        List<Runnable> rejectedTasks;
+        this.lock.lock();
+        try {
+            rejectedTasks = new ArrayList<>(this.tasks);
+            this.tasks.clear();
+            this.isRunning = false;
+            this.termination.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+
+        this.logger.warn("The underlying executor has rejected the execution of {} task(s), they will not be run", rejectedTasks.size(), exception);
+        rejectedTasks.stream()
+                .filter(Future.class::isInstance)
+                .map(Future.class::cast)
+                .forEach(future -> future.cancel(false));
+    }
+
+    private void runNext() {
+        Runnable task;
+        this.lock.lock();
+        try {
+            task = this.tasks.poll();
+        } finally {
+            this.lock.unlock();
+        }
+
+        try {
+            if (task != null) {
+                task.run();
+            }
+        } finally {
+            boolean shouldSchedule = false;
+            this.lock.lock();
+            try {
+                if (this.tasks.isEmpty()) {
+                    this.isRunning = false;
+                    this.termination.signalAll();
+                } else {
+                    shouldSchedule = true;
+                }
+            } finally {
+                this.lock.unlock();
+            }
+
+            if (shouldSchedule) {
+                this.scheduleNext();
+            }
+        }
+    }
+
+    /**
+     * Schedules the next task from a thread of the underlying executor, the rejection is not thrown back to this
+     * thread since the tasks rejected are already cancelled.
+     */
+    private void scheduleNext() {
+        try {
+            this.delegate.execute(this::runNext);
+        } catch (RejectedExecutionException exception) {
+            this.reject(exception);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        this.lock.lock();
+        try {
+            this.isShutdown = true;
+            this.termination.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        this.lock.lock();
+        try {
+            this.isShutdown = true;
+            List<Runnable> remainingTasks = new ArrayList<>(this.tasks);
+            this.tasks.clear();
+            this.termination.signalAll();
+            return remainingTasks;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        this.lock.lock();
+        try {
+            return this.isShutdown;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        this.lock.lock();
+        try {
+            return this.isShutdown && !this.isRunning;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        this.lock.lock();
+        try {
+            while (!(this.isShutdown && !this.isRunning) && remainingNanos > 0) {
+                remainingNanos = this.termination.awaitNanos(remainingNanos);
+            }
+            return this.isShutdown && !this.isRunning;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
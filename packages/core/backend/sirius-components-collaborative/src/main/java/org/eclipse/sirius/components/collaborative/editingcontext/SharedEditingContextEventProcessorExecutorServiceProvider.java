@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Provides executor services which share the same threads for all the editing contexts.
+ *
+ * <p>
+ * Each editing context still processes its tasks one after the other, in the order of their submission, but no thread
+ * is dedicated to an editing context anymore. The threads are thus only used by the editing contexts which are
+ * processing some events. The shared threads are created on demand, reused and stopped after one minute without any
+ * task. Their number is bounded, by default to a few threads per available processor, and the tasks of the editing
+ * contexts are queued until a thread is available.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SharedEditingContextEventProcessorExecutorServiceProvider implements IEditingContextEventProcessorExecutorServiceProvider {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static final int DEFAULT_THREADS_PER_PROCESSOR = 4;
+
+    private final ThreadPoolExecutor sharedExecutorService;
+
+    private final UnaryOperator<ExecutorService> executorServiceDecorator;
+
+    /**
+     * The constructor.
+     *
+     * @param executorServiceDecorator
+     *            Used to decorate the executor service of each editing context, for example to propagate the context of
+     *            the request
+     * @param maxThreadCount
+     *            The maximum number of threads shared by the editing contexts or 0 to use a few threads per available
+     *            processor
+     */
+    public SharedEditingContextEventProcessorExecutorServiceProvider(UnaryOperator<ExecutorService> executorServiceDecorator, int maxThreadCount) {
+        this.executorServiceDecorator = Objects.requireNonNull(executorServiceDecorator);
+        this.sharedExecutorService = this.createSharedExecutorService(maxThreadCount);
+    }
+
+    private ThreadPoolExecutor createSharedExecutorService(int maxThreadCount) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = (Runnable runnable) -> {
+            Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("Editing context worker " + threadCount.incrementAndGet());
+            return thread;
+        };
+
+        int poolSize = maxThreadCount;
+        if (poolSize <= 0) {
+            poolSize = Runtime.getRuntime().availableProcessors() * DEFAULT_THREADS_PER_PROCESSOR;
+        }
+
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        executorService.allowCoreThreadTimeOut(true);
+        return executorService;
+    }
+
+    @Override
+    public ExecutorService getExecutorService(IEditingContext editingContext) {
+        return this.executorServiceDecorator.apply(new SerialExecutorService(this.sharedExecutorService));
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.sharedExecutorService.shutdown();
+    }
+}
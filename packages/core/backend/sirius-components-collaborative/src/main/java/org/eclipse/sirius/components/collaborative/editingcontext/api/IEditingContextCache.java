@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Used to keep the editing contexts loaded once their event processor has been disposed.
+ *
+ * <p>
+ * An editing context is released in the cache after the disposal of its event processor and the persistence of its
+ * last changes. It is then removed from the cache when it is acquired by a new event processor, an editing context is
+ * thus never used by two event processors at the same time. Implementations are responsible for checking that an
+ * editing context released is still consistent with the persisted semantic data before returning it. The editing
+ * contexts released are owned by the cache, they must be disposed when they are evicted or not kept.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IEditingContextCache {
+
+    /**
+     * Removes the editing context with the given identifier from the cache.
+     *
+     * @param editingContextId
+     *            The identifier of the editing context
+     * @return The editing context or an empty optional if it is not in the cache or if it is not up to date anymore
+     */
+    Optional<IEditingContext> acquire(String editingContextId);
+
+    /**
+     * Stores the given editing context, which is not used by any event processor anymore, in the cache or disposes it.
+     *
+     * @param editingContext
+     *            The editing context
+     */
+    void release(IEditingContext editingContext);
+
+    /**
+     * Implementation which does not keep any editing context, used by default and for mocks in unit tests.
+     *
+     * @author sbegaudeau
+     */
+    class NoOp implements IEditingContextCache {
+
+        @Override
+        public Optional<IEditingContext> acquire(String editingContextId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void release(IEditingContext editingContext) {
+            editingContext.dispose();
+        }
+
+    }
+}
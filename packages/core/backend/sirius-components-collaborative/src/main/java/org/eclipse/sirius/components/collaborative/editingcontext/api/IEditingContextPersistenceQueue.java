@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Used to coalesce the persistence of the editing contexts.
+ *
+ * <p>
+ * The persistence tasks are always executed by the executor of the editing context since they need to access the
+ * semantic data of the editing context while no other input is being processed.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IEditingContextPersistenceQueue {
+
+    /**
+     * Schedules the persistence of the given editing context.
+     *
+     * <p>
+     * If the persistence of this editing context is already scheduled with the same executor, the request is coalesced
+     * with the pending one. A pending persistence scheduled with another executor, which belongs to a previous event
+     * processor of the editing context, is replaced.
+     * </p>
+     *
+     * @param editingContextId
+     *            The identifier of the editing context
+     * @param executor
+     *            The executor of the editing context
+     * @param persistenceTask
+     *            The task persisting the editing context
+     */
+    void schedule(String editingContextId, Executor executor, Runnable persistenceTask);
+
+    /**
+     * Executes the pending persistence of the given editing context, if any, and waits for its completion.
+     *
+     * @param editingContextId
+     *            The identifier of the editing context
+     */
+    void flush(String editingContextId);
+
+    /**
+     * Discards the pending persistence of the given editing context, if any, without executing it.
+     *
+     * <p>
+     * It is used when the executor of the editing context cannot run the persistence anymore while some inputs may
+     * still be modifying the editing context.
+     * </p>
+     *
+     * @param editingContextId
+     *            The identifier of the editing context
+     */
+    void discard(String editingContextId);
+
+    /**
+     * Implementation which persists the editing contexts immediately, used for mocks in unit tests.
+     *
+     * @author sbegaudeau
+     */
+    class NoOp implements IEditingContextPersistenceQueue {
+
+        @Override
+        public void schedule(String editingContextId, Executor executor, Runnable persistenceTask) {
+            persistenceTask.run();
+        }
+
+        @Override
+        public void flush(String editingContextId) {
+            // Do nothing
+        }
+
+        @Override
+        public void discard(String editingContextId) {
+            // Do nothing
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.util.List;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Used to refresh the representations of an editing context which have not been modified directly by a change.
+ *
+ * @author sbegaudeau
+ */
+public interface IRepresentationRefreshExecutor {
+
+    /**
+     * Refreshes the given representations and waits for the end of their refresh.
+     *
+     * @param editingContext
+     *            The editing context
+     * @param changeDescription
+     *            The description of the change which should be considered by the representations
+     * @param representationEventProcessors
+     *            The event processors of the representations to refresh
+     */
+    void refresh(IEditingContext editingContext, ChangeDescription changeDescription, List<IRepresentationEventProcessor> representationEventProcessors);
+
+    /**
+     * Implementation which refreshes the representations one after the other, without any guard nor metrics.
+     *
+     * @author sbegaudeau
+     */
+    class Sequential implements IRepresentationRefreshExecutor {
+
+        @Override
+        public void refresh(IEditingContext editingContext, ChangeDescription changeDescription, List<IRepresentationEventProcessor> representationEventProcessors) {
+            representationEventProcessors.forEach(representationEventProcessor -> representationEventProcessor.refresh(changeDescription));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.representations;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.dto.RepresentationElementChange;
+
+/**
+ * The difference between two versions of a representation.
+ *
+ * <p>
+ * The removed elements should be removed before the changes are applied in order.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record RepresentationDiff(List<RepresentationElementChange> changes, List<String> removedElementIds) {
+    public RepresentationDiff {
+        Objects.requireNonNull(changes);
+        Objects.requireNonNull(removedElementIds);
+    }
+}
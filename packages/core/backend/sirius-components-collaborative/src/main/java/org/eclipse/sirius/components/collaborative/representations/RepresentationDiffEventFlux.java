@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.representations;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.collaborative.api.IRepresentationDiffInput;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.EmitResult;
+import reactor.core.publisher.Sinks.Many;
+
+/**
+ * Publishes the new versions of a representation either completely or as diffs, depending on each subscriber.
+ *
+ * <p>
+ * Diffs are only computed when at least one subscriber has asked for them. Each subscriber which has asked for diffs
+ * only receives a diff if it has received the previous version of the representation, otherwise it receives the
+ * complete representation. The complete representation is also sent periodically to all subscribers in order to
+ * prevent any drift on the client side.
+ * </p>
+ *
+ * @param <T>
+ *            The type of the representation
+ * @author sbegaudeau
+ */
+public class RepresentationDiffEventFlux<T> {
+
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 20;
+
+    private final Logger logger = LoggerFactory.getLogger(RepresentationDiffEventFlux.class);
+
+    private final Many<Revision<T>> sink = Sinks.many().multicast().directBestEffort();
+
+    private final RepresentationDiffer representationDiffer;
+
+    private final int snapshotInterval;
+
+    private final AtomicInteger diffSubscriptionCount = new AtomicInteger();
+
+    private volatile Revision<T> currentRevision;
+
+    private RepresentationSnapshot currentSnapshot;
+
+    public RepresentationDiffEventFlux(T representation, RepresentationDiffer representationDiffer, int snapshotInterval) {
+        this.currentRevision = new Revision<>(0, Objects.requireNonNull(representation), null, Optional.empty());
+        this.representationDiffer = Objects.requireNonNull(representationDiffer);
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public T getRepresentation() {
+        return this.currentRevision.representation();
+    }
+
+    /**
+     * Publishes a new version of the representation.
+     *
+     * @param representation
+     *            The new version of the representation
+     * @param payload
+     *            The payload containing the complete representation
+     * @param diffPayloadProvider
+     *            Creates the payload containing the diff with the previous version, it can return an empty optional if
+     *            this diff cannot be sent
+     */
+    public void representationRefreshed(T representation, IPayload payload, Function<RepresentationDiff, Optional<IPayload>> diffPayloadProvider) {
+        Revision<T> previousRevision = this.currentRevision;
+        long number = previousRevision.number() + 1;
+
+        Optional<IPayload> optionalDiffPayload = Optional.empty();
+        if (this.diffSubscriptionCount.get() > 0) {
+            var optionalPreviousSnapshot = Optional.ofNullable(this.currentSnapshot).or(() -> this.representationDiffer.snapshot(previousRevision.representation()));
+            var optionalNextSnapshot = this.representationDiffer.snapshot(representation);
+            this.currentSnapshot = optionalNextSnapshot.orElse(null);
+
+            if (number % this.snapshotInterval != 0) {
+                optionalDiffPayload = optionalPreviousSnapshot.flatMap(previousSnapshot -> optionalNextSnapshot.flatMap(nextSnapshot -> this.representationDiffer.diff(previousSnapshot, nextSnapshot)))
+                        .flatMap(diffPayloadProvider);
+            }
+        } else {
+            this.currentSnapshot = null;
+        }
+
+        Revision<T> revision = new Revision<>(number, representation, payload, optionalDiffPayload);
+        this.currentRevision = revision;
+
+        if (this.sink.currentSubscriberCount() > 0) {
+            EmitResult emitResult = this.sink.tryEmitNext(revision);
+            if (emitResult.isFailure()) {
+                String pattern = "An error has occurred while emitting a {}: {}";
+                this.logger.warn(pattern, payload.getClass().getSimpleName(), emitResult);
+            }
+        }
+    }
+
+    /**
+     * Returns the flux of the payloads to send to a subscriber.
+     *
+     * @param input
+     *            The input of the subscription, used to know if the subscriber has asked for diffs
+     * @param initialPayloadProvider
+     *            Creates the first payload sent to the subscriber with the current version of the representation
+     * @return The flux of payloads
+     */
+    public Flux<IPayload> getFlux(IInput input, Function<T, IPayload> initialPayloadProvider) {
+        Flux<IPayload> flux;
+        if (input instanceof IRepresentationDiffInput diffInput && Boolean.TRUE.equals(diffInput.diff())) {
+            flux = Flux.defer(() -> {
+                AtomicLong lastRevisionNumber = new AtomicLong();
+                var initialRefresh = Mono.fromCallable(() -> {
+                    Revision<T> revision = this.currentRevision;
+                    lastRevisionNumber.set(revision.number());
+                    return initialPayloadProvider.apply(revision.representation());
+                });
+                var refreshEventFlux = this.sink.asFlux()
+                        .filter(revision -> revision.number() > lastRevisionNumber.get())
+                        .map(revision -> {
+                            boolean isNextRevision = revision.number() == lastRevisionNumber.get() + 1;
+                            lastRevisionNumber.set(revision.number());
+                            return revision.diffPayload().filter(diffPayload -> isNextRevision).orElse(revision.payload());
+                        });
+                return Flux.concat(initialRefresh, refreshEventFlux)
+                        .doOnSubscribe(subscription -> this.diffSubscriptionCount.incrementAndGet())
+                        .doFinally(signalType -> this.diffSubscriptionCount.decrementAndGet());
+            });
+        } else {
+            var initialRefresh = Mono.fromCallable(() -> initialPayloadProvider.apply(this.currentRevision.representation()));
+            flux = Flux.concat(initialRefresh, this.sink.asFlux().map(Revision::payload));
+        }
+        return flux;
+    }
+
+    public void dispose() {
+        EmitResult emitResult = this.sink.tryEmitComplete();
+        if (emitResult.isFailure()) {
+            String pattern = "An error has occurred while marking the publisher as complete: {}";
+            this.logger.warn(pattern, emitResult);
+        }
+    }
+
+    /**
+     * A version of the representation along with the payloads used to publish it.
+     *
+     * @param <T>
+     *            The type of the representation
+     * @author sbegaudeau
+     */
+    private record Revision<T>(long number, T representation, IPayload payload, Optional<IPayload> diffPayload) {
+    }
+}
@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.representations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.sirius.components.collaborative.dto.RepresentationElementChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Computes the difference between two versions of a representation.
+ *
+ * <p>
+ * Representations are considered as trees of elements identified by their "id" property. The children of an element
+ * are found in its containment features (for example "childNodes" for the nodes of a diagram). Each element is
+ * serialized once, without its children, to detect its changes. When a difference cannot be expressed using the
+ * elements of the representation, for example when the representation itself has changed, no diff is computed and the
+ * complete representation should be sent instead.
+ * </p>
+ *
+ * <p>
+ * All the differs share the same object mapper since building one requires to discover the Jackson modules available.
+ * The containment features of a differ are given to this mapper as an attribute of each serialization.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationDiffer {
+
+    private static final String ID = "id";
+
+    private static final String CONTAINMENT_FEATURES = "containmentFeatures";
+
+    private static final Map<Class<?>, List<BeanPropertyWriter>> CLASS_TO_WRITERS = new ConcurrentHashMap<>();
+
+    private static final ObjectMapper OBJECT_MAPPER;
+
+    static {
+        SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new ContainmentFeaturesSerializerModifier());
+        OBJECT_MAPPER = JsonMapper.builder()
+                .findAndAddModules()
+                .addModule(module)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .build();
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RepresentationDiffer.class);
+
+    private final Set<String> containmentFeatures;
+
+    private final Set<String> ignoredRootFeatures;
+
+    private final Map<Class<?>, List<BeanPropertyWriter>> classToContainmentFeatures = new ConcurrentHashMap<>();
+
+    private final ObjectWriter objectWriter;
+
+    public RepresentationDiffer(Set<String> containmentFeatures, Set<String> ignoredRootFeatures) {
+        this.containmentFeatures = Objects.requireNonNull(containmentFeatures);
+        this.ignoredRootFeatures = Objects.requireNonNull(ignoredRootFeatures);
+        this.objectWriter = OBJECT_MAPPER.writer().withAttribute(CONTAINMENT_FEATURES, containmentFeatures);
+    }
+
+    /**
+     * Serializes the given value without its containment features.
+     */
+    private JsonNode valueToTree(Object value) throws Exception {
+        try (TokenBuffer tokenBuffer = new TokenBuffer(OBJECT_MAPPER, false)) {
+            this.objectWriter.writeValue(tokenBuffer, value);
+            return OBJECT_MAPPER.readTree(tokenBuffer.asParser());
+        }
+    }
+
+    private List<BeanPropertyWriter> getContainmentWriters(Class<?> beanClass) {
+        return this.classToContainmentFeatures.computeIfAbsent(beanClass, key -> CLASS_TO_WRITERS.getOrDefault(key, List.of()).stream()
+                .filter(writer -> this.containmentFeatures.contains(writer.getName()))
+                .toList());
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public Optional<RepresentationSnapshot> snapshot(Object representation) {
+        Optional<RepresentationSnapshot> optionalSnapshot = Optional.empty();
+        try {
+            JsonNode rootContent = this.valueToTree(representation);
+            String rootId = rootContent.path(ID).textValue();
+            if (rootId != null && rootContent instanceof ObjectNode objectNode) {
+                objectNode.remove(this.ignoredRootFeatures);
+
+                Map<String, RepresentationSnapshot.Entry> elements = new LinkedHashMap<>();
+                if (this.collect(rootId, representation, elements)) {
+                    optionalSnapshot = Optional.of(new RepresentationSnapshot(rootId, rootContent, elements));
+                }
+            }
+        } catch (Exception exception) {
+            this.logger.warn("Unable to compute a snapshot of the representation", exception);
+        }
+        return optionalSnapshot;
+    }
+
+    private boolean collect(String parentId, Object parent, Map<String, RepresentationSnapshot.Entry> elements) throws Exception {
+        boolean isValid = true;
+
+        var writers = this.getContainmentWriters(parent.getClass());
+        for (int i = 0; i < writers.size() && isValid; i++) {
+            BeanPropertyWriter writer = writers.get(i);
+            if (writer.get(parent) instanceof Collection<?> children) {
+                int index = 0;
+                for (Object child : children) {
+                    JsonNode content = this.valueToTree(child);
+                    String id = content.path(ID).textValue();
+                    isValid = isValid && id != null && !elements.containsKey(id) && !id.equals(parentId);
+                    if (isValid) {
+                        elements.put(id, new RepresentationSnapshot.Entry(id, parentId, writer.getName(), index, child, content));
+                        isValid = this.collect(id, child, elements);
+                    }
+                    index++;
+                }
+            }
+        }
+
+        return isValid;
+    }
+
+    /**
+     * Computes the changes needed to go from the previous snapshot to the next one.
+     *
+     * <p>
+     * The changes only contain the top-most elements which have been added, updated or moved. The parent of an element
+     * whose children have been reordered is considered as updated.
+     * </p>
+     *
+     * @param previous
+     *            The snapshot of the previous version of the representation
+     * @param next
+     *            The snapshot of the next version of the representation
+     * @return The diff or an empty optional if the complete representation should be sent instead
+     */
+    public Optional<RepresentationDiff> diff(RepresentationSnapshot previous, RepresentationSnapshot next) {
+        Optional<RepresentationDiff> optionalDiff = Optional.empty();
+
+        boolean isRootUnchanged = previous.rootId().equals(next.rootId()) && previous.rootContent().equals(next.rootContent());
+        if (isRootUnchanged) {
+            Set<String> reorderedParentIds = this.getReorderedParentIds(previous, next);
+            if (!reorderedParentIds.contains(next.rootId())) {
+                Set<String> replacedIds = new HashSet<>();
+                List<RepresentationElementChange> changes = new ArrayList<>();
+                for (var entry : next.elements().values()) {
+                    if (replacedIds.contains(entry.parentId())) {
+                        replacedIds.add(entry.id());
+                    } else if (this.isChanged(previous.elements().get(entry.id()), entry) || reorderedParentIds.contains(entry.id())) {
+                        replacedIds.add(entry.id());
+                        changes.add(new RepresentationElementChange(entry.parentId(), entry.containmentFeature(), entry.index(), entry.element()));
+                    }
+                }
+
+                Set<String> removedIds = new HashSet<>();
+                List<String> removedElementIds = new ArrayList<>();
+                for (var entry : previous.elements().values()) {
+                    if (!next.elements().containsKey(entry.id())) {
+                        boolean isImplicit = removedIds.contains(entry.parentId()) || replacedIds.contains(entry.parentId());
+                        removedIds.add(entry.id());
+                        if (!isImplicit) {
+                            removedElementIds.add(entry.id());
+                        }
+                    }
+                }
+
+                optionalDiff = Optional.of(new RepresentationDiff(changes, removedElementIds));
+            }
+        }
+
+        return optionalDiff;
+    }
+
+    private boolean isChanged(RepresentationSnapshot.Entry previousEntry, RepresentationSnapshot.Entry nextEntry) {
+        return previousEntry == null
+                || !previousEntry.parentId().equals(nextEntry.parentId())
+                || !previousEntry.containmentFeature().equals(nextEntry.containmentFeature())
+                || !previousEntry.content().equals(nextEntry.content());
+    }
+
+    /**
+     * Returns the id of the elements whose children, which are both in the previous and the next snapshot, do not have
+     * the same relative order anymore.
+     */
+    private Set<String> getReorderedParentIds(RepresentationSnapshot previous, RepresentationSnapshot next) {
+        Map<String, List<String>> previousSiblings = this.getRetainedSiblings(previous, next);
+        Map<String, List<String>> nextSiblings = this.getRetainedSiblings(next, previous);
+
+        Set<String> reorderedParentIds = new HashSet<>();
+        for (var entry : nextSiblings.entrySet()) {
+            if (!entry.getValue().equals(previousSiblings.get(entry.getKey()))) {
+                reorderedParentIds.add(entry.getKey().substring(0, entry.getKey().lastIndexOf('#')));
+            }
+        }
+        return reorderedParentIds;
+    }
+
+    private Map<String, List<String>> getRetainedSiblings(RepresentationSnapshot snapshot, RepresentationSnapshot otherSnapshot) {
+        Map<String, List<String>> siblings = new LinkedHashMap<>();
+        for (var entry : snapshot.elements().values()) {
+            var otherEntry = otherSnapshot.elements().get(entry.id());
+            boolean isRetained = otherEntry != null && otherEntry.parentId().equals(entry.parentId()) && otherEntry.containmentFeature().equals(entry.containmentFeature());
+            if (isRetained) {
+                siblings.computeIfAbsent(entry.parentId() + "#" + entry.containmentFeature(), key -> new ArrayList<>()).add(entry.id());
+            }
+        }
+        return siblings;
+    }
+
+    /**
+     * Keeps the properties of the elements to navigate them and skips their containment features during the
+     * serialization.
+     *
+     * @author sbegaudeau
+     */
+    private static final class ContainmentFeaturesSerializerModifier extends BeanSerializerModifier {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+            List<BeanPropertyWriter> writers = beanProperties.stream()
+                    .map(ContainmentFeatureAwarePropertyWriter::new)
+                    .collect(Collectors.toList());
+            CLASS_TO_WRITERS.put(beanDesc.getBeanClass(), List.copyOf(writers));
+            return writers;
+        }
+    }
+
+    /**
+     * Skips the property if it is one of the containment features of the current serialization.
+     *
+     * @author sbegaudeau
+     */
+    private static final class ContainmentFeatureAwarePropertyWriter extends BeanPropertyWriter {
+
+        private static final long serialVersionUID = 1L;
+
+        public ContainmentFeatureAwarePropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            if (!(prov.getAttribute(CONTAINMENT_FEATURES) instanceof Set<?> containmentFeatures && containmentFeatures.contains(this.getName()))) {
+                super.serializeAsField(bean, gen, prov);
+            }
+        }
+    }
+}
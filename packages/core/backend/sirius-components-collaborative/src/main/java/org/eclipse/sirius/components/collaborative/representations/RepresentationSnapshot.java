@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.representations;
+
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A snapshot of a version of a representation used to compute diffs.
+ *
+ * <p>
+ * The elements are indexed by their id in the pre-order of the containment tree of the representation. The content of
+ * each element does not contain its children.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record RepresentationSnapshot(String rootId, JsonNode rootContent, Map<String, Entry> elements) {
+    public RepresentationSnapshot {
+        Objects.requireNonNull(rootId);
+        Objects.requireNonNull(rootContent);
+        Objects.requireNonNull(elements);
+    }
+
+    /**
+     * An element of the snapshot.
+     *
+     * @author sbegaudeau
+     */
+    public record Entry(String id, String parentId, String containmentFeature, int index, Object element, JsonNode content) {
+        public Entry {
+            Objects.requireNonNull(id);
+            Objects.requireNonNull(parentId);
+            Objects.requireNonNull(containmentFeature);
+            Objects.requireNonNull(element);
+            Objects.requireNonNull(content);
+        }
+    }
+}
@@ -29,22 +29,33 @@ import java.util.Optional;
  */
 public class RepresentationMigrationService {
 
-    private final RepresentationMigrationData representationMigrationData;
-
-    private Optional<String> optionalRepresentationKind = Optional.empty();
-
-    private final List<IRepresentationMigrationParticipant> migrationParticipants;
+    private final List<IRepresentationMigrationParticipant> migrationParticipantsCandidate;
 
     public RepresentationMigrationService(List<IRepresentationMigrationParticipant> migrationParticipants, RepresentationMigrationData representationMigrationData, ObjectNode root) {
-        this.optionalRepresentationKind = Optional.ofNullable(root.get("kind"))
+        Objects.requireNonNull(migrationParticipants);
+        Objects.requireNonNull(representationMigrationData);
+
+        Optional<String> optionalRepresentationKind = Optional.ofNullable(root.get("kind"))
                 .map(JsonNode::asText);
 
-        this.migrationParticipants = Objects.requireNonNull(migrationParticipants);
-        this.representationMigrationData = Objects.requireNonNull(representationMigrationData);
+        // The candidates are computed once since they are the same for every node of the representation
+        this.migrationParticipantsCandidate = migrationParticipants.stream()
+                .filter(migrationParticipant -> this.isCandidateVersion(migrationParticipant, optionalRepresentationKind, representationMigrationData))
+                .sorted(Comparator.comparing(IRepresentationMigrationParticipant::getVersion))
+                .toList();
+    }
+
+    private boolean isCandidateVersion(IRepresentationMigrationParticipant migrationParticipant, Optional<String> optionalRepresentationKind, RepresentationMigrationData representationMigrationData) {
+        return optionalRepresentationKind.filter(representationKind -> migrationParticipant.getVersion().compareTo(representationMigrationData.migrationVersion()) > 0 && migrationParticipant.getKind().equals(representationKind)).isPresent();
     }
 
-    private boolean isCandidateVersion(IRepresentationMigrationParticipant migrationParticipant) {
-        return this.optionalRepresentationKind.filter(representationKind -> migrationParticipant.getVersion().compareTo(this.representationMigrationData.migrationVersion()) > 0 && migrationParticipant.getKind().equals(representationKind)).isPresent();
+    /**
+     * Indicates if some migration participants have to be applied, otherwise the representation is already up to date.
+     *
+     * @return <code>true</code> if the representation has to be migrated
+     */
+    public boolean isMigrationNeeded() {
+        return !this.migrationParticipantsCandidate.isEmpty();
     }
 
     public void parseProperties(ObjectNode root, ObjectMapper mapper) {
@@ -69,12 +80,7 @@ public class RepresentationMigrationService {
     }
 
     private void replaceJsonNode(ObjectNode root, String currentAttribute, JsonNode currentValue) {
-        var migrationParticipantsCandidate = migrationParticipants.stream()
-                .filter(this::isCandidateVersion)
-                .sorted(Comparator.comparing(IRepresentationMigrationParticipant::getVersion))
-                .toList();
-
-        for (IRepresentationMigrationParticipant migrationParticipant : migrationParticipantsCandidate) {
+        for (IRepresentationMigrationParticipant migrationParticipant : this.migrationParticipantsCandidate) {
             migrationParticipant.replaceJsonNode(root, currentAttribute, currentValue);
         }
     }
@@ -0,0 +1,326 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextCache;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the editing context event processor registry.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextEventProcessorRegistryTests {
+
+    private static final String SLOW_EDITING_CONTEXT_ID = "slow";
+
+    private static final String FAST_EDITING_CONTEXT_ID = "fast";
+
+    @Test
+    public void testConcurrentCreations() throws Exception {
+        CountDownLatch slowLoadStarted = new CountDownLatch(1);
+        CountDownLatch slowLoadReleased = new CountDownLatch(1);
+        Map<String, AtomicInteger> loadCounts = new ConcurrentHashMap<>();
+
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                loadCounts.computeIfAbsent(editingContextId, key -> new AtomicInteger()).incrementAndGet();
+                if (SLOW_EDITING_CONTEXT_ID.equals(editingContextId)) {
+                    slowLoadStarted.countDown();
+                    try {
+                        slowLoadReleased.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return Optional.of(() -> editingContextId);
+            }
+        };
+
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> new IEditingContextEventProcessor.NoOp(), editingContextSearchService, Optional.empty(), Duration.ofSeconds(1));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            var firstSlowCreation = CompletableFuture.supplyAsync(() -> registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID), executorService);
+            assertThat(slowLoadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            var secondSlowCreation = CompletableFuture.supplyAsync(() -> registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID), executorService);
+
+            assertThat(registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID)).isPresent();
+            assertThat(firstSlowCreation).isNotDone();
+
+            slowLoadReleased.countDown();
+
+            var firstEditingContextEventProcessor = firstSlowCreation.get(10, TimeUnit.SECONDS);
+            var secondEditingContextEventProcessor = secondSlowCreation.get(10, TimeUnit.SECONDS);
+            assertThat(firstEditingContextEventProcessor).isPresent();
+            assertThat(secondEditingContextEventProcessor).isPresent();
+            assertThat(secondEditingContextEventProcessor.get()).isSameAs(firstEditingContextEventProcessor.get());
+            assertThat(loadCounts.get(SLOW_EDITING_CONTEXT_ID)).hasValue(1);
+        } finally {
+            slowLoadReleased.countDown();
+            executorService.shutdownNow();
+            registry.dispose();
+        }
+    }
+
+    @Test
+    public void testDispatchEventDoesNotWaitForTheLoadOfTheEditingContext() throws Exception {
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                loadCount.incrementAndGet();
+                try {
+                    loadReleased.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return Optional.of(() -> editingContextId);
+            }
+        };
+
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> new IEditingContextEventProcessor.NoOp(), editingContextSearchService, Optional.empty(), Duration.ofSeconds(1));
+        try {
+            var payload = registry.dispatchEvent(SLOW_EDITING_CONTEXT_ID, UUID::randomUUID).toFuture();
+            assertThat(payload).isNotDone();
+
+            loadReleased.countDown();
+
+            assertThat(payload.get(10, TimeUnit.SECONDS)).isNull();
+            assertThat(loadCount).hasValue(1);
+            assertThat(registry.getEditingContextEventProcessors()).hasSize(1);
+        } finally {
+            loadReleased.countDown();
+            registry.dispose();
+        }
+    }
+
+    @Test
+    public void testEditingContextReusedFromTheCache() {
+        AtomicInteger loadCount = new AtomicInteger();
+        AtomicBoolean isDisposed = new AtomicBoolean();
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                loadCount.incrementAndGet();
+                return Optional.of(new IEditingContext() {
+                    @Override
+                    public String getId() {
+                        return editingContextId;
+                    }
+
+                    @Override
+                    public void dispose() {
+                        isDisposed.set(true);
+                    }
+                });
+            }
+        };
+
+        Map<String, IEditingContext> cachedEditingContexts = new ConcurrentHashMap<>();
+        IEditingContextCache editingContextCache = new IEditingContextCache() {
+            @Override
+            public Optional<IEditingContext> acquire(String editingContextId) {
+                return Optional.ofNullable(cachedEditingContexts.remove(editingContextId));
+            }
+
+            @Override
+            public void release(IEditingContext editingContext) {
+                cachedEditingContexts.put(editingContext.getId(), editingContext);
+            }
+        };
+
+        List<IEditingContext> processedEditingContexts = new ArrayList<>();
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> {
+            processedEditingContexts.add(editingContext);
+            return new IEditingContextEventProcessor.NoOp();
+        }, editingContextSearchService, Optional.of(editingContextCache), Duration.ofSeconds(1));
+        try {
+            assertThat(registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID)).isPresent();
+            assertThat(cachedEditingContexts).isEmpty();
+
+            registry.disposeEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID);
+            assertThat(cachedEditingContexts).containsOnlyKeys(FAST_EDITING_CONTEXT_ID);
+
+            assertThat(registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID)).isPresent();
+            assertThat(cachedEditingContexts).isEmpty();
+            assertThat(loadCount).hasValue(1);
+            assertThat(processedEditingContexts).hasSize(2);
+            assertThat(processedEditingContexts.get(1)).isSameAs(processedEditingContexts.get(0));
+
+            // An editing context released in the cache is owned by the cache and it is thus not disposed
+            assertThat(isDisposed).isFalse();
+        } finally {
+            registry.dispose();
+        }
+    }
+
+    @Test
+    public void testEditingContextNotReleasedWhileStillUsed() {
+        List<IEditingContext> disposedEditingContexts = new ArrayList<>();
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                return Optional.of(new IEditingContext() {
+                    @Override
+                    public String getId() {
+                        return editingContextId;
+                    }
+
+                    @Override
+                    public void dispose() {
+                        disposedEditingContexts.add(this);
+                    }
+                });
+            }
+        };
+
+        List<IEditingContext> releasedEditingContexts = new ArrayList<>();
+        IEditingContextCache editingContextCache = new IEditingContextCache() {
+            @Override
+            public Optional<IEditingContext> acquire(String editingContextId) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void release(IEditingContext editingContext) {
+                releasedEditingContexts.add(editingContext);
+            }
+        };
+
+        // The processing of the inputs of this event processor never ends
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> new IEditingContextEventProcessor.NoOp() {
+            @Override
+            public boolean isTerminated() {
+                return false;
+            }
+        }, editingContextSearchService, Optional.of(editingContextCache), Duration.ofSeconds(1));
+        try {
+            assertThat(registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID)).isPresent();
+
+            registry.disposeEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID);
+            assertThat(registry.getEditingContextEventProcessors()).isEmpty();
+            assertThat(releasedEditingContexts).isEmpty();
+            assertThat(disposedEditingContexts).hasSize(1);
+        } finally {
+            registry.dispose();
+        }
+    }
+
+    @Test
+    public void testCreationWaitsForThePendingDisposal() throws Exception {
+        CountDownLatch disposalStarted = new CountDownLatch(1);
+        CountDownLatch disposalReleased = new CountDownLatch(1);
+        AtomicInteger loadCount = new AtomicInteger();
+        AtomicBoolean isLoadedDuringTheDisposal = new AtomicBoolean();
+
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                loadCount.incrementAndGet();
+                if (disposalStarted.getCount() == 0 && disposalReleased.getCount() > 0) {
+                    isLoadedDuringTheDisposal.set(true);
+                }
+                return Optional.of(() -> editingContextId);
+            }
+        };
+
+        // The disposal of the first event processor persists the last changes of the editing context
+        AtomicInteger processorCount = new AtomicInteger();
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> new IEditingContextEventProcessor.NoOp() {
+            @Override
+            public void dispose() {
+                if (processorCount.get() == 1) {
+                    disposalStarted.countDown();
+                    try {
+                        disposalReleased.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }, editingContextSearchService, Optional.empty(), Duration.ofSeconds(1));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            assertThat(registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID)).isPresent();
+            processorCount.incrementAndGet();
+
+            var disposal = CompletableFuture.runAsync(() -> registry.disposeEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID), executorService);
+            assertThat(disposalStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            var creation = CompletableFuture.supplyAsync(() -> registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID), executorService);
+            assertThat(creation).isNotDone();
+
+            processorCount.incrementAndGet();
+            disposalReleased.countDown();
+            disposal.get(10, TimeUnit.SECONDS);
+
+            assertThat(creation.get(10, TimeUnit.SECONDS)).isPresent();
+            assertThat(loadCount).hasValue(2);
+            assertThat(isLoadedDuringTheDisposal).isFalse();
+        } finally {
+            disposalReleased.countDown();
+            executorService.shutdownNow();
+            registry.dispose();
+        }
+    }
+}
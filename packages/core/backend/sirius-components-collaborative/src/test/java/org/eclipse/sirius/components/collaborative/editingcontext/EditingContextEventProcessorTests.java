@@ -0,0 +1,389 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IBatchableInput;
+import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationConfiguration;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorComposedFactory;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceQueue;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IRepresentationRefreshExecutor;
+import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Unit tests of the editing context event processor.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextEventProcessorTests {
+
+    private static final String EDITING_CONTEXT_ID = "editingContextId";
+
+    private static final String REPRESENTATION_ID = "representationId";
+
+    private static final int BATCHABLE_INPUT_COUNT = 10;
+
+    /**
+     * An input which waits for the end of the test setup during its processing.
+     *
+     * @author sbegaudeau
+     */
+    private record BlockingInput(UUID id) implements IInput {
+    }
+
+    /**
+     * An input which can be batched.
+     *
+     * @author sbegaudeau
+     */
+    private record MoveInput(UUID id) implements IBatchableInput {
+    }
+
+    /**
+     * An input which cannot be batched and which depends on the refresh triggered by the previous inputs.
+     *
+     * @author sbegaudeau
+     */
+    private record LayoutInput(UUID id) implements IInput {
+    }
+
+    @Test
+    public void testBatchableInputsRefreshTheRepresentationsOnce() throws InterruptedException {
+        CountDownLatch inputsSubmitted = new CountDownLatch(1);
+        List<IInput> handledInputs = Collections.synchronizedList(new ArrayList<>());
+        List<ChangeDescription> refreshedChangeDescriptions = Collections.synchronizedList(new ArrayList<>());
+
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                if (input instanceof BlockingInput) {
+                    try {
+                        inputsSubmitted.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                handledInputs.add(input);
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, REPRESENTATION_ID, input));
+            }
+        };
+
+        IRepresentationRefreshExecutor representationRefreshExecutor = (editingContext, changeDescription, representationEventProcessors) -> refreshedChangeDescriptions.add(changeDescription);
+
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        var editingContextEventProcessor = new EditingContextEventProcessor(this.createParameters(editingContextEventHandler, representationRefreshExecutor, executorService, new SimpleMeterRegistry()));
+        try {
+            var blockingInput = new BlockingInput(UUID.randomUUID());
+            var blockingPayload = editingContextEventProcessor.handle(blockingInput).toFuture();
+
+            List<IInput> moveInputs = new ArrayList<>();
+            List<Mono<IPayload>> movePayloads = new ArrayList<>();
+            for (int i = 0; i < BATCHABLE_INPUT_COUNT; i++) {
+                var moveInput = new MoveInput(UUID.randomUUID());
+                moveInputs.add(moveInput);
+                movePayloads.add(editingContextEventProcessor.handle(moveInput));
+            }
+            inputsSubmitted.countDown();
+
+            assertThat(Mono.fromFuture(blockingPayload).block(Duration.ofSeconds(10))).isInstanceOf(SuccessPayload.class);
+            for (int i = 0; i < BATCHABLE_INPUT_COUNT; i++) {
+                IPayload payload = movePayloads.get(i).block(Duration.ofSeconds(10));
+                assertThat(payload).isInstanceOf(SuccessPayload.class);
+                assertThat(payload.id()).isEqualTo(moveInputs.get(i).id());
+            }
+
+            // The representations are refreshed once the whole batch has been handled, before the processing of the next input
+            var lastInput = new BlockingInput(UUID.randomUUID());
+            assertThat(editingContextEventProcessor.handle(lastInput).block(Duration.ofSeconds(10))).isInstanceOf(SuccessPayload.class);
+
+            assertThat(handledInputs).hasSize(BATCHABLE_INPUT_COUNT + 2);
+            assertThat(handledInputs.subList(1, BATCHABLE_INPUT_COUNT + 1)).isEqualTo(moveInputs);
+            assertThat(refreshedChangeDescriptions).hasSizeGreaterThanOrEqualTo(2);
+            assertThat(refreshedChangeDescriptions.get(0).getInput()).isEqualTo(blockingInput);
+            assertThat(refreshedChangeDescriptions.get(1).getInput()).isEqualTo(moveInputs.get(BATCHABLE_INPUT_COUNT - 1));
+        } finally {
+            editingContextEventProcessor.dispose();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInputFollowingABatchHandledAfterTheRefresh() {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                events.add("handle " + input.getClass().getSimpleName());
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+                if (input instanceof MoveInput) {
+                    changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, REPRESENTATION_ID, input));
+                }
+            }
+        };
+
+        IRepresentationRefreshExecutor representationRefreshExecutor = (editingContext, changeDescription, representationEventProcessors) -> {
+            events.add("refresh " + changeDescription.getInput().getClass().getSimpleName());
+        };
+
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        var editingContextEventProcessor = new EditingContextEventProcessor(this.createParameters(editingContextEventHandler, representationRefreshExecutor, executorService, new SimpleMeterRegistry()));
+        try {
+            // A layout is only applied to the latest revision of a diagram, it must thus be handled after the refresh triggered by the move
+            var movePayload = editingContextEventProcessor.handle(new MoveInput(UUID.randomUUID()));
+            var layoutPayload = editingContextEventProcessor.handle(new LayoutInput(UUID.randomUUID()));
+
+            assertThat(movePayload.block(Duration.ofSeconds(10))).isInstanceOf(SuccessPayload.class);
+            assertThat(layoutPayload.block(Duration.ofSeconds(10))).isInstanceOf(SuccessPayload.class);
+            assertThat(events).containsExactly("handle MoveInput", "refresh MoveInput", "handle LayoutInput");
+        } finally {
+            editingContextEventProcessor.dispose();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMetersStayBoundedUnderSustainedLoad() {
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, UUID.randomUUID().toString(), input));
+            }
+        };
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        IRepresentationRefreshExecutor representationRefreshExecutor = (editingContext, changeDescription, representationEventProcessors) -> { };
+        var editingContextEventProcessor = new EditingContextEventProcessor(this.createParameters(editingContextEventHandler, representationRefreshExecutor, executorService, meterRegistry));
+        try {
+            this.sendInputs(editingContextEventProcessor, BATCHABLE_INPUT_COUNT);
+            int meterCount = meterRegistry.getMeters().size();
+
+            this.sendInputs(editingContextEventProcessor, BATCHABLE_INPUT_COUNT * 100);
+            assertThat(meterRegistry.getMeters()).hasSize(meterCount);
+        } finally {
+            editingContextEventProcessor.dispose();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInputsSubmittedBeforeTheDisposalPersisted() throws Exception {
+        CountDownLatch inputStarted = new CountDownLatch(1);
+        CountDownLatch inputReleased = new CountDownLatch(1);
+        AtomicInteger persistenceCount = new AtomicInteger();
+
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                inputStarted.countDown();
+                try {
+                    inputReleased.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, REPRESENTATION_ID, input));
+            }
+        };
+
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        IRepresentationRefreshExecutor representationRefreshExecutor = (editingContext, changeDescription, representationEventProcessors) -> { };
+        IEditingContextPersistenceService editingContextPersistenceService = editingContext -> persistenceCount.incrementAndGet();
+        var editingContextEventProcessor = new EditingContextEventProcessor(
+                this.createParameters(editingContextEventHandler, representationRefreshExecutor, executorService, new SimpleMeterRegistry(), editingContextPersistenceService));
+        try {
+            editingContextEventProcessor.handle(new BlockingInput(UUID.randomUUID())).subscribe();
+            assertThat(inputStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // The disposal waits for the end of the input being processed before its last persistence
+            var disposal = CompletableFuture.runAsync(editingContextEventProcessor::dispose);
+            assertThat(editingContextEventProcessor.isTerminated()).isFalse();
+
+            inputReleased.countDown();
+            disposal.get(10, TimeUnit.SECONDS);
+
+            assertThat(editingContextEventProcessor.isTerminated()).isTrue();
+            assertThat(persistenceCount).hasValue(1);
+        } finally {
+            inputReleased.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOnlySemanticChangesPersisted() {
+        AtomicInteger persistenceCount = new AtomicInteger();
+
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+                if (input instanceof LayoutInput) {
+                    changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.REPRESENTATION_RENAMING, REPRESENTATION_ID, input));
+                } else {
+                    changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, REPRESENTATION_ID, input));
+                }
+            }
+        };
+
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        IRepresentationRefreshExecutor representationRefreshExecutor = (editingContext, changeDescription, representationEventProcessors) -> { };
+        IEditingContextPersistenceService editingContextPersistenceService = editingContext -> persistenceCount.incrementAndGet();
+        var editingContextEventProcessor = new EditingContextEventProcessor(
+                this.createParameters(editingContextEventHandler, representationRefreshExecutor, executorService, new SimpleMeterRegistry(), editingContextPersistenceService));
+        try {
+            // The payload of an input is only received once the previous inputs have been completely processed
+            assertThat(editingContextEventProcessor.handle(new LayoutInput(UUID.randomUUID())).block(Duration.ofSeconds(10))).isInstanceOf(SuccessPayload.class);
+            assertThat(editingContextEventProcessor.handle(new LayoutInput(UUID.randomUUID())).block(Duration.ofSeconds(10))).isInstanceOf(SuccessPayload.class);
+            assertThat(persistenceCount).hasValue(0);
+
+            assertThat(editingContextEventProcessor.handle(new BlockingInput(UUID.randomUUID())).block(Duration.ofSeconds(10))).isInstanceOf(SuccessPayload.class);
+            assertThat(editingContextEventProcessor.handle(new LayoutInput(UUID.randomUUID())).block(Duration.ofSeconds(10))).isInstanceOf(SuccessPayload.class);
+            assertThat(persistenceCount).hasValue(1);
+        } finally {
+            editingContextEventProcessor.dispose();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPayloadNotPublishedOnTheThreadOfTheExecutor() {
+        AtomicReference<Thread> executorThread = new AtomicReference<>();
+        IEditingContextEventHandler editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                executorThread.set(Thread.currentThread());
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        IRepresentationRefreshExecutor representationRefreshExecutor = (editingContext, changeDescription, representationEventProcessors) -> { };
+        var editingContextEventProcessor = new EditingContextEventProcessor(this.createParameters(editingContextEventHandler, representationRefreshExecutor, executorService, new SimpleMeterRegistry()));
+        try {
+            // The subscribers of the payload must not block the processing of the next inputs
+            Thread subscriberThread = editingContextEventProcessor.handle(new LayoutInput(UUID.randomUUID()))
+                    .map(payload -> Thread.currentThread())
+                    .block(Duration.ofSeconds(10));
+            assertThat(subscriberThread).isNotNull().isNotSameAs(executorThread.get());
+        } finally {
+            editingContextEventProcessor.dispose();
+            executorService.shutdownNow();
+        }
+    }
+
+    private void sendInputs(EditingContextEventProcessor editingContextEventProcessor, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(editingContextEventProcessor.handle(new BlockingInput(UUID.randomUUID())).block(Duration.ofSeconds(10))).isInstanceOf(SuccessPayload.class);
+            assertThat(editingContextEventProcessor.handle(new MoveInput(UUID.randomUUID())).block(Duration.ofSeconds(10))).isInstanceOf(SuccessPayload.class);
+        }
+    }
+
+    private EditingContextEventProcessorParameters createParameters(IEditingContextEventHandler editingContextEventHandler, IRepresentationRefreshExecutor representationRefreshExecutor,
+            ThreadPoolExecutor executorService, MeterRegistry meterRegistry) {
+        return this.createParameters(editingContextEventHandler, representationRefreshExecutor, executorService, meterRegistry, new IEditingContextPersistenceService.NoOp());
+    }
+
+    private EditingContextEventProcessorParameters createParameters(IEditingContextEventHandler editingContextEventHandler, IRepresentationRefreshExecutor representationRefreshExecutor,
+            ThreadPoolExecutor executorService, MeterRegistry meterRegistry, IEditingContextPersistenceService editingContextPersistenceService) {
+        IRepresentationEventProcessorComposedFactory representationEventProcessorComposedFactory = new IRepresentationEventProcessorComposedFactory() {
+            @Override
+            public <T extends IRepresentationEventProcessor> Optional<T> createRepresentationEventProcessor(Class<T> representationEventProcessorClass, IRepresentationConfiguration configuration,
+                    IEditingContext editingContext) {
+                return Optional.empty();
+            }
+        };
+
+        return EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .messageService(new ICollaborativeMessageService.NoOp())
+                .editingContext(() -> EDITING_CONTEXT_ID)
+                .editingContextPersistenceService(editingContextPersistenceService)
+                .editingContextPersistenceQueue(new IEditingContextPersistenceQueue.NoOp())
+                .applicationEventPublisher(event -> { })
+                .editingContextEventHandlers(List.of(editingContextEventHandler))
+                .representationEventProcessorComposedFactory(representationEventProcessorComposedFactory)
+                .danglingRepresentationDeletionService(new IDanglingRepresentationDeletionService.NoOp())
+                .representationRefreshExecutor(representationRefreshExecutor)
+                .executorServiceProvider(editingContext -> new SerialExecutorService(executorService))
+                .inputPreProcessors(List.of())
+                .inputPostProcessors(List.of())
+                .changeDescriptionParametersProviders(List.of())
+                .meterRegistry(meterRegistry)
+                .build();
+    }
+}
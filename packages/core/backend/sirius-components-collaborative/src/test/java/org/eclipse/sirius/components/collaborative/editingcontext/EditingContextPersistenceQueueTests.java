@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the editing context persistence queue.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextPersistenceQueueTests {
+
+    private static final String EDITING_CONTEXT_ID = "editingContextId";
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void tearDown() {
+        this.executorService.shutdown();
+    }
+
+    @Test
+    public void testPersistenceWithoutDelay() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var persistenceQueue = new EditingContextPersistenceQueue(Duration.ZERO, meterRegistry);
+
+        AtomicInteger persistenceCount = new AtomicInteger();
+        persistenceQueue.schedule(EDITING_CONTEXT_ID, this.executorService, persistenceCount::incrementAndGet);
+        persistenceQueue.schedule(EDITING_CONTEXT_ID, this.executorService, persistenceCount::incrementAndGet);
+
+        assertThat(persistenceCount.get()).isEqualTo(2);
+        persistenceQueue.dispose();
+    }
+
+    @Test
+    public void testPersistenceRequestsCoalesced() throws InterruptedException {
+        var meterRegistry = new SimpleMeterRegistry();
+        var persistenceQueue = new EditingContextPersistenceQueue(Duration.ofMillis(100), meterRegistry);
+
+        AtomicInteger persistenceCount = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        Runnable persistenceTask = () -> {
+            persistenceCount.incrementAndGet();
+            latch.countDown();
+        };
+        for (int i = 0; i < 5; i++) {
+            persistenceQueue.schedule(EDITING_CONTEXT_ID, this.executorService, persistenceTask);
+        }
+        assertThat(meterRegistry.get("siriusweb_editingcontext_persistence_queue_depth").gauge().value()).isEqualTo(1);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(persistenceCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("siriusweb_editingcontext_persistence_requests").counter().count()).isEqualTo(5);
+        persistenceQueue.dispose();
+    }
+
+    @Test
+    public void testPendingPersistenceFlushed() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var persistenceQueue = new EditingContextPersistenceQueue(Duration.ofMinutes(1), meterRegistry);
+
+        AtomicInteger persistenceCount = new AtomicInteger();
+        persistenceQueue.schedule(EDITING_CONTEXT_ID, this.executorService, persistenceCount::incrementAndGet);
+        assertThat(persistenceCount.get()).isZero();
+
+        persistenceQueue.flush(EDITING_CONTEXT_ID);
+        assertThat(persistenceCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("siriusweb_editingcontext_persistence_flushes").counter().count()).isEqualTo(1);
+
+        persistenceQueue.flush(EDITING_CONTEXT_ID);
+        assertThat(persistenceCount.get()).isEqualTo(1);
+        persistenceQueue.dispose();
+    }
+
+    @Test
+    public void testRejectedPersistencePerformedByTheScheduler() throws InterruptedException {
+        var meterRegistry = new SimpleMeterRegistry();
+        var persistenceQueue = new EditingContextPersistenceQueue(Duration.ofMillis(50), meterRegistry);
+
+        ExecutorService shutdownExecutorService = Executors.newSingleThreadExecutor();
+        shutdownExecutorService.shutdown();
+
+        CountDownLatch rejectedLatch = new CountDownLatch(1);
+        persistenceQueue.schedule(EDITING_CONTEXT_ID, shutdownExecutorService, rejectedLatch::countDown);
+        assertThat(rejectedLatch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("siriusweb_editingcontext_persistence_queue_depth").gauge().value()).isZero();
+
+        // The next event processor of the editing context is not coalesced with the rejected persistence
+        CountDownLatch latch = new CountDownLatch(1);
+        persistenceQueue.schedule(EDITING_CONTEXT_ID, this.executorService, latch::countDown);
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        persistenceQueue.dispose();
+    }
+
+    @Test
+    public void testPendingPersistenceDiscarded() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var persistenceQueue = new EditingContextPersistenceQueue(Duration.ofMinutes(1), meterRegistry);
+
+        AtomicInteger discardedPersistenceCount = new AtomicInteger();
+        persistenceQueue.schedule(EDITING_CONTEXT_ID, this.executorService, discardedPersistenceCount::incrementAndGet);
+        persistenceQueue.discard(EDITING_CONTEXT_ID);
+        assertThat(meterRegistry.get("siriusweb_editingcontext_persistence_queue_depth").gauge().value()).isZero();
+
+        AtomicInteger persistenceCount = new AtomicInteger();
+        persistenceQueue.schedule(EDITING_CONTEXT_ID, this.executorService, persistenceCount::incrementAndGet);
+        persistenceQueue.flush(EDITING_CONTEXT_ID);
+        assertThat(discardedPersistenceCount.get()).isZero();
+        assertThat(persistenceCount.get()).isEqualTo(1);
+        persistenceQueue.dispose();
+    }
+
+    @Test
+    public void testPendingPersistenceOfAnotherExecutorReplaced() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var persistenceQueue = new EditingContextPersistenceQueue(Duration.ofMinutes(1), meterRegistry);
+
+        ExecutorService previousExecutorService = Executors.newSingleThreadExecutor();
+        AtomicInteger previousPersistenceCount = new AtomicInteger();
+        persistenceQueue.schedule(EDITING_CONTEXT_ID, previousExecutorService, previousPersistenceCount::incrementAndGet);
+        previousExecutorService.shutdown();
+
+        AtomicInteger persistenceCount = new AtomicInteger();
+        persistenceQueue.schedule(EDITING_CONTEXT_ID, this.executorService, persistenceCount::incrementAndGet);
+        persistenceQueue.flush(EDITING_CONTEXT_ID);
+        assertThat(previousPersistenceCount.get()).isZero();
+        assertThat(persistenceCount.get()).isEqualTo(1);
+        persistenceQueue.dispose();
+    }
+}
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextReadOnlyGuard;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the representation refresh executor.
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationRefreshExecutorTests {
+
+    private static final int REPRESENTATION_COUNT = 8;
+
+    private final ChangeDescription changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, "sourceId", UUID::randomUUID);
+
+    private final AtomicInteger decoratedTaskCount = new AtomicInteger();
+
+    @Test
+    public void testParallelRefresh() {
+        Set<String> refreshingThreadNames = ConcurrentHashMap.newKeySet();
+        AtomicBoolean isGuardEnabled = new AtomicBoolean();
+        AtomicBoolean wasGuardEnabledDuringRefresh = new AtomicBoolean(true);
+
+        List<IRepresentationEventProcessor> representationEventProcessors = IntStream.range(0, REPRESENTATION_COUNT)
+                .mapToObj(index -> (IRepresentationEventProcessor) new IRepresentationEventProcessor.NoOp() {
+                    @Override
+                    public void refresh(ChangeDescription refreshChangeDescription) {
+                        refreshingThreadNames.add(Thread.currentThread().getName());
+                        wasGuardEnabledDuringRefresh.compareAndSet(true, isGuardEnabled.get());
+                    }
+                })
+                .toList();
+
+        var meterRegistry = new SimpleMeterRegistry();
+        var representationRefreshExecutor = new RepresentationRefreshExecutor(4, this::decorate, List.of(new TestGuard(isGuardEnabled)), meterRegistry);
+        representationRefreshExecutor.refresh(new IEditingContext.NoOp(), this.changeDescription, representationEventProcessors);
+        representationRefreshExecutor.dispose();
+
+        assertThat(refreshingThreadNames).isNotEmpty().noneMatch(Thread.currentThread().getName()::equals);
+        assertThat(wasGuardEnabledDuringRefresh).isTrue();
+        assertThat(isGuardEnabled).isFalse();
+        assertThat(meterRegistry.get("siriusweb_representation_refresh").timer().count()).isEqualTo(REPRESENTATION_COUNT);
+        assertThat(this.decoratedTaskCount).hasValue(REPRESENTATION_COUNT);
+    }
+
+    @Test
+    public void testSequentialRefresh() {
+        Set<String> refreshingThreadNames = ConcurrentHashMap.newKeySet();
+        AtomicBoolean isGuardEnabled = new AtomicBoolean();
+
+        List<IRepresentationEventProcessor> representationEventProcessors = IntStream.range(0, REPRESENTATION_COUNT)
+                .mapToObj(index -> (IRepresentationEventProcessor) new IRepresentationEventProcessor.NoOp() {
+                    @Override
+                    public void refresh(ChangeDescription refreshChangeDescription) {
+                        refreshingThreadNames.add(Thread.currentThread().getName());
+                        assertThat(isGuardEnabled).isFalse();
+                    }
+                })
+                .toList();
+
+        var representationRefreshExecutor = new RepresentationRefreshExecutor(1, UnaryOperator.identity(), List.of(new TestGuard(isGuardEnabled)), new SimpleMeterRegistry());
+        representationRefreshExecutor.refresh(new IEditingContext.NoOp(), this.changeDescription, representationEventProcessors);
+        representationRefreshExecutor.dispose();
+
+        assertThat(refreshingThreadNames).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void testRefreshedAgainSequentiallyWhenModifiedDuringParallelRefresh() {
+        AtomicBoolean isGuardEnabled = new AtomicBoolean();
+        AtomicBoolean isModified = new AtomicBoolean();
+        AtomicInteger parallelRefreshCount = new AtomicInteger();
+        Set<String> sequentialRefreshingThreadNames = ConcurrentHashMap.newKeySet();
+        AtomicInteger sequentialRefreshCount = new AtomicInteger();
+
+        List<IRepresentationEventProcessor> representationEventProcessors = IntStream.range(0, REPRESENTATION_COUNT)
+                .mapToObj(index -> (IRepresentationEventProcessor) new IRepresentationEventProcessor.NoOp() {
+                    @Override
+                    public void refresh(ChangeDescription refreshChangeDescription) {
+                        if (isGuardEnabled.get()) {
+                            parallelRefreshCount.incrementAndGet();
+                            if (index == 0) {
+                                // The refresh of the first representation modifies the editing context and the guard detects it
+                                isModified.set(true);
+                            }
+                        } else {
+                            sequentialRefreshingThreadNames.add(Thread.currentThread().getName());
+                            sequentialRefreshCount.incrementAndGet();
+                        }
+                    }
+                })
+                .toList();
+
+        var representationRefreshExecutor = new RepresentationRefreshExecutor(4, UnaryOperator.identity(), List.of(new TestGuard(isGuardEnabled, isModified)), new SimpleMeterRegistry());
+        representationRefreshExecutor.refresh(new IEditingContext.NoOp(), this.changeDescription, representationEventProcessors);
+        representationRefreshExecutor.dispose();
+
+        assertThat(parallelRefreshCount).hasValue(REPRESENTATION_COUNT);
+        assertThat(sequentialRefreshCount).hasValue(REPRESENTATION_COUNT);
+        assertThat(sequentialRefreshingThreadNames).containsExactly(Thread.currentThread().getName());
+        assertThat(isGuardEnabled).isFalse();
+    }
+
+    private ExecutorService decorate(ExecutorService executorService) {
+        return new AbstractExecutorService() {
+            @Override
+            public void execute(Runnable command) {
+                executorService.execute(() -> {
+                    RepresentationRefreshExecutorTests.this.decoratedTaskCount.incrementAndGet();
+                    command.run();
+                });
+            }
+
+            @Override
+            public void shutdown() {
+                executorService.shutdown();
+            }
+
+            @Override
+            public List<Runnable> shutdownNow() {
+                return executorService.shutdownNow();
+            }
+
+            @Override
+            public boolean isShutdown() {
+                return executorService.isShutdown();
+            }
+
+            @Override
+            public boolean isTerminated() {
+                return executorService.isTerminated();
+            }
+
+            @Override
+            public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+                return executorService.awaitTermination(timeout, unit);
+            }
+        };
+    }
+
+    /**
+     * A guard used to know when the editing context should only be read.
+     *
+     * @author sbegaudeau
+     */
+    private record TestGuard(AtomicBoolean isEnabled, AtomicBoolean isModified) implements IEditingContextReadOnlyGuard {
+
+        TestGuard(AtomicBoolean isEnabled) {
+            this(isEnabled, new AtomicBoolean());
+        }
+
+        @Override
+        public void enable(IEditingContext editingContext) {
+            this.isModified.set(false);
+            this.isEnabled.set(true);
+        }
+
+        @Override
+        public boolean disable(IEditingContext editingContext) {
+            this.isEnabled.set(false);
+            return this.isModified.get();
+        }
+    }
+}
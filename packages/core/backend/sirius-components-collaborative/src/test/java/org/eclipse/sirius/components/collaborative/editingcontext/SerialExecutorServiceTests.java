@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the serial executor service.
+ *
+ * @author sbegaudeau
+ */
+public class SerialExecutorServiceTests {
+
+    private static final int EDITING_CONTEXT_COUNT = 5_000;
+
+    private static final int TASK_COUNT = 20;
+
+    private static final int THREAD_COUNT = 8;
+
+    @Test
+    public void testOrderedExecutionOnSharedThreads() throws InterruptedException {
+        ThreadPoolExecutor sharedExecutorService = this.newThreadPoolExecutor(THREAD_COUNT);
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+        List<SerialExecutorService> executorServices = new ArrayList<>();
+        List<List<Integer>> executedTasks = new ArrayList<>();
+        for (int i = 0; i < EDITING_CONTEXT_COUNT; i++) {
+            executorServices.add(new SerialExecutorService(sharedExecutorService));
+            executedTasks.add(Collections.synchronizedList(new ArrayList<>()));
+        }
+
+        for (int taskIndex = 0; taskIndex < TASK_COUNT; taskIndex++) {
+            for (int i = 0; i < EDITING_CONTEXT_COUNT; i++) {
+                int currentTaskIndex = taskIndex;
+                List<Integer> currentExecutedTasks = executedTasks.get(i);
+                executorServices.get(i).execute(() -> {
+                    threadNames.add(Thread.currentThread().getName());
+                    currentExecutedTasks.add(currentTaskIndex);
+                });
+            }
+        }
+
+        for (SerialExecutorService executorService : executorServices) {
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+        sharedExecutorService.shutdown();
+
+        List<Integer> expectedTasks = IntStream.range(0, TASK_COUNT).boxed().toList();
+        assertThat(executedTasks).allMatch(expectedTasks::equals);
+        assertThat(threadNames).hasSizeLessThanOrEqualTo(THREAD_COUNT);
+    }
+
+    @Test
+    public void testSubmittedTasksRunAfterShutdown() throws Exception {
+        ThreadPoolExecutor sharedExecutorService = this.newThreadPoolExecutor(1);
+        var executorService = new SerialExecutorService(sharedExecutorService);
+
+        var future = executorService.submit(() -> TASK_COUNT);
+        executorService.shutdown();
+
+        assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(TASK_COUNT);
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executorService.isTerminated()).isTrue();
+        assertThatThrownBy(() -> executorService.execute(() -> { })).isInstanceOf(RejectedExecutionException.class);
+
+        sharedExecutorService.shutdown();
+    }
+
+    @Test
+    public void testQueuedTasksCancelledWhenRejectedByTheSharedExecutor() throws Exception {
+        ThreadPoolExecutor sharedExecutorService = this.newThreadPoolExecutor(1);
+        var executorService = new SerialExecutorService(sharedExecutorService);
+
+        CountDownLatch firstTaskStarted = new CountDownLatch(1);
+        CountDownLatch firstTaskReleased = new CountDownLatch(1);
+        var firstFuture = executorService.submit(() -> {
+            firstTaskStarted.countDown();
+            firstTaskReleased.await(10, TimeUnit.SECONDS);
+            return TASK_COUNT;
+        });
+        assertThat(firstTaskStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        var secondFuture = executorService.submit(() -> TASK_COUNT);
+
+        // The shared executor is shut down while the second task is still queued
+        sharedExecutorService.shutdown();
+        firstTaskReleased.countDown();
+
+        assertThat(firstFuture.get(10, TimeUnit.SECONDS)).isEqualTo(TASK_COUNT);
+        assertThatThrownBy(() -> secondFuture.get(10, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // The tasks submitted once the shared executor has been shut down are cancelled and rejected
+        var thirdFuture = new FutureTask<>(() -> TASK_COUNT);
+        var otherExecutorService = new SerialExecutorService(sharedExecutorService);
+        assertThatThrownBy(() -> otherExecutorService.execute(thirdFuture)).isInstanceOf(RejectedExecutionException.class);
+        assertThat(thirdFuture.isCancelled()).isTrue();
+    }
+
+    private ThreadPoolExecutor newThreadPoolExecutor(int threadCount) {
+        return new ThreadPoolExecutor(threadCount, threadCount, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    }
+}
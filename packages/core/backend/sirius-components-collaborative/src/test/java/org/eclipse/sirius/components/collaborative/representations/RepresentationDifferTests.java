@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.api.IRepresentationDiffInput;
+import org.eclipse.sirius.components.collaborative.dto.RepresentationElementChange;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the representation differ.
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationDifferTests {
+
+    private static final String ROOT_ID = "root";
+
+    private static final String CHILDREN = "children";
+
+    private static final String LABEL = "label";
+
+    private static final String FIRST_ID = "1";
+
+    private static final String SECOND_ID = "2";
+
+    private static final String FIRST_CHILD_ID = "1.1";
+
+    private final RepresentationDiffer representationDiffer = new RepresentationDiffer(Set.of(CHILDREN), Set.of("ignored"));
+
+    @Test
+    public void testUpdatedElement() {
+        var previous = new TestRepresentation(ROOT_ID, LABEL, List.of(new TestElement(FIRST_ID, LABEL, List.of(new TestElement(FIRST_CHILD_ID, LABEL, List.of()))), new TestElement(SECOND_ID, LABEL, List.of())));
+        var next = new TestRepresentation(ROOT_ID, LABEL, List.of(new TestElement(FIRST_ID, LABEL, List.of(new TestElement(FIRST_CHILD_ID, "renamed", List.of()))), new TestElement(SECOND_ID, LABEL, List.of())));
+
+        var optionalDiff = this.diff(previous, next);
+        assertThat(optionalDiff).isPresent();
+        assertThat(optionalDiff.get().removedElementIds()).isEmpty();
+        assertThat(optionalDiff.get().changes()).hasSize(1);
+
+        RepresentationElementChange change = optionalDiff.get().changes().get(0);
+        assertThat(change.parentId()).isEqualTo(FIRST_ID);
+        assertThat(change.containmentFeature()).isEqualTo(CHILDREN);
+        assertThat(change.index()).isZero();
+        assertThat(change.element()).isSameAs(next.children().get(0).children().get(0));
+    }
+
+    @Test
+    public void testAddedAndRemovedElements() {
+        var previous = new TestRepresentation(ROOT_ID, LABEL, List.of(new TestElement(FIRST_ID, LABEL, List.of(new TestElement(FIRST_CHILD_ID, LABEL, List.of()))), new TestElement(SECOND_ID, LABEL, List.of())));
+        var next = new TestRepresentation(ROOT_ID, LABEL, List.of(new TestElement("3", "three", List.of(new TestElement("3.1", LABEL, List.of()))), new TestElement(SECOND_ID, LABEL, List.of())));
+
+        var optionalDiff = this.diff(previous, next);
+        assertThat(optionalDiff).isPresent();
+        assertThat(optionalDiff.get().removedElementIds()).containsExactly(FIRST_ID);
+        assertThat(optionalDiff.get().changes()).hasSize(1);
+        assertThat(optionalDiff.get().changes().get(0).parentId()).isEqualTo(ROOT_ID);
+        assertThat(optionalDiff.get().changes().get(0).element()).isSameAs(next.children().get(0));
+    }
+
+    @Test
+    public void testReorderedElements() {
+        var previous = new TestRepresentation(ROOT_ID, LABEL, List.of(new TestElement(FIRST_ID, LABEL, List.of(new TestElement(FIRST_CHILD_ID, "first", List.of()), new TestElement("1.2", "second", List.of())))));
+        var next = new TestRepresentation(ROOT_ID, LABEL, List.of(new TestElement(FIRST_ID, LABEL, List.of(new TestElement("1.2", "second", List.of()), new TestElement(FIRST_CHILD_ID, "first", List.of())))));
+
+        var optionalDiff = this.diff(previous, next);
+        assertThat(optionalDiff).isPresent();
+        assertThat(optionalDiff.get().changes()).hasSize(1);
+        assertThat(optionalDiff.get().changes().get(0).element()).isSameAs(next.children().get(0));
+
+        var reorderedRoot = new TestRepresentation(ROOT_ID, LABEL, List.of(new TestElement(SECOND_ID, LABEL, List.of()), new TestElement(FIRST_ID, LABEL, List.of())));
+        var reorderedNext = new TestRepresentation(ROOT_ID, LABEL, List.of(new TestElement(FIRST_ID, LABEL, List.of()), new TestElement(SECOND_ID, LABEL, List.of())));
+        assertThat(this.diff(reorderedRoot, reorderedNext)).isEmpty();
+    }
+
+    @Test
+    public void testNoDiffWhenRepresentationChanges() {
+        var previous = new TestRepresentation(ROOT_ID, LABEL, List.of());
+        var next = new TestRepresentation("other", LABEL, List.of());
+        assertThat(this.diff(previous, next)).isEmpty();
+
+        var duplicatedIds = new TestRepresentation(ROOT_ID, LABEL, List.of(new TestElement(FIRST_ID, LABEL, List.of()), new TestElement(FIRST_ID, "other", List.of())));
+        assertThat(this.representationDiffer.snapshot(duplicatedIds)).isEmpty();
+    }
+
+    @Test
+    public void testDiffEventFlux() {
+        var initialRepresentation = new TestRepresentation(ROOT_ID, LABEL, List.of(new TestElement(FIRST_ID, LABEL, List.of())));
+        var representationDiffEventFlux = new RepresentationDiffEventFlux<>(initialRepresentation, this.representationDiffer, 3);
+
+        List<IPayload> diffPayloads = new ArrayList<>();
+        var diffSubscription = representationDiffEventFlux.getFlux(new TestInput(UUID.randomUUID(), true), TestPayload::new).subscribe(diffPayloads::add);
+        List<IPayload> payloads = new ArrayList<>();
+        var subscription = representationDiffEventFlux.getFlux(new TestInput(UUID.randomUUID(), false), TestPayload::new).subscribe(payloads::add);
+
+        for (int i = 0; i < 3; i++) {
+            var representation = new TestRepresentation(ROOT_ID, LABEL, List.of(new TestElement(FIRST_ID, LABEL + i, List.of())));
+            representationDiffEventFlux.representationRefreshed(representation, new TestPayload(representation), diff -> Optional.of(new TestDiffPayload(diff)));
+        }
+
+        assertThat(payloads).hasSize(4).allMatch(TestPayload.class::isInstance);
+        assertThat(diffPayloads).hasSize(4);
+        assertThat(diffPayloads.get(0)).isInstanceOf(TestPayload.class);
+        assertThat(diffPayloads.get(1)).isInstanceOf(TestDiffPayload.class);
+        assertThat(diffPayloads.get(2)).isInstanceOf(TestDiffPayload.class);
+        assertThat(diffPayloads.get(3)).isInstanceOf(TestPayload.class);
+
+        diffSubscription.dispose();
+        subscription.dispose();
+        representationDiffEventFlux.dispose();
+    }
+
+    private Optional<RepresentationDiff> diff(TestRepresentation previous, TestRepresentation next) {
+        var optionalPreviousSnapshot = this.representationDiffer.snapshot(previous);
+        var optionalNextSnapshot = this.representationDiffer.snapshot(next);
+        assertThat(optionalPreviousSnapshot).isPresent();
+        assertThat(optionalNextSnapshot).isPresent();
+        return this.representationDiffer.diff(optionalPreviousSnapshot.get(), optionalNextSnapshot.get());
+    }
+
+    /**
+     * A representation used by the tests.
+     *
+     * @author sbegaudeau
+     */
+    public record TestRepresentation(String id, String label, List<TestElement> children) {
+        public String getIgnored() {
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    /**
+     * An element of the representation used by the tests.
+     *
+     * @author sbegaudeau
+     */
+    public record TestElement(String id, String label, List<TestElement> children) {
+    }
+
+    /**
+     * An input used by the tests.
+     *
+     * @author sbegaudeau
+     */
+    public record TestInput(UUID id, Boolean diff) implements IRepresentationDiffInput {
+    }
+
+    /**
+     * A payload containing the complete representation.
+     *
+     * @author sbegaudeau
+     */
+    public record TestPayload(UUID id, TestRepresentation representation) implements IPayload {
+        public TestPayload(TestRepresentation representation) {
+            this(UUID.randomUUID(), representation);
+        }
+    }
+
+    /**
+     * A payload containing a diff.
+     *
+     * @author sbegaudeau
+     */
+    public record TestDiffPayload(UUID id, RepresentationDiff diff) implements IPayload {
+        public TestDiffPayload(RepresentationDiff diff) {
+            this(UUID.randomUUID(), diff);
+        }
+    }
+}
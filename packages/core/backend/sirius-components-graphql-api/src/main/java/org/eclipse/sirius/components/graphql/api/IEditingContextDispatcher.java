@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Obeo.
+ * Copyright (c) 2022, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,11 @@ import reactor.core.publisher.Mono;
 /**
  * Used to wrap the editing context event processor registry dispatch mechanism.
  *
+ * <p>
+ * The payloads are emitted asynchronously once the inputs have been processed, the thread of the caller is never
+ * blocked. The returned publishers should thus be composed with the response of the request instead of being blocked.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public interface IEditingContextDispatcher {
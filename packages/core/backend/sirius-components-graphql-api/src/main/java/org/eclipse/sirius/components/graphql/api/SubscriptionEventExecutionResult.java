@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.api;
+
+import java.util.Objects;
+
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
+
+/**
+ * The result of the execution of a subscription for one of the events emitted by its source.
+ *
+ * @author sbegaudeau
+ */
+public class SubscriptionEventExecutionResult extends ExecutionResultImpl {
+
+    private final Object sourceEvent;
+
+    public SubscriptionEventExecutionResult(ExecutionResult executionResult, Object sourceEvent) {
+        super(executionResult.getData(), executionResult.getErrors(), executionResult.getExtensions());
+        this.sourceEvent = Objects.requireNonNull(sourceEvent);
+    }
+
+    public Object getSourceEvent() {
+        return this.sourceEvent;
+    }
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.api;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import graphql.ExecutionResult;
+import graphql.execution.FetchedValue;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldCompleteParameters;
+import graphql.language.OperationDefinition;
+
+/**
+ * Keeps track of the event from which each result of a subscription has been computed.
+ *
+ * <p>
+ * The events emitted by the source of a subscription, such as the refresh of a representation, are shared by all its
+ * subscribers. The results of the executions of the same subscription for the same event are thus identical. Each of
+ * these results is returned as a {@link SubscriptionEventExecutionResult} so that its serialization can be reused for
+ * all the subscribers using the identity of its event.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SubscriptionEventInstrumentation extends SimplePerformantInstrumentation {
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        return new SourceEvents(Collections.synchronizedMap(new IdentityHashMap<>()));
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginFieldComplete(InstrumentationFieldCompleteParameters parameters, InstrumentationState state) {
+        // The value of the root field of a subscription is the event emitted by its source
+        boolean isSubscription = parameters.getExecutionContext().getOperationDefinition().getOperation() == OperationDefinition.Operation.SUBSCRIPTION;
+        if (state instanceof SourceEvents sourceEvents && isSubscription && parameters.getExecutionStepInfo().getPath().getLevel() == 1) {
+            Object sourceEvent = parameters.getFetchedValue();
+            if (sourceEvent instanceof FetchedValue fetchedValue) {
+                sourceEvent = fetchedValue.getFetchedValue();
+            }
+            Object event = sourceEvent;
+            return SimpleInstrumentationContext.whenCompleted((executionResult, throwable) -> {
+                if (executionResult != null && executionResult.getData() != null && event != null) {
+                    sourceEvents.dataToSourceEvent().put(executionResult.getData(), event);
+                }
+            });
+        }
+        return super.beginFieldComplete(parameters, state);
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult, InstrumentationExecutionParameters parameters, InstrumentationState state) {
+        ExecutionResult instrumentedExecutionResult = executionResult;
+        if (state instanceof SourceEvents sourceEvents && executionResult.getData() instanceof Map<?, ?> data && data.size() == 1) {
+            Object sourceEvent = sourceEvents.dataToSourceEvent().remove(data.values().iterator().next());
+            if (sourceEvent != null) {
+                instrumentedExecutionResult = new SubscriptionEventExecutionResult(executionResult, sourceEvent);
+            }
+        }
+        return CompletableFuture.completedFuture(instrumentedExecutionResult);
+    }
+
+    /**
+     * The events from which the values of the root field of a subscription have been computed, until the
+     * instrumentation of the result containing them.
+     *
+     * @author sbegaudeau
+     */
+    private record SourceEvents(Map<Object, Object> dataToSourceEvent) implements InstrumentationState {
+    }
+}
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Used to record the objects read while rendering a part of a representation.
+ *
+ * <p>
+ * The recorder is available in the variables of the rendering under the name {@link #READ_OBJECTS_RECORDER}. The
+ * interpreters record in it the objects given to the expressions evaluated and the objects they return so that the part
+ * of the representation rendered can be reused as long as none of those objects has been changed.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class ReadObjectsRecorder {
+
+    /**
+     * The name of the variable used to store and retrieve the recorder from a variable manager.
+     */
+    public static final String READ_OBJECTS_RECORDER = "readObjectsRecorder";
+
+    private final Set<Object> readObjects = new LinkedHashSet<>();
+
+    public void record(Object object) {
+        if (object != null) {
+            this.readObjects.add(object);
+        }
+    }
+
+    public void recordAll(Collection<?> objects) {
+        objects.forEach(this::record);
+    }
+
+    public Set<Object> getReadObjects() {
+        return Collections.unmodifiableSet(this.readObjects);
+    }
+}
@@ -12,13 +12,24 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.representations;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Used to manage the variables.
  *
+ * <p>
+ * The variables of a variable manager and of all its parents are flattened in a read-only map which is kept until a
+ * variable is added to this variable manager or to one of its parents. All the maps returned by
+ * {@link #getVariables()} share this flattened map as long as they are not modified.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class VariableManager {
@@ -35,6 +46,12 @@ public class VariableManager {
      */
     private Map<String, Object> variables = new HashMap<>();
 
+    /**
+     * The variables of this variable manager and of its parents, computed from a given version of the variables of the
+     * parents.
+     */
+    private volatile FlattenedVariables flattenedVariables;
+
     /**
      * The constructor.
      */
@@ -54,16 +71,42 @@ public class VariableManager {
 
     public Object put(String name, Object value) {
         Object previous = this.variables.put(name, value);
+        this.flattenedVariables = null;
         return previous;
     }
 
+    /**
+     * Returns the variables of this variable manager and of its parents.
+     *
+     * <p>
+     * The map returned can be modified without any impact on this variable manager, it is only copied when it is
+     * modified for the first time, including through its entries, keys and values.
+     * </p>
+     *
+     * @return The variables
+     */
     public Map<String, Object> getVariables() {
+        return new CopyOnWriteVariables(this.getFlattenedVariables());
+    }
+
+    private Map<String, Object> getFlattenedVariables() {
+        Map<String, Object> parentVariables = Map.of();
         if (this.parent != null) {
-            Map<String, Object> parentVariables = this.parent.getVariables();
-            parentVariables.putAll(this.variables);
-            return parentVariables;
+            parentVariables = this.parent.getFlattenedVariables();
         }
-        return new HashMap<>(this.variables);
+
+        FlattenedVariables currentFlattenedVariables = this.flattenedVariables;
+        if (currentFlattenedVariables == null || currentFlattenedVariables.parentVariables() != parentVariables) {
+            Map<String, Object> allVariables = parentVariables;
+            if (!this.variables.isEmpty()) {
+                allVariables = new HashMap<>(parentVariables);
+                allVariables.putAll(this.variables);
+                allVariables = Collections.unmodifiableMap(allVariables);
+            }
+            currentFlattenedVariables = new FlattenedVariables(parentVariables, allVariables);
+            this.flattenedVariables = currentFlattenedVariables;
+        }
+        return currentFlattenedVariables.variables();
     }
 
     public <T> Optional<T> get(String name, Class<T> expectedType) {
@@ -109,4 +152,162 @@ public class VariableManager {
         }
         return stringBuilder.toString();
     }
+
+    /**
+     * The flattened variables of a variable manager along with the flattened variables of its parent used to compute
+     * them.
+     *
+     * @author sbegaudeau
+     */
+    private record FlattenedVariables(Map<String, Object> parentVariables, Map<String, Object> variables) {
+    }
+
+    /**
+     * A map of variables which shares some read-only variables until it is modified.
+     *
+     * @author sbegaudeau
+     */
+    private static final class CopyOnWriteVariables extends AbstractMap<String, Object> {
+
+        private Map<String, Object> variables;
+
+        private boolean isCopied;
+
+        CopyOnWriteVariables(Map<String, Object> variables) {
+            this.variables = variables;
+        }
+
+        private Map<String, Object> getModifiableVariables() {
+            if (!this.isCopied) {
+                this.variables = new HashMap<>(this.variables);
+                this.isCopied = true;
+            }
+            return this.variables;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return this.variables.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.variables.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return this.variables.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return this.variables.isEmpty();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new CopyOnWriteEntrySet();
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            return this.getModifiableVariables().put(key, value);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ? extends Object> map) {
+            this.getModifiableVariables().putAll(map);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return this.getModifiableVariables().remove(key);
+        }
+
+        @Override
+        public void clear() {
+            this.getModifiableVariables().clear();
+        }
+
+        /**
+         * The entries of the variables, which copies the variables when an entry is removed or modified.
+         *
+         * @author sbegaudeau
+         */
+        private final class CopyOnWriteEntrySet extends AbstractSet<Entry<String, Object>> {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Entry<String, Object>> iterator = CopyOnWriteVariables.this.variables.entrySet().iterator();
+                if (!CopyOnWriteVariables.this.isCopied) {
+                    iterator = new CopyOnWriteIterator(iterator);
+                }
+                return iterator;
+            }
+
+            @Override
+            public int size() {
+                return CopyOnWriteVariables.this.variables.size();
+            }
+        }
+
+        /**
+         * Iterates on the shared variables while applying the modifications to the copy of the variables.
+         *
+         * @author sbegaudeau
+         */
+        private final class CopyOnWriteIterator implements Iterator<Entry<String, Object>> {
+
+            private final Iterator<Entry<String, Object>> sharedIterator;
+
+            private Entry<String, Object> lastEntry;
+
+            CopyOnWriteIterator(Iterator<Entry<String, Object>> sharedIterator) {
+                this.sharedIterator = sharedIterator;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return this.sharedIterator.hasNext();
+            }
+
+            @Override
+            public Entry<String, Object> next() {
+                this.lastEntry = new CopyOnWriteEntry(this.sharedIterator.next());
+                return this.lastEntry;
+            }
+
+            @Override
+            public void remove() {
+                if (this.lastEntry != null) {
+                    CopyOnWriteVariables.this.getModifiableVariables().remove(this.lastEntry.getKey());
+                    this.lastEntry = null;
+                } else {
+                    // The shared iterator rejects the removal since its variables are read-only
+                    this.sharedIterator.remove();
+                }
+            }
+        }
+
+        /**
+         * An entry of the shared variables whose modification is applied to the copy of the variables.
+         *
+         * @author sbegaudeau
+         */
+        private final class CopyOnWriteEntry extends SimpleEntry<String, Object> {
+
+            private static final long serialVersionUID = 1L;
+
+            CopyOnWriteEntry(Entry<String, Object> entry) {
+                super(entry);
+            }
+
+            @Override
+            public Object setValue(Object value) {
+                super.setValue(value);
+                return CopyOnWriteVariables.this.getModifiableVariables().put(this.getKey(), value);
+            }
+        }
+    }
 }
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the variable manager.
+ *
+ * @author sbegaudeau
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public class VariableManagerTests {
+
+    @Test
+    public void testFlattenedVariablesUpdatedAfterParentPut() {
+        VariableManager parent = new VariableManager();
+        parent.put("first", 1);
+        VariableManager child = parent.createChild();
+        child.put("second", 2);
+
+        assertThat(child.getVariables()).containsOnly(Map.entry("first", 1), Map.entry("second", 2));
+
+        parent.put("third", 3);
+        parent.put("first", 4);
+        assertThat(child.getVariables()).containsOnly(Map.entry("first", 4), Map.entry("second", 2), Map.entry("third", 3));
+        assertThat(child.get("third", Integer.class)).hasValue(3);
+
+        // The variables of the child hide the ones of its parent
+        child.put("first", 5);
+        assertThat(child.getVariables()).containsEntry("first", 5);
+        assertThat(parent.getVariables()).containsEntry("first", 4);
+    }
+
+    @Test
+    public void testVariablesCopiedOnWrite() {
+        VariableManager parent = new VariableManager();
+        parent.put("first", 1);
+        VariableManager child = parent.createChild();
+        child.put("second", 2);
+
+        Map<String, Object> variables = child.getVariables();
+        Map<String, Object> otherVariables = child.getVariables();
+        variables.put("third", 3);
+        variables.remove("first");
+
+        assertThat(variables).containsOnly(Map.entry("second", 2), Map.entry("third", 3));
+        assertThat(otherVariables).containsOnly(Map.entry("first", 1), Map.entry("second", 2));
+        assertThat(child.getVariables()).containsOnly(Map.entry("first", 1), Map.entry("second", 2));
+        assertThat(parent.getVariables()).containsOnly(Map.entry("first", 1));
+        assertThat(child.hasVariable("third")).isFalse();
+    }
+
+    @Test
+    public void testVariablesModifiedThroughTheirViews() {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put("first", 1);
+        variableManager.put("second", 2);
+        variableManager.put("third", 3);
+
+        Map<String, Object> variables = variableManager.getVariables();
+        var iterator = variables.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if ("first".equals(iterator.next().getKey())) {
+                iterator.remove();
+            }
+        }
+        assertThat(variables).containsOnly(Map.entry("second", 2), Map.entry("third", 3));
+
+        variables = variableManager.getVariables();
+        variables.keySet().removeIf("second"::equals);
+        assertThat(variables).containsOnly(Map.entry("first", 1), Map.entry("third", 3));
+
+        variables = variableManager.getVariables();
+        variables.values().removeIf(Integer.valueOf(3)::equals);
+        assertThat(variables).containsOnly(Map.entry("first", 1), Map.entry("second", 2));
+
+        variables = variableManager.getVariables();
+        for (var entry : variables.entrySet()) {
+            if ("second".equals(entry.getKey())) {
+                entry.setValue(0);
+            }
+        }
+        assertThat(variables).containsOnly(Map.entry("first", 1), Map.entry("second", 0), Map.entry("third", 3));
+
+        variables = variableManager.getVariables();
+        variables.replaceAll((name, value) -> name);
+        assertThat(variables).containsOnly(Map.entry("first", "first"), Map.entry("second", "second"), Map.entry("third", "third"));
+
+        assertThat(variableManager.getVariables()).containsOnly(Map.entry("first", 1), Map.entry("second", 2), Map.entry("third", 3));
+    }
+}
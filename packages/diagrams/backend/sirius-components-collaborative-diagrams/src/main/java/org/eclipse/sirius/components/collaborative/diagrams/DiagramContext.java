@@ -14,7 +14,9 @@ package org.eclipse.sirius.components.collaborative.diagrams;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.diagrams.Diagram;
@@ -37,6 +39,10 @@ public class DiagramContext implements IDiagramContext {
 
     private final List<IDiagramEvent> diagramEvents;
 
+    private Map<String, Object> nodeIdToObject = Map.of();
+
+    private Map<String, Set<Object>> nodeIdToReadObjects = Map.of();
+
     public DiagramContext(Diagram initialDiagram) {
         this.diagram = Objects.requireNonNull(initialDiagram);
         this.viewCreationRequests = new ArrayList<>();
@@ -69,6 +75,26 @@ public class DiagramContext implements IDiagramContext {
         return this.diagramEvents;
     }
 
+    @Override
+    public Map<String, Object> getNodeIdToObject() {
+        return this.nodeIdToObject;
+    }
+
+    @Override
+    public void updateNodeIdToObject(Map<String, Object> updatedNodeIdToObject) {
+        this.nodeIdToObject = Objects.requireNonNull(updatedNodeIdToObject);
+    }
+
+    @Override
+    public Map<String, Set<Object>> getNodeIdToReadObjects() {
+        return this.nodeIdToReadObjects;
+    }
+
+    @Override
+    public void updateNodeIdToReadObjects(Map<String, Set<Object>> updatedNodeIdToReadObjects) {
+        this.nodeIdToReadObjects = Objects.requireNonNull(updatedNodeIdToReadObjects);
+    }
+
     @Override
     public void reset() {
         this.diagramEvents.clear();
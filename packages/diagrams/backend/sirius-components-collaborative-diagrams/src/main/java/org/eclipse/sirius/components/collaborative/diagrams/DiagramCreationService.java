@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.sirius.components.collaborative.api.Monitoring;
@@ -36,11 +37,14 @@ import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
 import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderer;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.components.diagrams.renderer.IncrementalRenderingContext;
 import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.IOperationValidator;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.micrometer.core.instrument.MeterRegistry;
@@ -60,15 +64,18 @@ public class DiagramCreationService implements IDiagramCreationService {
 
     private final IOperationValidator operationValidator;
 
+    private final boolean incrementalRefresh;
+
     private final Timer timer;
 
     private final Logger logger = LoggerFactory.getLogger(DiagramCreationService.class);
 
     public DiagramCreationService(IRepresentationDescriptionSearchService representationDescriptionSearchService, IObjectService objectService,
-                                  IOperationValidator operationValidator, MeterRegistry meterRegistry) {
+                                  IOperationValidator operationValidator, MeterRegistry meterRegistry, @Value("${sirius.components.diagram.incrementalRefresh:false}") boolean incrementalRefresh) {
         this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
         this.objectService = Objects.requireNonNull(objectService);
         this.operationValidator = Objects.requireNonNull(operationValidator);
+        this.incrementalRefresh = incrementalRefresh;
         // @formatter:off
         this.timer = Timer.builder(Monitoring.REPRESENTATION_EVENT_PROCESSOR_REFRESH)
                 .tag(Monitoring.NAME, "diagram")
@@ -87,11 +94,20 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .toList();
         // @formatter:on
 
-        return this.doRender(label, targetObject, editingContext, diagramDescription, allDiagramDescriptions, Optional.empty());
+        return this.doRender(label, targetObject, editingContext, diagramDescription, allDiagramDescriptions, Optional.empty(), Optional.empty());
     }
 
     @Override
     public Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext) {
+        return this.doRefresh(editingContext, diagramContext, Optional.empty());
+    }
+
+    @Override
+    public Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext, Set<Object> changedObjects) {
+        return this.doRefresh(editingContext, diagramContext, Optional.of(changedObjects));
+    }
+
+    private Optional<Diagram> doRefresh(IEditingContext editingContext, IDiagramContext diagramContext, Optional<Set<Object>> optionalChangedObjects) {
         Diagram previousDiagram = diagramContext.getDiagram();
 
         var optionalObject = this.objectService.getObject(editingContext, previousDiagram.getTargetObjectId());
@@ -111,13 +127,14 @@ public class DiagramCreationService implements IDiagramCreationService {
         if (optionalObject.isPresent() && optionalDiagramDescription.isPresent()) {
             Object object = optionalObject.get();
             DiagramDescription diagramDescription = optionalDiagramDescription.get();
-            Diagram diagram = this.doRender(previousDiagram.getLabel(), object, editingContext, diagramDescription, allDiagramDescriptions, Optional.of(diagramContext));
+            Diagram diagram = this.doRender(previousDiagram.getLabel(), object, editingContext, diagramDescription, allDiagramDescriptions, Optional.of(diagramContext), optionalChangedObjects);
             return Optional.of(diagram);
         }
         return Optional.empty();
     }
 
-    private Diagram doRender(String label, Object targetObject, IEditingContext editingContext, DiagramDescription diagramDescription, List<DiagramDescription> allDiagramDescriptions, Optional<IDiagramContext> optionalDiagramContext) {
+    private Diagram doRender(String label, Object targetObject, IEditingContext editingContext, DiagramDescription diagramDescription, List<DiagramDescription> allDiagramDescriptions, Optional<IDiagramContext> optionalDiagramContext,
+            Optional<Set<Object>> optionalChangedObjects) {
         long start = System.currentTimeMillis();
 
         VariableManager variableManager = new VariableManager();
@@ -132,7 +149,8 @@ public class DiagramCreationService implements IDiagramCreationService {
         Optional<Diagram> optionalPreviousDiagram = optionalDiagramContext.map(IDiagramContext::getDiagram);
         List<ViewCreationRequest> viewCreationRequests = optionalDiagramContext.map(IDiagramContext::getViewCreationRequests).orElse(List.of());
         List<ViewDeletionRequest> viewDeletionRequests = optionalDiagramContext.map(IDiagramContext::getViewDeletionRequests).orElse(List.of());
-        
+        DiagramRenderingCache cache = this.createCache(optionalDiagramContext, optionalChangedObjects);
+
         //@formatter:off
         Builder builder = DiagramComponentProps.newDiagramComponentProps()
                 .variableManager(variableManager)
@@ -142,13 +160,20 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .viewCreationRequests(viewCreationRequests)
                 .viewDeletionRequests(viewDeletionRequests)
                 .previousDiagram(optionalPreviousDiagram)
-                .diagramEvents(diagramEvents);
+                .diagramEvents(diagramEvents)
+                .cache(cache);
         //@formatter:on
 
         DiagramComponentProps props = builder.build();
         Element element = new Element(DiagramComponent.class, props);
 
         Diagram newDiagram = new DiagramRenderer().render(element);
+        if (this.incrementalRefresh) {
+            optionalDiagramContext.ifPresent(diagramContext -> {
+                diagramContext.updateNodeIdToObject(cache.getNodeIdToObject());
+                diagramContext.updateNodeIdToReadObjects(cache.getNodeIdToReadObjects());
+            });
+        }
 
         var newLayoutData = optionalPreviousDiagram.map(Diagram::getLayoutData).orElse(new DiagramLayoutData(Map.of(), Map.of(), Map.of()));
         newDiagram = Diagram.newDiagram(newDiagram)
@@ -161,4 +186,25 @@ public class DiagramCreationService implements IDiagramCreationService {
 
         return newDiagram;
     }
+
+    /**
+     * Creates the cache used to render the diagram. An incremental rendering is only performed if it has been enabled,
+     * if we know which semantic objects have been changed and if there is no pending diagram event or view request
+     * which could impact the nodes which would otherwise be reused.
+     */
+    private DiagramRenderingCache createCache(Optional<IDiagramContext> optionalDiagramContext, Optional<Set<Object>> optionalChangedObjects) {
+        DiagramRenderingCache cache = new DiagramRenderingCache(this.incrementalRefresh);
+        if (this.incrementalRefresh && optionalDiagramContext.isPresent() && optionalChangedObjects.isPresent()) {
+            IDiagramContext diagramContext = optionalDiagramContext.get();
+
+            boolean hasPendingChanges = !diagramContext.getDiagramEvents().isEmpty();
+            hasPendingChanges = hasPendingChanges || !diagramContext.getViewCreationRequests().isEmpty();
+            hasPendingChanges = hasPendingChanges || !diagramContext.getViewDeletionRequests().isEmpty();
+
+            if (!hasPendingChanges && !diagramContext.getNodeIdToObject().isEmpty()) {
+                cache = new DiagramRenderingCache(new IncrementalRenderingContext(diagramContext.getNodeIdToObject(), diagramContext.getNodeIdToReadObjects(), optionalChangedObjects.get()));
+            }
+        }
+        return cache;
+    }
 }
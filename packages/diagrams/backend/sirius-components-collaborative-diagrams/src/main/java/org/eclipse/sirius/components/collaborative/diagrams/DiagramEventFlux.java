@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,61 +12,94 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams;
 
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDiffEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramLayoutDataPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.ReferencePosition;
+import org.eclipse.sirius.components.collaborative.dto.RepresentationElementChange;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationDiff;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationDiffEventFlux;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationDiffer;
+import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.diagrams.Diagram;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
 
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
-import reactor.core.publisher.Sinks.EmitResult;
-import reactor.core.publisher.Sinks.Many;
 
 /**
  * Service used to manage the diagram event flux.
  *
+ * <p>
+ * Subscribers can ask to receive only the nodes and edges which have changed since the previous version of the
+ * diagram. The layout data are ignored to compute the diff, only the layout data of the nodes which have been added
+ * or whose layout has changed since the previous version of the diagram are sent along with it.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class DiagramEventFlux {
 
-    private final Logger logger = LoggerFactory.getLogger(DiagramEventFlux.class);
-
-    private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
-
-    private Diagram currentDiagram;
+    private final RepresentationDiffEventFlux<Diagram> representationDiffEventFlux;
 
     public DiagramEventFlux(Diagram currentDiagram) {
-        this.currentDiagram = Objects.requireNonNull(currentDiagram);
+        var representationDiffer = new RepresentationDiffer(Set.of("nodes", "edges", "childNodes", "borderNodes"), Set.of("layoutData"));
+        this.representationDiffEventFlux = new RepresentationDiffEventFlux<>(currentDiagram, representationDiffer, RepresentationDiffEventFlux.DEFAULT_SNAPSHOT_INTERVAL);
     }
 
     public void diagramRefreshed(UUID id, Diagram newDiagram, String cause, ReferencePosition referencePosition) {
-        this.currentDiagram = newDiagram;
-        if (this.sink.currentSubscriberCount() > 0) {
-            EmitResult emitResult = this.sink.tryEmitNext(new DiagramRefreshedEventPayload(id, this.currentDiagram, cause, referencePosition));
-            if (emitResult.isFailure()) {
-                String pattern = "An error has occurred while emitting a DiagramRefreshedEventPayload: {}";
-                this.logger.warn(pattern, emitResult);
+        var payload = new DiagramRefreshedEventPayload(id, newDiagram, cause, referencePosition);
+        var previousDiagram = this.representationDiffEventFlux.getRepresentation();
+        this.representationDiffEventFlux.representationRefreshed(newDiagram, payload, diff -> this.toDiffPayload(id, previousDiagram, newDiagram, cause, referencePosition, diff));
+    }
+
+    private Optional<IPayload> toDiffPayload(UUID id, Diagram previousDiagram, Diagram newDiagram, String cause, ReferencePosition referencePosition, RepresentationDiff diff) {
+        List<RepresentationElementChange> nodeChanges = new ArrayList<>();
+        List<RepresentationElementChange> edgeChanges = new ArrayList<>();
+        for (RepresentationElementChange change : diff.changes()) {
+            if (change.element() instanceof Edge) {
+                edgeChanges.add(change);
+            } else {
+                nodeChanges.add(change);
             }
         }
+        var layoutData = this.getChangedLayoutData(previousDiagram, newDiagram);
+        return Optional.of(new DiagramDiffEventPayload(id, cause, referencePosition, newDiagram, nodeChanges, edgeChanges, diff.removedElementIds(), layoutData));
+    }
+
+    /**
+     * Returns the layout data of the nodes which have been added or whose layout has changed, or null if there are none.
+     */
+    private DiagramLayoutDataPayload getChangedLayoutData(Diagram previousDiagram, Diagram newDiagram) {
+        var previousNodeLayoutData = previousDiagram.getLayoutData().nodeLayoutData();
+        List<NodeLayoutData> changedNodeLayoutData = newDiagram.getLayoutData().nodeLayoutData().values().stream()
+                .filter(nodeLayoutData -> !nodeLayoutData.equals(previousNodeLayoutData.get(nodeLayoutData.id())))
+                .toList();
+
+        DiagramLayoutDataPayload layoutData = null;
+        if (!changedNodeLayoutData.isEmpty()) {
+            layoutData = new DiagramLayoutDataPayload(changedNodeLayoutData);
+        }
+        return layoutData;
     }
 
     public Flux<IPayload> getFlux(UUID id, String cause) {
-        var initialRefresh = Mono.fromCallable(() -> new DiagramRefreshedEventPayload(id, this.currentDiagram, cause, null));
-        return Flux.concat(initialRefresh, this.sink.asFlux());
+        return this.getFlux(null, id, cause);
+    }
+
+    public Flux<IPayload> getFlux(IInput input, UUID id, String cause) {
+        return this.representationDiffEventFlux.getFlux(input, diagram -> new DiagramRefreshedEventPayload(id, diagram, cause, null));
     }
 
     public void dispose() {
-        EmitResult emitResult = this.sink.tryEmitComplete();
-        if (emitResult.isFailure()) {
-            String pattern = "An error has occurred while marking the publisher as complete: {}";
-            this.logger.warn(pattern, emitResult);
-        }
+        this.representationDiffEventFlux.dispose();
     }
 
 }
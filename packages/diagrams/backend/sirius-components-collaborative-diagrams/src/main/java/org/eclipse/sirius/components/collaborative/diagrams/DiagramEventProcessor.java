@@ -15,11 +15,13 @@ package org.eclipse.sirius.components.collaborative.diagrams;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IChangeDescriptionParametersProvider;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicy;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicyRegistry;
@@ -175,7 +177,7 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
     @Override
     public void refresh(ChangeDescription changeDescription) {
         if (this.shouldRefresh(changeDescription)) {
-            Diagram refreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext).orElse(null);
+            Diagram refreshedDiagram = this.refreshDiagram(changeDescription).orElse(null);
             this.representationPersistenceService.save(this.editingContext, refreshedDiagram);
 
             if (refreshedDiagram != null) {
@@ -201,6 +203,20 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
                 .orElse(null);
     }
 
+    /**
+     * Refreshes the diagram, only the parts of the diagram impacted by the change will be rendered again if we know
+     * which semantic objects have been changed.
+     */
+    private Optional<Diagram> refreshDiagram(ChangeDescription changeDescription) {
+        Optional<Diagram> optionalRefreshedDiagram;
+        if (changeDescription.getParameters().get(IChangeDescriptionParametersProvider.CHANGED_OBJECTS) instanceof Set<?> changedObjects) {
+            optionalRefreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext, Set.copyOf(changedObjects));
+        } else {
+            optionalRefreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext);
+        }
+        return optionalRefreshedDiagram;
+    }
+
     /**
      * A diagram is refresh if there is a semantic change or if there is a diagram layout change coming from this very
      * diagram (not other diagrams).
@@ -241,7 +257,7 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
     public Flux<IPayload> getOutputEvents(IInput input) {
         // @formatter:off
         return Flux.merge(
-            this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause),
+            this.diagramEventFlux.getFlux(input, this.currentRevisionId, this.currentRevisionCause),
             this.subscriptionManager.getFlux(input)
         );
     }
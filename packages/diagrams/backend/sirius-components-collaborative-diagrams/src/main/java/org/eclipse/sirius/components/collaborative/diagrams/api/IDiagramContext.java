@@ -13,6 +13,8 @@
 package org.eclipse.sirius.components.collaborative.diagrams.api;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
@@ -43,6 +45,34 @@ public interface IDiagramContext {
 
     List<IDiagramEvent> getDiagramEvents();
 
+    /**
+     * Returns the semantic element of each node of the current diagram, indexed by the id of the node.
+     *
+     * <p>
+     * This information is only available if the diagram has been rendered with the incremental refresh enabled, it is
+     * used to find the nodes which can be reused during the next refresh.
+     * </p>
+     *
+     * @return The semantic element of each node of the diagram
+     */
+    Map<String, Object> getNodeIdToObject();
+
+    void updateNodeIdToObject(Map<String, Object> updatedNodeIdToObject);
+
+    /**
+     * Returns the objects read while rendering each node of the current diagram, indexed by the id of the node.
+     *
+     * <p>
+     * This information is only available if the diagram has been rendered with the incremental refresh enabled, a node
+     * can only be reused during the next refresh if none of those objects has been changed.
+     * </p>
+     *
+     * @return The objects read while rendering each node of the diagram
+     */
+    Map<String, Set<Object>> getNodeIdToReadObjects();
+
+    void updateNodeIdToReadObjects(Map<String, Set<Object>> updatedNodeIdToReadObjects);
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -77,5 +107,23 @@ public interface IDiagramContext {
         public List<IDiagramEvent> getDiagramEvents() {
             return List.of();
         }
+
+        @Override
+        public Map<String, Object> getNodeIdToObject() {
+            return Map.of();
+        }
+
+        @Override
+        public void updateNodeIdToObject(Map<String, Object> updatedNodeIdToObject) {
+        }
+
+        @Override
+        public Map<String, Set<Object>> getNodeIdToReadObjects() {
+            return Map.of();
+        }
+
+        @Override
+        public void updateNodeIdToReadObjects(Map<String, Set<Object>> updatedNodeIdToReadObjects) {
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.components.collaborative.diagrams.api;
 
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.diagrams.Diagram;
@@ -57,6 +58,26 @@ public interface IDiagramCreationService {
      */
     Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext);
 
+    /**
+     * Refresh an existing diagram after a change which has only impacted the given semantic objects.
+     *
+     * <p>
+     * Implementations may use the changed objects to reuse the parts of the previous diagram which have not been
+     * impacted by the change. By default, the whole diagram is refreshed.
+     * </p>
+     *
+     * @param editingContext
+     *            The editing context
+     * @param diagramContext
+     *            The diagram context
+     * @param changedObjects
+     *            The semantic objects impacted by the change
+     * @return An updated diagram if we have been able to refresh it.
+     */
+    default Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext, Set<Object> changedObjects) {
+        return this.refresh(editingContext, diagramContext);
+    }
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
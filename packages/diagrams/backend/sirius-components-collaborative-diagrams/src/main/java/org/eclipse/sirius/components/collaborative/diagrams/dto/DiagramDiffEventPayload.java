@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.dto.RepresentationElementChange;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.diagrams.Diagram;
+
+/**
+ * Payload used to indicate that the diagram has been refreshed, containing only the nodes and edges which have changed
+ * since the previous version of the diagram.
+ *
+ * <p>
+ * The new version of the diagram is kept in order to compute the other parts of the diagram which are sent
+ * completely. The layout data only contain the nodes which have been added or whose layout has changed, they are null
+ * if no layout has changed.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record DiagramDiffEventPayload(
+        UUID id,
+        String cause,
+        ReferencePosition referencePosition,
+        Diagram diagram,
+        List<RepresentationElementChange> nodeChanges,
+        List<RepresentationElementChange> edgeChanges,
+        List<String> removedElementIds,
+        DiagramLayoutDataPayload layoutData) implements IPayload {
+
+    public DiagramDiffEventPayload {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(cause);
+        Objects.requireNonNull(diagram);
+        Objects.requireNonNull(nodeChanges);
+        Objects.requireNonNull(edgeChanges);
+        Objects.requireNonNull(removedElementIds);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 THALES GLOBAL SERVICES.
+ * Copyright (c) 2021, 2024 THALES GLOBAL SERVICES.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ package org.eclipse.sirius.components.collaborative.diagrams.dto;
 
 import java.util.UUID;
 
+import org.eclipse.sirius.components.collaborative.api.IBatchableInput;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
 
 /**
@@ -22,5 +23,5 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
  * @author fbarbin
  */
 public record UpdateNodeBoundsInput(UUID id, String editingContextId, String representationId, String diagramElementId, double newPositionX, double newPositionY, double newWidth, double newHeight)
-        implements IDiagramInput {
+        implements IDiagramInput, IBatchableInput {
 }
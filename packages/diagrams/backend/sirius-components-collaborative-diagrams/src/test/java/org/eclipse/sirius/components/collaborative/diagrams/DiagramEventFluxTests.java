@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDiffEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramEventInput;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.handlers.TestDiagramBuilder;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+import org.eclipse.sirius.components.diagrams.layoutdata.Size;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the diagram event flux.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramEventFluxTests {
+
+    private static final String DIAGRAM_ID = "diagramId";
+
+    @Test
+    public void testDiffSentToSubscribersAskingForIt() {
+        TestDiagramBuilder builder = new TestDiagramBuilder();
+        Node firstNode = builder.getNode("first", true);
+        Diagram initialDiagram = Diagram.newDiagram(builder.getDiagram(DIAGRAM_ID))
+                .nodes(List.of(firstNode))
+                .build();
+        DiagramEventFlux diagramEventFlux = new DiagramEventFlux(initialDiagram);
+
+        List<IPayload> diffPayloads = new ArrayList<>();
+        var diffInput = new DiagramEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), DIAGRAM_ID, true);
+        var diffSubscription = diagramEventFlux.getFlux(diffInput, diffInput.id(), DiagramRefreshedEventPayload.CAUSE_REFRESH).subscribe(diffPayloads::add);
+
+        List<IPayload> payloads = new ArrayList<>();
+        var input = new DiagramEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), DIAGRAM_ID);
+        var subscription = diagramEventFlux.getFlux(input, input.id(), DiagramRefreshedEventPayload.CAUSE_REFRESH).subscribe(payloads::add);
+
+        Node secondNode = builder.getNode("second", true);
+        Diagram diagram = Diagram.newDiagram(initialDiagram)
+                .nodes(List.of(firstNode, secondNode))
+                .edges(List.of(builder.getEdge("edge", firstNode.getId(), secondNode.getId())))
+                .build();
+        diagramEventFlux.diagramRefreshed(UUID.randomUUID(), diagram, DiagramRefreshedEventPayload.CAUSE_REFRESH, null);
+
+        assertThat(payloads).hasSize(2).allMatch(DiagramRefreshedEventPayload.class::isInstance);
+        assertThat(diffPayloads).hasSize(2);
+        assertThat(diffPayloads.get(0)).isInstanceOf(DiagramRefreshedEventPayload.class);
+        assertThat(diffPayloads.get(1)).isInstanceOf(DiagramDiffEventPayload.class);
+
+        DiagramDiffEventPayload diffPayload = (DiagramDiffEventPayload) diffPayloads.get(1);
+        assertThat(diffPayload.nodeChanges()).hasSize(1);
+        assertThat(diffPayload.nodeChanges().get(0).element()).isSameAs(secondNode);
+        assertThat(diffPayload.nodeChanges().get(0).index()).isEqualTo(1);
+        assertThat(diffPayload.edgeChanges()).hasSize(1);
+        assertThat(diffPayload.removedElementIds()).isEmpty();
+        assertThat(diffPayload.layoutData()).isNull();
+
+        diffSubscription.dispose();
+        subscription.dispose();
+        diagramEventFlux.dispose();
+    }
+
+    @Test
+    public void testOnlyChangedLayoutDataSentInDiff() {
+        TestDiagramBuilder builder = new TestDiagramBuilder();
+        Node firstNode = builder.getNode("first", true);
+        Node secondNode = builder.getNode("second", true);
+        var firstNodeLayoutData = new NodeLayoutData(firstNode.getId(), new Position(0, 0), new Size(100, 50), false);
+        var secondNodeLayoutData = new NodeLayoutData(secondNode.getId(), new Position(200, 0), new Size(100, 50), false);
+        Diagram initialDiagram = Diagram.newDiagram(builder.getDiagram(DIAGRAM_ID))
+                .nodes(List.of(firstNode, secondNode))
+                .layoutData(new DiagramLayoutData(Map.of(firstNode.getId(), firstNodeLayoutData, secondNode.getId(), secondNodeLayoutData), Map.of(), Map.of()))
+                .build();
+        DiagramEventFlux diagramEventFlux = new DiagramEventFlux(initialDiagram);
+
+        List<IPayload> diffPayloads = new ArrayList<>();
+        var diffInput = new DiagramEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), DIAGRAM_ID, true);
+        var diffSubscription = diagramEventFlux.getFlux(diffInput, diffInput.id(), DiagramRefreshedEventPayload.CAUSE_REFRESH).subscribe(diffPayloads::add);
+
+        // The second node is moved and a third node is added
+        Node thirdNode = builder.getNode("third", true);
+        var movedSecondNodeLayoutData = new NodeLayoutData(secondNode.getId(), new Position(300, 100), new Size(100, 50), true);
+        var thirdNodeLayoutData = new NodeLayoutData(thirdNode.getId(), new Position(0, 200), new Size(100, 50), false);
+        Diagram diagram = Diagram.newDiagram(initialDiagram)
+                .nodes(List.of(firstNode, secondNode, thirdNode))
+                .layoutData(new DiagramLayoutData(Map.of(firstNode.getId(), firstNodeLayoutData, secondNode.getId(), movedSecondNodeLayoutData, thirdNode.getId(), thirdNodeLayoutData), Map.of(),
+                        Map.of()))
+                .build();
+        diagramEventFlux.diagramRefreshed(UUID.randomUUID(), diagram, DiagramRefreshedEventPayload.CAUSE_LAYOUT, null);
+
+        assertThat(diffPayloads).hasSize(2);
+        assertThat(diffPayloads.get(1)).isInstanceOf(DiagramDiffEventPayload.class);
+        DiagramDiffEventPayload diffPayload = (DiagramDiffEventPayload) diffPayloads.get(1);
+        assertThat(diffPayload.nodeChanges()).hasSize(1);
+        assertThat(diffPayload.layoutData()).isNotNull();
+        assertThat(diffPayload.layoutData().nodeLayoutData()).containsExactlyInAnyOrder(movedSecondNodeLayoutData, thirdNodeLayoutData);
+
+        diffSubscription.dispose();
+        diagramEventFlux.dispose();
+    }
+}
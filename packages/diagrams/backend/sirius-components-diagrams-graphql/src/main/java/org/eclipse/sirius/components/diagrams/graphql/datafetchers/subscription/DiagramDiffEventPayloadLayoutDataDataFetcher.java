@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.graphql.datafetchers.subscription;
+
+import org.eclipse.sirius.components.annotations.spring.graphql.QueryDataFetcher;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDiffEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramLayoutDataPayload;
+import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
+
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Used to retrieve the layout data which have changed from a diff payload.
+ *
+ * @author sbegaudeau
+ */
+@QueryDataFetcher(type = "DiagramDiffEventPayload", field = "layoutData")
+public class DiagramDiffEventPayloadLayoutDataDataFetcher implements IDataFetcherWithFieldCoordinates<DiagramLayoutDataPayload> {
+    @Override
+    public DiagramLayoutDataPayload get(DataFetchingEnvironment environment) throws Exception {
+        DiagramDiffEventPayload payload = environment.getSource();
+        return payload.layoutData();
+    }
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.graphql.datafetchers.subscription;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.sirius.components.annotations.spring.graphql.QueryDataFetcher;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDiffEventPayload;
+import org.eclipse.sirius.components.collaborative.dto.RepresentationElementChange;
+import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
+
+import graphql.execution.DataFetcherResult;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Used to retrieve the nodes which have changed along with the diagram needed to send their layout data.
+ *
+ * @author sbegaudeau
+ */
+@QueryDataFetcher(type = "DiagramDiffEventPayload", field = "nodeChanges")
+public class DiagramDiffEventPayloadNodeChangesDataFetcher implements IDataFetcherWithFieldCoordinates<DataFetcherResult<List<RepresentationElementChange>>> {
+    @Override
+    public DataFetcherResult<List<RepresentationElementChange>> get(DataFetchingEnvironment environment) throws Exception {
+        DiagramDiffEventPayload payload = environment.getSource();
+
+        Map<String, Object> localContext = new HashMap<>();
+        localContext.put("diagram", payload.diagram());
+
+        return DataFetcherResult.<List<RepresentationElementChange>>newResult()
+                .data(payload.nodeChanges())
+                .localContext(localContext)
+                .build();
+    }
+}
@@ -56,7 +56,7 @@ public class DiagramComponent implements IComponent {
         String diagramId = optionalPreviousDiagram.map(Diagram::getId).orElseGet(() -> UUID.randomUUID().toString());
         String targetObjectId = diagramDescription.getTargetObjectIdProvider().apply(variableManager);
 
-        DiagramRenderingCache cache = new DiagramRenderingCache();
+        DiagramRenderingCache cache = this.props.getCache();
 
         IDiagramElementRequestor diagramElementRequestor = new DiagramElementRequestor();
         INodeDescriptionRequestor nodeDescriptionRequestor = new NodeDescriptionRequestor(allDiagramDescriptions);
@@ -22,6 +22,7 @@ import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.components.diagrams.ViewDeletionRequest;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.components.representations.IOperationValidator;
 import org.eclipse.sirius.components.representations.IProps;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -52,6 +53,8 @@ public final class DiagramComponentProps implements IProps {
 
     private List<IDiagramEvent> diagramEvents;
 
+    private DiagramRenderingCache cache;
+
     private DiagramComponentProps() {
         // Prevent instantiation
     }
@@ -88,6 +91,10 @@ public final class DiagramComponentProps implements IProps {
         return this.diagramEvents;
     }
 
+    public DiagramRenderingCache getCache() {
+        return this.cache;
+    }
+
     public static Builder newDiagramComponentProps() {
         return new Builder();
     }
@@ -115,6 +122,8 @@ public final class DiagramComponentProps implements IProps {
 
         private List<IDiagramEvent> diagramEvents;
 
+        private DiagramRenderingCache cache;
+
         public Builder variableManager(VariableManager variableManager) {
             this.variableManager = Objects.requireNonNull(variableManager);
             return this;
@@ -155,6 +164,11 @@ public final class DiagramComponentProps implements IProps {
             return this;
         }
 
+        public Builder cache(DiagramRenderingCache cache) {
+            this.cache = Objects.requireNonNull(cache);
+            return this;
+        }
+
         public DiagramComponentProps build() {
             DiagramComponentProps diagramComponentProps = new DiagramComponentProps();
             diagramComponentProps.variableManager = Objects.requireNonNull(this.variableManager);
@@ -165,6 +179,7 @@ public final class DiagramComponentProps implements IProps {
             diagramComponentProps.viewCreationRequests = List.copyOf(Objects.requireNonNull(this.viewCreationRequests));
             diagramComponentProps.viewDeletionRequests = List.copyOf(Objects.requireNonNull(this.viewDeletionRequests));
             diagramComponentProps.diagramEvents = Objects.requireNonNull(this.diagramEvents);
+            diagramComponentProps.cache = Optional.ofNullable(this.cache).orElseGet(DiagramRenderingCache::new);
             return diagramComponentProps;
         }
     }
@@ -38,6 +38,7 @@ import org.eclipse.sirius.components.diagrams.description.SynchronizationPolicy;
 import org.eclipse.sirius.components.diagrams.elements.EdgeElementProps;
 import org.eclipse.sirius.components.diagrams.elements.EdgeElementProps.Builder;
 import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
+import org.eclipse.sirius.components.diagrams.elements.ReusedElementProps;
 import org.eclipse.sirius.components.diagrams.events.FadeDiagramElementEvent;
 import org.eclipse.sirius.components.diagrams.events.HideDiagramElementEvent;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
@@ -150,6 +151,13 @@ public class EdgeComponent implements IComponent {
         String targetId = this.getId(targetNode);
 
         Optional<Edge> optionalPreviousEdge = this.props.getEdgesRequestor().getById(id);
+        var optionalReusableEdge = optionalPreviousEdge.filter(previousEdge -> this.canReuse(previousEdge, edgeVariableManager, targetObjectId, sourceId, targetId));
+        if (optionalReusableEdge.isPresent()) {
+            edgeIdPrefixToCount.put(edgeIdPrefix, ++count);
+            lastPreviousRenderedEdgeIds.add(id);
+            return Optional.of(new Element(ReusedElementProps.TYPE, ReusedElementProps.newReusedElementProps(optionalReusableEdge.get()).build()));
+        }
+
         Builder edgeElementPropsBuilder = EdgeElementProps.newEdgeElementProps(id);
 
         Set<ViewModifier> modifiers = this.computeModifiers(diagramEvents, optionalPreviousEdge, id);
@@ -179,6 +187,7 @@ public class EdgeComponent implements IComponent {
         SynchronizationPolicy synchronizationPolicy = edgeDescription.getSynchronizationPolicy();
         boolean shouldRender = synchronizationPolicy == SynchronizationPolicy.SYNCHRONIZED || (synchronizationPolicy == SynchronizationPolicy.UNSYNCHRONIZED && optionalPreviousEdge.isPresent());
 
+        Optional<Element> optionalEdgeElement = Optional.empty();
         if (shouldRender) {
             EdgeStyle style = edgeDescription.getStyleProvider().apply(edgeVariableManager);
 
@@ -208,10 +217,28 @@ public class EdgeComponent implements IComponent {
                 lastPreviousRenderedEdgeIds.add(optionalPreviousEdge.get().getId());
             }
 
-            return Optional.of(edgeElement);
+            optionalEdgeElement = Optional.of(edgeElement);
         }
 
-        return Optional.empty();
+        return optionalEdgeElement;
+    }
+
+    /**
+     * Indicates if the previous edge can be reused as is. It requires an incremental rendering, an unchanged semantic
+     * element and both ends of the edge reused from the previous diagram.
+     */
+    private boolean canReuse(Edge previousEdge, VariableManager edgeVariableManager, String targetObjectId, String sourceId, String targetId) {
+        DiagramRenderingCache cache = this.props.getCache();
+        Object semanticElement = edgeVariableManager.get(VariableManager.SELF, Object.class).orElse(null);
+
+        boolean canReuse = this.props.getDiagramEvents().isEmpty();
+        canReuse = canReuse && cache.getIncrementalRenderingContext()
+                .filter(incrementalRenderingContext -> !incrementalRenderingContext.isChanged(semanticElement))
+                .isPresent();
+        canReuse = canReuse && Objects.equals(previousEdge.getTargetObjectId(), targetObjectId);
+        canReuse = canReuse && Objects.equals(previousEdge.getSourceId(), sourceId) && cache.isReused(sourceId);
+        canReuse = canReuse && Objects.equals(previousEdge.getTargetId(), targetId) && cache.isReused(targetId);
+        return canReuse;
     }
 
     /**
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.eclipse.sirius.components.diagrams.CollapsingState;
 import org.eclipse.sirius.components.diagrams.CustomizableProperties;
@@ -33,6 +34,7 @@ import org.eclipse.sirius.components.diagrams.description.NodeDescription;
 import org.eclipse.sirius.components.diagrams.description.SynchronizationPolicy;
 import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.diagrams.elements.NodeElementProps.Builder;
+import org.eclipse.sirius.components.diagrams.elements.ReusedElementProps;
 import org.eclipse.sirius.components.diagrams.events.FadeDiagramElementEvent;
 import org.eclipse.sirius.components.diagrams.events.HideDiagramElementEvent;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
@@ -45,6 +47,7 @@ import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.Fragment;
 import org.eclipse.sirius.components.representations.FragmentProps;
 import org.eclipse.sirius.components.representations.IComponent;
+import org.eclipse.sirius.components.representations.ReadObjectsRecorder;
 import org.eclipse.sirius.components.representations.VariableManager;
 
 /**
@@ -95,17 +98,32 @@ public class NodeComponent implements IComponent {
         for (Object semanticElement : semanticElements) {
             VariableManager nodeVariableManager = variableManager.createChild();
             nodeVariableManager.put(VariableManager.SELF, semanticElement);
+            Optional<ReadObjectsRecorder> optionalReadObjectsRecorder = this.createReadObjectsRecorder(nodeVariableManager, semanticElement);
 
             String targetObjectId = nodeDescription.getTargetObjectIdProvider().apply(nodeVariableManager);
             var optionalPreviousNode = nodesRequestor.getByTargetObjectId(targetObjectId);
 
             if (this.shouldRender(targetObjectId, optionalPreviousNode, nodeVariableManager)) {
-                Element nodeElement = this.doRender(nodeVariableManager, targetObjectId, optionalPreviousNode, diagramEvents);
+                var optionalReusableNode = optionalPreviousNode.filter(previousNode -> this.canReuse(previousNode, semanticElement));
+
+                Element nodeElement;
+                if (optionalReusableNode.isPresent()) {
+                    nodeElement = this.createReusedNodeElement(optionalReusableNode.get());
+                } else {
+                    nodeElement = this.doRender(nodeVariableManager, targetObjectId, optionalPreviousNode, diagramEvents);
+                }
                 children.add(nodeElement);
 
                 cache.put(nodeDescription.getId(), nodeElement);
                 cache.put(semanticElement, nodeElement);
                 cache.put(nodeElement, this.props.getParentElementId());
+                if (nodeElement.getProps() instanceof NodeElementProps nodeElementProps) {
+                    optionalReadObjectsRecorder.ifPresent(readObjectsRecorder -> cache.put(nodeElementProps.getId(), readObjectsRecorder));
+                }
+
+                if (optionalReusableNode.isPresent()) {
+                    this.registerReusedNodeElement(nodeElement);
+                }
             }
 
         }
@@ -114,6 +132,21 @@ public class NodeComponent implements IComponent {
         return new Fragment(fragmentProps);
     }
 
+    /**
+     * Creates the recorder of the objects read while rendering the node, if they are needed by a later incremental
+     * rendering. The recorder is also used while computing the semantic candidates of the children of the node.
+     */
+    private Optional<ReadObjectsRecorder> createReadObjectsRecorder(VariableManager nodeVariableManager, Object semanticElement) {
+        Optional<ReadObjectsRecorder> optionalReadObjectsRecorder = Optional.empty();
+        if (this.props.getCache().isRecordingReadObjects()) {
+            ReadObjectsRecorder readObjectsRecorder = new ReadObjectsRecorder();
+            readObjectsRecorder.record(semanticElement);
+            nodeVariableManager.put(ReadObjectsRecorder.READ_OBJECTS_RECORDER, readObjectsRecorder);
+            optionalReadObjectsRecorder = Optional.of(readObjectsRecorder);
+        }
+        return optionalReadObjectsRecorder;
+    }
+
     private boolean shouldRender(String targetObjectId, Optional<Node> optionalPreviousNode, VariableManager variableManager) {
         boolean shouldRender = false;
         NodeDescription nodeDescription = this.props.getNodeDescription();
@@ -132,6 +165,89 @@ public class NodeComponent implements IComponent {
         return shouldRender && nodeDescription.getShouldRenderPredicate().test(variableManager);
     }
 
+    /**
+     * Indicates if the previous node can be reused as is, along with all its descendants, instead of being rendered
+     * again. It requires an incremental rendering and a previous node, which has been rendered for the very same
+     * semantic element, and whose state does not depend on a parent which has changed.
+     */
+    private boolean canReuse(Node previousNode, Object semanticElement) {
+        boolean isBorderNode = this.props.getContainmentKind() == NodeContainmentKind.BORDER_NODE;
+
+        boolean canReuse = this.props.getCache().getIncrementalRenderingContext()
+                .filter(incrementalRenderingContext -> incrementalRenderingContext.canReuse(previousNode, semanticElement))
+                .isPresent();
+        canReuse = canReuse && previousNode.isBorderNode() == isBorderNode;
+        canReuse = canReuse && previousNode.getState() == this.computeState(previousNode.getModifiers());
+        return canReuse;
+    }
+
+    private Element createReusedNodeElement(Node previousNode) {
+        List<Element> children = new ArrayList<>();
+        if (previousNode.getInsideLabel() != null) {
+            children.add(new Element(ReusedElementProps.TYPE, ReusedElementProps.newReusedElementProps(previousNode.getInsideLabel()).build()));
+        }
+        previousNode.getOutsideLabels().stream()
+                .map(outsideLabel -> new Element(ReusedElementProps.TYPE, ReusedElementProps.newReusedElementProps(outsideLabel).build()))
+                .forEach(children::add);
+        Stream.concat(previousNode.getBorderNodes().stream(), previousNode.getChildNodes().stream())
+                .map(this::createReusedNodeElement)
+                .forEach(children::add);
+
+        Builder nodeElementPropsBuilder = NodeElementProps.newNodeElementProps(previousNode.getId())
+                .type(previousNode.getType())
+                .targetObjectId(previousNode.getTargetObjectId())
+                .targetObjectKind(previousNode.getTargetObjectKind())
+                .targetObjectLabel(previousNode.getTargetObjectLabel())
+                .descriptionId(previousNode.getDescriptionId())
+                .borderNode(previousNode.isBorderNode())
+                .style(previousNode.getStyle())
+                .position(previousNode.getPosition())
+                .size(previousNode.getSize())
+                .userResizable(previousNode.isUserResizable())
+                .children(children)
+                .customizableProperties(previousNode.getCustomizedProperties())
+                .modifiers(previousNode.getModifiers())
+                .state(previousNode.getState())
+                .pinned(previousNode.isPinned())
+                .collapsingState(previousNode.getCollapsingState())
+                .defaultWidth(previousNode.getDefaultWidth())
+                .defaultHeight(previousNode.getDefaultHeight())
+                .labelEditable(previousNode.isLabelEditable());
+
+        if (previousNode.getChildrenLayoutStrategy() != null) {
+            nodeElementPropsBuilder.childrenLayoutStrategy(previousNode.getChildrenLayoutStrategy());
+        }
+
+        return new Element(NodeElementProps.TYPE, nodeElementPropsBuilder.build());
+    }
+
+    /**
+     * Registers the reused node and its descendants in the cache just like if they had been rendered since edges and
+     * later refreshes will look for them. The objects read while rendering them previously are kept for the next
+     * incremental rendering.
+     */
+    private void registerReusedNodeElement(Element nodeElement) {
+        DiagramRenderingCache cache = this.props.getCache();
+        if (nodeElement.getProps() instanceof NodeElementProps nodeElementProps) {
+            cache.markAsReused(nodeElementProps.getId());
+            cache.getIncrementalRenderingContext()
+                    .map(incrementalRenderingContext -> incrementalRenderingContext.getPreviousReadObjects(nodeElementProps.getId()))
+                    .ifPresent(previousReadObjects -> cache.getReadObjectsRecorder(nodeElementProps.getId()).recordAll(previousReadObjects));
+
+            nodeElementProps.getChildren().forEach(childElement -> {
+                if (childElement.getProps() instanceof NodeElementProps childElementProps) {
+                    cache.put(childElementProps.getDescriptionId(), childElement);
+                    cache.getIncrementalRenderingContext()
+                            .flatMap(incrementalRenderingContext -> incrementalRenderingContext.getPreviousObject(childElementProps.getId()))
+                            .ifPresent(childSemanticElement -> cache.put(childSemanticElement, childElement));
+                    cache.put(childElement, nodeElementProps.getId());
+
+                    this.registerReusedNodeElement(childElement);
+                }
+            });
+        }
+    }
+
     private boolean existsViewCreationRequested(String targetObjectId) {
         String parentElementId = this.props.getParentElementId();
         String nodeDescriptionId = this.props.getNodeDescription().getId();
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.elements;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.annotations.Immutable;
+import org.eclipse.sirius.components.representations.IProps;
+
+/**
+ * The properties of an element of the previous diagram which is reused as is during an incremental refresh.
+ *
+ * @author sbegaudeau
+ */
+@Immutable
+public final class ReusedElementProps implements IProps {
+
+    public static final String TYPE = "ReusedElement";
+
+    private Object instance;
+
+    private ReusedElementProps() {
+        // Prevent instantiation
+    }
+
+    public static Builder newReusedElementProps(Object instance) {
+        return new Builder(instance);
+    }
+
+    public Object getInstance() {
+        return this.instance;
+    }
+
+    @Override
+    public String toString() {
+        String pattern = "{0} '{'instance: {1}'}'";
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.instance);
+    }
+
+    /**
+     * The builder used to create a reused element.
+     *
+     * @author sbegaudeau
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    public static final class Builder {
+
+        private final Object instance;
+
+        private Builder(Object instance) {
+            this.instance = Objects.requireNonNull(instance);
+        }
+
+        public ReusedElementProps build() {
+            ReusedElementProps reusedElementProps = new ReusedElementProps();
+            reusedElementProps.instance = Objects.requireNonNull(this.instance);
+            return reusedElementProps;
+        }
+    }
+}
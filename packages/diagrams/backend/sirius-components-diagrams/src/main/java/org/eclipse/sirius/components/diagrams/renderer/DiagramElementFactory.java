@@ -29,6 +29,7 @@ import org.eclipse.sirius.components.diagrams.elements.InsideLabelElementProps;
 import org.eclipse.sirius.components.diagrams.elements.LabelElementProps;
 import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.diagrams.elements.OutsideLabelElementProps;
+import org.eclipse.sirius.components.diagrams.elements.ReusedElementProps;
 import org.eclipse.sirius.components.representations.IElementFactory;
 import org.eclipse.sirius.components.representations.IProps;
 import org.slf4j.Logger;
@@ -52,6 +53,7 @@ public class DiagramElementFactory implements IElementFactory {
             case LabelElementProps.TYPE -> this.instantiateLabel(props);
             case InsideLabelElementProps.TYPE -> this.instantiateInsideLabel(props);
             case OutsideLabelElementProps.TYPE -> this.instantiateOutsideLabel(props);
+            case ReusedElementProps.TYPE -> this.instantiateReusedElement(props);
             default -> null;
         };
     }
@@ -224,4 +226,11 @@ public class DiagramElementFactory implements IElementFactory {
         return null;
     }
 
+    private Object instantiateReusedElement(IProps props) {
+        if (props instanceof ReusedElementProps reusedElementProps) {
+            return reusedElementProps.getInstance();
+        }
+        return null;
+    }
+
 }
@@ -18,6 +18,7 @@ import org.eclipse.sirius.components.diagrams.elements.InsideLabelElementProps;
 import org.eclipse.sirius.components.diagrams.elements.LabelElementProps;
 import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.diagrams.elements.OutsideLabelElementProps;
+import org.eclipse.sirius.components.diagrams.elements.ReusedElementProps;
 import org.eclipse.sirius.components.representations.IInstancePropsValidator;
 import org.eclipse.sirius.components.representations.IProps;
 
@@ -44,6 +45,8 @@ public class DiagramInstancePropsValidator implements IInstancePropsValidator {
             checkValidProps = props instanceof InsideLabelElementProps;
         } else if (OutsideLabelElementProps.TYPE.equals(type)) {
             checkValidProps = props instanceof OutsideLabelElementProps;
+        } else if (ReusedElementProps.TYPE.equals(type)) {
+            checkValidProps = props instanceof ReusedElementProps;
         }
 
         return checkValidProps;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,14 +13,19 @@
 package org.eclipse.sirius.components.diagrams.renderer;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.ReadObjectsRecorder;
 
 /**
  * Cache used during the rendering of a diagram.
@@ -41,6 +46,59 @@ public class DiagramRenderingCache {
 
     private final Map<String, List<Element>> nodeIdToChildren = new LinkedHashMap<>();
 
+    private final Set<String> reusedNodeIds = new HashSet<>();
+
+    private final Map<String, ReadObjectsRecorder> nodeIdToReadObjectsRecorder = new LinkedHashMap<>();
+
+    private final Optional<IncrementalRenderingContext> optionalIncrementalRenderingContext;
+
+    private final boolean isRecordingReadObjects;
+
+    public DiagramRenderingCache() {
+        this(false);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param isRecordingReadObjects
+     *            Indicates if the objects read while rendering each node should be recorded in order to perform an
+     *            incremental rendering later
+     */
+    public DiagramRenderingCache(boolean isRecordingReadObjects) {
+        this.optionalIncrementalRenderingContext = Optional.empty();
+        this.isRecordingReadObjects = isRecordingReadObjects;
+    }
+
+    public DiagramRenderingCache(IncrementalRenderingContext incrementalRenderingContext) {
+        this.optionalIncrementalRenderingContext = Optional.of(Objects.requireNonNull(incrementalRenderingContext));
+        this.isRecordingReadObjects = true;
+    }
+
+    public boolean isRecordingReadObjects() {
+        return this.isRecordingReadObjects;
+    }
+
+    public void put(String nodeId, ReadObjectsRecorder readObjectsRecorder) {
+        this.nodeIdToReadObjectsRecorder.put(nodeId, readObjectsRecorder);
+    }
+
+    public ReadObjectsRecorder getReadObjectsRecorder(String nodeId) {
+        return this.nodeIdToReadObjectsRecorder.computeIfAbsent(nodeId, id -> new ReadObjectsRecorder());
+    }
+
+    public Optional<IncrementalRenderingContext> getIncrementalRenderingContext() {
+        return this.optionalIncrementalRenderingContext;
+    }
+
+    public void markAsReused(String nodeId) {
+        this.reusedNodeIds.add(nodeId);
+    }
+
+    public boolean isReused(String nodeId) {
+        return this.reusedNodeIds.contains(nodeId);
+    }
+
     public void put(String nodeDescriptionId, Element nodeElement) {
         this.nodeDescriptionIdToNodes.computeIfAbsent(nodeDescriptionId, id -> new ArrayList<>()).add(nodeElement);
     }
@@ -73,6 +131,67 @@ public class DiagramRenderingCache {
         return this.objectToNodes;
     }
 
+    /**
+     * Returns the semantic element of each rendered node, indexed by the id of the node.
+     *
+     * @return The semantic element of each rendered node
+     */
+    public Map<String, Object> getNodeIdToObject() {
+        Map<String, Object> nodeIdToObject = new LinkedHashMap<>();
+        this.nodeIdToNode.forEach((nodeId, node) -> {
+            Object object = this.nodeToObject.get(node);
+            if (object != null) {
+                nodeIdToObject.put(nodeId, object);
+            }
+        });
+        return nodeIdToObject;
+    }
+
+    /**
+     * Returns the objects read while rendering each node, indexed by the id of the node.
+     *
+     * <p>
+     * The objects read to compute the semantic candidates of the children of a node are recorded with the objects read
+     * by the node itself since they determine the children of the node.
+     * </p>
+     *
+     * @return The objects read while rendering each node
+     */
+    public Map<String, Set<Object>> getNodeIdToReadObjects() {
+        Map<String, Set<Object>> nodeIdToReadObjects = new LinkedHashMap<>();
+        this.nodeIdToReadObjectsRecorder.forEach((nodeId, readObjectsRecorder) -> nodeIdToReadObjects.put(nodeId, Set.copyOf(readObjectsRecorder.getReadObjects())));
+        return nodeIdToReadObjects;
+    }
+
+    /**
+     * Returns the semantic elements of the nodes created from the given node descriptions, in the order of their
+     * rendering.
+     *
+     * @param nodeDescriptionIds
+     *            The ids of the node descriptions
+     * @return The semantic element of each node created from the given node descriptions
+     */
+    public List<Object> getSemanticElements(Collection<String> nodeDescriptionIds) {
+        List<Object> semanticElements = new ArrayList<>();
+        if (nodeDescriptionIds.size() == 1) {
+            // The nodes of a single description are already sorted in the order of their rendering
+            String nodeDescriptionId = nodeDescriptionIds.iterator().next();
+            for (Element node : this.nodeDescriptionIdToNodes.getOrDefault(nodeDescriptionId, List.of())) {
+                if (this.nodeToObject.containsKey(node)) {
+                    semanticElements.add(this.nodeToObject.get(node));
+                }
+            }
+        } else {
+            Set<String> nodeDescriptionIdsSet = new HashSet<>(nodeDescriptionIds);
+            this.nodeToObject.forEach((node, object) -> {
+                if (node.getProps() instanceof NodeElementProps nodeElementProps && nodeDescriptionIdsSet.contains(nodeElementProps.getDescriptionId())) {
+                    semanticElements.add(object);
+                }
+            });
+        }
+        return semanticElements;
+    }
+
     public List<Element> getElementsRepresenting(Object semanticObject) {
         return this.objectToNodes.getOrDefault(semanticObject, Collections.emptyList());
     }
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.sirius.components.diagrams.Node;
+
+/**
+ * Information used to reuse the parts of the previous diagram which have not been impacted by a semantic change.
+ *
+ * <p>
+ * A node of the previous diagram can be reused as is if it was rendered for the very same semantic element and if
+ * none of the objects read while rendering this node and its descendants has been changed. Those objects are recorded
+ * by the interpreters, they contain at least the semantic element of the node, the objects given to the expressions
+ * evaluated and the objects returned by those expressions.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class IncrementalRenderingContext {
+
+    private final Map<String, Object> previousNodeIdToObject;
+
+    private final Map<String, Set<Object>> previousNodeIdToReadObjects;
+
+    private final Set<Object> changedObjects;
+
+    public IncrementalRenderingContext(Map<String, Object> previousNodeIdToObject, Map<String, Set<Object>> previousNodeIdToReadObjects, Set<Object> changedObjects) {
+        this.previousNodeIdToObject = Objects.requireNonNull(previousNodeIdToObject);
+        this.previousNodeIdToReadObjects = Objects.requireNonNull(previousNodeIdToReadObjects);
+        this.changedObjects = Objects.requireNonNull(changedObjects);
+    }
+
+    public Optional<Object> getPreviousObject(String nodeId) {
+        return Optional.ofNullable(this.previousNodeIdToObject.get(nodeId));
+    }
+
+    public Set<Object> getPreviousReadObjects(String nodeId) {
+        return this.previousNodeIdToReadObjects.getOrDefault(nodeId, Set.of());
+    }
+
+    public boolean isChanged(Object object) {
+        return object == null || this.changedObjects.contains(object);
+    }
+
+    public boolean canReuse(Node previousNode, Object semanticElement) {
+        boolean canReuse = this.getPreviousObject(previousNode.getId()).filter(previousObject -> previousObject == semanticElement).isPresent();
+        canReuse = canReuse && !this.isChanged(semanticElement);
+        canReuse = canReuse && this.previousNodeIdToReadObjects.containsKey(previousNode.getId());
+        canReuse = canReuse && this.getPreviousReadObjects(previousNode.getId()).stream().noneMatch(this.changedObjects::contains);
+        canReuse = canReuse && previousNode.getBorderNodes().stream().allMatch(this::canReuseDescendant);
+        canReuse = canReuse && previousNode.getChildNodes().stream().allMatch(this::canReuseDescendant);
+        return canReuse;
+    }
+
+    private boolean canReuseDescendant(Node previousNode) {
+        return this.getPreviousObject(previousNode.getId())
+                .map(previousObject -> this.canReuse(previousNode, previousObject))
+                .orElse(false);
+    }
+
+}
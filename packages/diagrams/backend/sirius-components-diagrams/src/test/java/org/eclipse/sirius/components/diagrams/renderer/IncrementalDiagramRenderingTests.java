@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.diagrams.ArrowStyle;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.EdgeStyle;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.INodeStyle;
+import org.eclipse.sirius.components.diagrams.InsideLabelLocation;
+import org.eclipse.sirius.components.diagrams.LabelOverflowStrategy;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.Size;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
+import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
+import org.eclipse.sirius.components.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Failure;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.ReadObjectsRecorder;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the incremental rendering of diagrams.
+ *
+ * @author sbegaudeau
+ */
+public class IncrementalDiagramRenderingTests {
+
+    private static final String FIRST_OBJECT = "First";
+
+    private static final String SECOND_OBJECT = "Second";
+
+    private static final String LABEL_OBJECT = "Label";
+
+    private final AtomicInteger nodeStyleComputationCount = new AtomicInteger();
+
+    private final AtomicInteger edgeStyleComputationCount = new AtomicInteger();
+
+    @Test
+    public void testNodesAndEdgesReusedWithoutChanges() {
+        DiagramDescription diagramDescription = this.getDiagramDescription();
+
+        DiagramRenderingCache initialCache = new DiagramRenderingCache(true);
+        Diagram initialDiagram = this.renderDiagram(diagramDescription, Optional.empty(), initialCache);
+        assertThat(initialCache.getNodeIdToObject()).hasSize(2);
+        assertThat(this.nodeStyleComputationCount.get()).isEqualTo(2);
+        assertThat(this.edgeStyleComputationCount.get()).isEqualTo(1);
+
+        var cache = new DiagramRenderingCache(new IncrementalRenderingContext(initialCache.getNodeIdToObject(), initialCache.getNodeIdToReadObjects(), Set.of()));
+        Diagram diagram = this.renderDiagram(diagramDescription, Optional.of(initialDiagram), cache);
+
+        assertThat(this.nodeStyleComputationCount.get()).isEqualTo(2);
+        assertThat(this.edgeStyleComputationCount.get()).isEqualTo(1);
+        assertThat(diagram.getNodes()).hasSize(2);
+        assertThat(diagram.getNodes().get(0).getId()).isEqualTo(initialDiagram.getNodes().get(0).getId());
+        assertThat(diagram.getNodes().get(0).getInsideLabel()).isSameAs(initialDiagram.getNodes().get(0).getInsideLabel());
+        assertThat(diagram.getEdges()).hasSize(1);
+        assertThat(diagram.getEdges().get(0)).isSameAs(initialDiagram.getEdges().get(0));
+        assertThat(cache.getNodeIdToObject()).isEqualTo(initialCache.getNodeIdToObject());
+        assertThat(cache.getNodeIdToReadObjects()).isEqualTo(initialCache.getNodeIdToReadObjects());
+    }
+
+    @Test
+    public void testOnlyChangedElementsRenderedAgain() {
+        DiagramDescription diagramDescription = this.getDiagramDescription();
+
+        DiagramRenderingCache initialCache = new DiagramRenderingCache(true);
+        Diagram initialDiagram = this.renderDiagram(diagramDescription, Optional.empty(), initialCache);
+
+        var cache = new DiagramRenderingCache(new IncrementalRenderingContext(initialCache.getNodeIdToObject(), initialCache.getNodeIdToReadObjects(), Set.of(SECOND_OBJECT)));
+        Diagram diagram = this.renderDiagram(diagramDescription, Optional.of(initialDiagram), cache);
+
+        assertThat(this.nodeStyleComputationCount.get()).isEqualTo(3);
+        assertThat(this.edgeStyleComputationCount.get()).isEqualTo(2);
+        assertThat(diagram.getNodes().get(0).getInsideLabel()).isSameAs(initialDiagram.getNodes().get(0).getInsideLabel());
+        assertThat(diagram.getNodes().get(1).getInsideLabel()).isNotSameAs(initialDiagram.getNodes().get(1).getInsideLabel());
+        assertThat(diagram.getEdges()).hasSize(1);
+        assertThat(diagram.getEdges().get(0)).isNotSameAs(initialDiagram.getEdges().get(0));
+        assertThat(diagram.getEdges().get(0).getId()).isEqualTo(initialDiagram.getEdges().get(0).getId());
+    }
+
+    @Test
+    public void testNodesRenderedAgainWhenAnObjectReadIsChanged() {
+        DiagramDescription diagramDescription = this.getDiagramDescription();
+
+        DiagramRenderingCache initialCache = new DiagramRenderingCache(true);
+        Diagram initialDiagram = this.renderDiagram(diagramDescription, Optional.empty(), initialCache);
+        assertThat(initialCache.getNodeIdToReadObjects().values()).allMatch(readObjects -> readObjects.contains(LABEL_OBJECT));
+
+        var cache = new DiagramRenderingCache(new IncrementalRenderingContext(initialCache.getNodeIdToObject(), initialCache.getNodeIdToReadObjects(), Set.of(LABEL_OBJECT)));
+        Diagram diagram = this.renderDiagram(diagramDescription, Optional.of(initialDiagram), cache);
+
+        assertThat(this.nodeStyleComputationCount.get()).isEqualTo(4);
+        assertThat(diagram.getNodes().get(0).getInsideLabel()).isNotSameAs(initialDiagram.getNodes().get(0).getInsideLabel());
+        assertThat(diagram.getNodes().get(1).getInsideLabel()).isNotSameAs(initialDiagram.getNodes().get(1).getInsideLabel());
+        assertThat(diagram.getNodes().get(0).getId()).isEqualTo(initialDiagram.getNodes().get(0).getId());
+        assertThat(cache.getNodeIdToReadObjects()).isEqualTo(initialCache.getNodeIdToReadObjects());
+    }
+
+    @Test
+    public void testNodesNotReusedWithoutObjectsRead() {
+        DiagramDescription diagramDescription = this.getDiagramDescription();
+
+        DiagramRenderingCache initialCache = new DiagramRenderingCache();
+        Diagram initialDiagram = this.renderDiagram(diagramDescription, Optional.empty(), initialCache);
+        assertThat(initialCache.getNodeIdToReadObjects()).isEmpty();
+
+        var cache = new DiagramRenderingCache(new IncrementalRenderingContext(initialCache.getNodeIdToObject(), initialCache.getNodeIdToReadObjects(), Set.of()));
+        this.renderDiagram(diagramDescription, Optional.of(initialDiagram), cache);
+
+        assertThat(this.nodeStyleComputationCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void testSemanticElementsOfNodeDescriptions() {
+        DiagramDescription diagramDescription = this.getDiagramDescription();
+        String nodeDescriptionId = diagramDescription.getNodeDescriptions().get(0).getId();
+
+        DiagramRenderingCache cache = new DiagramRenderingCache(true);
+        this.renderDiagram(diagramDescription, Optional.empty(), cache);
+
+        assertThat(cache.getSemanticElements(List.of(nodeDescriptionId))).containsExactly(FIRST_OBJECT, SECOND_OBJECT);
+        assertThat(cache.getSemanticElements(List.of(nodeDescriptionId, "otherNodeDescriptionId"))).containsExactly(FIRST_OBJECT, SECOND_OBJECT);
+        assertThat(cache.getSemanticElements(List.of("otherNodeDescriptionId"))).isEmpty();
+    }
+
+    private Diagram renderDiagram(DiagramDescription diagramDescription, Optional<Diagram> optionalPreviousDiagram, DiagramRenderingCache cache) {
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(new VariableManager())
+                .diagramDescription(diagramDescription)
+                .allDiagramDescriptions(List.of(diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(optionalPreviousDiagram)
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvents(List.of())
+                .cache(cache)
+                .build();
+        Element element = new Element(DiagramComponent.class, props);
+        return new DiagramRenderer().render(element);
+    }
+
+    private DiagramDescription getDiagramDescription() {
+        NodeDescription nodeDescription = this.getNodeDescription();
+        return DiagramDescription.newDiagramDescription(UUID.randomUUID().toString())
+                .label("")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId")
+                .labelProvider(variableManager -> "Diagram")
+                .nodeDescriptions(List.of(nodeDescription))
+                .edgeDescriptions(List.of(this.getEdgeDescription(nodeDescription)))
+                .palettes(List.of())
+                .dropHandler(variableManager -> new Failure(""))
+                .build();
+    }
+
+    private NodeDescription getNodeDescription() {
+        LabelStyleDescription labelStyleDescription = LabelStyleDescription.newLabelStyleDescription()
+                .colorProvider(variableManager -> "#000000")
+                .fontSizeProvider(variableManager -> 16)
+                .boldProvider(variableManager -> false)
+                .italicProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .iconURLProvider(variableManager -> List.of())
+                .build();
+
+        InsideLabelDescription insideLabelDescription = InsideLabelDescription.newInsideLabelDescription("insideLabelDescriptionId")
+                .idProvider(variableManager -> UUID.randomUUID().toString())
+                .textProvider(variableManager -> {
+                    variableManager.get(ReadObjectsRecorder.READ_OBJECTS_RECORDER, ReadObjectsRecorder.class).ifPresent(readObjectsRecorder -> readObjectsRecorder.record(LABEL_OBJECT));
+                    return variableManager.get(VariableManager.SELF, String.class).orElse("");
+                })
+                .styleDescriptionProvider(variableManager -> labelStyleDescription)
+                .isHeaderProvider(variableManager -> false)
+                .displayHeaderSeparatorProvider(variableManager -> false)
+                .insideLabelLocation(InsideLabelLocation.TOP_CENTER)
+                .overflowStrategy(LabelOverflowStrategy.NONE)
+                .build();
+
+        Function<VariableManager, INodeStyle> nodeStyleProvider = variableManager -> {
+            this.nodeStyleComputationCount.incrementAndGet();
+            return RectangularNodeStyle.newRectangularNodeStyle()
+                    .background("")
+                    .borderColor("")
+                    .borderSize(0)
+                    .borderStyle(LineStyle.Solid)
+                    .build();
+        };
+
+        return NodeDescription.newNodeDescription(UUID.randomUUID().toString())
+                .typeProvider(variableManager -> "")
+                .semanticElementsProvider(variableManager -> List.of(FIRST_OBJECT, SECOND_OBJECT))
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(null))
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .insideLabelDescription(insideLabelDescription)
+                .styleProvider(nodeStyleProvider)
+                .childrenLayoutStrategyProvider(variableManager -> new FreeFormLayoutStrategy())
+                .sizeProvider(variableManager -> Size.UNDEFINED)
+                .borderNodeDescriptions(new ArrayList<>())
+                .childNodeDescriptions(new ArrayList<>())
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .build();
+    }
+
+    private EdgeDescription getEdgeDescription(NodeDescription nodeDescription) {
+        Function<VariableManager, List<Element>> sourceNodesProvider = variableManager -> variableManager.get(DiagramDescription.CACHE, DiagramRenderingCache.class)
+                .map(cache -> cache.getElementsRepresenting(FIRST_OBJECT))
+                .orElse(List.of());
+
+        Function<VariableManager, List<Element>> targetNodesProvider = variableManager -> variableManager.get(DiagramDescription.CACHE, DiagramRenderingCache.class)
+                .map(cache -> cache.getElementsRepresenting(SECOND_OBJECT))
+                .orElse(List.of());
+
+        Function<VariableManager, EdgeStyle> edgeStyleProvider = variableManager -> {
+            this.edgeStyleComputationCount.incrementAndGet();
+            return EdgeStyle.newEdgeStyle()
+                    .size(2)
+                    .lineStyle(LineStyle.Solid)
+                    .sourceArrow(ArrowStyle.None)
+                    .targetArrow(ArrowStyle.InputArrow)
+                    .color("rgb(1, 2, 3)")
+                    .build();
+        };
+
+        return EdgeDescription.newEdgeDescription(UUID.randomUUID().toString())
+                .semanticElementsProvider(variableManager -> List.of(FIRST_OBJECT))
+                .sourceNodesProvider(sourceNodesProvider)
+                .targetNodesProvider(targetNodesProvider)
+                .sourceNodeDescriptions(List.of(nodeDescription))
+                .targetNodeDescriptions(List.of(nodeDescription))
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(null))
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .styleProvider(edgeStyleProvider)
+                .deleteHandler(variableManager -> new Failure(""))
+                .labelEditHandler((variableManager, edgeLabelKind, newLabel) -> new Failure(""))
+                .build();
+    }
+}
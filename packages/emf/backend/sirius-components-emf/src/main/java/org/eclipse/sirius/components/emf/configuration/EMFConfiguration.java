@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo and others.
+ * Copyright (c) 2019, 2024 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -30,9 +30,11 @@ import org.eclipse.emf.edit.provider.IChildCreationExtender.Descriptor;
 import org.eclipse.emf.edit.provider.ReflectiveItemProviderAdapterFactory;
 import org.eclipse.sirius.components.emf.services.ILabelFeatureProvider;
 import org.eclipse.sirius.components.emf.services.LabelFeatureProviderRegistry;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 
 /**
@@ -44,8 +46,16 @@ import jakarta.annotation.PostConstruct;
 public class EMFConfiguration {
     private final List<ChildExtenderProvider> childExtenderProviders;
 
-    public EMFConfiguration(List<ChildExtenderProvider> childExtenderProviders) {
+    private final MeterRegistry meterRegistry;
+
+    public EMFConfiguration(List<ChildExtenderProvider> childExtenderProviders, MeterRegistry meterRegistry) {
         this.childExtenderProviders = Objects.requireNonNull(childExtenderProviders);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    @PostConstruct
+    public void bindAQLInterpreterCacheMetrics() {
+        AQLInterpreter.CACHE.bindTo(this.meterRegistry);
     }
 
     @PostConstruct
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -125,6 +125,7 @@ public class EMFQueryService implements IQueryService {
 
         classes.addAll(providedClasses);
         classes.add(EditingContextServices.class);
+        classes.add(EObjectIndexServices.class);
         List<EPackage> ePackages = this.editingContextEPackageService.getEPackages(editingContext.getId());
 
         Map<String, Object> variables = new HashMap<>(providedVariables);
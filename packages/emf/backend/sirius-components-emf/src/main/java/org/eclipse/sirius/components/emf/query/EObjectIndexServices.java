@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.query;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.emf.services.EObjectIndexListener;
+import org.eclipse.sirius.components.emf.services.SemanticContentAdapter;
+
+/**
+ * Query services used to find the instances of a class without walking the whole model.
+ *
+ * <p>
+ * Those services rely on the {@link EObjectIndexListener} of the {@link SemanticContentAdapter} of the resource set of
+ * the editing context. They can be used instead of <code>eAllContents()</code> in the semantic candidates expressions,
+ * for example <code>aql:self.eResource().allInstances(papaya::Class)</code>. If the resource set is not indexed, the
+ * contents are walked as usual.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public final class EObjectIndexServices {
+
+    /**
+     * Returns the instances of the given class contained in the given resource.
+     *
+     * <p>
+     * The instances are returned in the order of the containment tree of the resource, like with
+     * <code>eAllContents()</code>.
+     * </p>
+     *
+     * @param resource
+     *            The resource
+     * @param eClass
+     *            The class of the instances
+     * @return The direct and indirect instances of the given class
+     */
+    public List<EObject> allInstances(Resource resource, EClass eClass) {
+        return this.getEObjectIndexListener(resource.getResourceSet())
+                .map(eObjectIndexListener -> eObjectIndexListener.getInstances(resource, eClass))
+                .orElseGet(() -> this.collectInstances(resource.getAllContents(), eClass));
+    }
+
+    /**
+     * Returns the instances of the given class contained, directly or not, in the given object.
+     *
+     * <p>
+     * The index only knows the resource of each instance. All the instances of the given class contained in the
+     * resource of the given object are thus retrieved and the containers of each of them are walked up to check whether
+     * it is contained in the given object. This is cheaper than <code>eAllContents()</code> when the resource contains
+     * few instances of the given class compared to the size of the subtree of the given object. For a small subtree in
+     * a resource containing lots of instances of the given class, navigating from the object should be preferred. The
+     * instances are returned in the order of the containment tree, like with <code>eAllContents()</code>.
+     * </p>
+     *
+     * @param eObject
+     *            The root of the subtree, which is not part of the result like with <code>eAllContents()</code>
+     * @param eClass
+     *            The class of the instances
+     * @return The direct and indirect instances of the given class
+     */
+    public List<EObject> allInstances(EObject eObject, EClass eClass) {
+        return Optional.ofNullable(eObject.eResource())
+                .flatMap(resource -> this.getEObjectIndexListener(resource.getResourceSet()))
+                .map(eObjectIndexListener -> eObjectIndexListener.getInstances(eObject.eResource(), eClass).stream()
+                        .filter(instance -> instance != eObject && EcoreUtil.isAncestor(eObject, instance))
+                        .toList())
+                .orElseGet(() -> this.collectInstances(eObject.eAllContents(), eClass));
+    }
+
+    private Optional<EObjectIndexListener> getEObjectIndexListener(ResourceSet resourceSet) {
+        return Optional.ofNullable(resourceSet)
+                .map(notifier -> EcoreUtil.getExistingAdapter(notifier, SemanticContentAdapter.class))
+                .filter(SemanticContentAdapter.class::isInstance)
+                .map(SemanticContentAdapter.class::cast)
+                .flatMap(semanticContentAdapter -> semanticContentAdapter.getListener(EObjectIndexListener.class));
+    }
+
+    private List<EObject> collectInstances(Iterator<EObject> iterator, EClass eClass) {
+        List<EObject> instances = new ArrayList<>();
+        while (iterator.hasNext()) {
+            EObject eObject = iterator.next();
+            if (eClass.isInstance(eObject)) {
+                instances.add(eObject);
+            }
+        }
+        return instances;
+    }
+}
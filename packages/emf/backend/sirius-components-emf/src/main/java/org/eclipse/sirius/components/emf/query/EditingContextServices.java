@@ -22,11 +22,15 @@ import java.util.stream.StreamSupport;
 
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.EObjectIndexListener;
+import org.eclipse.sirius.components.emf.services.SemanticContentAdapter;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 
 /**
@@ -53,6 +57,22 @@ public final class EditingContextServices {
                 .toList();
     }
 
+    public Collection<EObject> allInstances(IEditingContext editingContext, EClass eClass) {
+        var optionalResourceSet = this.getResourceset(editingContext);
+        var optionalEObjectIndexListener = optionalResourceSet
+                .map(resourceSet -> EcoreUtil.getExistingAdapter(resourceSet, SemanticContentAdapter.class))
+                .filter(SemanticContentAdapter.class::isInstance)
+                .map(SemanticContentAdapter.class::cast)
+                .flatMap(semanticContentAdapter -> semanticContentAdapter.getListener(EObjectIndexListener.class));
+        if (optionalEObjectIndexListener.isPresent()) {
+            return optionalEObjectIndexListener.get().getInstances(eClass);
+        }
+        return optionalResourceSet.stream()
+                .flatMap(this::collectAllContent)
+                .filter(eClass::isInstance)
+                .toList();
+    }
+
     public EObject getObjectById(IEditingContext editingContext, String id) {
         return this.getResourceset(editingContext)
                 .stream()
@@ -14,6 +14,7 @@ package org.eclipse.sirius.components.emf.services;
 
 import java.util.Objects;
 
+import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -72,13 +73,16 @@ public class DefaultIdentityService implements IDefaultIdentityService {
     }
 
     private String getIdFromIDAdapter(EObject eObject) {
-        return eObject.eAdapters().stream()
-                .filter(IDAdapter.class::isInstance)
-                .map(IDAdapter.class::cast)
-                .findFirst()
-                .map(IDAdapter::getId)
-                .map(Object::toString)
-                .orElse(null);
+        // This method is called for each element rendered, a plain loop avoids the creation of a stream every time. The
+        // IDAdapter is added before the other adapters by EObjectIDManager, the loop thus stops at the first adapter
+        String id = null;
+        for (Adapter adapter : eObject.eAdapters()) {
+            if (adapter instanceof IDAdapter idAdapter) {
+                id = idAdapter.getIdAsString();
+                break;
+            }
+        }
+        return id;
     }
 
     private String getIdFromURIFragment(EObject eObject) {
@@ -86,7 +90,8 @@ public class DefaultIdentityService implements IDefaultIdentityService {
         String id = null;
         if (resource != null && resource.getURI() != null) {
             ResourceSet resourceSet = resource.getResourceSet();
-            if (resourceSet != null && resourceSet.getResources().contains(resource)) {
+            // A resource only knows its resource set while it is contained in its resources, no need to scan them
+            if (resourceSet != null) {
                 id = resource.getURI().lastSegment() + ID_SEPARATOR + resource.getURIFragment(eObject);
             } else {
                 // In order to getObject method can retrieve the object from the id, we need to return the full URI for
@@ -63,6 +63,24 @@ public class DefaultObjectSearchService implements IDefaultObjectSearchService {
     }
 
     private Optional<Object> getEObject(ResourceSet resourceSet, String objectId) {
+        var optionalEObjectIndex = resourceSet.eAdapters().stream()
+                .filter(SemanticContentAdapter.class::isInstance)
+                .map(SemanticContentAdapter.class::cast)
+                .findFirst()
+                .flatMap(semanticContentAdapter -> semanticContentAdapter.getListener(EObjectIndexListener.class));
+
+        var optionalEObject = optionalEObjectIndex.flatMap(eObjectIndex -> eObjectIndex.find(objectId));
+        if (optionalEObject.isEmpty()) {
+            optionalEObject = this.findEObject(resourceSet, objectId);
+            if (optionalEObjectIndex.isPresent() && optionalEObject.isPresent()) {
+                // The identifier of this object may have been set after its addition to the resource set
+                optionalEObjectIndex.get().index(optionalEObject.get());
+            }
+        }
+        return optionalEObject.map(Object.class::cast);
+    }
+
+    private Optional<EObject> findEObject(ResourceSet resourceSet, String objectId) {
         Optional<EObject> optionalEObject = Optional.empty();
 
         int index = objectId.indexOf(ID_SEPARATOR);
@@ -86,11 +104,12 @@ public class DefaultObjectSearchService implements IDefaultObjectSearchService {
                 optionalEObject = Optional.ofNullable(eObject);
             }
         }
-        return optionalEObject.map(Object.class::cast);
+        return optionalEObject;
     }
 
     private Optional<Object> getRepresentation(IEditingContext editingContext, String representationId) {
-        if (representationId != null && !representationId.isBlank()) {
+        // Most of the identifiers received here are not the one of a representation, the metadata are enough to discard them
+        if (representationId != null && !representationId.isBlank() && this.representationSearchService.existsById(editingContext, representationId)) {
             return this.representationSearchService.findById(editingContext, representationId, IRepresentation.class)
                     .map(Object.class::cast);
         }
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.emf.services.api.ISemanticContentListener;
+
+/**
+ * Listener of the {@link SemanticContentAdapter} used to cache the diagnostics of each semantic object of a resource
+ * set.
+ *
+ * <p>
+ * The diagnostics of an object are computed without its contents and they are kept until the object, one of its
+ * children or one of its siblings is modified, or until an object referencing it or referenced by it is modified. Only
+ * those objects are thus validated again after a change instead of the whole resource set.
+ * </p>
+ *
+ * <p>
+ * Some validation rules depend on objects which are not related to the object validated, for example when an object
+ * refers to another one using its name. The modification of the objects matching the predicate given to the
+ * constructor thus invalidates all the diagnostics of the resource set.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DiagnosticCacheListener implements ISemanticContentListener {
+
+    private final Map<EObject, List<Diagnostic>> eObject2Diagnostics = new HashMap<>();
+
+    private final Predicate<EObject> hasGlobalImpact;
+
+    private ResourceSet resourceSet;
+
+    public DiagnosticCacheListener() {
+        this(eObject -> false);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param hasGlobalImpact
+     *            Used to find the objects whose modification may change the diagnostics of any object of the resource
+     *            set
+     */
+    public DiagnosticCacheListener(Predicate<EObject> hasGlobalImpact) {
+        this.hasGlobalImpact = Objects.requireNonNull(hasGlobalImpact);
+    }
+
+    /**
+     * Returns the diagnostics of the given object, computed by the given validator if they are not in the cache.
+     *
+     * @param eObject
+     *            The object
+     * @param validator
+     *            The function used to validate an object without its contents
+     * @return The diagnostics of the object
+     */
+    public synchronized List<Diagnostic> getDiagnostics(EObject eObject, Function<EObject, List<Diagnostic>> validator) {
+        // The validation may resolve proxies and thus notify this listener, computeIfAbsent cannot be used here
+        List<Diagnostic> diagnostics = this.eObject2Diagnostics.get(eObject);
+        if (diagnostics == null) {
+            diagnostics = validator.apply(eObject);
+            this.eObject2Diagnostics.put(eObject, diagnostics);
+        }
+        return diagnostics;
+    }
+
+    /**
+     * Returns the diagnostics of all the objects of the resource set, in the order of their containment.
+     *
+     * @param validator
+     *            The function used to validate an object without its contents
+     * @return The diagnostics of all the objects of the resource set
+     */
+    public synchronized List<Diagnostic> getAllDiagnostics(Function<EObject, List<Diagnostic>> validator) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        if (this.resourceSet != null) {
+            TreeIterator<Notifier> iterator = EcoreUtil.getAllContents(this.resourceSet, false);
+            while (iterator.hasNext()) {
+                if (iterator.next() instanceof EObject eObject) {
+                    diagnostics.addAll(this.getDiagnostics(eObject, validator));
+                }
+            }
+        }
+        return diagnostics;
+    }
+
+    @Override
+    public synchronized void notifyChanged(Notification notification) {
+        if (!notification.isTouch()) {
+            List<EObject> values = new ArrayList<>();
+            values.addAll(this.getEObjects(notification.getOldValue()));
+            values.addAll(this.getEObjects(notification.getNewValue()));
+            values.addAll(this.getEObjects(notification.getNotifier()));
+
+            if (values.stream().anyMatch(this.hasGlobalImpact)) {
+                this.eObject2Diagnostics.clear();
+            } else if (notification.getNotifier() instanceof EObject eObject) {
+                values.forEach(this::invalidate);
+                this.invalidate(eObject.eContainer());
+                this.invalidateSiblings(eObject);
+                if (notification.getFeature() instanceof EReference eReference && eReference.isContainment()) {
+                    // The children remaining after an addition or a removal
+                    eObject.eContents().forEach(this::invalidate);
+                }
+                this.invalidateInverseReferences(eObject);
+            }
+        }
+    }
+
+    private List<EObject> getEObjects(Object value) {
+        List<EObject> eObjects = List.of();
+        if (value instanceof EObject eObject) {
+            eObjects = List.of(eObject);
+        } else if (value instanceof Collection<?> collection) {
+            eObjects = collection.stream()
+                    .filter(EObject.class::isInstance)
+                    .map(EObject.class::cast)
+                    .toList();
+        }
+        return eObjects;
+    }
+
+    private void invalidate(EObject eObject) {
+        if (eObject != null) {
+            this.eObject2Diagnostics.remove(eObject);
+        }
+    }
+
+    private void invalidateSiblings(EObject eObject) {
+        List<EObject> siblings = List.of();
+        if (eObject.eContainer() != null) {
+            siblings = eObject.eContainer().eContents();
+        } else if (eObject.eResource() != null) {
+            siblings = eObject.eResource().getContents();
+        }
+        siblings.forEach(this::invalidate);
+    }
+
+    private void invalidateInverseReferences(EObject eObject) {
+        ECrossReferenceAdapter crossReferenceAdapter = null;
+        if (this.resourceSet != null) {
+            crossReferenceAdapter = ECrossReferenceAdapter.getCrossReferenceAdapter(this.resourceSet);
+        }
+        if (crossReferenceAdapter != null) {
+            for (Setting setting : crossReferenceAdapter.getInverseReferences(eObject, false)) {
+                this.invalidate(setting.getEObject());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void attached(ResourceSet target) {
+        this.resourceSet = target;
+    }
+
+    @Override
+    public synchronized void eObjectAdded(EObject eObject) {
+        // The objects referencing an object added back to the resource set may not be invalid anymore
+        this.invalidateInverseReferences(eObject);
+    }
+
+    @Override
+    public synchronized void eObjectRemoved(EObject eObject) {
+        this.invalidate(eObject);
+        // The objects still referencing the removed object may now be invalid
+        this.invalidateInverseReferences(eObject);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ package org.eclipse.sirius.components.emf.services;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.sirius.emfjson.resource.IDManager;
 
@@ -57,8 +58,7 @@ public class EObjectIDManager implements IDManager {
     public Optional<String> findId(EObject eObject) {
         // @formatter:off
         return this.findAdapter(eObject)
-                .map(IDAdapter::getId)
-                .map(UUID::toString);
+                .map(IDAdapter::getIdAsString);
         // @formatter:on
     }
 
@@ -83,6 +83,12 @@ public class EObjectIDManager implements IDManager {
      * Removes the previous ID if the given eObject already has an {@link IDAdapter} then adds a new {@link IDAdapter}
      * holding the given id to the given eObject.
      *
+     * <p>
+     * The {@link IDAdapter} is added before the other adapters of the eObject, for example the content adapters added
+     * when the eObject has been attached to a resource set, since the ID is looked up each time the eObject is
+     * rendered.
+     * </p>
+     *
      * @param eObject
      *            The eObject on which add the given ID
      * @param id
@@ -92,7 +98,7 @@ public class EObjectIDManager implements IDManager {
     public void setId(EObject eObject, String id) {
         this.clearId(eObject);
 
-        eObject.eAdapters().add(new IDAdapter(UUID.fromString(id)));
+        eObject.eAdapters().add(0, new IDAdapter(UUID.fromString(id)));
     }
 
     /**
@@ -104,12 +110,14 @@ public class EObjectIDManager implements IDManager {
      * @return The attached {@link IDAdapter} or {@link Optional#empty()} otherwise
      */
     private Optional<IDAdapter> findAdapter(EObject eObject) {
-        // @formatter:off
-        return eObject.eAdapters().stream()
-                .filter(IDAdapter.class::isInstance)
-                .map(IDAdapter.class::cast)
-                .findFirst();
-        // @formatter:on
+        Optional<IDAdapter> optionalIDAdapter = Optional.empty();
+        for (Adapter adapter : eObject.eAdapters()) {
+            if (adapter instanceof IDAdapter idAdapter) {
+                optionalIDAdapter = Optional.of(idAdapter);
+                break;
+            }
+        }
+        return optionalIDAdapter;
     }
 
 }
@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.emf.services.api.ISemanticContentListener;
+
+/**
+ * Listener of the {@link SemanticContentAdapter} used to find the semantic objects of a resource set from the
+ * identifier stored in their {@link IDAdapter} or from their resource and their type.
+ *
+ * <p>
+ * The listener should be added to the content adapter of an editing context once its resources have been loaded. The
+ * indexes are then maintained incrementally while objects are added to or removed from the resource set. Since the
+ * identifier of an object may be set after its addition, the objects found without the index can be registered later
+ * and the objects found with the index are checked before being returned.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class EObjectIndexListener implements ISemanticContentListener {
+
+    private final Map<String, EObject> id2EObjects = new ConcurrentHashMap<>();
+
+    private final Map<Resource, Map<EClass, Set<EObject>>> resource2EClass2EObjects = new LinkedHashMap<>();
+
+    private volatile ResourceSet resourceSet;
+
+    /**
+     * Returns the object with the given identifier if it is still contained in the resource set.
+     *
+     * @param id
+     *            The identifier of the object
+     * @return The object found or an empty optional if the object has not been indexed
+     */
+    public Optional<EObject> find(String id) {
+        var optionalEObject = Optional.ofNullable(this.id2EObjects.get(id));
+        if (optionalEObject.isPresent() && !this.isValid(id, optionalEObject.get())) {
+            this.id2EObjects.remove(id, optionalEObject.get());
+            optionalEObject = Optional.empty();
+        }
+        return optionalEObject;
+    }
+
+    /**
+     * Registers the given object with the identifier stored in its {@link IDAdapter}, if any.
+     *
+     * @param eObject
+     *            The object to register
+     */
+    public void index(EObject eObject) {
+        String id = this.getId(eObject);
+        if (id != null) {
+            this.id2EObjects.put(id, eObject);
+        }
+    }
+
+    /**
+     * Returns the objects of the resource set which are instances of the given class or of one of its subclasses.
+     *
+     * <p>
+     * The instances are grouped by resource, in the order of the addition of the resources to the resource set, and
+     * the instances of each resource are sorted in the order of their containment tree, just like with
+     * <code>eAllContents()</code>.
+     * </p>
+     *
+     * @param eClass
+     *            The class of the objects
+     * @return The instances of the given class
+     */
+    public List<EObject> getInstances(EClass eClass) {
+        List<List<EObject>> resourcesInstances = new ArrayList<>();
+        synchronized (this.resource2EClass2EObjects) {
+            for (var eClass2EObjects : this.resource2EClass2EObjects.values()) {
+                List<EObject> resourceInstances = new ArrayList<>();
+                this.collectInstances(eClass2EObjects, eClass, resourceInstances);
+                resourcesInstances.add(resourceInstances);
+            }
+        }
+
+        List<EObject> instances = new ArrayList<>();
+        for (List<EObject> resourceInstances : resourcesInstances) {
+            this.sortInContainmentOrder(resourceInstances);
+            instances.addAll(resourceInstances);
+        }
+        return instances;
+    }
+
+    /**
+     * Returns the objects of the given resource which are instances of the given class or of one of its subclasses.
+     *
+     * <p>
+     * Only the objects of the given resource are considered, the cost does not depend on the size of the other
+     * resources of the resource set. The instances are sorted in the order of the containment tree of the resource.
+     * </p>
+     *
+     * @param resource
+     *            The resource containing the objects
+     * @param eClass
+     *            The class of the objects
+     * @return The instances of the given class contained in the given resource
+     */
+    public List<EObject> getInstances(Resource resource, EClass eClass) {
+        List<EObject> instances = new ArrayList<>();
+        synchronized (this.resource2EClass2EObjects) {
+            var eClass2EObjects = this.resource2EClass2EObjects.get(resource);
+            if (eClass2EObjects != null) {
+                this.collectInstances(eClass2EObjects, eClass, instances);
+            }
+        }
+        this.sortInContainmentOrder(instances);
+        return instances;
+    }
+
+    private void collectInstances(Map<EClass, Set<EObject>> eClass2EObjects, EClass eClass, List<EObject> instances) {
+        for (var entry : eClass2EObjects.entrySet()) {
+            if (eClass.isSuperTypeOf(entry.getKey())) {
+                instances.addAll(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Sorts the given instances of a resource in the order of its containment tree. The index only knows the order in
+     * which the instances have been added, which is not the containment order for the objects inserted before existing
+     * siblings or for the instances of different subclasses. The position of each object is computed once per
+     * container, only the containers of the instances are thus visited.
+     */
+    private void sortInContainmentOrder(List<EObject> instances) {
+        if (instances.size() > 1) {
+            Map<EObject, Integer> positions = new IdentityHashMap<>();
+            Map<EObject, int[]> containmentPaths = new IdentityHashMap<>();
+            for (EObject instance : instances) {
+                containmentPaths.put(instance, this.getContainmentPath(instance, positions));
+            }
+            instances.sort((firstInstance, secondInstance) -> Arrays.compare(containmentPaths.get(firstInstance), containmentPaths.get(secondInstance)));
+        }
+    }
+
+    private int[] getContainmentPath(EObject eObject, Map<EObject, Integer> positions) {
+        Deque<Integer> path = new ArrayDeque<>();
+        EObject current = eObject;
+        while (current != null) {
+            path.addFirst(this.getPosition(current, positions));
+            current = current.eContainer();
+        }
+        return path.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private int getPosition(EObject eObject, Map<EObject, Integer> positions) {
+        Integer position = positions.get(eObject);
+        if (position == null) {
+            List<EObject> siblings = List.of();
+            if (eObject.eContainer() != null) {
+                siblings = eObject.eContainer().eContents();
+            } else if (eObject.eResource() != null) {
+                siblings = eObject.eResource().getContents();
+            }
+
+            int index = 0;
+            for (EObject sibling : siblings) {
+                positions.put(sibling, index);
+                index++;
+            }
+            position = positions.computeIfAbsent(eObject, unknownEObject -> -1);
+        }
+        return position;
+    }
+
+    private boolean isValid(String id, EObject eObject) {
+        Resource resource = eObject.eResource();
+        return resource != null && resource.getResourceSet() == this.resourceSet && Objects.equals(id, this.getId(eObject));
+    }
+
+    private String getId(EObject eObject) {
+        String id = null;
+        for (Adapter adapter : eObject.eAdapters()) {
+            if (adapter instanceof IDAdapter idAdapter) {
+                id = idAdapter.getIdAsString();
+                break;
+            }
+        }
+        return id;
+    }
+
+    @Override
+    public void attached(ResourceSet target) {
+        this.resourceSet = target;
+    }
+
+    @Override
+    public void eObjectAdded(EObject eObject) {
+        this.index(eObject);
+        synchronized (this.resource2EClass2EObjects) {
+            this.resource2EClass2EObjects.computeIfAbsent(eObject.eResource(), resource -> new LinkedHashMap<>())
+                    .computeIfAbsent(eObject.eClass(), eClass -> new LinkedHashSet<>())
+                    .add(eObject);
+        }
+    }
+
+    @Override
+    public void eObjectRemoved(EObject eObject) {
+        String id = this.getId(eObject);
+        if (id != null) {
+            this.id2EObjects.remove(id, eObject);
+        }
+
+        // The object may not be contained in its previous resource anymore
+        synchronized (this.resource2EClass2EObjects) {
+            var iterator = this.resource2EClass2EObjects.values().iterator();
+            boolean isRemoved = false;
+            while (iterator.hasNext() && !isRemoved) {
+                var eObjects = iterator.next().get(eObject.eClass());
+                isRemoved = eObjects != null && eObjects.remove(eObject);
+            }
+        }
+    }
+
+    @Override
+    public void resourceRemoved(Resource resource) {
+        synchronized (this.resource2EClass2EObjects) {
+            this.resource2EClass2EObjects.remove(resource);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -28,6 +28,8 @@ public class IDAdapter implements Adapter {
 
     private UUID id;
 
+    private String idAsString;
+
     private Notifier notifier;
 
     public IDAdapter(UUID id) {
@@ -38,6 +40,18 @@ public class IDAdapter implements Adapter {
         return this.id;
     }
 
+    /**
+     * Returns the string representation of the id, computed once since it is requested for each rendering.
+     *
+     * @return The string representation of the id
+     */
+    public String getIdAsString() {
+        if (this.idAsString == null) {
+            this.idAsString = this.id.toString();
+        }
+        return this.idAsString;
+    }
+
     @Override
     public void notifyChanged(Notification notification) {
         // do nothing
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.sirius.components.emf.services.api.ISemanticContentListener;
+
+/**
+ * Listener of the {@link SemanticContentAdapter} used to record the semantic objects and the resources touched by the
+ * EMF notifications.
+ *
+ * <p>
+ * The recorder is added to the content adapter of an editing context and it is cleared before the processing of each
+ * input. It is thus able to tell which objects have been modified by the processing of the current input.
+ * </p>
+ *
+ * <p>
+ * While the recorder is read-only, for example during the parallel refresh of the representations, the modifications,
+ * including the resolution of the proxies, are only flagged. Since EMF notifies a change once it has been performed,
+ * throwing an exception would neither undo it nor let the other adapters be notified. The code which has made the
+ * semantic data read-only has to check the flag and process again what has been computed concurrently.
+ * </p>
+ *
+ * <p>
+ * When the objects changed are not needed, the recorder can be created without recording anything and only be used to
+ * detect the modifications performed while read-only.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SemanticChangeRecorder implements ISemanticContentListener {
+
+    private final Set<EObject> changedObjects = new LinkedHashSet<>();
+
+    private final Set<Resource> changedResources = new LinkedHashSet<>();
+
+    private volatile boolean readOnly;
+
+    private volatile boolean modifiedWhileReadOnly;
+
+    private final boolean isRecording;
+
+    public SemanticChangeRecorder() {
+        this(true);
+    }
+
+    public SemanticChangeRecorder(boolean isRecording) {
+        this.isRecording = isRecording;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        if (this.isRecording && !notification.isTouch()) {
+            synchronized (this) {
+                this.record(notification);
+            }
+        }
+        // The resolution of a proxy is a touch but it modifies the lists which may be read concurrently
+        boolean isModification = !notification.isTouch() || notification.getEventType() == Notification.RESOLVE;
+        if (this.readOnly && isModification) {
+            this.modifiedWhileReadOnly = true;
+        }
+    }
+
+    private void record(Notification notification) {
+        Object notifier = notification.getNotifier();
+        if (notifier instanceof EObject eObject) {
+            this.changedObjects.add(eObject);
+            Optional.ofNullable(eObject.eResource()).ifPresent(this.changedResources::add);
+            this.recordValue(notification.getOldValue());
+            this.recordValue(notification.getNewValue());
+        } else if (notifier instanceof Resource resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+            this.changedResources.add(resource);
+            this.recordValue(notification.getOldValue());
+            this.recordValue(notification.getNewValue());
+        }
+    }
+
+    private void recordValue(Object value) {
+        if (value instanceof EObject eObject) {
+            this.changedObjects.add(eObject);
+        } else if (value instanceof Collection<?> collection) {
+            collection.stream()
+                    .filter(EObject.class::isInstance)
+                    .map(EObject.class::cast)
+                    .forEach(this.changedObjects::add);
+        }
+    }
+
+    public Set<EObject> getChangedObjects() {
+        return this.changedObjects;
+    }
+
+    public Set<Resource> getChangedResources() {
+        return this.changedResources;
+    }
+
+    public void setReadOnly(boolean readOnly) {
+        if (readOnly) {
+            this.modifiedWhileReadOnly = false;
+        }
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Indicates if the semantic data have been modified since the recorder has been made read-only for the last time.
+     *
+     * @return <code>true</code> if the semantic data have been modified while they should only be read
+     */
+    public boolean isModifiedWhileReadOnly() {
+        return this.modifiedWhileReadOnly;
+    }
+
+    public void clear() {
+        this.changedObjects.clear();
+        this.changedResources.clear();
+    }
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IBatchableInput;
+import org.eclipse.sirius.components.collaborative.api.IChangeDescriptionParametersProvider;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextReadOnlyGuard;
+import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Sinks.Many;
+
+/**
+ * Records the semantic objects touched by each input and exposes them in the semantic change descriptions.
+ *
+ * <p>
+ * The objects touched by the inputs of a batch are all recorded since the change descriptions of the batch are only
+ * processed once all its inputs have been handled.
+ * </p>
+ *
+ * <p>
+ * The objects referencing a touched object are considered as touched too since their representation often depends on
+ * the referenced object (for example a label computed from the name of the type of an attribute).
+ * </p>
+ *
+ * <p>
+ * The objects touched are only recorded when the incremental refresh of the diagrams, their only consumer, is enabled.
+ * </p>
+ *
+ * <p>
+ * The recorder is also used to detect the modifications of the semantic data while they should only be read. It is
+ * installed once per editing context and the proxies of the semantic data are resolved at this moment since their
+ * resolution modifies them. A proxy resolved later while the semantic data are guarded is detected as a modification.
+ * Without the incremental refresh, a recorder which does not record anything is installed the first time the semantic
+ * data are guarded.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class SemanticChangeRecordingService implements IInputPreProcessor, IChangeDescriptionParametersProvider, IEditingContextReadOnlyGuard {
+
+    private final boolean isIncrementalRefreshEnabled;
+
+    public SemanticChangeRecordingService(@Value("${sirius.components.diagram.incrementalRefresh:false}") boolean isIncrementalRefreshEnabled) {
+        this.isIncrementalRefreshEnabled = isIncrementalRefreshEnabled;
+    }
+
+    @Override
+    public IInput preProcess(IEditingContext editingContext, IInput input, Many<ChangeDescription> changeDescriptionSink) {
+        if (this.isIncrementalRefreshEnabled && !(input instanceof IBatchableInput)) {
+            this.startRecording(editingContext);
+        }
+        return input;
+    }
+
+    @Override
+    public void preProcessBatch(IEditingContext editingContext, List<IInput> inputs) {
+        if (this.isIncrementalRefreshEnabled) {
+            this.startRecording(editingContext);
+        }
+    }
+
+    private void startRecording(IEditingContext editingContext) {
+        this.getResourceSet(editingContext).ifPresent(resourceSet -> {
+            var optionalSemanticChangeRecorder = this.getSemanticChangeRecorder(resourceSet);
+            if (optionalSemanticChangeRecorder.isPresent()) {
+                optionalSemanticChangeRecorder.get().clear();
+            } else {
+                this.installSemanticChangeRecorder(resourceSet, true);
+            }
+        });
+    }
+
+    @Override
+    public Map<String, Object> getParameters(IEditingContext editingContext, ChangeDescription changeDescription) {
+        if (this.isIncrementalRefreshEnabled && ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())) {
+            var optionalResourceSet = this.getResourceSet(editingContext);
+            var optionalSemanticChangeRecorder = optionalResourceSet.flatMap(this::getSemanticChangeRecorder);
+            if (optionalResourceSet.isPresent() && optionalSemanticChangeRecorder.isPresent()) {
+                Set<Object> changedObjects = new LinkedHashSet<>(optionalSemanticChangeRecorder.get().getChangedObjects());
+
+                ECrossReferenceAdapter crossReferenceAdapter = ECrossReferenceAdapter.getCrossReferenceAdapter(optionalResourceSet.get());
+                if (crossReferenceAdapter != null) {
+                    for (EObject changedObject : optionalSemanticChangeRecorder.get().getChangedObjects()) {
+                        Collection<Setting> inverseReferences = crossReferenceAdapter.getInverseReferences(changedObject, false);
+                        inverseReferences.stream()
+                                .map(Setting::getEObject)
+                                .forEach(changedObjects::add);
+                    }
+                }
+                return Map.of(CHANGED_OBJECTS, Collections.unmodifiableSet(changedObjects));
+            }
+        }
+        return Map.of();
+    }
+
+    @Override
+    public void enable(IEditingContext editingContext) {
+        this.getResourceSet(editingContext).ifPresent(resourceSet -> {
+            var semanticChangeRecorder = this.getSemanticChangeRecorder(resourceSet)
+                    .orElseGet(() -> this.installSemanticChangeRecorder(resourceSet, this.isIncrementalRefreshEnabled));
+            semanticChangeRecorder.setReadOnly(true);
+        });
+    }
+
+    @Override
+    public boolean disable(IEditingContext editingContext) {
+        return this.getResourceSet(editingContext)
+                .flatMap(this::getSemanticChangeRecorder)
+                .map(semanticChangeRecorder -> {
+                    semanticChangeRecorder.setReadOnly(false);
+                    return semanticChangeRecorder.isModifiedWhileReadOnly();
+                })
+                .orElse(false);
+    }
+
+    private SemanticChangeRecorder installSemanticChangeRecorder(ResourceSet resourceSet, boolean isRecording) {
+        // The proxies are resolved once before the semantic data are read concurrently since their resolution modifies them
+        EcoreUtil.resolveAll(resourceSet);
+        var semanticChangeRecorder = new SemanticChangeRecorder(isRecording);
+        this.getSemanticContentAdapter(resourceSet).addListener(semanticChangeRecorder);
+        return semanticChangeRecorder;
+    }
+
+    private Optional<ResourceSet> getResourceSet(IEditingContext editingContext) {
+        return Optional.of(editingContext)
+                .filter(IEMFEditingContext.class::isInstance)
+                .map(IEMFEditingContext.class::cast)
+                .map(emfEditingContext -> emfEditingContext.getDomain().getResourceSet());
+    }
+
+    private Optional<SemanticChangeRecorder> getSemanticChangeRecorder(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(SemanticContentAdapter.class::isInstance)
+                .map(SemanticContentAdapter.class::cast)
+                .findFirst()
+                .flatMap(semanticContentAdapter -> semanticContentAdapter.getListener(SemanticChangeRecorder.class));
+    }
+
+    private SemanticContentAdapter getSemanticContentAdapter(ResourceSet resourceSet) {
+        if (EcoreUtil.getExistingAdapter(resourceSet, SemanticContentAdapter.class) instanceof SemanticContentAdapter semanticContentAdapter) {
+            return semanticContentAdapter;
+        }
+        SemanticContentAdapter semanticContentAdapter = new SemanticContentAdapter();
+        resourceSet.eAdapters().add(semanticContentAdapter);
+        return semanticContentAdapter;
+    }
+}
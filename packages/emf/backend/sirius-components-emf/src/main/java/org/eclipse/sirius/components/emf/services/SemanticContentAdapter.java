@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.emf.services.api.ISemanticContentListener;
+
+/**
+ * Content adapter shared by all the services which need to follow the changes of the semantic objects of a resource set.
+ *
+ * <p>
+ * Each content adapter is added to every object of the resource set and walks the objects added or removed by each
+ * notification. Instead of installing one content adapter per concern, the index of the objects
+ * ({@link EObjectIndexListener}), the tracking of the dirty resources (<code>DirtyResourcesListener</code> in Sirius
+ * Web), the recording of the semantic changes ({@link SemanticChangeRecorder}) and the cache of the diagnostics
+ * ({@link DiagnosticCacheListener}) are thus listeners of a single content adapter. Listeners can be added while the
+ * adapter is already installed, they are then given all the objects of the resource set.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SemanticContentAdapter extends EContentAdapter {
+
+    private final List<ISemanticContentListener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile ResourceSet resourceSet;
+
+    /**
+     * Adds the given listener, if the adapter is already installed, all the objects of the resource set are given to
+     * the listener.
+     *
+     * @param listener
+     *            The listener
+     */
+    public void addListener(ISemanticContentListener listener) {
+        this.listeners.add(listener);
+
+        var currentResourceSet = this.resourceSet;
+        if (currentResourceSet != null) {
+            listener.attached(currentResourceSet);
+            TreeIterator<Notifier> iterator = EcoreUtil.getAllContents(currentResourceSet, false);
+            while (iterator.hasNext()) {
+                if (iterator.next() instanceof EObject eObject) {
+                    listener.eObjectAdded(eObject);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the first listener of the given type.
+     *
+     * @param listenerClass
+     *            The type of the listener
+     * @return The listener found or an empty optional
+     */
+    public <T extends ISemanticContentListener> Optional<T> getListener(Class<T> listenerClass) {
+        return this.listeners.stream()
+                .filter(listenerClass::isInstance)
+                .map(listenerClass::cast)
+                .findFirst();
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        this.listeners.forEach(listener -> listener.notifyChanged(notification));
+    }
+
+    @Override
+    protected void setTarget(ResourceSet target) {
+        this.resourceSet = target;
+        this.listeners.forEach(listener -> listener.attached(target));
+        super.setTarget(target);
+    }
+
+    @Override
+    protected void setTarget(EObject target) {
+        super.setTarget(target);
+        this.listeners.forEach(listener -> listener.eObjectAdded(target));
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        this.listeners.forEach(listener -> listener.eObjectRemoved(target));
+    }
+
+    @Override
+    protected void unsetTarget(Resource target) {
+        super.unsetTarget(target);
+        this.listeners.forEach(listener -> listener.resourceRemoved(target));
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == SemanticContentAdapter.class;
+    }
+
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+}
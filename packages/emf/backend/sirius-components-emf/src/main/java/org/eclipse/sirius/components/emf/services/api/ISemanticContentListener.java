@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services.api;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+/**
+ * Listener of the content adapter shared by all the services which need to follow the changes of the semantic objects
+ * of a resource set.
+ *
+ * <p>
+ * The content adapter is installed only once on each resource set, the objects are thus only walked and adapted once
+ * whatever the number of listeners. Once a listener has been attached to a resource set, all the objects already
+ * contained in the resource set are given to {@link #eObjectAdded(EObject)}.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface ISemanticContentListener {
+
+    /**
+     * Called when the listener starts following the given resource set, before the objects it contains are added.
+     *
+     * @param resourceSet
+     *            The resource set
+     */
+    default void attached(ResourceSet resourceSet) {
+        // Do nothing
+    }
+
+    /**
+     * Called for every notification of the resource set, of its resources and of their objects once the content adapter
+     * has adapted the objects added and removed.
+     *
+     * @param notification
+     *            The notification
+     */
+    default void notifyChanged(Notification notification) {
+        // Do nothing
+    }
+
+    /**
+     * Called when an object is now contained in the resource set.
+     *
+     * @param eObject
+     *            The object
+     */
+    default void eObjectAdded(EObject eObject) {
+        // Do nothing
+    }
+
+    /**
+     * Called when an object is not contained in the resource set anymore.
+     *
+     * @param eObject
+     *            The object
+     */
+    default void eObjectRemoved(EObject eObject) {
+        // Do nothing
+    }
+
+    /**
+     * Called when a resource is not contained in the resource set anymore, once all its objects have been removed.
+     *
+     * @param resource
+     *            The resource
+     */
+    default void resourceRemoved(Resource resource) {
+        // Do nothing
+    }
+}
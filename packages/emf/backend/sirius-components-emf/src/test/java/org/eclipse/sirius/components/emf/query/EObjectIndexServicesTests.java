@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.sirius.components.emf.services.EObjectIndexListener;
+import org.eclipse.sirius.components.emf.services.SemanticContentAdapter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the services relying on the {@link EObjectIndexListener}.
+ *
+ * @author sbegaudeau
+ */
+public class EObjectIndexServicesTests {
+
+    @Test
+    public void testAllInstancesOnIndexedResourceSet() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+
+        EPackage firstEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        EDataType firstEDataType = EcoreFactory.eINSTANCE.createEDataType();
+        firstEPackage.getEClassifiers().add(firstEClass);
+        firstEPackage.getEClassifiers().add(firstEDataType);
+        Resource firstResource = new XMIResourceImpl(URI.createURI("first.xmi"));
+        firstResource.getContents().add(firstEPackage);
+        resourceSet.getResources().add(firstResource);
+
+        EPackage secondEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        secondEPackage.getEClassifiers().add(secondEClass);
+        Resource secondResource = new XMIResourceImpl(URI.createURI("second.xmi"));
+        secondResource.getContents().add(secondEPackage);
+        resourceSet.getResources().add(secondResource);
+
+        // The index is added once the content adapter has been installed
+        SemanticContentAdapter semanticContentAdapter = new SemanticContentAdapter();
+        resourceSet.eAdapters().add(semanticContentAdapter);
+        EObjectIndexListener eObjectIndexListener = new EObjectIndexListener();
+        semanticContentAdapter.addListener(eObjectIndexListener);
+
+        var services = new EObjectIndexServices();
+        assertThat(eObjectIndexListener.getInstances(EcorePackage.Literals.ECLASS)).containsExactlyInAnyOrder(firstEClass, secondEClass);
+        assertThat(services.allInstances(firstResource, EcorePackage.Literals.ECLASSIFIER)).containsExactlyInAnyOrder(firstEClass, firstEDataType);
+        assertThat(services.allInstances(secondEPackage, EcorePackage.Literals.ECLASS)).containsExactly(secondEClass);
+        assertThat(services.allInstances(secondEPackage, EcorePackage.Literals.EPACKAGE)).isEmpty();
+
+        EClass thirdEClass = EcoreFactory.eINSTANCE.createEClass();
+        secondEPackage.getEClassifiers().add(thirdEClass);
+        firstEPackage.getEClassifiers().remove(firstEClass);
+        assertThat(eObjectIndexListener.getInstances(EcorePackage.Literals.ECLASS)).containsExactlyInAnyOrder(secondEClass, thirdEClass);
+        assertThat(services.allInstances(secondResource, EcorePackage.Literals.ECLASS)).containsExactly(secondEClass, thirdEClass);
+
+        resourceSet.getResources().remove(secondResource);
+        assertThat(eObjectIndexListener.getInstances(EcorePackage.Literals.ECLASSIFIER)).containsExactly(firstEDataType);
+    }
+
+    @Test
+    public void testInstancesIndexedPerResource() {
+        EPackage firstEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        firstEPackage.getEClassifiers().add(eClass);
+        Resource firstResource = new XMIResourceImpl(URI.createURI("first.xmi"));
+        firstResource.getContents().add(firstEPackage);
+
+        EPackage secondEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        Resource secondResource = new XMIResourceImpl(URI.createURI("second.xmi"));
+        secondResource.getContents().add(secondEPackage);
+
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(firstResource);
+        resourceSet.getResources().add(secondResource);
+        EObjectIndexListener eObjectIndexListener = new EObjectIndexListener();
+        SemanticContentAdapter semanticContentAdapter = new SemanticContentAdapter();
+        semanticContentAdapter.addListener(eObjectIndexListener);
+        resourceSet.eAdapters().add(semanticContentAdapter);
+
+        assertThat(eObjectIndexListener.getInstances(firstResource, EcorePackage.Literals.ECLASS)).containsExactly(eClass);
+        assertThat(eObjectIndexListener.getInstances(secondResource, EcorePackage.Literals.ECLASS)).isEmpty();
+
+        // The class is moved to the other resource
+        secondEPackage.getEClassifiers().add(eClass);
+        assertThat(eObjectIndexListener.getInstances(firstResource, EcorePackage.Literals.ECLASS)).isEmpty();
+        assertThat(eObjectIndexListener.getInstances(secondResource, EcorePackage.Literals.ECLASS)).containsExactly(eClass);
+        assertThat(new EObjectIndexServices().allInstances(secondEPackage, EcorePackage.Literals.ECLASS)).containsExactly(eClass);
+
+        // The whole package is moved to the first resource
+        firstResource.getContents().add(secondEPackage);
+        assertThat(eObjectIndexListener.getInstances(firstResource, EcorePackage.Literals.EPACKAGE)).containsExactlyInAnyOrder(firstEPackage, secondEPackage);
+        assertThat(eObjectIndexListener.getInstances(firstResource, EcorePackage.Literals.ECLASS)).containsExactly(eClass);
+        assertThat(eObjectIndexListener.getInstances(secondResource, EcorePackage.Literals.EOBJECT)).isEmpty();
+
+        resourceSet.getResources().remove(firstResource);
+        assertThat(eObjectIndexListener.getInstances(firstResource, EcorePackage.Literals.EOBJECT)).isEmpty();
+        assertThat(eObjectIndexListener.getInstances(EcorePackage.Literals.EOBJECT)).isEmpty();
+    }
+
+    @Test
+    public void testAllInstancesInContainmentOrder() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        EDataType eDataType = EcoreFactory.eINSTANCE.createEDataType();
+        ePackage.getEClassifiers().add(firstEClass);
+        ePackage.getEClassifiers().add(eDataType);
+        Resource resource = new XMIResourceImpl(URI.createURI("test.xmi"));
+        resource.getContents().add(ePackage);
+
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(resource);
+        EObjectIndexListener eObjectIndexListener = new EObjectIndexListener();
+        SemanticContentAdapter semanticContentAdapter = new SemanticContentAdapter();
+        semanticContentAdapter.addListener(eObjectIndexListener);
+        resourceSet.eAdapters().add(semanticContentAdapter);
+
+        // The new classes are inserted before the existing classifiers and in a sub package
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(0, secondEClass);
+        EPackage subEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass thirdEClass = EcoreFactory.eINSTANCE.createEClass();
+        subEPackage.getEClassifiers().add(thirdEClass);
+        ePackage.getESubpackages().add(subEPackage);
+
+        var services = new EObjectIndexServices();
+        assertThat(services.allInstances(resource, EcorePackage.Literals.ECLASSIFIER)).containsExactly(secondEClass, firstEClass, eDataType, thirdEClass);
+        assertThat(services.allInstances(ePackage, EcorePackage.Literals.ECLASS)).containsExactly(secondEClass, firstEClass, thirdEClass);
+        assertThat(eObjectIndexListener.getInstances(EcorePackage.Literals.ECLASSIFIER)).containsExactly(secondEClass, firstEClass, eDataType, thirdEClass);
+    }
+
+    @Test
+    public void testAllInstancesWithoutIndex() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        EDataType eDataType = EcoreFactory.eINSTANCE.createEDataType();
+        ePackage.getEClassifiers().add(eClass);
+        ePackage.getEClassifiers().add(eDataType);
+        Resource resource = new XMIResourceImpl(URI.createURI("test.xmi"));
+        resource.getContents().add(ePackage);
+
+        var services = new EObjectIndexServices();
+        assertThat(services.allInstances(resource, EcorePackage.Literals.ECLASSIFIER)).containsExactly(eClass, eDataType);
+        assertThat(services.allInstances(ePackage, EcorePackage.Literals.EDATA_TYPE)).containsExactly(eDataType);
+    }
+}
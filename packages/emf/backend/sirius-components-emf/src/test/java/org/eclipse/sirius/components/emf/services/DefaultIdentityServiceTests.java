@@ -15,12 +15,16 @@ package org.eclipse.sirius.components.emf.services;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.UUID;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.provider.EcoreItemProviderAdapterFactory;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreAdapterFactory;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
@@ -62,4 +66,25 @@ public class DefaultIdentityServiceTests {
         assertThat(identityService.getId(editingContext)).isEqualTo("editingContextId");
         assertThat(identityService.getKind(editingContext)).isEqualTo("siriusComponents://editingContext");
     }
+
+    @Test
+    public void testGetIdOnEObjects() {
+        DefaultIdentityService identityService = new DefaultIdentityService(new IEMFKindService.NoOp());
+
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName("EClass");
+        ePackage.getEClassifiers().add(eClass);
+        UUID ePackageId = UUID.randomUUID();
+        ePackage.eAdapters().add(new IDAdapter(ePackageId));
+
+        Resource resource = new XMIResourceImpl(URI.createURI("sirius:///test.xmi"));
+        resource.getContents().add(ePackage);
+
+        assertThat(identityService.getId(ePackage)).isEqualTo(ePackageId.toString());
+        assertThat(identityService.getId(eClass)).isEqualTo("sirius:///test.xmi#//EClass");
+
+        new ResourceSetImpl().getResources().add(resource);
+        assertThat(identityService.getId(eClass)).isEqualTo("test.xmi#//EClass");
+    }
 }
@@ -15,10 +15,20 @@ package org.eclipse.sirius.components.emf.services;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
 import org.eclipse.sirius.components.core.api.IDefaultObjectSearchService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.junit.jupiter.api.Test;
 
@@ -55,6 +65,28 @@ public class DefaultObjectSearchServiceTests {
         assertThat(optionalObject).containsSame(fakeRepresentation);
     }
 
+    @Test
+    public void testUnknownIdDiscardedWithTheMetadataOnly() {
+        AtomicInteger findCount = new AtomicInteger();
+        IRepresentationSearchService representationSearchService = new IRepresentationSearchService.NoOp() {
+            @Override
+            public <T extends IRepresentation> Optional<T> findById(IEditingContext editingContext, String representationId, Class<T> representationClass) {
+                findCount.incrementAndGet();
+                return Optional.empty();
+            }
+
+            @Override
+            public boolean existsById(IEditingContext editingContext, String representationId) {
+                return false;
+            }
+        };
+        DefaultObjectSearchService defaultObjectSearchService = new DefaultObjectSearchService(representationSearchService);
+
+        var optionalObject = defaultObjectSearchService.getObject(new IEditingContext.NoOp(), "unknown");
+        assertThat(optionalObject).isEmpty();
+        assertThat(findCount).hasValue(0);
+    }
+
     @Test
     public void testFindsEditingContextFromItsId() {
         var editingContextId = "editingContextId";
@@ -66,4 +98,43 @@ public class DefaultObjectSearchServiceTests {
         assertThat(optionalObject).containsSame(editingContext);
     }
 
+    @Test
+    public void testFindsIndexedObjectsFromTheirIds() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(eClass);
+        UUID ePackageId = UUID.randomUUID();
+        UUID eClassId = UUID.randomUUID();
+        ePackage.eAdapters().add(new IDAdapter(ePackageId));
+        eClass.eAdapters().add(new IDAdapter(eClassId));
+
+        Resource resource = new ResourceImpl(URI.createURI(IEMFEditingContext.RESOURCE_SCHEME + ":///" + UUID.randomUUID()));
+        resource.getContents().add(ePackage);
+
+        AdapterFactoryEditingDomain editingDomain = new EditingDomainFactory().create(resource);
+        SemanticContentAdapter semanticContentAdapter = new SemanticContentAdapter();
+        semanticContentAdapter.addListener(new EObjectIndexListener());
+        editingDomain.getResourceSet().eAdapters().add(semanticContentAdapter);
+        IEMFEditingContext editingContext = new IEMFEditingContext() {
+            @Override
+            public String getId() {
+                return "editingContextId";
+            }
+
+            @Override
+            public AdapterFactoryEditingDomain getDomain() {
+                return editingDomain;
+            }
+        };
+
+        DefaultObjectSearchService defaultObjectSearchService = new DefaultObjectSearchService(new IRepresentationSearchService.NoOp());
+        assertThat(defaultObjectSearchService.getObject(editingContext, ePackageId.toString())).containsSame(ePackage);
+        assertThat(defaultObjectSearchService.getObject(editingContext, eClassId.toString())).containsSame(eClass);
+
+        ePackage.getEClassifiers().remove(eClass);
+        assertThat(defaultObjectSearchService.getObject(editingContext, eClassId.toString())).isEmpty();
+
+        ePackage.getEClassifiers().add(eClass);
+        assertThat(defaultObjectSearchService.getObject(editingContext, eClassId.toString())).containsSame(eClass);
+    }
 }
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.Diagnostician;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the {@link DiagnosticCacheListener}.
+ *
+ * @author sbegaudeau
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public class DiagnosticCacheListenerTests {
+
+    private final List<EObject> validatedEObjects = new ArrayList<>();
+
+    private final Diagnostician diagnostician = new Diagnostician() {
+        @Override
+        protected boolean doValidateContents(EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context) {
+            return true;
+        }
+    };
+
+    @Test
+    public void testOnlyModifiedObjectsValidatedAgain() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("sample");
+        ePackage.setNsURI("sample");
+        ePackage.setNsPrefix("sample");
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        firstEClass.setName("First");
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        secondEClass.setName("1Second");
+        EReference eReference = EcoreFactory.eINSTANCE.createEReference();
+        eReference.setName("first");
+        eReference.setEType(firstEClass);
+        secondEClass.getEStructuralFeatures().add(eReference);
+        ePackage.getEClassifiers().add(firstEClass);
+        ePackage.getEClassifiers().add(secondEClass);
+
+        Resource resource = new XMIResourceImpl(URI.createURI("sample.ecore"));
+        resource.getContents().add(ePackage);
+        resourceSet.getResources().add(resource);
+
+        DiagnosticCacheListener diagnosticCacheListener = new DiagnosticCacheListener();
+        SemanticContentAdapter semanticContentAdapter = new SemanticContentAdapter();
+        semanticContentAdapter.addListener(diagnosticCacheListener);
+        resourceSet.eAdapters().add(semanticContentAdapter);
+
+        List<Diagnostic> diagnostics = diagnosticCacheListener.getAllDiagnostics(this::validate);
+        assertThat(diagnostics).hasSize(1);
+        assertThat(diagnostics.get(0).getData().contains(secondEClass)).isTrue();
+        assertThat(diagnosticCacheListener.getDiagnostics(secondEClass, this::validate)).isEqualTo(diagnostics);
+        int validationCount = this.validatedEObjects.size();
+
+        this.validatedEObjects.clear();
+        assertThat(diagnosticCacheListener.getAllDiagnostics(this::validate)).isEqualTo(diagnostics);
+        assertThat(this.validatedEObjects).isEmpty();
+
+        secondEClass.setName("Second");
+        assertThat(diagnosticCacheListener.getAllDiagnostics(this::validate)).isEmpty();
+        assertThat(this.validatedEObjects).contains(ePackage, secondEClass, firstEClass);
+
+        this.validatedEObjects.clear();
+        ePackage.getEClassifiers().remove(firstEClass);
+        assertThat(diagnosticCacheListener.getAllDiagnostics(this::validate)).isNotEmpty();
+        assertThat(this.validatedEObjects).hasSizeLessThan(validationCount).contains(eReference);
+
+        ePackage.getEClassifiers().add(firstEClass);
+        assertThat(diagnosticCacheListener.getAllDiagnostics(this::validate)).isEmpty();
+    }
+
+    @Test
+    public void testSiblingsValidatedAgainAfterRename() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("sample");
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        firstEClass.setName("Duplicate");
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        secondEClass.setName("Duplicate");
+        ePackage.getEClassifiers().add(firstEClass);
+        ePackage.getEClassifiers().add(secondEClass);
+
+        ResourceSet resourceSet = this.createResourceSet(ePackage);
+        DiagnosticCacheListener diagnosticCacheListener = new DiagnosticCacheListener();
+        this.getSemanticContentAdapter(resourceSet).addListener(diagnosticCacheListener);
+
+        assertThat(diagnosticCacheListener.getAllDiagnostics(this::validateUniqueName)).hasSize(2);
+
+        // The other class is not modified but its name is not used by another class anymore
+        secondEClass.setName("Renamed");
+        assertThat(diagnosticCacheListener.getAllDiagnostics(this::validateUniqueName)).isEmpty();
+
+        EClass thirdEClass = EcoreFactory.eINSTANCE.createEClass();
+        thirdEClass.setName("Duplicate");
+        ePackage.getEClassifiers().add(thirdEClass);
+        assertThat(diagnosticCacheListener.getAllDiagnostics(this::validateUniqueName)).hasSize(2);
+
+        ePackage.getEClassifiers().remove(thirdEClass);
+        assertThat(diagnosticCacheListener.getAllDiagnostics(this::validateUniqueName)).isEmpty();
+    }
+
+    @Test
+    public void testAllObjectsValidatedAgainAfterGlobalChange() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("sample");
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName("Referenced");
+        ePackage.getEClassifiers().add(eClass);
+
+        // The annotation refers to the class using its name
+        EPackage otherEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        otherEPackage.setName("other");
+        EAnnotation eAnnotation = EcoreFactory.eINSTANCE.createEAnnotation();
+        eAnnotation.setSource("Referenced");
+        otherEPackage.getEAnnotations().add(eAnnotation);
+
+        ResourceSet resourceSet = this.createResourceSet(ePackage);
+        Resource otherResource = new XMIResourceImpl(URI.createURI("other.ecore"));
+        otherResource.getContents().add(otherEPackage);
+        resourceSet.getResources().add(otherResource);
+
+        DiagnosticCacheListener diagnosticCacheListener = new DiagnosticCacheListener(EClass.class::isInstance);
+        this.getSemanticContentAdapter(resourceSet).addListener(diagnosticCacheListener);
+
+        assertThat(diagnosticCacheListener.getAllDiagnostics(this::validateAnnotationSource)).isEmpty();
+
+        eClass.setName("Renamed");
+        assertThat(diagnosticCacheListener.getAllDiagnostics(this::validateAnnotationSource)).hasSize(1);
+
+        eClass.setName("Referenced");
+        assertThat(diagnosticCacheListener.getAllDiagnostics(this::validateAnnotationSource)).isEmpty();
+    }
+
+    private ResourceSet createResourceSet(EPackage ePackage) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+        Resource resource = new XMIResourceImpl(URI.createURI("sample.ecore"));
+        resource.getContents().add(ePackage);
+        resourceSet.getResources().add(resource);
+        return resourceSet;
+    }
+
+    private SemanticContentAdapter getSemanticContentAdapter(ResourceSet resourceSet) {
+        SemanticContentAdapter semanticContentAdapter = new SemanticContentAdapter();
+        resourceSet.eAdapters().add(semanticContentAdapter);
+        return semanticContentAdapter;
+    }
+
+    private List<Diagnostic> validateUniqueName(EObject eObject) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        if (eObject instanceof EClass eClass) {
+            boolean isNameUsedByOtherEClass = eClass.getEPackage().getEClassifiers().stream()
+                    .anyMatch(eClassifier -> eClassifier != eClass && Objects.equals(eClassifier.getName(), eClass.getName()));
+            if (isNameUsedByOtherEClass) {
+                diagnostics.add(new BasicDiagnostic(Diagnostic.ERROR, "test", 0, "The name is used by another class", new Object[] { eClass }));
+            }
+        }
+        return diagnostics;
+    }
+
+    private List<Diagnostic> validateAnnotationSource(EObject eObject) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        if (eObject instanceof EAnnotation eAnnotation) {
+            TreeIterator<Notifier> iterator = eAnnotation.eResource().getResourceSet().getAllContents();
+            boolean isSourceFound = false;
+            while (iterator.hasNext() && !isSourceFound) {
+                isSourceFound = iterator.next() instanceof EClass eClass && Objects.equals(eClass.getName(), eAnnotation.getSource());
+            }
+            if (!isSourceFound) {
+                diagnostics.add(new BasicDiagnostic(Diagnostic.ERROR, "test", 0, "The source is not the name of a class", new Object[] { eAnnotation }));
+            }
+        }
+        return diagnostics;
+    }
+
+    private List<Diagnostic> validate(EObject eObject) {
+        this.validatedEObjects.add(eObject);
+        BasicDiagnostic diagnostic = this.diagnostician.createDefaultDiagnostic(eObject);
+        this.diagnostician.validate(eObject, diagnostic, this.diagnostician.createDefaultContext());
+        return diagnostic.getChildren();
+    }
+}
@@ -15,7 +15,9 @@ package org.eclipse.sirius.components.emf.services;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.HashMap;
+import java.util.UUID;
 
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
@@ -77,6 +79,21 @@ public class IDManagerTests {
         assertThat(eObjectIDManager.findId(eObject).get()).isEqualTo(eObjectId);
     }
 
+    @Test
+    public void testIDAdapterAddedBeforeOtherAdapters() {
+        Resource resource = this.createResource();
+        EObject eObject = this.createEOject();
+        resource.getContents().add(eObject);
+        eObject.eAdapters().add(new AdapterImpl());
+
+        EObjectIDManager eObjectIDManager = new EObjectIDManager();
+        String id = UUID.randomUUID().toString();
+        eObjectIDManager.setId(eObject, id);
+
+        assertThat(eObject.eAdapters().get(0)).isInstanceOf(IDAdapter.class);
+        assertThat(eObjectIDManager.findId(eObject)).contains(id);
+    }
+
     private EObject createEOject() {
         return this.ePackage.getEFactoryInstance().create(this.eClass);
     }
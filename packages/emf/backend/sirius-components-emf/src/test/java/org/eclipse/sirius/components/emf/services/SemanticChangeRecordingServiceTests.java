@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IBatchableInput;
+import org.eclipse.sirius.components.collaborative.api.IChangeDescriptionParametersProvider;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Sinks;
+
+/**
+ * Unit tests of the {@link SemanticChangeRecordingService}.
+ *
+ * @author sbegaudeau
+ */
+public class SemanticChangeRecordingServiceTests {
+
+    /**
+     * An input handled alone.
+     *
+     * @author sbegaudeau
+     */
+    private record RenameInput(UUID id) implements IInput {
+    }
+
+    /**
+     * An input handled in a batch.
+     *
+     * @author sbegaudeau
+     */
+    private record MoveInput(UUID id) implements IBatchableInput {
+    }
+
+    @Test
+    public void testChangesRecordedForEachInput() {
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        IEMFEditingContext editingContext = this.createEditingContext(firstEClass, secondEClass);
+
+        var semanticChangeRecordingService = new SemanticChangeRecordingService(true);
+
+        var firstInput = new RenameInput(UUID.randomUUID());
+        semanticChangeRecordingService.preProcess(editingContext, firstInput, Sinks.many().unicast().onBackpressureBuffer());
+        firstEClass.setName("First");
+        assertThat(this.getChangedObjects(semanticChangeRecordingService, editingContext, firstInput)).containsExactly(firstEClass);
+
+        var secondInput = new RenameInput(UUID.randomUUID());
+        semanticChangeRecordingService.preProcess(editingContext, secondInput, Sinks.many().unicast().onBackpressureBuffer());
+        secondEClass.setName("Second");
+        assertThat(this.getChangedObjects(semanticChangeRecordingService, editingContext, secondInput)).containsExactly(secondEClass);
+    }
+
+    @Test
+    public void testChangesRecordedForTheWholeBatch() {
+        EClass firstEClass = EcoreFactory.eINSTANCE.createEClass();
+        EClass secondEClass = EcoreFactory.eINSTANCE.createEClass();
+        IEMFEditingContext editingContext = this.createEditingContext(firstEClass, secondEClass);
+
+        var semanticChangeRecordingService = new SemanticChangeRecordingService(true);
+
+        var firstInput = new MoveInput(UUID.randomUUID());
+        var secondInput = new MoveInput(UUID.randomUUID());
+        semanticChangeRecordingService.preProcessBatch(editingContext, List.of(firstInput, secondInput));
+
+        semanticChangeRecordingService.preProcess(editingContext, firstInput, Sinks.many().unicast().onBackpressureBuffer());
+        firstEClass.setName("First");
+        semanticChangeRecordingService.preProcess(editingContext, secondInput, Sinks.many().unicast().onBackpressureBuffer());
+        secondEClass.setName("Second");
+
+        // The change description of the last input of the batch is the only one processed
+        assertThat(this.getChangedObjects(semanticChangeRecordingService, editingContext, secondInput)).containsExactlyInAnyOrder(firstEClass, secondEClass);
+
+        semanticChangeRecordingService.preProcessBatch(editingContext, List.of(new MoveInput(UUID.randomUUID())));
+        assertThat(this.getChangedObjects(semanticChangeRecordingService, editingContext, secondInput)).isEmpty();
+    }
+
+    @Test
+    public void testNothingRecordedWithoutIncrementalRefresh() {
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        IEMFEditingContext editingContext = this.createEditingContext(eClass);
+        var resourceSet = editingContext.getDomain().getResourceSet();
+
+        var semanticChangeRecordingService = new SemanticChangeRecordingService(false);
+
+        var input = new RenameInput(UUID.randomUUID());
+        semanticChangeRecordingService.preProcess(editingContext, input, Sinks.many().unicast().onBackpressureBuffer());
+        eClass.setName("Renamed");
+        assertThat(resourceSet.eAdapters()).noneMatch(SemanticContentAdapter.class::isInstance);
+
+        var changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input);
+        assertThat(semanticChangeRecordingService.getParameters(editingContext, changeDescription)).isEmpty();
+
+        // The semantic data are still guarded during the parallel refreshes
+        semanticChangeRecordingService.enable(editingContext);
+        eClass.setName("Renamed again");
+        assertThat(semanticChangeRecordingService.disable(editingContext)).isTrue();
+
+        var optionalSemanticChangeRecorder = resourceSet.eAdapters().stream()
+                .filter(SemanticContentAdapter.class::isInstance)
+                .map(SemanticContentAdapter.class::cast)
+                .findFirst()
+                .flatMap(semanticContentAdapter -> semanticContentAdapter.getListener(SemanticChangeRecorder.class));
+        assertThat(optionalSemanticChangeRecorder).hasValueSatisfying(semanticChangeRecorder -> assertThat(semanticChangeRecorder.getChangedObjects()).isEmpty());
+        assertThat(semanticChangeRecordingService.getParameters(editingContext, changeDescription)).isEmpty();
+    }
+
+    private Set<?> getChangedObjects(SemanticChangeRecordingService semanticChangeRecordingService, IEMFEditingContext editingContext, IInput input) {
+        var changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input);
+        if (semanticChangeRecordingService.getParameters(editingContext, changeDescription).get(IChangeDescriptionParametersProvider.CHANGED_OBJECTS) instanceof Set<?> changedObjects) {
+            return changedObjects;
+        }
+        return fail("Missing changed objects");
+    }
+
+    private IEMFEditingContext createEditingContext(EClass... eClasses) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.getEClassifiers().addAll(List.of(eClasses));
+
+        Resource resource = new ResourceImpl(URI.createURI(IEMFEditingContext.RESOURCE_SCHEME + ":///" + UUID.randomUUID()));
+        resource.getContents().add(ePackage);
+
+        AdapterFactoryEditingDomain editingDomain = new EditingDomainFactory().create(resource);
+        return new IEMFEditingContext() {
+            @Override
+            public String getId() {
+                return "editingContextId";
+            }
+
+            @Override
+            public AdapterFactoryEditingDomain getDomain() {
+                return editingDomain;
+            }
+        };
+    }
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.impl.ENotificationImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.sirius.components.emf.services.api.ISemanticContentListener;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the {@link SemanticContentAdapter}.
+ *
+ * @author sbegaudeau
+ */
+public class SemanticContentAdapterTests {
+
+    @Test
+    public void testListenersShareASingleContentAdapter() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(eClass);
+        Resource resource = new XMIResourceImpl(URI.createURI("sample.ecore"));
+        resource.getContents().add(ePackage);
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(resource);
+
+        var firstListener = new RecordingListener();
+        SemanticContentAdapter semanticContentAdapter = new SemanticContentAdapter();
+        semanticContentAdapter.addListener(firstListener);
+        resourceSet.eAdapters().add(semanticContentAdapter);
+
+        // The listener added once the adapter has been installed is given the objects already contained
+        var secondListener = new RecordingListener();
+        semanticContentAdapter.addListener(secondListener);
+
+        assertThat(firstListener.addedEObjects).containsExactlyInAnyOrder(ePackage, eClass);
+        assertThat(secondListener.addedEObjects).containsExactlyInAnyOrder(ePackage, eClass);
+        assertThat(eClass.eAdapters()).filteredOn(SemanticContentAdapter.class::isInstance).containsExactly(semanticContentAdapter);
+        assertThat(semanticContentAdapter.getListener(RecordingListener.class)).containsSame(firstListener);
+
+        ePackage.getEClassifiers().remove(eClass);
+        assertThat(firstListener.removedEObjects).containsExactly(eClass);
+        assertThat(secondListener.removedEObjects).containsExactly(eClass);
+        assertThat(secondListener.notifications).anyMatch(notification -> notification.getNotifier() == ePackage && notification.getOldValue() == eClass);
+        assertThat(eClass.eAdapters()).doesNotContain(semanticContentAdapter);
+
+        resourceSet.getResources().remove(resource);
+        assertThat(firstListener.removedEObjects).containsExactly(eClass, ePackage);
+        assertThat(firstListener.removedResources).containsExactly(resource);
+    }
+
+    @Test
+    public void testModificationsDetectedWhileReadOnly() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(eClass);
+        Resource resource = new XMIResourceImpl(URI.createURI("sample.ecore"));
+        resource.getContents().add(ePackage);
+        ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(resource);
+
+        var semanticChangeRecorder = new SemanticChangeRecorder();
+        var listener = new RecordingListener();
+        SemanticContentAdapter semanticContentAdapter = new SemanticContentAdapter();
+        semanticContentAdapter.addListener(semanticChangeRecorder);
+        semanticContentAdapter.addListener(listener);
+        resourceSet.eAdapters().add(semanticContentAdapter);
+
+        semanticChangeRecorder.setReadOnly(true);
+        eClass.eNotify(new ENotificationImpl((InternalEObject) eClass, Notification.RESOLVE, EcorePackage.ECLASS__ESUPER_TYPES, null, null));
+        semanticChangeRecorder.setReadOnly(false);
+        assertThat(semanticChangeRecorder.isModifiedWhileReadOnly()).isTrue();
+
+        semanticChangeRecorder.setReadOnly(true);
+        eClass.setName("Renamed");
+        semanticChangeRecorder.setReadOnly(false);
+
+        // The change is only flagged, it is still recorded and given to the other listeners
+        assertThat(semanticChangeRecorder.isModifiedWhileReadOnly()).isTrue();
+        assertThat(semanticChangeRecorder.getChangedObjects()).containsExactly(eClass);
+        assertThat(listener.notifications).hasSize(2);
+
+        eClass.setName("RenamedAgain");
+        assertThat(listener.notifications).hasSize(3);
+    }
+
+    /**
+     * Records all the events received.
+     *
+     * @author sbegaudeau
+     */
+    private static final class RecordingListener implements ISemanticContentListener {
+
+        private final List<EObject> addedEObjects = new ArrayList<>();
+
+        private final List<EObject> removedEObjects = new ArrayList<>();
+
+        private final List<Resource> removedResources = new ArrayList<>();
+
+        private final List<Notification> notifications = new ArrayList<>();
+
+        @Override
+        public void notifyChanged(Notification notification) {
+            this.notifications.add(notification);
+        }
+
+        @Override
+        public void eObjectAdded(EObject eObject) {
+            this.addedEObjects.add(eObject);
+        }
+
+        @Override
+        public void eObjectRemoved(EObject eObject) {
+            this.removedEObjects.add(eObject);
+        }
+
+        @Override
+        public void resourceRemoved(Resource resource) {
+            this.removedResources.add(resource);
+        }
+    }
+}
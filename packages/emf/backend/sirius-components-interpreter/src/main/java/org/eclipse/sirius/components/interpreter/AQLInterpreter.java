@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,35 +12,31 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.interpreter;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 import org.eclipse.acceleo.query.parser.AstResult;
 import org.eclipse.acceleo.query.runtime.EvaluationResult;
 import org.eclipse.acceleo.query.runtime.ICompletionResult;
-import org.eclipse.acceleo.query.runtime.IQueryBuilderEngine;
 import org.eclipse.acceleo.query.runtime.IQueryCompletionEngine;
 import org.eclipse.acceleo.query.runtime.IQueryEnvironment;
-import org.eclipse.acceleo.query.runtime.IQueryEvaluationEngine;
 import org.eclipse.acceleo.query.runtime.Query;
 import org.eclipse.acceleo.query.runtime.QueryCompletion;
-import org.eclipse.acceleo.query.runtime.QueryEvaluation;
-import org.eclipse.acceleo.query.runtime.QueryParsing;
 import org.eclipse.acceleo.query.runtime.ServiceUtils;
 import org.eclipse.acceleo.query.validation.type.EClassifierType;
 import org.eclipse.acceleo.query.validation.type.IType;
 import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.impl.EStringToStringMapEntryImpl;
+import org.eclipse.sirius.components.representations.ReadObjectsRecorder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +47,12 @@ import org.slf4j.LoggerFactory;
  */
 public class AQLInterpreter {
 
+    /**
+     * The cache shared by all the interpreters, its metrics are bound to the meter registry of the application by its
+     * configuration.
+     */
+    public static final AQLInterpreterCache CACHE = new AQLInterpreterCache();
+
     /**
      * The prefix used by AQL expressions.
      */
@@ -59,14 +61,10 @@ public class AQLInterpreter {
     private final Logger logger = LoggerFactory.getLogger(AQLInterpreter.class);
 
     /**
-     * The cache of the expressions parsed.
+     * The query environments, along with the engines used to parse and evaluate expressions, shared with the
+     * interpreters using the same packages and services.
      */
-    private LoadingCache<String, AstResult> parsedExpressions;
-
-    /**
-     * The query environment.
-     */
-    private IQueryEnvironment queryEnvironment;
+    private final AQLInterpreterCache.EnvironmentPool environmentPool;
 
     /**
      * The constructor.
@@ -84,6 +82,11 @@ public class AQLInterpreter {
     /**
      * The constructor.
      *
+     * <p>
+     * The query environment and the expressions parsed are shared with the other interpreters using the same packages
+     * and services.
+     * </p>
+     *
      * @param classes
      *            classes for java service that can called by AQLInterpreter
      * @param instances
@@ -93,63 +96,85 @@ public class AQLInterpreter {
      *            to classes, such as {@code <semanticMM>::<AClass>}, can be interpreted.
      */
     public AQLInterpreter(List<Class<?>> classes, List<Object> instances, List<EPackage> ePackages) {
-        this.queryEnvironment = Query.newEnvironmentWithDefaultServices(new SimpleCrossReferenceProvider());
-        this.queryEnvironment.registerEPackage(EcorePackage.eINSTANCE);
-        this.queryEnvironment.registerCustomClassMapping(EcorePackage.eINSTANCE.getEStringToStringMapEntry(), EStringToStringMapEntryImpl.class);
+        List<EPackage> validEPackages = ePackages.stream().filter(this::isValidEPackage).toList();
+
+        List<Class<?>> serviceClasses = new ArrayList<>(classes);
+        instances.stream().map(Object::getClass).forEach(serviceClasses::add);
+
+        var signature = new AQLInterpreterCache.Signature(validEPackages, serviceClasses);
+        this.environmentPool = CACHE.getEnvironmentPool(signature, instances, () -> this.createQueryEnvironment(classes, instances, validEPackages));
+    }
+
+    private IQueryEnvironment createQueryEnvironment(List<Class<?>> classes, List<Object> instances, List<EPackage> ePackages) {
+        IQueryEnvironment queryEnvironment = Query.newEnvironmentWithDefaultServices(new SimpleCrossReferenceProvider());
+        queryEnvironment.registerEPackage(EcorePackage.eINSTANCE);
+        queryEnvironment.registerCustomClassMapping(EcorePackage.eINSTANCE.getEStringToStringMapEntry(), EStringToStringMapEntryImpl.class);
 
         for (Class<?> aClass : classes) {
-            var services = ServiceUtils.getServices(this.queryEnvironment, aClass);
-            ServiceUtils.registerServices(this.queryEnvironment, services);
+            var services = ServiceUtils.getServices(queryEnvironment, aClass);
+            ServiceUtils.registerServices(queryEnvironment, services);
         }
         for (Object instance : instances) {
-            var services = ServiceUtils.getServices(this.queryEnvironment, instance);
-            ServiceUtils.registerServices(this.queryEnvironment, services);
+            var services = ServiceUtils.getServices(queryEnvironment, instance);
+            ServiceUtils.registerServices(queryEnvironment, services);
         }
 
-        ePackages.stream().filter(this::isValidEPackage).forEach(this.queryEnvironment::registerEPackage);
+        ePackages.forEach(queryEnvironment::registerEPackage);
 
-        this.initExpressionsCache();
+        return queryEnvironment;
     }
 
     private boolean isValidEPackage(EPackage ePackage) {
         return ePackage != null && ePackage.getName() != null && ePackage.getNsURI() != null;
     }
 
-    /**
-     * Initializes the cache of the expressions.
-     */
-    private void initExpressionsCache() {
-        IQueryBuilderEngine builder = QueryParsing.newBuilder(this.queryEnvironment);
-        int maxCacheSize = 500;
-        this.parsedExpressions = CacheBuilder.newBuilder().maximumSize(maxCacheSize).build(CacheLoader.from(builder::build));
-    }
-
     public Result evaluateExpression(Map<String, Object> variables, String expressionBody) {
         String expression = new ExpressionConverter().convertExpression(expressionBody);
         if (expression.startsWith(AQL_PREFIX)) {
             expression = expression.substring(AQL_PREFIX.length());
         }
 
-        try {
-            AstResult build = this.parsedExpressions.get(expression);
-            IQueryEvaluationEngine evaluationEngine = QueryEvaluation.newEngine(this.queryEnvironment);
-            EvaluationResult evalResult = evaluationEngine.eval(build, variables);
+        AstResult build = this.environmentPool.getParsedExpression(expression);
+        EvaluationResult evalResult = this.environmentPool.apply(environment -> environment.evaluationEngine().eval(build, variables));
 
-            BasicDiagnostic diagnostic = new BasicDiagnostic();
-            if (Diagnostic.OK != build.getDiagnostic().getSeverity()) {
-                diagnostic.merge(build.getDiagnostic());
-            }
-            if (Diagnostic.OK != evalResult.getDiagnostic().getSeverity()) {
-                diagnostic.merge(evalResult.getDiagnostic());
-            }
+        BasicDiagnostic diagnostic = new BasicDiagnostic();
+        if (Diagnostic.OK != build.getDiagnostic().getSeverity()) {
+            diagnostic.merge(build.getDiagnostic());
+        }
+        if (Diagnostic.OK != evalResult.getDiagnostic().getSeverity()) {
+            diagnostic.merge(evalResult.getDiagnostic());
+        }
 
-            this.log(expressionBody, diagnostic);
+        this.log(expressionBody, diagnostic);
 
-            return new Result(Optional.ofNullable(evalResult.getResult()), Status.getStatus(diagnostic.getSeverity()));
-        } catch (ExecutionException exception) {
-            this.logger.warn(exception.getMessage(), exception);
+        if (variables.get(ReadObjectsRecorder.READ_OBJECTS_RECORDER) instanceof ReadObjectsRecorder readObjectsRecorder) {
+            this.recordReadObjects(readObjectsRecorder, variables, evalResult.getResult());
+        }
+
+        return new Result(Optional.ofNullable(evalResult.getResult()), Status.getStatus(diagnostic.getSeverity()));
+    }
+
+    /**
+     * Records the semantic elements given to the expression, along with their container, and the semantic elements
+     * returned by the expression. The objects reached by navigating through several references in the expression are
+     * not recorded, their changes are only detected through the elements which reference them.
+     */
+    private void recordReadObjects(ReadObjectsRecorder readObjectsRecorder, Map<String, Object> variables, Object result) {
+        variables.values().stream()
+                .filter(EObject.class::isInstance)
+                .map(EObject.class::cast)
+                .forEach(eObject -> {
+                    readObjectsRecorder.record(eObject);
+                    readObjectsRecorder.record(eObject.eContainer());
+                });
+
+        if (result instanceof EObject) {
+            readObjectsRecorder.record(result);
+        } else if (result instanceof Collection<?> collection) {
+            collection.stream()
+                    .filter(EObject.class::isInstance)
+                    .forEach(readObjectsRecorder::record);
         }
-        return new Result(Optional.empty(), Status.ERROR);
     }
 
     private void log(String expression, Diagnostic diagnostic) {
@@ -167,12 +192,14 @@ public class AQLInterpreter {
     }
 
     public ICompletionResult getProposals(String expression, int offset) {
-        IQueryCompletionEngine engine = QueryCompletion.newEngine(this.queryEnvironment);
-        Map<String, Set<IType>> variableTypes = new LinkedHashMap<>();
-        final Set<IType> potentialTypes = new LinkedHashSet<>(1);
-        potentialTypes.add(new EClassifierType(this.queryEnvironment, EcorePackage.Literals.EOBJECT));
-        variableTypes.put("self", potentialTypes);
-
-        return engine.getCompletion(expression, offset, variableTypes);
+        return this.environmentPool.apply(environment -> {
+            IQueryCompletionEngine engine = QueryCompletion.newEngine(environment.queryEnvironment());
+            Map<String, Set<IType>> variableTypes = new LinkedHashMap<>();
+            final Set<IType> potentialTypes = new LinkedHashSet<>(1);
+            potentialTypes.add(new EClassifierType(environment.queryEnvironment(), EcorePackage.Literals.EOBJECT));
+            variableTypes.put("self", potentialTypes);
+
+            return engine.getCompletion(expression, offset, variableTypes);
+        });
     }
 }
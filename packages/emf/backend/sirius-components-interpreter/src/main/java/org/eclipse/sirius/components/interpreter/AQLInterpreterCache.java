@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.acceleo.query.parser.AstResult;
+import org.eclipse.acceleo.query.runtime.IQueryBuilderEngine;
+import org.eclipse.acceleo.query.runtime.IQueryEnvironment;
+import org.eclipse.acceleo.query.runtime.IQueryEvaluationEngine;
+import org.eclipse.acceleo.query.runtime.QueryEvaluation;
+import org.eclipse.acceleo.query.runtime.QueryParsing;
+import org.eclipse.emf.ecore.EPackage;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Shares the query environments and the parsed expressions between all the AQL interpreters.
+ *
+ * <p>
+ * Query environments are shared by the interpreters using the same packages and the same services. Since a query
+ * environment and its engines are not meant to be used by several threads at once, they are kept in a pool and each
+ * evaluation has an exclusive access to the environment it has borrowed. Parsed expressions only depend on the packages
+ * and on the classes of the services available, they are thus shared by all the interpreters with the same signature
+ * even if they use different instances of these services. The parsed expressions of a signature are bounded and
+ * weighted by the length of their text.
+ * </p>
+ *
+ * <p>
+ * The pools and the parsed expressions are kept, even if no interpreter uses them for a while, since interpreters are
+ * often created for a single request. Both caches are bounded and the least recently used entries are evicted, along
+ * with the dynamic packages and the services they reference, once the limit is reached, for example after the
+ * modification of many studios.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class AQLInterpreterCache implements MeterBinder {
+
+    private static final int MAXIMUM_ENVIRONMENT_POOLS = 256;
+
+    private static final int MAXIMUM_SIGNATURES = 64;
+
+    private static final long MAXIMUM_EXPRESSIONS_WEIGHT = 1_000_000;
+
+    private static final String COUNTER_METRIC_NAME = "siriusweb_aql_parsed_expressions";
+
+    private static final String TIMER_METRIC_NAME = "siriusweb_aql_parse";
+
+    private static final String RESULT = "result";
+
+    private final Cache<EnvironmentKey, EnvironmentPool> environmentPools;
+
+    private final Cache<Signature, Cache<String, AstResult>> parsedExpressions;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder parseTime = new LongAdder();
+
+    public AQLInterpreterCache() {
+        this.environmentPools = CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_ENVIRONMENT_POOLS)
+                .build();
+        this.parsedExpressions = CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_SIGNATURES)
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        // @formatter:off
+        FunctionCounter.builder(COUNTER_METRIC_NAME, this.hitCount, LongAdder::sum)
+                .tag(RESULT, "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder(COUNTER_METRIC_NAME, this.missCount, LongAdder::sum)
+                .tag(RESULT, "miss")
+                .register(meterRegistry);
+        FunctionTimer.builder(TIMER_METRIC_NAME, this, cache -> cache.missCount.sum(), cache -> cache.parseTime.sum(), TimeUnit.NANOSECONDS)
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    /**
+     * Returns the pool of environments shared by the interpreters with the given signature and service instances.
+     *
+     * @param signature
+     *            The packages and the classes of the services of the interpreter
+     * @param instances
+     *            The instances of the services, compared using their identity
+     * @param queryEnvironmentSupplier
+     *            Creates a new query environment when all the environments of the pool are in use
+     * @return The pool of environments
+     */
+    public EnvironmentPool getEnvironmentPool(Signature signature, List<Object> instances, Supplier<IQueryEnvironment> queryEnvironmentSupplier) {
+        var environmentKey = new EnvironmentKey(signature, instances.stream().map(IdentityKey::new).toList());
+        return this.environmentPools.asMap().computeIfAbsent(environmentKey, key -> {
+            var signatureParsedExpressions = this.parsedExpressions.asMap().computeIfAbsent(signature, sameSignature -> CacheBuilder.newBuilder()
+                    .maximumWeight(MAXIMUM_EXPRESSIONS_WEIGHT)
+                    .weigher((String expression, AstResult astResult) -> expression.length())
+                    .build());
+            return new EnvironmentPool(queryEnvironmentSupplier, signatureParsedExpressions);
+        });
+    }
+
+    /**
+     * The packages and the classes of the services available to some interpreters, packages are compared using their
+     * identity since several versions of dynamic packages can share the same nsURI.
+     *
+     * @author sbegaudeau
+     */
+    public static final class Signature {
+
+        private final Set<IdentityKey> ePackages;
+
+        private final List<Class<?>> serviceClasses;
+
+        private final int hash;
+
+        public Signature(List<EPackage> ePackages, List<Class<?>> serviceClasses) {
+            this.ePackages = Set.copyOf(ePackages.stream().map(IdentityKey::new).toList());
+            this.serviceClasses = List.copyOf(serviceClasses);
+            this.hash = Objects.hash(this.ePackages, this.serviceClasses);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            boolean isEqual = this == object;
+            if (!isEqual && object instanceof Signature signature) {
+                isEqual = this.hash == signature.hash && this.ePackages.equals(signature.ePackages) && this.serviceClasses.equals(signature.serviceClasses);
+            }
+            return isEqual;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * The environments of the interpreters using the same packages and service instances.
+     *
+     * <p>
+     * An environment is borrowed from the pool for each use and given back afterward, a new environment is only created
+     * when all the existing ones are in use by other threads.
+     * </p>
+     *
+     * @author sbegaudeau
+     */
+    public final class EnvironmentPool {
+
+        private final Supplier<IQueryEnvironment> queryEnvironmentSupplier;
+
+        private final Cache<String, AstResult> parsedExpressions;
+
+        private final Queue<SharedEnvironment> availableEnvironments = new ConcurrentLinkedQueue<>();
+
+        private EnvironmentPool(Supplier<IQueryEnvironment> queryEnvironmentSupplier, Cache<String, AstResult> parsedExpressions) {
+            this.queryEnvironmentSupplier = Objects.requireNonNull(queryEnvironmentSupplier);
+            this.parsedExpressions = Objects.requireNonNull(parsedExpressions);
+        }
+
+        /**
+         * Applies the given function with an environment which is not used by any other thread meanwhile.
+         *
+         * @param <T>
+         *            The type of the result
+         * @param function
+         *            The function to apply
+         * @return The result of the function
+         */
+        public <T> T apply(Function<SharedEnvironment, T> function) {
+            SharedEnvironment environment = this.availableEnvironments.poll();
+            if (environment == null) {
+                IQueryEnvironment queryEnvironment = this.queryEnvironmentSupplier.get();
+                environment = new SharedEnvironment(queryEnvironment, QueryParsing.newBuilder(queryEnvironment), QueryEvaluation.newEngine(queryEnvironment));
+            }
+            try {
+                return function.apply(environment);
+            } finally {
+                this.availableEnvironments.offer(environment);
+            }
+        }
+
+        public AstResult getParsedExpression(String expression) {
+            AstResult astResult = this.parsedExpressions.getIfPresent(expression);
+            if (astResult != null) {
+                AQLInterpreterCache.this.hitCount.increment();
+            } else {
+                astResult = this.parsedExpressions.asMap().computeIfAbsent(expression, key -> {
+                    AQLInterpreterCache.this.missCount.increment();
+                    long start = System.nanoTime();
+                    AstResult newAstResult = this.apply(environment -> environment.builder().build(expression));
+                    AQLInterpreterCache.this.parseTime.add(System.nanoTime() - start);
+                    return newAstResult;
+                });
+            }
+            return astResult;
+        }
+    }
+
+    /**
+     * A query environment along with the engines used to parse and evaluate expressions with it.
+     *
+     * @author sbegaudeau
+     */
+    public record SharedEnvironment(IQueryEnvironment queryEnvironment, IQueryBuilderEngine builder, IQueryEvaluationEngine evaluationEngine) {
+    }
+
+    /**
+     * Wraps an object to compare it using its identity.
+     *
+     * @author sbegaudeau
+     */
+    private record IdentityKey(Object object) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey identityKey && this.object == identityKey.object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.object);
+        }
+    }
+
+    /**
+     * The key of a pool of environments.
+     *
+     * @author sbegaudeau
+     */
+    private record EnvironmentKey(Signature signature, List<IdentityKey> instances) {
+    }
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.acceleo.query.runtime.Query;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests of the cache shared by the AQL interpreters.
+ *
+ * @author sbegaudeau
+ */
+public class AQLInterpreterCacheTests {
+
+    private static final String EXPRESSION = "self.name";
+
+    @Test
+    public void testParsedExpressionsSharedBetweenServiceInstances() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var cache = new AQLInterpreterCache();
+        cache.bindTo(meterRegistry);
+
+        var signature = new AQLInterpreterCache.Signature(List.of(EcorePackage.eINSTANCE), List.of(TestServices.class));
+        var firstEnvironmentPool = cache.getEnvironmentPool(signature, List.of(new TestServices()), () -> Query.newEnvironmentWithDefaultServices(new SimpleCrossReferenceProvider()));
+        var secondEnvironmentPool = cache.getEnvironmentPool(new AQLInterpreterCache.Signature(List.of(EcorePackage.eINSTANCE), List.of(TestServices.class)), List.of(new TestServices()),
+                () -> Query.newEnvironmentWithDefaultServices(new SimpleCrossReferenceProvider()));
+        assertThat(firstEnvironmentPool).isNotSameAs(secondEnvironmentPool);
+
+        var astResult = firstEnvironmentPool.getParsedExpression(EXPRESSION);
+        assertThat(secondEnvironmentPool.getParsedExpression(EXPRESSION)).isSameAs(astResult);
+        assertThat(meterRegistry.get("siriusweb_aql_parsed_expressions").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("siriusweb_aql_parsed_expressions").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testEnvironmentNotUsedByTwoThreadsAtOnce() throws InterruptedException {
+        var cache = new AQLInterpreterCache();
+        AtomicInteger createdEnvironmentsCount = new AtomicInteger();
+        var environmentPool = cache.getEnvironmentPool(new AQLInterpreterCache.Signature(List.of(EcorePackage.eINSTANCE), List.of()), List.of(), () -> {
+            createdEnvironmentsCount.incrementAndGet();
+            return Query.newEnvironmentWithDefaultServices(new SimpleCrossReferenceProvider());
+        });
+
+        CountDownLatch borrowedLatch = new CountDownLatch(1);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        Set<Object> usedEnvironments = ConcurrentHashMap.newKeySet();
+        Thread thread = new Thread(() -> environmentPool.apply(environment -> {
+            usedEnvironments.add(environment);
+            borrowedLatch.countDown();
+            return this.await(releaseLatch);
+        }));
+        thread.start();
+        assertThat(borrowedLatch.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // The environment borrowed by the other thread cannot be used until it has been given back
+        var environment = environmentPool.apply(Function.identity());
+        assertThat(usedEnvironments).doesNotContain(environment);
+        releaseLatch.countDown();
+        thread.join();
+
+        assertThat(environmentPool.apply(Function.identity())).isIn(usedEnvironments.iterator().next(), environment);
+        assertThat(createdEnvironmentsCount).hasValue(2);
+    }
+
+    @Test
+    public void testEnvironmentPoolKeptUntilEvicted() {
+        var cache = new AQLInterpreterCache();
+        var ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        var signature = new AQLInterpreterCache.Signature(List.of(ePackage), List.of());
+        var environmentPool = cache.getEnvironmentPool(signature, List.of(), () -> Query.newEnvironmentWithDefaultServices(new SimpleCrossReferenceProvider()));
+
+        WeakReference<Object> environmentPoolReference = new WeakReference<>(environmentPool);
+        environmentPool = null;
+        System.gc();
+        assertThat(cache.getEnvironmentPool(signature, List.of(), () -> Query.newEnvironmentWithDefaultServices(new SimpleCrossReferenceProvider()))).isSameAs(environmentPoolReference.get());
+
+        // The least recently used pools are evicted once the cache is full
+        for (int i = 0; i < 1024; i++) {
+            var otherSignature = new AQLInterpreterCache.Signature(List.of(EcoreFactory.eINSTANCE.createEPackage()), List.of());
+            cache.getEnvironmentPool(otherSignature, List.of(), () -> Query.newEnvironmentWithDefaultServices(new SimpleCrossReferenceProvider()));
+        }
+        for (int i = 0; i < 10 && environmentPoolReference.get() != null; i++) {
+            System.gc();
+        }
+        assertThat(environmentPoolReference.get()).isNull();
+    }
+
+    private boolean await(CountDownLatch latch) {
+        boolean isReleased = false;
+        try {
+            isReleased = latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        return isReleased;
+    }
+
+    @Test
+    public void testSignaturesCompareDynamicPackagesByIdentity() {
+        var firstEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        firstEPackage.setName("sample");
+        firstEPackage.setNsURI("domain://sample");
+
+        var secondEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        secondEPackage.setName(firstEPackage.getName());
+        secondEPackage.setNsURI(firstEPackage.getNsURI());
+
+        var signature = new AQLInterpreterCache.Signature(List.of(firstEPackage), List.of());
+        assertThat(signature).isEqualTo(new AQLInterpreterCache.Signature(List.of(firstEPackage), List.of()));
+        assertThat(signature).isNotEqualTo(new AQLInterpreterCache.Signature(List.of(secondEPackage), List.of()));
+    }
+}
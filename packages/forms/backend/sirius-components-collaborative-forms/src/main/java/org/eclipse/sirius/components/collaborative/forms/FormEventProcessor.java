@@ -15,6 +15,8 @@ package org.eclipse.sirius.components.collaborative.forms;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
@@ -30,16 +32,21 @@ import org.eclipse.sirius.components.collaborative.forms.api.IFormInput;
 import org.eclipse.sirius.components.collaborative.forms.api.IFormPostProcessor;
 import org.eclipse.sirius.components.collaborative.forms.api.IWidgetSubscriptionManager;
 import org.eclipse.sirius.components.collaborative.forms.configuration.FormEventProcessorConfiguration;
+import org.eclipse.sirius.components.collaborative.forms.dto.FormDiffEventPayload;
 import org.eclipse.sirius.components.collaborative.forms.dto.FormRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.forms.dto.RenameFormInput;
 import org.eclipse.sirius.components.collaborative.forms.dto.UpdateWidgetFocusInput;
 import org.eclipse.sirius.components.collaborative.forms.dto.UpdateWidgetFocusSuccessPayload;
 import org.eclipse.sirius.components.collaborative.forms.variables.FormVariableProvider;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationDiff;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationDiffEventFlux;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationDiffer;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.core.api.IRepresentationInput;
+import org.eclipse.sirius.components.forms.AbstractWidget;
 import org.eclipse.sirius.components.forms.Form;
 import org.eclipse.sirius.components.forms.components.FormComponent;
 import org.eclipse.sirius.components.forms.components.FormComponentProps;
@@ -54,9 +61,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
-import reactor.core.publisher.Sinks.EmitResult;
 import reactor.core.publisher.Sinks.Many;
 import reactor.core.publisher.Sinks.One;
 
@@ -86,10 +90,10 @@ public class FormEventProcessor implements IFormEventProcessor {
 
     private final IRepresentationRefreshPolicyRegistry representationRefreshPolicyRegistry;
 
-    private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
-
     private final AtomicReference<Form> currentForm = new AtomicReference<>();
 
+    private final RepresentationDiffEventFlux<Form> formEventFlux;
+
     private final IFormPostProcessor formPostProcessor;
 
     private final VariableManager variableManager;
@@ -112,6 +116,9 @@ public class FormEventProcessor implements IFormEventProcessor {
 
         Form form = this.refreshForm();
         this.currentForm.set(form);
+
+        var representationDiffer = new RepresentationDiffer(Set.of("pages", "groups", "widgets", "children"), Set.of());
+        this.formEventFlux = new RepresentationDiffEventFlux<>(form, representationDiffer, RepresentationDiffEventFlux.DEFAULT_SNAPSHOT_INTERVAL);
     }
 
     private VariableManager initializeVariableManager(FormCreationParameters formDescriptionParameters) {
@@ -178,16 +185,20 @@ public class FormEventProcessor implements IFormEventProcessor {
 
             this.currentForm.set(form);
 
-            if (this.sink.currentSubscriberCount() > 0) {
-                EmitResult emitResult = this.sink.tryEmitNext(new FormRefreshedEventPayload(changeDescription.getInput().id(), form));
-                if (emitResult.isFailure()) {
-                    String pattern = "An error has occurred while emitting a FormRefreshedEventPayload: {}";
-                    this.logger.warn(pattern, emitResult);
-                }
-            }
+            UUID id = changeDescription.getInput().id();
+            this.formEventFlux.representationRefreshed(form, new FormRefreshedEventPayload(id, form), diff -> this.toDiffPayload(id, diff));
         }
     }
 
+    /**
+     * Only the changes of the widgets can be sent as a diff, the complete form is sent if its pages or groups have changed.
+     */
+    private Optional<IPayload> toDiffPayload(UUID id, RepresentationDiff diff) {
+        return Optional.of(diff)
+                .filter(representationDiff -> representationDiff.changes().stream().allMatch(change -> change.element() instanceof AbstractWidget))
+                .map(representationDiff -> new FormDiffEventPayload(id, representationDiff.changes(), representationDiff.removedElementIds()));
+    }
+
     private boolean shouldRefresh(ChangeDescription changeDescription) {
         return this.representationRefreshPolicyRegistry.getRepresentationRefreshPolicy(this.formCreationParameters.getFormDescription())
                 .orElseGet(this::getDefaultRefreshPolicy)
@@ -219,8 +230,7 @@ public class FormEventProcessor implements IFormEventProcessor {
 
     @Override
     public Flux<IPayload> getOutputEvents(IInput input) {
-        var initialRefresh = Mono.fromCallable(() -> new FormRefreshedEventPayload(input.id(), this.currentForm.get()));
-        var refreshEventFlux = Flux.concat(initialRefresh, this.sink.asFlux());
+        var refreshEventFlux = this.formEventFlux.getFlux(input, form -> new FormRefreshedEventPayload(input.id(), form));
 
         return Flux.merge(
                 refreshEventFlux,
@@ -235,12 +245,7 @@ public class FormEventProcessor implements IFormEventProcessor {
 
         this.subscriptionManager.dispose();
         this.widgetSubscriptionManager.dispose();
-
-        EmitResult emitResult = this.sink.tryEmitComplete();
-        if (emitResult.isFailure()) {
-            String pattern = "An error has occurred while marking the publisher as complete: {}";
-            this.logger.warn(pattern, emitResult);
-        }
+        this.formEventFlux.dispose();
     }
 
 }
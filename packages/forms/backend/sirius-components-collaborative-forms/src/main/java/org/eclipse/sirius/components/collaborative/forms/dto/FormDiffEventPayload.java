@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.forms.dto;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.dto.RepresentationElementChange;
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * Payload used to indicate that the form has been refreshed, containing only the widgets which have changed since the
+ * previous version of the form.
+ *
+ * @author sbegaudeau
+ */
+public record FormDiffEventPayload(UUID id, List<RepresentationElementChange> widgetChanges, List<String> removedElementIds) implements IPayload {
+    public FormDiffEventPayload {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(widgetChanges);
+        Objects.requireNonNull(removedElementIds);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,7 +14,7 @@ package org.eclipse.sirius.components.collaborative.forms.dto;
 
 import java.util.UUID;
 
-import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationDiffInput;
 
 /**
  * The input of the form event subscription.
@@ -22,5 +22,8 @@ import org.eclipse.sirius.components.core.api.IInput;
  * @author sbegaudeau
  * @author hmarchadour
  */
-public record FormEventInput(UUID id, String editingContextId, String formId) implements IInput {
+public record FormEventInput(UUID id, String editingContextId, String formId, Boolean diff) implements IRepresentationDiffInput {
+    public FormEventInput(UUID id, String editingContextId, String formId) {
+        this(id, editingContextId, formId, Boolean.FALSE);
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,12 +15,15 @@ package org.eclipse.sirius.components.collaborative.forms.dto;
 import java.util.List;
 import java.util.UUID;
 
-import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationDiffInput;
 
 /**
  * The input of the properties event subscription.
  *
  * @author hmarchadour
  */
-public record PropertiesEventInput(UUID id, String editingContextId, List<String> objectIds) implements IInput {
+public record PropertiesEventInput(UUID id, String editingContextId, List<String> objectIds, Boolean diff) implements IRepresentationDiffInput {
+    public PropertiesEventInput(UUID id, String editingContextId, List<String> objectIds) {
+        this(id, editingContextId, objectIds, Boolean.FALSE);
+    }
 }
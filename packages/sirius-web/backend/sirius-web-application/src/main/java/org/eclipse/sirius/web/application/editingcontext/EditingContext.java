@@ -12,9 +12,11 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.editingcontext;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
@@ -36,6 +38,8 @@ public class EditingContext implements IEMFEditingContext {
 
     private final List<View> views;
 
+    private Instant version;
+
     public EditingContext(String id, AdapterFactoryEditingDomain editingDomain, Map<String, IRepresentationDescription> representationDescriptions, List<View> views) {
         this.id = Objects.requireNonNull(id);
         this.editingDomain = Objects.requireNonNull(editingDomain);
@@ -61,4 +65,18 @@ public class EditingContext implements IEMFEditingContext {
         return this.views;
     }
 
+    /**
+     * Returns the date of the last modification of the semantic data when they have been loaded or persisted by this
+     * editing context.
+     *
+     * @return The version of the semantic data of this editing context or an empty optional if it is not known
+     */
+    public Optional<Instant> getVersion() {
+        return Optional.ofNullable(this.version);
+    }
+
+    public void setVersion(Instant version) {
+        this.version = version;
+    }
+
 }
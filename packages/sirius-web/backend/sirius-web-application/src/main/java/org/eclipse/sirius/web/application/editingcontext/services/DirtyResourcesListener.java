@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.components.emf.services.SemanticContentAdapter;
+import org.eclipse.sirius.components.emf.services.api.ISemanticContentListener;
+
+/**
+ * Listener of the {@link SemanticContentAdapter} used to track the resources which have changed since the last time
+ * they have been persisted.
+ *
+ * <p>
+ * The listener is added to the content adapter of an editing context once its documents have been loaded. It also
+ * keeps the name and the EPackages used by each resource when it has been persisted for the last time. A resource
+ * which has never been persisted with this listener is thus always considered as dirty.
+ * </p>
+ *
+ * <p>
+ * The resources are persisted on the thread of the editing context but the notifications of the modifications rejected
+ * during a parallel refresh of its representations can be received from other threads, the state of this listener is
+ * thus only accessed while holding its lock.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DirtyResourcesListener implements ISemanticContentListener {
+
+    private final Set<Resource> dirtyResources = new LinkedHashSet<>();
+
+    private final Set<Resource> removedResources = new LinkedHashSet<>();
+
+    private final Map<Resource, PersistedState> resourceToPersistedState = new WeakHashMap<>();
+
+    @Override
+    public synchronized void notifyChanged(Notification notification) {
+        if (!notification.isTouch()) {
+            Object notifier = notification.getNotifier();
+            if (notifier instanceof EObject eObject) {
+                Optional.ofNullable(eObject.eResource()).ifPresent(this.dirtyResources::add);
+            } else if (notifier instanceof Resource resource && notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+                this.dirtyResources.add(resource);
+            } else if (notifier instanceof ResourceSet && notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+                this.handleResources(notification);
+            }
+        }
+    }
+
+    private void handleResources(Notification notification) {
+        for (Resource resource : this.getResources(notification.getNewValue())) {
+            this.removedResources.remove(resource);
+            this.dirtyResources.add(resource);
+        }
+        for (Resource resource : this.getResources(notification.getOldValue())) {
+            this.dirtyResources.remove(resource);
+            this.resourceToPersistedState.remove(resource);
+            this.removedResources.add(resource);
+        }
+    }
+
+    private List<Resource> getResources(Object value) {
+        List<Resource> resources = List.of();
+        if (value instanceof Resource resource) {
+            resources = List.of(resource);
+        } else if (value instanceof Collection<?> collection) {
+            resources = collection.stream()
+                    .filter(Resource.class::isInstance)
+                    .map(Resource.class::cast)
+                    .toList();
+        }
+        return resources;
+    }
+
+    /**
+     * Indicates if the given resource has to be serialized again.
+     *
+     * <p>
+     * The name of a resource is stored in an adapter which does not send any notification, it is thus compared with the
+     * name persisted for the last time.
+     * </p>
+     *
+     * @param resource
+     *            The resource
+     * @return <code>true</code> if the resource has changed since the last time it has been persisted
+     */
+    public synchronized boolean isDirty(Resource resource) {
+        boolean isDirty = this.dirtyResources.contains(resource);
+        if (!isDirty) {
+            var persistedState = this.resourceToPersistedState.get(resource);
+            isDirty = persistedState == null || !persistedState.name().equals(this.getName(resource));
+        }
+        return isDirty;
+    }
+
+    public synchronized void persisted(Resource resource, Set<String> domainUris) {
+        this.dirtyResources.remove(resource);
+        this.resourceToPersistedState.put(resource, new PersistedState(this.getName(resource), domainUris));
+    }
+
+    /**
+     * Forgets the changes of a resource which could not be serialized, it will only be serialized again once modified.
+     *
+     * @param resource
+     *            The resource
+     */
+    public synchronized void discard(Resource resource) {
+        this.dirtyResources.remove(resource);
+        this.resourceToPersistedState.put(resource, new PersistedState(this.getName(resource), this.getDomainUris(resource)));
+    }
+
+    public synchronized Set<String> getDomainUris(Resource resource) {
+        return Optional.ofNullable(this.resourceToPersistedState.get(resource))
+                .map(PersistedState::domainUris)
+                .orElse(Set.of());
+    }
+
+    /**
+     * Returns the resources removed since the last call and forgets them.
+     *
+     * @return The resources removed from the resource set
+     */
+    public synchronized Set<Resource> takeRemovedResources() {
+        var resources = new LinkedHashSet<>(this.removedResources);
+        this.removedResources.clear();
+        return resources;
+    }
+
+    private String getName(Resource resource) {
+        return resource.eAdapters().stream()
+                .filter(ResourceMetadataAdapter.class::isInstance)
+                .map(ResourceMetadataAdapter.class::cast)
+                .findFirst()
+                .map(ResourceMetadataAdapter::getName)
+                .orElse("");
+    }
+
+    /**
+     * The state of a resource when it has been persisted for the last time.
+     *
+     * @author sbegaudeau
+     */
+    private record PersistedState(String name, Set<String> domainUris) {
+    }
+}
@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextCache;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioArtifactsCache;
+import org.eclipse.sirius.web.application.studio.services.api.StudioArtifacts;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.events.ProjectDeletedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataMetadataOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps the editing contexts in memory once their event processor has been disposed.
+ *
+ * <p>
+ * The editing contexts are evicted in the least recently used order when their estimated size exceeds the budget
+ * configured with the property <code>sirius.web.editingContext.cache.maxSize</code>. An editing context is identified
+ * by the date of the last modification of the semantic data it has loaded or written with its own last save, and by
+ * the studio artifacts it has been loaded with. It is only reused if its semantic data have not been modified since,
+ * by another instance of the application for example, and if the studios have not changed. The editing contexts are
+ * disposed once they are evicted from the cache or if they cannot be kept.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class EditingContextCache implements IEditingContextCache {
+
+    private static final String COUNTER_METRIC_NAME = "siriusweb_editingcontext_cache";
+
+    private static final String EVICTIONS_METRIC_NAME = "siriusweb_editingcontext_cache_evictions";
+
+    private static final String SIZE_METRIC_NAME = "siriusweb_editingcontext_cache_size";
+
+    private static final String ENTRIES_METRIC_NAME = "siriusweb_editingcontext_cache_entries";
+
+    private static final String RESULT = "result";
+
+    private static final String CAUSE = "cause";
+
+    /**
+     * Rough estimation of the memory used by each semantic object, including its adapters and its identifier.
+     */
+    private static final long ESTIMATED_EOBJECT_SIZE = 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(EditingContextCache.class);
+
+    private final ISemanticDataSearchService semanticDataSearchService;
+
+    private final IStudioArtifactsCache studioArtifactsCache;
+
+    private final long maxSize;
+
+    private final Map<String, CacheEntry> editingContextIdToEntry = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong size = new AtomicLong();
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Counter sizeEvictionCounter;
+
+    private final Counter staleEvictionCounter;
+
+    public EditingContextCache(ISemanticDataSearchService semanticDataSearchService, IStudioArtifactsCache studioArtifactsCache, @Value("${sirius.web.editingContext.cache.maxSize:256MB}") DataSize maxSize,
+            MeterRegistry meterRegistry) {
+        this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
+        this.studioArtifactsCache = Objects.requireNonNull(studioArtifactsCache);
+        this.maxSize = maxSize.toBytes();
+
+        this.hitCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(RESULT, "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(RESULT, "miss")
+                .register(meterRegistry);
+        this.sizeEvictionCounter = Counter.builder(EVICTIONS_METRIC_NAME)
+                .tag(CAUSE, "size")
+                .register(meterRegistry);
+        this.staleEvictionCounter = Counter.builder(EVICTIONS_METRIC_NAME)
+                .tag(CAUSE, "stale")
+                .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC_NAME, this.size, AtomicLong::get)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder(ENTRIES_METRIC_NAME, this, EditingContextCache::getEntriesCount).register(meterRegistry);
+    }
+
+    @Override
+    public Optional<IEditingContext> acquire(String editingContextId) {
+        var cacheEntry = this.remove(editingContextId);
+
+        Optional<IEditingContext> optionalEditingContext = Optional.empty();
+        if (cacheEntry != null) {
+            var optionalVersion = this.getVersion(editingContextId);
+            boolean isUpToDate = optionalVersion.isPresent() && optionalVersion.get().equals(cacheEntry.version());
+            if (isUpToDate && this.isSameStudioArtifacts(cacheEntry.studioArtifacts(), this.studioArtifactsCache.getStudioArtifacts())) {
+                optionalEditingContext = Optional.of(cacheEntry.editingContext());
+            } else {
+                this.logger.debug("The editing context {} has been modified since it has been cached", editingContextId);
+                this.staleEvictionCounter.increment();
+                cacheEntry.editingContext().dispose();
+            }
+        }
+
+        if (optionalEditingContext.isPresent()) {
+            this.hitCounter.increment();
+        } else {
+            this.missCounter.increment();
+        }
+        return optionalEditingContext;
+    }
+
+    @Override
+    public void release(IEditingContext editingContext) {
+        boolean isCached = false;
+        if (this.maxSize > 0 && editingContext instanceof EditingContext siriusWebEditingContext) {
+            long estimatedSize = this.estimateSize(siriusWebEditingContext);
+            // The version of the semantic data loaded or written by this editing context, the current version of the
+            // semantic data may have been written since by another instance of the application
+            var optionalVersion = siriusWebEditingContext.getVersion();
+            var studioArtifacts = this.studioArtifactsCache.getStudioArtifacts();
+
+            // An editing context loaded before the last modification of a studio is not up to date anymore
+            boolean isUpToDate = optionalVersion.isPresent() && siriusWebEditingContext.getViews().containsAll(studioArtifacts.views());
+            if (isUpToDate && estimatedSize <= this.maxSize) {
+                this.put(new CacheEntry(editingContext, optionalVersion.get(), studioArtifacts, estimatedSize));
+                isCached = true;
+            } else {
+                this.evict(editingContext.getId());
+            }
+        }
+
+        if (!isCached) {
+            editingContext.dispose();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProjectDeletedEvent(ProjectDeletedEvent event) {
+        this.evict(event.project().getId().toString());
+    }
+
+    private void put(CacheEntry cacheEntry) {
+        synchronized (this.editingContextIdToEntry) {
+            var previousCacheEntry = this.editingContextIdToEntry.put(cacheEntry.editingContext().getId(), cacheEntry);
+            if (previousCacheEntry != null) {
+                this.size.addAndGet(-previousCacheEntry.size());
+                if (previousCacheEntry.editingContext() != cacheEntry.editingContext()) {
+                    previousCacheEntry.editingContext().dispose();
+                }
+            }
+            this.size.addAndGet(cacheEntry.size());
+
+            // The entries are iterated from the least recently used one
+            var iterator = this.editingContextIdToEntry.values().iterator();
+            while (this.size.get() > this.maxSize && iterator.hasNext()) {
+                var evictedCacheEntry = iterator.next();
+                iterator.remove();
+                this.size.addAndGet(-evictedCacheEntry.size());
+                this.sizeEvictionCounter.increment();
+                evictedCacheEntry.editingContext().dispose();
+            }
+        }
+    }
+
+    private void evict(String editingContextId) {
+        var cacheEntry = this.remove(editingContextId);
+        if (cacheEntry != null) {
+            cacheEntry.editingContext().dispose();
+        }
+    }
+
+    private CacheEntry remove(String editingContextId) {
+        synchronized (this.editingContextIdToEntry) {
+            var cacheEntry = this.editingContextIdToEntry.remove(editingContextId);
+            if (cacheEntry != null) {
+                this.size.addAndGet(-cacheEntry.size());
+            }
+            return cacheEntry;
+        }
+    }
+
+    private int getEntriesCount() {
+        synchronized (this.editingContextIdToEntry) {
+            return this.editingContextIdToEntry.size();
+        }
+    }
+
+    private Optional<Instant> getVersion(String editingContextId) {
+        return new UUIDParser().parse(editingContextId)
+                .map(AggregateReference::<Project, UUID>to)
+                .flatMap(this.semanticDataSearchService::findMetadataByProject)
+                .map(SemanticDataMetadataOnly::lastModifiedOn);
+    }
+
+    /**
+     * The studio artifacts are shared and kept as long as their semantic data do not change, they are thus compared by
+     * identity.
+     */
+    private boolean isSameStudioArtifacts(StudioArtifacts studioArtifacts, StudioArtifacts currentStudioArtifacts) {
+        return studioArtifacts.views().equals(currentStudioArtifacts.views()) && studioArtifacts.ePackages().equals(currentStudioArtifacts.ePackages());
+    }
+
+    private long estimateSize(EditingContext editingContext) {
+        long eObjectsCount = 0;
+        TreeIterator<Notifier> iterator = editingContext.getDomain().getResourceSet().getAllContents();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof EObject) {
+                eObjectsCount++;
+            }
+        }
+        return eObjectsCount * ESTIMATED_EOBJECT_SIZE;
+    }
+
+    /**
+     * An editing context along with the version of its semantic data, the studio artifacts available when it has been
+     * released and its estimated size in bytes.
+     *
+     * @author sbegaudeau
+     */
+    private record CacheEntry(IEditingContext editingContext, Instant version, StudioArtifacts studioArtifacts, long size) {
+    }
+}
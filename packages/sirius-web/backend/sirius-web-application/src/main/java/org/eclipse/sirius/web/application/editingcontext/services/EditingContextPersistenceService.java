@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.editingcontext.services;
 
+import java.time.Instant;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -20,15 +21,21 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.emf.services.SemanticContentAdapter;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextPersistenceFilter;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceToDocumentService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataUpdateService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 
@@ -38,6 +45,12 @@ import io.micrometer.core.instrument.Timer;
 /**
  * Used to save the editing context.
  *
+ * <p>
+ * When the resource set of the editing context tracks its dirty resources, only the documents of the resources which
+ * have changed are serialized and written. The date of the last modification written is kept as the version of the
+ * editing context.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -45,6 +58,8 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
 
     private static final String TIMER_NAME = "siriusweb_editingcontext_save";
 
+    private final Logger logger = LoggerFactory.getLogger(EditingContextPersistenceService.class);
+
     private final ISemanticDataUpdateService semanticDataUpdateService;
 
     private final IResourceToDocumentService resourceToDocumentService;
@@ -68,27 +83,92 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
             new UUIDParser().parse(editingContext.getId())
                     .map(AggregateReference::<Project, UUID>to)
                     .ifPresent(project -> {
+                        var resourceSet = emfEditingContext.getDomain().getResourceSet();
+                        var optionalDirtyResourcesListener = resourceSet.eAdapters().stream()
+                                .filter(SemanticContentAdapter.class::isInstance)
+                                .map(SemanticContentAdapter.class::cast)
+                                .findFirst()
+                                .flatMap(semanticContentAdapter -> semanticContentAdapter.getListener(DirtyResourcesListener.class));
+
+                        Optional<Instant> optionalVersion;
+                        if (optionalDirtyResourcesListener.isPresent()) {
+                            optionalVersion = this.persistChangedDocuments(project, resourceSet, optionalDirtyResourcesListener.get());
+                        } else {
+                            optionalVersion = this.persistAllDocuments(project, resourceSet);
+                        }
+
+                        // The version written by this save identifies the semantic data of the editing context from now on
+                        if (editingContext instanceof EditingContext siriusWebEditingContext) {
+                            optionalVersion.ifPresent(siriusWebEditingContext::setVersion);
+                        }
+                    });
+        }
 
-                        var documentData = emfEditingContext.getDomain().getResourceSet().getResources().stream()
-                                .filter(resource -> IEMFEditingContext.RESOURCE_SCHEME.equals(resource.getURI().scheme()))
-                                .filter(resource -> this.persistenceFilters.stream().allMatch(filter -> filter.shouldPersist(resource)))
-                                .map(this.resourceToDocumentService::toDocument)
-                                .flatMap(Optional::stream)
-                                .collect(Collectors.toSet());
+        long end = System.currentTimeMillis();
+        this.timer.record(end - start, TimeUnit.MILLISECONDS);
+    }
 
-                        var documents = new LinkedHashSet<Document>();
-                        var domainUris = new LinkedHashSet<String>();
+    private Optional<Instant> persistAllDocuments(AggregateReference<Project, UUID> project, ResourceSet resourceSet) {
+        var documentData = resourceSet.getResources().stream()
+                .filter(this::shouldPersist)
+                .map(this.resourceToDocumentService::toDocument)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet());
 
-                        documentData.forEach(data -> {
-                            documents.add(data.document());
-                            domainUris.addAll(data.ePackageEntries().stream().map(EPackageEntry::nsURI).toList());
-                        });
+        var documents = new LinkedHashSet<Document>();
+        var domainUris = new LinkedHashSet<String>();
 
-                        this.semanticDataUpdateService.updateDocuments(project, documents, domainUris);
-                    });
+        documentData.forEach(data -> {
+            documents.add(data.document());
+            domainUris.addAll(data.ePackageEntries().stream().map(EPackageEntry::nsURI).toList());
+        });
+
+        return this.semanticDataUpdateService.updateDocuments(project, documents, domainUris);
+    }
+
+    /**
+     * Only serializes the resources which have changed since the last time they have been persisted.
+     */
+    private Optional<Instant> persistChangedDocuments(AggregateReference<Project, UUID> project, ResourceSet resourceSet, DirtyResourcesListener dirtyResourcesListener) {
+        var documents = new LinkedHashSet<Document>();
+        var domainUris = new LinkedHashSet<String>();
+
+        resourceSet.getResources().stream()
+                .filter(this::shouldPersist)
+                .forEach(resource -> {
+                    if (dirtyResourcesListener.isDirty(resource)) {
+                        var optionalDocumentData = this.resourceToDocumentService.toDocument(resource);
+                        if (optionalDocumentData.isPresent()) {
+                            var data = optionalDocumentData.get();
+                            documents.add(data.document());
+                            var resourceDomainUris = data.ePackageEntries().stream()
+                                    .map(EPackageEntry::nsURI)
+                                    .collect(Collectors.toCollection(LinkedHashSet::new));
+                            dirtyResourcesListener.persisted(resource, resourceDomainUris);
+                        } else {
+                            this.logger.warn("The resource {} could not be converted to a document, its changes have not been persisted", resource.getURI());
+                            dirtyResourcesListener.discard(resource);
+                        }
+                    }
+                    domainUris.addAll(dirtyResourcesListener.getDomainUris(resource));
+                });
+
+        var deletedDocumentIds = dirtyResourcesListener.takeRemovedResources().stream()
+                .filter(resource -> IEMFEditingContext.RESOURCE_SCHEME.equals(resource.getURI().scheme()))
+                .map(resource -> resource.getURI().path().substring(1))
+                .map(new UUIDParser()::parse)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Optional<Instant> optionalVersion = Optional.empty();
+        if (!documents.isEmpty() || !deletedDocumentIds.isEmpty()) {
+            optionalVersion = this.semanticDataUpdateService.updateChangedDocuments(project, documents, deletedDocumentIds, domainUris);
         }
+        return optionalVersion;
+    }
 
-        long end = System.currentTimeMillis();
-        this.timer.record(end - start, TimeUnit.MILLISECONDS);
+    private boolean shouldPersist(Resource resource) {
+        return IEMFEditingContext.RESOURCE_SCHEME.equals(resource.getURI().scheme())
+                && this.persistenceFilters.stream().allMatch(filter -> filter.shouldPersist(resource));
     }
 }
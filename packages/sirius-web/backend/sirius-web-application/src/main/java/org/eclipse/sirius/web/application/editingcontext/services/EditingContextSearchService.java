@@ -26,7 +26,9 @@ import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
 import org.eclipse.sirius.components.core.api.IEditingContextRepresentationDescriptionProvider;
 import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.emf.services.EObjectIndexListener;
 import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
+import org.eclipse.sirius.components.emf.services.SemanticContentAdapter;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
@@ -126,11 +128,19 @@ public class EditingContextSearchService implements IEditingContextSearchService
         resourceSet.getLoadOptions().put(JsonResource.OPTION_SCHEMA_LOCATION, true);
 
         semanticData.getDocuments().forEach(document -> this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent()));
+        editingContext.setVersion(semanticData.getLastModifiedOn());
 
         // The ECrossReferenceAdapter must be set after the resource loading because it needs to resolve proxies in case
         // of inter-resources references
         resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
 
+        // The objects are indexed once their identifiers have been set by the loading of the resources and the resources
+        // loaded are not dirty, only the changes performed after the loading have to be persisted
+        SemanticContentAdapter semanticContentAdapter = new SemanticContentAdapter();
+        semanticContentAdapter.addListener(new EObjectIndexListener());
+        semanticContentAdapter.addListener(new DirtyResourcesListener());
+        resourceSet.eAdapters().add(semanticContentAdapter);
+
         this.logger.debug("{} documents loaded for the editing context {}", resourceSet.getResources().size(), editingContext.getId());
     }
 }
@@ -15,10 +15,23 @@ package org.eclipse.sirius.web.application.representation.services;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.components.collaborative.representations.migration.IRepresentationMigrationParticipant;
@@ -26,27 +39,48 @@ import org.eclipse.sirius.components.collaborative.representations.migration.Rep
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentFlushService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataDeletedEvent;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataCreationService;
-import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataUpdateService;
+import org.eclipse.sirius.web.domain.services.Success;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
 
 /**
  * Used to persist representations.
  *
+ * <p>
+ * The hash of the content last written for each representation is kept, once its transaction has been committed, in
+ * order to skip the writes which would not change anything. When a delay is configured with the property
+ * <code>sirius.web.representation.persistenceDelay</code>, the successive saves of a representation which has already
+ * been written with the same label are coalesced and only its last version is written once the delay has elapsed.
+ * </p>
+ *
+ * <p>
+ * A delayed write only updates existing representations, the pending save of a representation is thus dropped if it
+ * has been deleted in the meantime.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
-public class RepresentationPersistenceService implements IRepresentationPersistenceService {
+public class RepresentationPersistenceService implements IRepresentationPersistenceService, IRepresentationContentFlushService {
 
     private static final String NONE = "none";
 
-    private final IRepresentationDataSearchService representationDataSearchService;
+    private static final int MAX_CONTENT_HASHES = 10_000;
 
     private final IRepresentationDataCreationService representationDataCreationService;
 
@@ -58,12 +92,41 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
 
     private final List<IRepresentationMigrationParticipant> migrationParticipants;
 
-    public RepresentationPersistenceService(IRepresentationDataSearchService representationDataSearchService, IRepresentationDataCreationService representationDataCreationService, IRepresentationDataUpdateService representationDataUpdateService, ObjectMapper objectMapper, List<IRepresentationMigrationParticipant> migrationParticipants) {
-        this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration persistenceDelay;
+
+    private final Optional<ScheduledExecutorService> optionalScheduledExecutorService;
+
+    private final Map<UUID, WrittenRepresentation> representationIdToWrittenRepresentation = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, WrittenRepresentation> eldest) {
+            return this.size() > MAX_CONTENT_HASHES;
+        }
+    });
+
+    private final Map<UUID, PendingSave> pendingSaves = new ConcurrentHashMap<>();
+
+    public RepresentationPersistenceService(IRepresentationDataCreationService representationDataCreationService, IRepresentationDataUpdateService representationDataUpdateService, ObjectMapper objectMapper,
+            List<IRepresentationMigrationParticipant> migrationParticipants, TransactionTemplate transactionTemplate, @Value("${sirius.web.representation.persistenceDelay:0s}") Duration persistenceDelay) {
         this.representationDataCreationService = Objects.requireNonNull(representationDataCreationService);
         this.representationDataUpdateService = representationDataUpdateService;
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.migrationParticipants = migrationParticipants;
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.persistenceDelay = Objects.requireNonNull(persistenceDelay);
+        if (persistenceDelay.isNegative() || persistenceDelay.isZero()) {
+            this.optionalScheduledExecutorService = Optional.empty();
+        } else {
+            this.optionalScheduledExecutorService = Optional.of(Executors.newSingleThreadScheduledExecutor((Runnable runnable) -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName("Representation persistence");
+                thread.setDaemon(true);
+                return thread;
+            }));
+        }
     }
 
     @Override
@@ -75,15 +138,69 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
             var projectId = optionalProjectId.get();
             var representationId = optionalRepresentationId.get();
 
-            String content = this.toString(representation);
+            // Only the representations which have already been written with the same label can be saved later, the other
+            // ones may be searched right after their creation or their renaming
+            var writtenRepresentation = this.representationIdToWrittenRepresentation.get(representationId);
+            boolean hasSameLabel = writtenRepresentation != null && writtenRepresentation.label().equals(representation.getLabel());
+            boolean canBeDelayed = this.pendingSaves.containsKey(representationId) || hasSameLabel;
+            if (this.optionalScheduledExecutorService.isPresent() && canBeDelayed) {
+                var scheduledExecutorService = this.optionalScheduledExecutorService.get();
+                this.pendingSaves.compute(representationId, (id, pendingSave) -> {
+                    if (pendingSave == null) {
+                        scheduledExecutorService.schedule(() -> this.flush(id), this.persistenceDelay.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                    return new PendingSave(projectId, representation);
+                });
+            } else {
+                this.write(projectId, representationId, representation, true);
+            }
+        }
+    }
 
-            var exists = this.representationDataSearchService.existsById(representationId);
+    /**
+     * Writes the last version saved of the given representation if it is still pending.
+     *
+     * <p>
+     * The pending save stays registered while it is written so that the saves performed in the meantime are also
+     * delayed instead of being written concurrently. The representation is not created again if it has been deleted
+     * since its last write.
+     * </p>
+     *
+     * @param representationId
+     *            The identifier of the representation
+     */
+    @Override
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public void flush(UUID representationId) {
+        var pendingSave = this.pendingSaves.get(representationId);
+        if (pendingSave != null) {
+            try {
+                this.transactionTemplate.executeWithoutResult(status -> this.write(pendingSave.projectId(), representationId, pendingSave.representation(), false));
+            } catch (Exception exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
 
-            if (exists) {
-                var migrationData = this.getLastMigrationData(representation.getKind());
-                this.representationDataUpdateService.updateContentWithMigrationData(representationId, content, migrationData.lastMigrationPerformed(), migrationData.migrationVersion());
-            } else {
-                var migrationData = this.getInitialMigrationData(representation.getKind());
+            boolean isLastVersion = this.pendingSaves.remove(representationId, pendingSave);
+            if (!isLastVersion) {
+                this.optionalScheduledExecutorService.ifPresent(scheduledExecutorService -> scheduledExecutorService.schedule(() -> this.flush(representationId), this.persistenceDelay.toMillis(), TimeUnit.MILLISECONDS));
+            }
+        }
+    }
+
+    private void write(UUID projectId, UUID representationId, IRepresentation representation, boolean canCreate) {
+        String content = this.toString(representation);
+        var writtenRepresentation = new WrittenRepresentation(this.getContentHash(content), representation.getLabel());
+        var lastWrittenRepresentation = this.representationIdToWrittenRepresentation.get(representationId);
+        if (lastWrittenRepresentation == null || !lastWrittenRepresentation.contentHash().equals(writtenRepresentation.contentHash())) {
+            // The label is written along with the content, a failure of the update means that the representation does not exist
+            var migrationData = this.getLastMigrationData(representation.getKind());
+            var result = this.representationDataUpdateService.updateLabelAndContentWithMigrationData(representationId, representation.getLabel(), content, migrationData.lastMigrationPerformed(),
+                    migrationData.migrationVersion());
+
+            if (result instanceof Success<Void>) {
+                this.afterCommit(() -> this.representationIdToWrittenRepresentation.put(representationId, writtenRepresentation));
+            } else if (canCreate) {
+                var initialMigrationData = this.getInitialMigrationData(representation.getKind());
                 var representationData = RepresentationData.newRepresentationData(representationId)
                         .project(AggregateReference.to(projectId))
                         .label(representation.getLabel())
@@ -91,15 +208,49 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
                         .descriptionId(representation.getDescriptionId())
                         .targetObjectId(representation.getTargetObjectId())
                         .content(content)
-                        .lastMigrationPerformed(migrationData.lastMigrationPerformed())
-                        .migrationVersion(migrationData.migrationVersion())
+                        .lastMigrationPerformed(initialMigrationData.lastMigrationPerformed())
+                        .migrationVersion(initialMigrationData.migrationVersion())
                         .build();
 
                 this.representationDataCreationService.create(representationData);
+                this.afterCommit(() -> this.representationIdToWrittenRepresentation.put(representationId, writtenRepresentation));
+            } else {
+                this.logger.debug("The representation {} has been deleted before the write of its last changes", representationId);
             }
         }
     }
 
+    /**
+     * Runs the given runnable once the current transaction, if any, has been committed. Nothing is run if the
+     * transaction is rolled back so that the content is written again by the next save.
+     *
+     * @param runnable
+     *            The runnable to run after the commit
+     */
+    private void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
+
+    private String getContentHash(String content) {
+        String contentHash = content;
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            contentHash = HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return contentHash;
+    }
+
     private String toString(IRepresentation representation) {
         String content = "";
         try {
@@ -127,4 +278,33 @@ public class RepresentationPersistenceService implements IRepresentationPersiste
                 .map(migrationParticipant -> new RepresentationMigrationData(migrationParticipant.getClass().getSimpleName(), migrationParticipant.getVersion()))
                 .findFirst().orElse(new RepresentationMigrationData(NONE, "0"));
     }
+
+    @TransactionalEventListener
+    public void onRepresentationDataDeletedEvent(RepresentationDataDeletedEvent event) {
+        var representationId = event.representationData().getId();
+        this.pendingSaves.remove(representationId);
+        this.representationIdToWrittenRepresentation.remove(representationId);
+    }
+
+    @PreDestroy
+    public void dispose() {
+        List.copyOf(this.pendingSaves.keySet()).forEach(this::flush);
+        this.optionalScheduledExecutorService.ifPresent(ScheduledExecutorService::shutdown);
+    }
+
+    /**
+     * The last version of a representation waiting to be written.
+     *
+     * @author sbegaudeau
+     */
+    private record PendingSave(UUID projectId, IRepresentation representation) {
+    }
+
+    /**
+     * The hash of the content and the label last written for a representation.
+     *
+     * @author sbegaudeau
+     */
+    private record WrittenRepresentation(String contentHash, String label) {
+    }
 }
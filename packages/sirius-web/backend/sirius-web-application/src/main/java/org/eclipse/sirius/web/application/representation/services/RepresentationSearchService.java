@@ -20,7 +20,6 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
 import org.eclipse.sirius.components.collaborative.representations.migration.IRepresentationMigrationParticipant;
@@ -29,6 +28,7 @@ import org.eclipse.sirius.components.collaborative.representations.migration.Rep
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationContentFlushService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataUpdateService;
@@ -52,7 +52,11 @@ public class RepresentationSearchService implements IRepresentationSearchService
 
     private final List<IRepresentationMigrationParticipant> migrationParticipants;
 
-    public RepresentationSearchService(IRepresentationDataSearchService representationDataSearchService, ObjectMapper objectMapper, List<IRepresentationMigrationParticipant> migrationParticipants, IRepresentationDataUpdateService representationDataUpdateService) {
+    private final IRepresentationContentFlushService representationContentFlushService;
+
+    public RepresentationSearchService(IRepresentationDataSearchService representationDataSearchService, ObjectMapper objectMapper, List<IRepresentationMigrationParticipant> migrationParticipants, IRepresentationDataUpdateService representationDataUpdateService,
+            IRepresentationContentFlushService representationContentFlushService) {
+        this.representationContentFlushService = Objects.requireNonNull(representationContentFlushService);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.migrationParticipants = Objects.requireNonNull(migrationParticipants);
         this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
@@ -60,48 +64,44 @@ public class RepresentationSearchService implements IRepresentationSearchService
 
     @Override
     public <T extends IRepresentation> Optional<T> findById(IEditingContext editingContext, String representationId, Class<T> representationClass) {
-        return new UUIDParser().parse(representationId)
+        var optionalRepresentationId = new UUIDParser().parse(representationId);
+        optionalRepresentationId.ifPresent(this.representationContentFlushService::flush);
+
+        return optionalRepresentationId
                 .flatMap(this.representationDataSearchService::findById)
-                .map(RepresentationData::getContent)
-                .map(this::migrateContent)
                 .flatMap(this::toRepresentation)
                 .filter(representationClass::isInstance)
                 .map(representationClass::cast);
     }
 
+    @Override
+    public boolean existsById(IEditingContext editingContext, String representationId) {
+        return new UUIDParser().parse(representationId)
+                .map(this.representationDataSearchService::existsById)
+                .orElse(false);
+    }
 
-    private Optional<IRepresentation> toRepresentation(String content) {
+    /**
+     * Migrates and deserializes the content of the representation data using a single JSON tree.
+     */
+    private Optional<IRepresentation> toRepresentation(RepresentationData representationData) {
         Optional<IRepresentation> optionalRepresentation = Optional.empty();
 
         try {
-            IRepresentation representation = this.objectMapper.readValue(content, IRepresentation.class);
-            optionalRepresentation = Optional.of(representation);
-        } catch (JsonProcessingException exception) {
+            JsonNode rootJsonNode = this.objectMapper.readTree(representationData.getContent());
+            if (rootJsonNode instanceof ObjectNode rootObjectNode) {
+                var migrationData = new RepresentationMigrationData(representationData.getLastMigrationPerformed(), representationData.getMigrationVersion());
+                var migrationService = new RepresentationMigrationService(this.migrationParticipants, migrationData, rootObjectNode);
+                if (migrationService.isMigrationNeeded()) {
+                    migrationService.parseProperties(rootObjectNode, this.objectMapper);
+                }
+            }
+
+            IRepresentation representation = this.objectMapper.treeToValue(rootJsonNode, IRepresentation.class);
+            optionalRepresentation = Optional.ofNullable(representation);
+        } catch (JsonProcessingException | IllegalArgumentException exception) {
             this.logger.warn(exception.getMessage(), exception);
         }
         return optionalRepresentation;
     }
-
-    private String migrateContent(String content) {
-        try {
-            JsonNode rootJsonNode = this.objectMapper.readTree(content);
-            ObjectNode rootObjectNode = (ObjectNode) rootJsonNode;
-            var id = rootJsonNode.get("id").asText();
-            var representationData = this.representationDataSearchService.findById(UUID.fromString(id));
-
-            if (representationData.isPresent()) {
-                var lastMigrationPerformed = representationData.get().getLastMigrationPerformed();
-                var migrationVersion = representationData.get().getMigrationVersion();
-                var migrationData = new RepresentationMigrationData(lastMigrationPerformed, migrationVersion);
-                var migrationService = new RepresentationMigrationService(migrationParticipants, migrationData, rootObjectNode);
-                migrationService.parseProperties(rootObjectNode, this.objectMapper);
-                return rootObjectNode.toString();
-            }
-        }
-        catch (JsonProcessingException | IllegalArgumentException exception) {
-            this.logger.warn(exception.getMessage());
-        }
-        return content;
-    }
-
 }
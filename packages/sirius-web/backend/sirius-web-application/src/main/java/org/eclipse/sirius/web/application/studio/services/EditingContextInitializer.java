@@ -17,24 +17,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
-import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
 import org.eclipse.sirius.components.domain.Domain;
-import org.eclipse.sirius.components.domain.DomainPackage;
 import org.eclipse.sirius.components.domain.emf.DomainConverter;
-import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
-import org.eclipse.sirius.components.view.View;
-import org.eclipse.sirius.components.view.ViewPackage;
-import org.eclipse.sirius.components.view.deck.DeckPackage;
-import org.eclipse.sirius.components.view.diagram.DiagramPackage;
-import org.eclipse.sirius.components.view.form.FormPackage;
-import org.eclipse.sirius.components.view.gantt.GanttPackage;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
-import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
 import org.eclipse.sirius.web.application.studio.services.api.IDomainProvider;
-import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioArtifactsCache;
 import org.springframework.stereotype.Service;
 
 /**
@@ -45,61 +35,35 @@ import org.springframework.stereotype.Service;
 @Service
 public class EditingContextInitializer implements IEditingContextProcessor {
 
-    private final ISemanticDataSearchService semanticDataSearchService;
-
-    private final IResourceLoader resourceLoader;
+    private final IStudioArtifactsCache studioArtifactsCache;
 
     private final List<IDomainProvider> domainProviders;
 
-    public EditingContextInitializer(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, List<IDomainProvider> domainProviders) {
-        this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
-        this.resourceLoader = Objects.requireNonNull(resourceLoader);
+    public EditingContextInitializer(IStudioArtifactsCache studioArtifactsCache, List<IDomainProvider> domainProviders) {
+        this.studioArtifactsCache = Objects.requireNonNull(studioArtifactsCache);
         this.domainProviders = Objects.requireNonNull(domainProviders);
     }
 
     @Override
     public void preProcess(IEditingContext editingContext) {
         if (editingContext instanceof EditingContext siriusWebEditingContext) {
-            List<Domain> domains = new ArrayList<>();
-
-            this.domainProviders.stream()
+            List<Domain> providedDomains = this.domainProviders.stream()
                     .map(domainProvider -> domainProvider.getDomains(siriusWebEditingContext))
                     .flatMap(Collection::stream)
-                    .forEach(domains::add);
-
-            List<View> views = new ArrayList<>();
+                    .toList();
 
-            var allSemanticData = this.semanticDataSearchService.findAllByDomains(List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI));
-            for (var semanticData: allSemanticData) {
-                ResourceSet resourceSet = new ResourceSetImpl();
+            var studioArtifacts = this.studioArtifactsCache.getStudioArtifacts();
+            siriusWebEditingContext.getViews().addAll(studioArtifacts.views());
 
-                resourceSet.getPackageRegistry().put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(DeckPackage.eNS_URI, DeckPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(FormPackage.eNS_URI, FormPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(GanttPackage.eNS_URI, GanttPackage.eINSTANCE);
-
-                semanticData.getDocuments().forEach(document -> this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent()));
-                resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
-
-                var treeIterator = resourceSet.getAllContents();
-                while (treeIterator.hasNext()) {
-                    var next = treeIterator.next();
-                    if (next instanceof View view) {
-                        views.add(view);
-                        treeIterator.prune();
-                    } else if (next instanceof Domain domain) {
-                        domains.add(domain);
-                        treeIterator.prune();
-                    }
-                }
+            List<EPackage> ePackages = studioArtifacts.ePackages();
+            if (!providedDomains.isEmpty()) {
+                List<Domain> domains = new ArrayList<>(providedDomains);
+                domains.addAll(studioArtifacts.domains());
+                ePackages = new DomainConverter().convert(domains).toList();
             }
 
-            siriusWebEditingContext.getViews().addAll(views);
-
             var resourceSet = siriusWebEditingContext.getDomain().getResourceSet();
-            new DomainConverter().convert(domains).forEach(ePackage -> resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage));
+            ePackages.forEach(ePackage -> resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage));
         }
     }
 }
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.domain.DomainPackage;
+import org.eclipse.sirius.components.domain.emf.DomainConverter;
+import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewPackage;
+import org.eclipse.sirius.components.view.deck.DeckPackage;
+import org.eclipse.sirius.components.view.diagram.DiagramPackage;
+import org.eclipse.sirius.components.view.form.FormPackage;
+import org.eclipse.sirius.components.view.gantt.GanttPackage;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioArtifactsCache;
+import org.eclipse.sirius.web.application.studio.services.api.StudioArtifacts;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataMetadataOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataDocumentsUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps the domains and views of the studios in memory in order to share them between all the editing contexts.
+ *
+ * <p>
+ * The artifacts of each semantic data are identified by the id of the semantic data and the date of their last
+ * modification. Only the id and the date of the last modification of the semantic data containing domains or views are
+ * retrieved when an editing context is loaded, the documents of some semantic data are only loaded and parsed again
+ * if they have changed. Since the artifacts are shared, all their proxies are resolved once while they are loaded and
+ * they must never be modified afterward.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class StudioArtifactsCache implements IStudioArtifactsCache {
+
+    private static final String COUNTER_METRIC_NAME = "siriusweb_studio_artifacts_cache";
+
+    private static final String RESULT = "result";
+
+    private final ISemanticDataSearchService semanticDataSearchService;
+
+    private final IResourceLoader resourceLoader;
+
+    private final Map<UUID, CacheEntry> semanticDataIdToEntry = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private volatile ConvertedDomains convertedDomains = new ConvertedDomains(Map.of(), List.of());
+
+    public StudioArtifactsCache(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, MeterRegistry meterRegistry) {
+        this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
+        this.resourceLoader = Objects.requireNonNull(resourceLoader);
+
+        // @formatter:off
+        this.hitCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(RESULT, "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(RESULT, "miss")
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    @Override
+    public StudioArtifacts getStudioArtifacts() {
+        var allMetadata = this.semanticDataSearchService.findAllMetadataByDomains(List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI));
+
+        Map<UUID, Instant> versions = new LinkedHashMap<>();
+        List<Domain> domains = new ArrayList<>();
+        List<View> views = new ArrayList<>();
+        for (var metadata : allMetadata) {
+            var optionalCacheEntry = this.getCacheEntry(metadata);
+            optionalCacheEntry.ifPresent(cacheEntry -> {
+                versions.put(metadata.id(), cacheEntry.version());
+                domains.addAll(cacheEntry.domains());
+                views.addAll(cacheEntry.views());
+            });
+        }
+        this.semanticDataIdToEntry.keySet().retainAll(versions.keySet());
+
+        return new StudioArtifacts(Map.copyOf(versions), List.copyOf(domains), List.copyOf(views), this.getEPackages(versions, domains));
+    }
+
+    private Optional<CacheEntry> getCacheEntry(SemanticDataMetadataOnly metadata) {
+        var cacheEntry = this.semanticDataIdToEntry.get(metadata.id());
+        if (cacheEntry != null && cacheEntry.version().equals(metadata.lastModifiedOn())) {
+            this.hitCounter.increment();
+        } else {
+            this.missCounter.increment();
+            cacheEntry = this.semanticDataSearchService.findById(metadata.id())
+                    .map(this::load)
+                    .orElse(null);
+            if (cacheEntry != null) {
+                this.semanticDataIdToEntry.put(metadata.id(), cacheEntry);
+            }
+        }
+        return Optional.ofNullable(cacheEntry);
+    }
+
+    private CacheEntry load(SemanticData semanticData) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+
+        resourceSet.getPackageRegistry().put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(DeckPackage.eNS_URI, DeckPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(FormPackage.eNS_URI, FormPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(GanttPackage.eNS_URI, GanttPackage.eINSTANCE);
+
+        semanticData.getDocuments().forEach(document -> this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent()));
+        resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+        EcoreUtil.resolveAll(resourceSet);
+
+        List<Domain> domains = new ArrayList<>();
+        List<View> views = new ArrayList<>();
+
+        var treeIterator = resourceSet.getAllContents();
+        while (treeIterator.hasNext()) {
+            var next = treeIterator.next();
+            if (next instanceof View view) {
+                views.add(view);
+                treeIterator.prune();
+            } else if (next instanceof Domain domain) {
+                domains.add(domain);
+                treeIterator.prune();
+            }
+        }
+
+        return new CacheEntry(semanticData.getLastModifiedOn(), List.copyOf(domains), List.copyOf(views));
+    }
+
+    /**
+     * Returns the packages converted from the given domains, they are only converted again if some of the semantic data
+     * containing them have changed.
+     */
+    private List<EPackage> getEPackages(Map<UUID, Instant> versions, List<Domain> domains) {
+        var currentConvertedDomains = this.convertedDomains;
+        if (!currentConvertedDomains.versions().equals(versions)) {
+            currentConvertedDomains = new ConvertedDomains(Map.copyOf(versions), new DomainConverter().convert(domains).toList());
+            this.convertedDomains = currentConvertedDomains;
+        }
+        return currentConvertedDomains.ePackages();
+    }
+
+    @TransactionalEventListener
+    public void onSemanticDataUpdatedEvent(SemanticDataUpdatedEvent event) {
+        this.semanticDataIdToEntry.remove(event.semanticData().getId());
+    }
+
+    @TransactionalEventListener
+    public void onSemanticDataDocumentsUpdatedEvent(SemanticDataDocumentsUpdatedEvent event) {
+        this.semanticDataIdToEntry.remove(event.semanticDataId());
+    }
+
+    /**
+     * The domains and views of some semantic data.
+     *
+     * @author sbegaudeau
+     */
+    private record CacheEntry(Instant version, List<Domain> domains, List<View> views) {
+    }
+
+    /**
+     * The packages converted from the domains of some versions of the semantic data.
+     *
+     * @author sbegaudeau
+     */
+    private record ConvertedDomains(Map<UUID, Instant> versions, List<EPackage> ePackages) {
+    }
+}
@@ -19,8 +19,9 @@ import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
-import org.eclipse.sirius.components.view.emf.IViewConverter;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioArtifactsCache;
+import org.eclipse.sirius.web.application.studio.services.api.IViewRepresentationDescriptionsCache;
 import org.springframework.stereotype.Service;
 
 /**
@@ -31,17 +32,21 @@ import org.springframework.stereotype.Service;
 @Service
 public class ViewBasedRepresentationDescriptionConverter implements IEditingContextProcessor {
 
-    private final IViewConverter viewConverter;
+    private final IStudioArtifactsCache studioArtifactsCache;
 
-    public ViewBasedRepresentationDescriptionConverter(IViewConverter viewConverter) {
-        this.viewConverter = viewConverter;
+    private final IViewRepresentationDescriptionsCache viewRepresentationDescriptionsCache;
+
+    public ViewBasedRepresentationDescriptionConverter(IStudioArtifactsCache studioArtifactsCache, IViewRepresentationDescriptionsCache viewRepresentationDescriptionsCache) {
+        this.studioArtifactsCache = Objects.requireNonNull(studioArtifactsCache);
+        this.viewRepresentationDescriptionsCache = Objects.requireNonNull(viewRepresentationDescriptionsCache);
     }
+
     @Override
     public void postProcess(IEditingContext editingContext) {
         if (editingContext instanceof EditingContext siriusWebEditingContext) {
+            var studioArtifacts = this.studioArtifactsCache.getStudioArtifacts();
             List<EPackage> accessibleEPackages = this.getAccessibleEPackages(siriusWebEditingContext.getDomain());
-            this.viewConverter.convert(siriusWebEditingContext.getViews(), accessibleEPackages).stream()
-                    .filter(Objects::nonNull)
+            this.viewRepresentationDescriptionsCache.getRepresentationDescriptions(studioArtifacts, siriusWebEditingContext.getViews(), accessibleEPackages)
                     .forEach(representationDescription -> siriusWebEditingContext.getRepresentationDescriptions().put(representationDescription.getId(), representationDescription));
         }
     }
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.domain.DomainPackage;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewPackage;
+import org.eclipse.sirius.components.view.emf.IViewConverter;
+import org.eclipse.sirius.web.application.studio.services.api.IViewRepresentationDescriptionsCache;
+import org.eclipse.sirius.web.application.studio.services.api.StudioArtifacts;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataDocumentsUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataUpdatedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps the representation descriptions converted from the views in order to share them between the editing contexts.
+ *
+ * <p>
+ * The converted representation descriptions are identified by the id and the date of the last modification of the
+ * semantic data of the studios, by the other views, which are shared by their providers, and by the namespace URIs of
+ * the visible packages. A conversion is only shared if all its packages are shared too, that is if they have been
+ * converted from the domains of the studios or if they are registered globally. The packages converted with the domains
+ * of an {@link org.eclipse.sirius.web.application.studio.services.api.IDomainProvider} are specific to an editing
+ * context, their conversions are thus neither kept nor used to evict the shared ones. Only the most recently used
+ * conversions are kept and all of them are forgotten when a studio changes since they will not be used anymore.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class ViewRepresentationDescriptionsCache implements IViewRepresentationDescriptionsCache {
+
+    private static final int MAXIMUM_SIZE = 32;
+
+    private static final String COUNTER_METRIC_NAME = "siriusweb_view_representation_descriptions_cache";
+
+    private static final String RESULT = "result";
+
+    private static final List<String> STUDIO_DOMAIN_URIS = List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI);
+
+    private final IViewConverter viewConverter;
+
+    private final EPackage.Registry globalEPackageRegistry;
+
+    private final Map<ConversionKey, List<IRepresentationDescription>> conversions = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ConversionKey, List<IRepresentationDescription>> eldest) {
+            return this.size() > MAXIMUM_SIZE;
+        }
+    };
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Counter bypassCounter;
+
+    public ViewRepresentationDescriptionsCache(IViewConverter viewConverter, EPackage.Registry globalEPackageRegistry, MeterRegistry meterRegistry) {
+        this.viewConverter = Objects.requireNonNull(viewConverter);
+        this.globalEPackageRegistry = Objects.requireNonNull(globalEPackageRegistry);
+
+        // @formatter:off
+        this.hitCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(RESULT, "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(RESULT, "miss")
+                .register(meterRegistry);
+        this.bypassCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(RESULT, "bypass")
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    @Override
+    public List<IRepresentationDescription> getRepresentationDescriptions(StudioArtifacts studioArtifacts, List<View> views, List<EPackage> visibleEPackages) {
+        List<IRepresentationDescription> representationDescriptions;
+        if (this.isShared(studioArtifacts, views, visibleEPackages)) {
+            representationDescriptions = this.getSharedRepresentationDescriptions(studioArtifacts, views, visibleEPackages);
+        } else {
+            this.bypassCounter.increment();
+            representationDescriptions = this.convert(views, visibleEPackages);
+        }
+        return representationDescriptions;
+    }
+
+    @Override
+    public void invalidate() {
+        synchronized (this.conversions) {
+            this.conversions.clear();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onSemanticDataUpdatedEvent(SemanticDataUpdatedEvent event) {
+        boolean isStudio = event.semanticData().getDomains().stream().anyMatch(domain -> STUDIO_DOMAIN_URIS.contains(domain.uri()));
+        if (isStudio) {
+            this.invalidate();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onSemanticDataDocumentsUpdatedEvent(SemanticDataDocumentsUpdatedEvent event) {
+        boolean isStudio = event.domainUris().stream().anyMatch(STUDIO_DOMAIN_URIS::contains);
+        if (isStudio) {
+            this.invalidate();
+        }
+    }
+
+    private List<IRepresentationDescription> getSharedRepresentationDescriptions(StudioArtifacts studioArtifacts, List<View> views, List<EPackage> visibleEPackages) {
+        var otherViews = views.stream()
+                .filter(view -> !studioArtifacts.views().contains(view))
+                .toList();
+        var nsURIs = visibleEPackages.stream()
+                .map(EPackage::getNsURI)
+                .collect(Collectors.toUnmodifiableSet());
+        var conversionKey = new ConversionKey(studioArtifacts.versions(), otherViews, nsURIs);
+
+        List<IRepresentationDescription> representationDescriptions;
+        synchronized (this.conversions) {
+            representationDescriptions = this.conversions.get(conversionKey);
+        }
+
+        if (representationDescriptions != null) {
+            this.hitCounter.increment();
+        } else {
+            this.missCounter.increment();
+            representationDescriptions = this.convert(views, visibleEPackages);
+            synchronized (this.conversions) {
+                this.conversions.put(conversionKey, representationDescriptions);
+            }
+        }
+        return representationDescriptions;
+    }
+
+    /**
+     * Indicates if the given views and packages are the ones shared by all the editing contexts using the given studios.
+     */
+    private boolean isShared(StudioArtifacts studioArtifacts, List<View> views, List<EPackage> visibleEPackages) {
+        return views.containsAll(studioArtifacts.views()) && visibleEPackages.stream().allMatch(ePackage -> this.isShared(studioArtifacts, ePackage));
+    }
+
+    private boolean isShared(StudioArtifacts studioArtifacts, EPackage ePackage) {
+        var nsURI = ePackage.getNsURI();
+        return studioArtifacts.ePackages().contains(ePackage) || this.globalEPackageRegistry.get(nsURI) == ePackage || EPackage.Registry.INSTANCE.get(nsURI) == ePackage;
+    }
+
+    private List<IRepresentationDescription> convert(List<View> views, List<EPackage> visibleEPackages) {
+        return this.viewConverter.convert(views, visibleEPackages).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * The versions of the semantic data of the studios, the other views, compared using their identity, and the
+     * namespace URIs of the visible packages of a conversion.
+     *
+     * @author sbegaudeau
+     */
+    private record ConversionKey(Map<UUID, Instant> studioVersions, List<View> otherViews, Set<String> nsURIs) {
+    }
+}
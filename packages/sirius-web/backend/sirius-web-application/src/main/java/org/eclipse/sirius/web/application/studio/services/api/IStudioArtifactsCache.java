@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services.api;
+
+/**
+ * Used to share the domains and views of the studios between all the editing contexts.
+ *
+ * <p>
+ * The artifacts returned are shared and must thus never be modified.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IStudioArtifactsCache {
+    StudioArtifacts getStudioArtifacts();
+}
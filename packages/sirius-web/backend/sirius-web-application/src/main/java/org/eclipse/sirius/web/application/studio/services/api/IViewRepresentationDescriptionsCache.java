@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services.api;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.view.View;
+
+/**
+ * Used to share the representation descriptions converted from the same views between all the editing contexts.
+ *
+ * @author sbegaudeau
+ */
+public interface IViewRepresentationDescriptionsCache {
+
+    /**
+     * Returns the representation descriptions converted from the given views, the views are only converted if they have
+     * not already been converted with the same versions of the studios and the same visible packages.
+     */
+    List<IRepresentationDescription> getRepresentationDescriptions(StudioArtifacts studioArtifacts, List<View> views, List<EPackage> visibleEPackages);
+
+    /**
+     * Forgets all the representation descriptions converted, used when the studios have changed.
+     */
+    void invalidate();
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services.api;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.view.View;
+
+/**
+ * The domains and views defined in the studios along with the packages converted from these domains and the date of the
+ * last modification of each semantic data containing them.
+ *
+ * @author sbegaudeau
+ */
+public record StudioArtifacts(Map<UUID, Instant> versions, List<Domain> domains, List<View> views, List<EPackage> ePackages) {
+    public StudioArtifacts {
+        Objects.requireNonNull(versions);
+        Objects.requireNonNull(domains);
+        Objects.requireNonNull(views);
+        Objects.requireNonNull(ePackages);
+    }
+}
@@ -12,23 +12,27 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.validation.services;
 
-import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EValidator;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.Diagnostician;
-import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.emf.edit.provider.IItemLabelProvider;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IValidationService;
+import org.eclipse.sirius.components.domain.DomainPackage;
+import org.eclipse.sirius.components.emf.services.DiagnosticCacheListener;
+import org.eclipse.sirius.components.emf.services.SemanticContentAdapter;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.web.application.validation.OnValidationEnabled;
 import org.springframework.context.annotation.Conditional;
@@ -63,16 +67,18 @@ public class EMFValidationService implements IValidationService {
 
     @Override
     public List<Object> validate(Object object, Object feature) {
-        if (object instanceof EObject) {
+        if (object instanceof EObject eObject) {
             Diagnostician diagnostician = this.getNewDiagnostician();
-            Diagnostic diagnostic = diagnostician.validate((EObject) object);
-            if (Diagnostic.OK != diagnostic.getSeverity()) {
-                return diagnostic.getChildren().stream()
-                        .filter(diag -> this.filterDiagnosticByObject(diag, object))
-                        .filter(diag -> this.filterDiagnosticByFeature(diag, feature))
-                        .map(Object.class::cast)
-                        .toList();
-            }
+            List<Diagnostic> diagnostics = Optional.ofNullable(eObject.eResource())
+                    .map(Resource::getResourceSet)
+                    .map(this::getDiagnosticCacheListener)
+                    .map(diagnosticCacheListener -> diagnosticCacheListener.getDiagnostics(eObject, eObjectToValidate -> this.validateWithoutContents(diagnostician, eObjectToValidate)))
+                    .orElseGet(() -> this.validateWithoutContents(diagnostician, eObject));
+            return diagnostics.stream()
+                    .filter(diag -> this.filterDiagnosticByObject(diag, object))
+                    .filter(diag -> this.filterDiagnosticByFeature(diag, feature))
+                    .map(Object.class::cast)
+                    .toList();
         }
 
         return List.of();
@@ -95,22 +101,40 @@ public class EMFValidationService implements IValidationService {
     }
 
     private List<Object> validate(IEMFEditingContext editingContext) {
-        AdapterFactoryEditingDomain domain = editingContext.getDomain();
-
-        Map<Object, Object> options = new HashMap<>();
-        options.put(Diagnostician.VALIDATE_RECURSIVELY, true);
+        ResourceSet resourceSet = editingContext.getDomain().getResourceSet();
         Diagnostician diagnostician = this.getNewDiagnostician();
 
-        return domain.getResourceSet().getResources().stream()
-                .map(Resource::getContents)
-                .flatMap(Collection::stream)
-                .map(eObject -> diagnostician.validate(eObject, options))
-                .map(Diagnostic::getChildren)
-                .flatMap(Collection::stream)
+        // Only the objects modified since the previous validation are validated again
+        return this.getDiagnosticCacheListener(resourceSet).getAllDiagnostics(eObject -> this.validateWithoutContents(diagnostician, eObject)).stream()
                 .map(Object.class::cast)
                 .toList();
     }
 
+    private List<Diagnostic> validateWithoutContents(Diagnostician diagnostician, EObject eObject) {
+        BasicDiagnostic diagnostic = diagnostician.createDefaultDiagnostic(eObject);
+        diagnostician.validate(eObject, diagnostic, diagnostician.createDefaultContext());
+        return diagnostic.getChildren();
+    }
+
+    private DiagnosticCacheListener getDiagnosticCacheListener(ResourceSet resourceSet) {
+        SemanticContentAdapter semanticContentAdapter;
+        if (EcoreUtil.getExistingAdapter(resourceSet, SemanticContentAdapter.class) instanceof SemanticContentAdapter existingSemanticContentAdapter) {
+            semanticContentAdapter = existingSemanticContentAdapter;
+        } else {
+            semanticContentAdapter = new SemanticContentAdapter();
+            resourceSet.eAdapters().add(semanticContentAdapter);
+        }
+
+        var optionalDiagnosticCacheListener = semanticContentAdapter.getListener(DiagnosticCacheListener.class);
+        if (optionalDiagnosticCacheListener.isPresent()) {
+            return optionalDiagnosticCacheListener.get();
+        }
+        // The descriptions of the views refer to the entities of the domains using their names
+        DiagnosticCacheListener diagnosticCacheListener = new DiagnosticCacheListener(eObject -> eObject.eClass().getEPackage() == DomainPackage.eINSTANCE);
+        semanticContentAdapter.addListener(diagnosticCacheListener);
+        return diagnosticCacheListener;
+    }
+
     private Diagnostician getNewDiagnostician() {
         return new Diagnostician(this.eValidatorRegistry) {
             @Override
@@ -122,6 +146,12 @@ public class EMFValidationService implements IValidationService {
 
                 return super.getObjectLabel(eObject);
             }
+
+            @Override
+            protected boolean doValidateContents(EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context) {
+                // The contents are validated on their own to let the diagnostics of each object be cached
+                return true;
+            }
         };
     }
 }
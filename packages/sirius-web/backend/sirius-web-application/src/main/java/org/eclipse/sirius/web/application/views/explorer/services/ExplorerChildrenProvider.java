@@ -15,40 +15,51 @@ package org.eclipse.sirius.web.application.views.explorer.services;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.sirius.components.core.RepresentationMetadata;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IObjectService;
-import org.eclipse.sirius.components.core.api.IRepresentationMetadataSearchService;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.trees.renderer.TreeRenderer;
+import org.eclipse.sirius.web.application.UUIDParser;
 import org.eclipse.sirius.web.application.views.explorer.services.api.IExplorerChildrenProvider;
 import org.eclipse.sirius.web.application.views.explorer.services.api.IExplorerTreeItemAlteredContentProvider;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadataOnly;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 
 /**
  * Implementation of {@link IExplorerChildrenProvider} for the Sirius Web Explorer view.
  *
+ * <p>
+ * The metadata of the representations of the project are retrieved once for each rendering of the explorer, instead
+ * of once for each object, and kept in the root variable manager of the tree.
+ * </p>
+ *
  * @author arichard
  */
 @Service
 public class ExplorerChildrenProvider implements IExplorerChildrenProvider {
 
-    private final IObjectService objectService;
+    private static final String REPRESENTATION_METADATA_INDEX = "explorerRepresentationMetadataIndex";
 
-    private final IRepresentationMetadataSearchService representationMetadataSearchService;
+    private final IObjectService objectService;
 
     private final IRepresentationDataSearchService representationDataSearchService;
 
     private final List<IExplorerTreeItemAlteredContentProvider> alteredContentProviders;
 
-    public ExplorerChildrenProvider(IObjectService objectService, IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationDataSearchService representationDataSearchService, List<IExplorerTreeItemAlteredContentProvider> alteredContentProviders) {
+    public ExplorerChildrenProvider(IObjectService objectService, IRepresentationDataSearchService representationDataSearchService, List<IExplorerTreeItemAlteredContentProvider> alteredContentProviders) {
         this.objectService = Objects.requireNonNull(objectService);
-        this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
         this.representationDataSearchService = Objects.requireNonNull(representationDataSearchService);
         this.alteredContentProviders = Objects.requireNonNull(alteredContentProviders);
     }
@@ -65,7 +76,7 @@ public class ExplorerChildrenProvider implements IExplorerChildrenProvider {
 
             if (!hasChildren) {
                 String id = this.objectService.getId(eObject);
-                hasChildren = this.representationDataSearchService.existAnyRepresentationForTargetObjectId(id);
+                hasChildren = this.getRepresentationMetadataIndex(variableManager).containsKey(id);
             }
         }
         return hasChildren;
@@ -104,8 +115,6 @@ public class ExplorerChildrenProvider implements IExplorerChildrenProvider {
         var optionalEditingContext = variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class);
 
         if (optionalEditingContext.isPresent()) {
-            IEditingContext editingContext = optionalEditingContext.get();
-
             String id = this.getTreeItemId(variableManager);
             if (expandedIds.contains(id)) {
                 Object self = variableManager.getVariables().get(VariableManager.SELF);
@@ -113,7 +122,7 @@ public class ExplorerChildrenProvider implements IExplorerChildrenProvider {
                 if (self instanceof Resource resource) {
                     result.addAll(resource.getContents());
                 } else if (self instanceof EObject) {
-                    var representationMetadata = new ArrayList<>(this.representationMetadataSearchService.findAllByTargetObjectId(editingContext, id));
+                    var representationMetadata = new ArrayList<>(this.getRepresentationMetadataIndex(variableManager).getOrDefault(id, List.of()));
                     representationMetadata.sort(Comparator.comparing(RepresentationMetadata::getLabel));
                     result.addAll(representationMetadata);
                     List<Object> contents = this.objectService.getContents(self);
@@ -124,6 +133,41 @@ public class ExplorerChildrenProvider implements IExplorerChildrenProvider {
         return result;
     }
 
+    /**
+     * Returns the metadata of the representations of the project indexed by the id of their target object.
+     *
+     * <p>
+     * The index is computed lazily and stored in the root variable manager, which only lives for a single rendering
+     * of the tree, in order to perform only one query per refresh.
+     * </p>
+     */
+    private Map<String, List<RepresentationMetadata>> getRepresentationMetadataIndex(VariableManager variableManager) {
+        VariableManager rootVariableManager = variableManager;
+        while (rootVariableManager.getParent() != null) {
+            rootVariableManager = rootVariableManager.getParent();
+        }
+
+        var optionalIndex = rootVariableManager.get(REPRESENTATION_METADATA_INDEX, RepresentationMetadataIndex.class);
+        if (optionalIndex.isEmpty()) {
+            var index = new RepresentationMetadataIndex(this.loadRepresentationMetadata(variableManager));
+            rootVariableManager.put(REPRESENTATION_METADATA_INDEX, index);
+            optionalIndex = Optional.of(index);
+        }
+        return optionalIndex.get().targetObjectIdToRepresentationMetadata();
+    }
+
+    private Map<String, List<RepresentationMetadata>> loadRepresentationMetadata(VariableManager variableManager) {
+        return variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class)
+                .flatMap(editingContext -> new UUIDParser().parse(editingContext.getId()))
+                .map(AggregateReference::<Project, UUID>to)
+                .map(this.representationDataSearchService::findAllMetadataByProject)
+                .orElse(List.of())
+                .stream()
+                .filter(representationData -> representationData.targetObjectId() != null)
+                .collect(Collectors.groupingBy(RepresentationDataMetadataOnly::targetObjectId,
+                        Collectors.mapping(representationData -> new RepresentationMetadata(representationData.id().toString(), representationData.kind(), representationData.label(), representationData.descriptionId()), Collectors.toList())));
+    }
+
     private List<String> getActiveFilterIds(VariableManager variableManager) {
         List<String> activeFilterIds;
         Object objects = variableManager.getVariables().get(TreeRenderer.ACTIVE_FILTER_IDS);
@@ -148,4 +192,12 @@ public class ExplorerChildrenProvider implements IExplorerChildrenProvider {
         }
         return id;
     }
+
+    /**
+     * The metadata of the representations of the project indexed by the id of their target object.
+     *
+     * @author sbegaudeau
+     */
+    private record RepresentationMetadataIndex(Map<String, List<RepresentationMetadata>> targetObjectIdToRepresentationMetadata) {
+    }
 }
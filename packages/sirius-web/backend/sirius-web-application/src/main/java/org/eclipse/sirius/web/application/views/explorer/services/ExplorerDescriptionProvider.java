@@ -22,6 +22,7 @@ import java.util.function.Predicate;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationImageProvider;
+import org.eclipse.sirius.components.collaborative.trees.api.TreeConfiguration;
 import org.eclipse.sirius.components.core.CoreImageConstants;
 import org.eclipse.sirius.components.core.RepresentationMetadata;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -112,9 +113,11 @@ public class ExplorerDescriptionProvider implements IEditingContextRepresentatio
     }
 
     private String getTreeId(VariableManager variableManager) {
-        List<?> expandedObjects = variableManager.get(TreeRenderer.EXPANDED, List.class).orElse(List.of());
-        List<?> activatedFilters = variableManager.get(TreeRenderer.ACTIVE_FILTER_IDS, List.class).orElse(List.of());
-        return this.getExplorerTreeId(expandedObjects, activatedFilters);
+        return variableManager.get(TreeConfiguration.TREE_ID, String.class).orElseGet(() -> {
+            List<?> expandedObjects = variableManager.get(TreeRenderer.EXPANDED, List.class).orElse(List.of());
+            List<?> activatedFilters = variableManager.get(TreeRenderer.ACTIVE_FILTER_IDS, List.class).orElse(List.of());
+            return this.getExplorerTreeId(expandedObjects, activatedFilters);
+        });
     }
 
     private String getExplorerTreeId(List<?> expandedObjects, List<?> activatedFilters) {
@@ -119,6 +119,13 @@ public class RepresentationData extends AbstractValidatingAggregateRoot<Represen
         }
     }
 
+    public void updateLabel(String newLabel) {
+        if (!Objects.equals(this.label, newLabel)) {
+            this.label = Objects.requireNonNull(newLabel);
+            this.lastModifiedOn = Instant.now();
+        }
+    }
+
     public void updateMigrationData(String newLastMigrationPerformed, String newMigrationVersion) {
         if (!Objects.equals(this.migrationVersion, newMigrationVersion)) {
             this.lastMigrationPerformed = Objects.requireNonNull(newLastMigrationPerformed);
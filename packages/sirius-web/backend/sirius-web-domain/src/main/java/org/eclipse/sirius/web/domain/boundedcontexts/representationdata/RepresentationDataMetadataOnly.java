@@ -0,0 +1,23 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.representationdata;
+
+import java.util.UUID;
+
+/**
+ * The metadata of some representation data, without their content.
+ *
+ * @author sbegaudeau
+ */
+public record RepresentationDataMetadataOnly(UUID id, String label, String kind, String targetObjectId, String descriptionId) {
+}
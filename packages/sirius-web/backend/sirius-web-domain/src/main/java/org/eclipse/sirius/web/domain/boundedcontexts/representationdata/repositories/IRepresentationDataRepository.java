@@ -17,6 +17,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadataOnly;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.ListPagingAndSortingRepository;
@@ -36,6 +37,13 @@ public interface IRepresentationDataRepository extends ListPagingAndSortingRepos
         """)
     List<RepresentationData> findAllByProjectId(UUID projectId);
 
+    @Query("""
+        SELECT representationData.id, representationData.label, representationData.kind, representationData.target_object_id, representationData.description_id
+        FROM representation_data representationData
+        WHERE representationData.project_id = :projectId
+        """)
+    List<RepresentationDataMetadataOnly> findAllMetadataByProjectId(UUID projectId);
+
     @Query("""
         SELECT representationData.project_id
         FROM representation_data representationData
@@ -19,6 +19,7 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadataOnly;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.repositories.IRepresentationDataRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
@@ -53,6 +54,11 @@ public class RepresentationDataSearchService implements IRepresentationDataSearc
         return this.representationDataRepository.findAllByProjectId(project.getId());
     }
 
+    @Override
+    public List<RepresentationDataMetadataOnly> findAllMetadataByProject(AggregateReference<Project, UUID> project) {
+        return this.representationDataRepository.findAllMetadataByProjectId(project.getId());
+    }
+
     @Override
     public boolean existAnyRepresentationForTargetObjectId(String targetObjectId) {
         return this.representationDataRepository.existAnyRepresentationForTargetObjectId(targetObjectId);
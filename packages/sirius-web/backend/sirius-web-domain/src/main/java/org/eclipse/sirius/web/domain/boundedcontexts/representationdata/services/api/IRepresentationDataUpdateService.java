@@ -26,4 +26,22 @@ public interface IRepresentationDataUpdateService {
     IResult<Void> updateContent(UUID id, String content);
 
     IResult<Void> updateContentWithMigrationData(UUID id, String content, String lastMigrationPerformed, String migrationVersion);
+
+    /**
+     * Updates the label, the content and the migration data of the given representation with a single load and a single
+     * save.
+     *
+     * @param id
+     *            The identifier of the representation
+     * @param label
+     *            The label of the representation
+     * @param content
+     *            The content of the representation
+     * @param lastMigrationPerformed
+     *            The last migration performed
+     * @param migrationVersion
+     *            The migration version
+     * @return A success or a failure if the representation does not exist
+     */
+    IResult<Void> updateLabelAndContentWithMigrationData(UUID id, String label, String content, String lastMigrationPerformed, String migrationVersion);
 }
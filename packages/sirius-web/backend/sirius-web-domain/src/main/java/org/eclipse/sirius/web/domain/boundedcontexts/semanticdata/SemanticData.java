@@ -13,6 +13,7 @@
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -135,7 +136,8 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
                 .map(SemanticDataDomain::new)
                 .collect(Collectors.toSet());
 
-        this.lastModifiedOn = Instant.now();
+        // The date is stored with the precision of the database so that it can be compared with the one read later
+        this.lastModifiedOn = Instant.now().truncatedTo(ChronoUnit.MICROS);
         this.registerEvent(new SemanticDataUpdatedEvent(UUID.randomUUID(), this.lastModifiedOn, this));
     }
 
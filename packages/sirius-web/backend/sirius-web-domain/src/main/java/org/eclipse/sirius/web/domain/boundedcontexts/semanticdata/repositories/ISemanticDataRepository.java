@@ -12,11 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataMetadataOnly;
+import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.ListPagingAndSortingRepository;
@@ -44,6 +47,13 @@ public interface ISemanticDataRepository extends ListPagingAndSortingRepository<
         """)
     Optional<SemanticData> findByProjectId(UUID projectId);
 
+    @Query("""
+        SELECT semanticData.id, semanticData.last_modified_on
+        FROM semantic_data semanticData
+        WHERE semanticData.project_id = :projectId
+        """)
+    Optional<SemanticDataMetadataOnly> findMetadataByProjectId(UUID projectId);
+
     @Query("""
         SELECT semanticData.*
         FROM semantic_data semanticData
@@ -53,4 +63,62 @@ public interface ISemanticDataRepository extends ListPagingAndSortingRepository<
         GROUP BY semanticData.id
         """)
     List<SemanticData> findAllByDomains(List<String> domainUris);
+
+    @Query("""
+        SELECT semanticData.id, semanticData.last_modified_on
+        FROM semantic_data semanticData
+        JOIN semantic_data_domain semanticDataDomain
+        ON semanticData.id = semanticDataDomain.semantic_data_id
+        WHERE semanticDataDomain.uri IN (:domainUris)
+        GROUP BY semanticData.id
+        """)
+    List<SemanticDataMetadataOnly> findAllMetadataByDomains(List<String> domainUris);
+
+    @Query("""
+        SELECT semanticDataDomain.uri
+        FROM semantic_data_domain semanticDataDomain
+        WHERE semanticDataDomain.semantic_data_id = :semanticDataId
+        """)
+    List<String> findDomainUris(UUID semanticDataId);
+
+    @Modifying
+    @Query("""
+        INSERT INTO document (id, semantic_data_id, name, content, created_on, last_modified_on)
+        VALUES (:documentId, :semanticDataId, :name, :content, :createdOn, :lastModifiedOn)
+        ON CONFLICT (id) DO UPDATE
+        SET name = :name, content = :content, last_modified_on = :lastModifiedOn
+        WHERE document.semantic_data_id = :semanticDataId
+        AND (document.name <> :name OR document.content <> :content)
+        """)
+    int upsertDocument(UUID semanticDataId, UUID documentId, String name, String content, Instant createdOn, Instant lastModifiedOn);
+
+    @Modifying
+    @Query("""
+        DELETE FROM document document
+        WHERE document.semantic_data_id = :semanticDataId
+        AND document.id IN (:documentIds)
+        """)
+    int deleteDocuments(UUID semanticDataId, List<UUID> documentIds);
+
+    @Modifying
+    @Query("""
+        DELETE FROM semantic_data_domain semanticDataDomain
+        WHERE semanticDataDomain.semantic_data_id = :semanticDataId
+        """)
+    void deleteDomains(UUID semanticDataId);
+
+    @Modifying
+    @Query("""
+        INSERT INTO semantic_data_domain (semantic_data_id, uri)
+        VALUES (:semanticDataId, :uri)
+        """)
+    void insertDomain(UUID semanticDataId, String uri);
+
+    @Modifying
+    @Query("""
+        UPDATE semantic_data
+        SET last_modified_on = :lastModifiedOn
+        WHERE id = :semanticDataId
+        """)
+    void updateLastModifiedOn(UUID semanticDataId, Instant lastModifiedOn);
 }
@@ -19,6 +19,7 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataMetadataOnly;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.ISemanticDataRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
@@ -48,8 +49,23 @@ public class SemanticDataSearchService implements ISemanticDataSearchService {
         return this.semanticDataRepository.findByProjectId(project.getId());
     }
 
+    @Override
+    public Optional<SemanticDataMetadataOnly> findMetadataByProject(AggregateReference<Project, UUID> project) {
+        return this.semanticDataRepository.findMetadataByProjectId(project.getId());
+    }
+
+    @Override
+    public Optional<SemanticData> findById(UUID id) {
+        return this.semanticDataRepository.findById(id);
+    }
+
     @Override
     public List<SemanticData> findAllByDomains(List<String> domainUris) {
         return this.semanticDataRepository.findAllByDomains(domainUris);
     }
+
+    @Override
+    public List<SemanticDataMetadataOnly> findAllMetadataByDomains(List<String> domainUris) {
+        return this.semanticDataRepository.findAllMetadataByDomains(domainUris);
+    }
 }
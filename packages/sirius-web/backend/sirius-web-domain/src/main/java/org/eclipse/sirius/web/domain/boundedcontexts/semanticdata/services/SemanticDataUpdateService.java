@@ -12,16 +12,24 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataMetadataOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataDocumentsUpdatedEvent;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.ISemanticDataRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataUpdateService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Used to update the semantic data.
@@ -33,15 +41,65 @@ public class SemanticDataUpdateService implements ISemanticDataUpdateService {
 
     private final ISemanticDataRepository semanticDataRepository;
 
-    public SemanticDataUpdateService(ISemanticDataRepository semanticDataRepository) {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SemanticDataUpdateService(ISemanticDataRepository semanticDataRepository, ApplicationEventPublisher applicationEventPublisher) {
         this.semanticDataRepository = Objects.requireNonNull(semanticDataRepository);
+        this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
     }
 
     @Override
-    public void updateDocuments(AggregateReference<Project, UUID> project, Set<Document> documents, Set<String> domainUris) {
-        this.semanticDataRepository.findByProjectId(project.getId()).ifPresent(semanticData -> {
+    public Optional<Instant> updateDocuments(AggregateReference<Project, UUID> project, Set<Document> documents, Set<String> domainUris) {
+        return this.semanticDataRepository.findByProjectId(project.getId()).flatMap(semanticData -> {
+            var previousLastModifiedOn = semanticData.getLastModifiedOn();
             semanticData.updateDocuments(documents, domainUris);
-            this.semanticDataRepository.save(semanticData);
+            var savedSemanticData = this.semanticDataRepository.save(semanticData);
+            return Optional.of(savedSemanticData.getLastModifiedOn())
+                    .filter(lastModifiedOn -> !lastModifiedOn.equals(previousLastModifiedOn));
         });
     }
+
+    @Override
+    @Transactional
+    public Optional<Instant> updateChangedDocuments(AggregateReference<Project, UUID> project, Set<Document> changedDocuments, Set<UUID> deletedDocumentIds, Set<String> domainUris) {
+        return this.semanticDataRepository.findMetadataByProjectId(project.getId())
+                .map(SemanticDataMetadataOnly::id)
+                .flatMap(semanticDataId -> this.persistChanges(semanticDataId, changedDocuments, deletedDocumentIds, domainUris));
+    }
+
+    /**
+     * Persists the changes without loading nor saving the whole aggregate since it would read and rewrite all its
+     * documents and domains.
+     *
+     * <p>
+     * The documents whose name and content have not changed are not rewritten. The date of the last modification of
+     * the semantic data and their domains are only updated if a document has been written or deleted.
+     * </p>
+     */
+    private Optional<Instant> persistChanges(UUID semanticDataId, Set<Document> changedDocuments, Set<UUID> deletedDocumentIds, Set<String> domainUris) {
+        Optional<Instant> optionalLastModifiedOn = Optional.empty();
+
+        int changesCount = 0;
+        for (var document : changedDocuments) {
+            changesCount += this.semanticDataRepository.upsertDocument(semanticDataId, document.getId(), document.getName(), document.getContent(), document.getCreatedOn(), document.getLastModifiedOn());
+        }
+        if (!deletedDocumentIds.isEmpty()) {
+            changesCount += this.semanticDataRepository.deleteDocuments(semanticDataId, List.copyOf(deletedDocumentIds));
+        }
+
+        if (changesCount > 0) {
+            var currentDomainUris = Set.copyOf(this.semanticDataRepository.findDomainUris(semanticDataId));
+            if (!currentDomainUris.equals(domainUris)) {
+                this.semanticDataRepository.deleteDomains(semanticDataId);
+                domainUris.forEach(domainUri -> this.semanticDataRepository.insertDomain(semanticDataId, domainUri));
+            }
+
+            // The date is stored with the precision of the database so that it can be compared with the one read later
+            var lastModifiedOn = Instant.now().truncatedTo(ChronoUnit.MICROS);
+            this.semanticDataRepository.updateLastModifiedOn(semanticDataId, lastModifiedOn);
+            this.applicationEventPublisher.publishEvent(new SemanticDataDocumentsUpdatedEvent(UUID.randomUUID(), lastModifiedOn, semanticDataId, Set.copyOf(domainUris)));
+            optionalLastModifiedOn = Optional.of(lastModifiedOn);
+        }
+        return optionalLastModifiedOn;
+    }
 }
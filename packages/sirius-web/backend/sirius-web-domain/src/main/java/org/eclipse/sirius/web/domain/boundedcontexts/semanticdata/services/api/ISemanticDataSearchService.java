@@ -18,6 +18,7 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataMetadataOnly;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 
 /**
@@ -31,5 +32,11 @@ public interface ISemanticDataSearchService {
 
     Optional<SemanticData> findByProject(AggregateReference<Project, UUID> project);
 
+    Optional<SemanticDataMetadataOnly> findMetadataByProject(AggregateReference<Project, UUID> project);
+
+    Optional<SemanticData> findById(UUID id);
+
     List<SemanticData> findAllByDomains(List<String> domainUris);
+
+    List<SemanticDataMetadataOnly> findAllMetadataByDomains(List<String> domainUris);
 }
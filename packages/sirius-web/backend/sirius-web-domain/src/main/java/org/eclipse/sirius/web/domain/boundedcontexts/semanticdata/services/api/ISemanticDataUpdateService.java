@@ -12,11 +12,15 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api;
 
+import java.time.Instant;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataDocumentsUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataUpdatedEvent;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 
 /**
@@ -25,5 +29,38 @@ import org.springframework.data.jdbc.core.mapping.AggregateReference;
  * @author sbegaudeau
  */
 public interface ISemanticDataUpdateService {
-    void updateDocuments(AggregateReference<Project, UUID> project, Set<Document> documents, Set<String> domainUris);
+    /**
+     * Replaces the documents and the domains of the semantic data if they have changed.
+     *
+     * @param project
+     *            The project of the semantic data
+     * @param documents
+     *            All the documents of the semantic data
+     * @param domainUris
+     *            The uris of all the domains used by the semantic data
+     * @return The date of the last modification of the semantic data written or an empty optional if nothing has been
+     *         written
+     */
+    Optional<Instant> updateDocuments(AggregateReference<Project, UUID> project, Set<Document> documents, Set<String> domainUris);
+
+    /**
+     * Persists only the documents which have changed along with the domains used if they have changed too.
+     *
+     * <p>
+     * The aggregate is not loaded, a {@link SemanticDataDocumentsUpdatedEvent} is thus published instead of a
+     * {@link SemanticDataUpdatedEvent} if some documents have been written or deleted.
+     * </p>
+     *
+     * @param project
+     *            The project of the semantic data
+     * @param changedDocuments
+     *            The documents which may have changed, the other documents are left untouched
+     * @param deletedDocumentIds
+     *            The identifiers of the documents which have been deleted
+     * @param domainUris
+     *            The uris of all the domains used by the semantic data
+     * @return The date of the last modification of the semantic data written or an empty optional if nothing has been
+     *         written
+     */
+    Optional<Instant> updateChangedDocuments(AggregateReference<Project, UUID> project, Set<Document> changedDocuments, Set<UUID> deletedDocumentIds, Set<String> domainUris);
 }
@@ -17,6 +17,7 @@ import java.util.List;
 
 import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
 import org.eclipse.sirius.components.graphql.api.InstantScalarType;
+import org.eclipse.sirius.components.graphql.api.SubscriptionEventInstrumentation;
 import org.eclipse.sirius.components.graphql.api.UploadScalarType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -69,6 +70,7 @@ public class GraphQLConfiguration {
         return GraphQL.newGraphQL(graphQLSchema)
                 .queryExecutionStrategy(queryExecutionStrategy)
                 .mutationExecutionStrategy(mutationExecutionStrategy)
+                .instrumentation(new SubscriptionEventInstrumentation())
                 .build();
         // @formatter:on
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Obeo.
+ * Copyright (c) 2021, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -52,4 +52,11 @@ public class RepresentationSearchService implements IRepresentationSearchService
                 .map(representationClass::cast);
         // @formatter:on
     }
+
+    @Override
+    public boolean existsById(IEditingContext editingContext, String representationId) {
+        return new IDParser().parse(representationId)
+                .map(this.representationRepository::existsById)
+                .orElse(false);
+    }
 }
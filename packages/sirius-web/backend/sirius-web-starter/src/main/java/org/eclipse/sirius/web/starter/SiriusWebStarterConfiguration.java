@@ -12,13 +12,18 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.starter;
 
+import java.util.List;
 import java.util.concurrent.Executors;
 
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextReadOnlyGuard;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationConfiguration;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManagerFactory;
+import org.eclipse.sirius.components.collaborative.editingcontext.RepresentationRefreshExecutor;
+import org.eclipse.sirius.components.collaborative.editingcontext.SharedEditingContextEventProcessorExecutorServiceProvider;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IRepresentationRefreshExecutor;
 import org.eclipse.sirius.components.collaborative.forms.WidgetSubscriptionManager;
 import org.eclipse.sirius.components.collaborative.forms.api.IWidgetSubscriptionManagerFactory;
 import org.eclipse.sirius.components.collaborative.representations.SubscriptionManager;
@@ -30,14 +35,17 @@ import org.eclipse.sirius.components.graphql.api.IExceptionWrapper;
 import org.eclipse.sirius.components.graphql.ws.api.IGraphQLWebSocketHandlerListener;
 import org.eclipse.sirius.components.web.concurrent.DelegatingRequestContextExecutorService;
 import org.eclipse.sirius.web.domain.services.api.IMessageService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import reactor.core.publisher.Flux;
 
 /**
@@ -70,8 +78,11 @@ import reactor.core.publisher.Flux;
 })
 public class SiriusWebStarterConfiguration {
 
+    private static final String EDITING_CONTEXT_EXECUTOR_MODE_PROPERTY = "sirius.components.editingContext.executor.mode";
+
     @Bean
     @ConditionalOnMissingBean(IEditingContextEventProcessorExecutorServiceProvider.class)
+    @ConditionalOnProperty(name = EDITING_CONTEXT_EXECUTOR_MODE_PROPERTY, havingValue = "dedicated", matchIfMissing = true)
     public IEditingContextEventProcessorExecutorServiceProvider editingContextEventProcessorExecutorServiceProvider() {
         return editingContext -> {
             var executorService = Executors.newSingleThreadExecutor((Runnable runnable) -> {
@@ -83,6 +94,21 @@ public class SiriusWebStarterConfiguration {
         };
     }
 
+    @Bean
+    @ConditionalOnMissingBean(IEditingContextEventProcessorExecutorServiceProvider.class)
+    @ConditionalOnProperty(name = EDITING_CONTEXT_EXECUTOR_MODE_PROPERTY, havingValue = "shared")
+    public IEditingContextEventProcessorExecutorServiceProvider sharedEditingContextEventProcessorExecutorServiceProvider(
+            @Value("${sirius.components.editingContext.executor.maxThreads:0}") int maxThreadCount) {
+        return new SharedEditingContextEventProcessorExecutorServiceProvider(DelegatingRequestContextExecutorService::new, maxThreadCount);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(IRepresentationRefreshExecutor.class)
+    public IRepresentationRefreshExecutor representationRefreshExecutor(@Value("${sirius.components.editingContext.refreshParallelism:1}") int refreshParallelism,
+            List<IEditingContextReadOnlyGuard> editingContextReadOnlyGuards, MeterRegistry meterRegistry) {
+        return new RepresentationRefreshExecutor(refreshParallelism, DelegatingRequestContextExecutorService::new, editingContextReadOnlyGuards, meterRegistry);
+    }
+
     @Bean
     @ConditionalOnMissingBean(ISubscriptionManagerFactory.class)
     public ISubscriptionManagerFactory subscriptionManagerFactory() {
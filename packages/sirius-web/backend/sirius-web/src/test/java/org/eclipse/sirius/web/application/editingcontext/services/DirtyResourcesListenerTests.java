@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.components.emf.services.SemanticContentAdapter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests of the {@link DirtyResourcesListener}.
+ *
+ * @author sbegaudeau
+ */
+public class DirtyResourcesListenerTests {
+
+    private static final String ECORE_URI = "http://www.eclipse.org/emf/2002/Ecore";
+
+    @Test
+    public void testResourcesDirtyUntilPersisted() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource firstResource = this.createResource(resourceSet, "First");
+        Resource secondResource = this.createResource(resourceSet, "Second");
+        DirtyResourcesListener dirtyResourcesListener = this.installDirtyResourcesListener(resourceSet);
+
+        assertThat(dirtyResourcesListener.isDirty(firstResource)).isTrue();
+        assertThat(dirtyResourcesListener.isDirty(secondResource)).isTrue();
+
+        dirtyResourcesListener.persisted(firstResource, Set.of(ECORE_URI));
+        dirtyResourcesListener.persisted(secondResource, Set.of(ECORE_URI));
+        assertThat(dirtyResourcesListener.isDirty(firstResource)).isFalse();
+        assertThat(dirtyResourcesListener.isDirty(secondResource)).isFalse();
+        assertThat(dirtyResourcesListener.getDomainUris(firstResource)).containsExactly(ECORE_URI);
+
+        EPackage ePackage = (EPackage) firstResource.getContents().get(0);
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(eClass);
+        assertThat(dirtyResourcesListener.isDirty(firstResource)).isTrue();
+        assertThat(dirtyResourcesListener.isDirty(secondResource)).isFalse();
+
+        dirtyResourcesListener.persisted(firstResource, Set.of(ECORE_URI));
+        eClass.setName("Renamed");
+        assertThat(dirtyResourcesListener.isDirty(firstResource)).isTrue();
+        assertThat(dirtyResourcesListener.isDirty(secondResource)).isFalse();
+    }
+
+    @Test
+    public void testRenamedResourceIsDirty() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = this.createResource(resourceSet, "Sample");
+        DirtyResourcesListener dirtyResourcesListener = this.installDirtyResourcesListener(resourceSet);
+        dirtyResourcesListener.persisted(resource, Set.of(ECORE_URI));
+
+        // The name of the document is not modified with a notification
+        resource.eAdapters().stream()
+                .filter(ResourceMetadataAdapter.class::isInstance)
+                .map(ResourceMetadataAdapter.class::cast)
+                .forEach(resourceMetadataAdapter -> resourceMetadataAdapter.setName("Sample Renamed"));
+        assertThat(dirtyResourcesListener.isDirty(resource)).isTrue();
+
+        dirtyResourcesListener.persisted(resource, Set.of(ECORE_URI));
+        assertThat(dirtyResourcesListener.isDirty(resource)).isFalse();
+    }
+
+    @Test
+    public void testAddedAndRemovedResources() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = this.createResource(resourceSet, "Sample");
+        DirtyResourcesListener dirtyResourcesListener = this.installDirtyResourcesListener(resourceSet);
+        dirtyResourcesListener.persisted(resource, Set.of(ECORE_URI));
+
+        Resource addedResource = this.createResource(resourceSet, "Added");
+        assertThat(dirtyResourcesListener.isDirty(addedResource)).isTrue();
+        assertThat(dirtyResourcesListener.isDirty(resource)).isFalse();
+
+        resourceSet.getResources().remove(resource);
+        assertThat(dirtyResourcesListener.getDomainUris(resource)).isEmpty();
+        assertThat(dirtyResourcesListener.takeRemovedResources()).containsExactly(resource);
+        assertThat(dirtyResourcesListener.takeRemovedResources()).isEmpty();
+
+        // A resource removed and added back is not deleted anymore but it has to be written again
+        resourceSet.getResources().remove(addedResource);
+        resourceSet.getResources().add(addedResource);
+        assertThat(dirtyResourcesListener.takeRemovedResources()).isEmpty();
+        assertThat(dirtyResourcesListener.isDirty(addedResource)).isTrue();
+    }
+
+    @Test
+    public void testDiscardedResourceIsNotDirty() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        Resource resource = this.createResource(resourceSet, "Sample");
+        DirtyResourcesListener dirtyResourcesListener = this.installDirtyResourcesListener(resourceSet);
+        dirtyResourcesListener.persisted(resource, Set.of(ECORE_URI));
+
+        ((EPackage) resource.getContents().get(0)).setName("Renamed");
+        dirtyResourcesListener.discard(resource);
+        assertThat(dirtyResourcesListener.isDirty(resource)).isFalse();
+        assertThat(dirtyResourcesListener.getDomainUris(resource)).containsExactly(ECORE_URI);
+    }
+
+    private Resource createResource(ResourceSet resourceSet, String name) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(name);
+
+        Resource resource = new JSONResourceFactory().createResourceFromPath(UUID.randomUUID().toString());
+        resource.eAdapters().add(new ResourceMetadataAdapter(name));
+        resource.getContents().add(ePackage);
+        resourceSet.getResources().add(resource);
+        return resource;
+    }
+
+    private DirtyResourcesListener installDirtyResourcesListener(ResourceSet resourceSet) {
+        var dirtyResourcesListener = new DirtyResourcesListener();
+        SemanticContentAdapter semanticContentAdapter = new SemanticContentAdapter();
+        semanticContentAdapter.addListener(dirtyResourcesListener);
+        resourceSet.eAdapters().add(semanticContentAdapter);
+        return dirtyResourcesListener;
+    }
+}
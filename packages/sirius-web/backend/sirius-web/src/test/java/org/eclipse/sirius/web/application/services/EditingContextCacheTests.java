@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.editingcontext.services.EditingContextCache;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioArtifactsCache;
+import org.eclipse.sirius.web.application.studio.services.api.StudioArtifacts;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataMetadataOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the cache of the editing contexts.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextCacheTests {
+
+    private final InMemorySemanticDataSearchService semanticDataSearchService = new InMemorySemanticDataSearchService();
+
+    private StudioArtifacts studioArtifacts = new StudioArtifacts(Map.of(), List.of(), List.of(), List.of());
+
+    private final IStudioArtifactsCache studioArtifactsCache = () -> this.studioArtifacts;
+
+    private final Set<IEditingContext> disposedEditingContexts = ConcurrentHashMap.newKeySet();
+
+    @Test
+    public void testLeastRecentlyUsedEditingContextEvictedWhenTheCacheIsFull() {
+        // Each editing context contains a single object and the cache can only keep two of them
+        var editingContextCache = new EditingContextCache(this.semanticDataSearchService, this.studioArtifactsCache, DataSize.ofKilobytes(2), new SimpleMeterRegistry());
+
+        var firstEditingContext = this.createEditingContext(List.of());
+        var secondEditingContext = this.createEditingContext(List.of());
+        var thirdEditingContext = this.createEditingContext(List.of());
+        editingContextCache.release(firstEditingContext);
+        editingContextCache.release(secondEditingContext);
+        editingContextCache.release(thirdEditingContext);
+
+        assertThat(this.disposedEditingContexts).containsExactly(firstEditingContext);
+        assertThat(editingContextCache.acquire(firstEditingContext.getId())).isEmpty();
+        assertThat(editingContextCache.acquire(secondEditingContext.getId())).containsSame(secondEditingContext);
+        assertThat(editingContextCache.acquire(thirdEditingContext.getId())).containsSame(thirdEditingContext);
+
+        // An editing context is removed from the cache once acquired
+        assertThat(editingContextCache.acquire(thirdEditingContext.getId())).isEmpty();
+        assertThat(this.disposedEditingContexts).containsExactly(firstEditingContext);
+    }
+
+    @Test
+    public void testEditingContextRejectedWhenItsSemanticDataHaveBeenModified() {
+        var editingContextCache = new EditingContextCache(this.semanticDataSearchService, this.studioArtifactsCache, DataSize.ofMegabytes(1), new SimpleMeterRegistry());
+
+        var editingContext = this.createEditingContext(List.of());
+        editingContextCache.release(editingContext);
+
+        // The semantic data have been modified by another instance of the application for example
+        this.semanticDataSearchService.modify(UUID.fromString(editingContext.getId()));
+
+        assertThat(this.disposedEditingContexts).isEmpty();
+        assertThat(editingContextCache.acquire(editingContext.getId())).isEmpty();
+        assertThat(this.disposedEditingContexts).containsExactly(editingContext);
+    }
+
+    @Test
+    public void testEditingContextRejectedWhenItsSemanticDataHaveBeenModifiedBeforeItsRelease() {
+        var editingContextCache = new EditingContextCache(this.semanticDataSearchService, this.studioArtifactsCache, DataSize.ofMegabytes(1), new SimpleMeterRegistry());
+
+        // The semantic data have been modified by another instance of the application while the editing context was used
+        var editingContext = this.createEditingContext(List.of());
+        this.semanticDataSearchService.modify(UUID.fromString(editingContext.getId()));
+        editingContextCache.release(editingContext);
+
+        assertThat(editingContextCache.acquire(editingContext.getId())).isEmpty();
+        assertThat(this.disposedEditingContexts).containsExactly(editingContext);
+    }
+
+    @Test
+    public void testEditingContextDisposedWhenItCannotBeKept() {
+        var editingContextCache = new EditingContextCache(this.semanticDataSearchService, this.studioArtifactsCache, DataSize.ofBytes(0), new SimpleMeterRegistry());
+
+        var editingContext = this.createEditingContext(List.of());
+        editingContextCache.release(editingContext);
+
+        assertThat(this.disposedEditingContexts).containsExactly(editingContext);
+        assertThat(editingContextCache.acquire(editingContext.getId())).isEmpty();
+    }
+
+    @Test
+    public void testEditingContextRejectedWhenTheStudiosHaveChanged() {
+        var editingContextCache = new EditingContextCache(this.semanticDataSearchService, this.studioArtifactsCache, DataSize.ofMegabytes(1), new SimpleMeterRegistry());
+
+        View view = ViewFactory.eINSTANCE.createView();
+        this.studioArtifacts = new StudioArtifacts(Map.of(), List.of(), List.of(view), List.of());
+        var editingContext = this.createEditingContext(List.of(view));
+        editingContextCache.release(editingContext);
+        assertThat(editingContextCache.acquire(editingContext.getId())).containsSame(editingContext);
+
+        editingContextCache.release(editingContext);
+        this.studioArtifacts = new StudioArtifacts(Map.of(), List.of(), List.of(ViewFactory.eINSTANCE.createView()), List.of());
+        assertThat(editingContextCache.acquire(editingContext.getId())).isEmpty();
+
+        // An editing context loaded without the views of the current studios is not even kept
+        editingContextCache.release(editingContext);
+        this.studioArtifacts = new StudioArtifacts(Map.of(), List.of(), List.of(view), List.of());
+        assertThat(editingContextCache.acquire(editingContext.getId())).isEmpty();
+    }
+
+    private EditingContext createEditingContext(List<View> views) {
+        UUID projectId = UUID.randomUUID();
+        this.semanticDataSearchService.modify(projectId);
+
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack());
+        Resource resource = new XMIResourceImpl(URI.createURI(projectId.toString()));
+        resource.getContents().add(EcoreFactory.eINSTANCE.createEPackage());
+        editingDomain.getResourceSet().getResources().add(resource);
+
+        var editingContext = new EditingContext(projectId.toString(), editingDomain, Map.of(), views) {
+            @Override
+            public void dispose() {
+                EditingContextCacheTests.this.disposedEditingContexts.add(this);
+            }
+        };
+        this.semanticDataSearchService.findMetadataByProject(AggregateReference.to(projectId))
+                .map(SemanticDataMetadataOnly::lastModifiedOn)
+                .ifPresent(editingContext::setVersion);
+        return editingContext;
+    }
+
+    /**
+     * Keeps the date of the last modification of the semantic data of each project.
+     *
+     * @author sbegaudeau
+     */
+    private static final class InMemorySemanticDataSearchService implements ISemanticDataSearchService {
+
+        private final Map<UUID, Instant> projectIdToLastModifiedOn = new ConcurrentHashMap<>();
+
+        public void modify(UUID projectId) {
+            this.projectIdToLastModifiedOn.merge(projectId, Instant.now(), (previousInstant, instant) -> previousInstant.plusMillis(1));
+        }
+
+        @Override
+        public boolean existsByProject(AggregateReference<Project, UUID> project) {
+            return this.projectIdToLastModifiedOn.containsKey(project.getId());
+        }
+
+        @Override
+        public Optional<SemanticData> findByProject(AggregateReference<Project, UUID> project) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<SemanticDataMetadataOnly> findMetadataByProject(AggregateReference<Project, UUID> project) {
+            return Optional.ofNullable(this.projectIdToLastModifiedOn.get(project.getId()))
+                    .map(lastModifiedOn -> new SemanticDataMetadataOnly(UUID.randomUUID(), lastModifiedOn));
+        }
+
+        @Override
+        public Optional<SemanticData> findById(UUID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<SemanticData> findAllByDomains(List<String> domainUris) {
+            return List.of();
+        }
+
+        @Override
+        public List<SemanticDataMetadataOnly> findAllMetadataByDomains(List<String> domainUris) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.data.TestIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataMetadataOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.ISemanticDataRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Used to test that only the documents which have changed are persisted.
+ *
+ * @author sbegaudeau
+ */
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class EditingContextPersistenceTests extends AbstractIntegrationTests {
+
+    private static final String ECORE_URI = "http://www.eclipse.org/emf/2002/Ecore";
+
+    @Autowired
+    private IEditingContextSearchService editingContextSearchService;
+
+    @Autowired
+    private IEditingContextPersistenceService editingContextPersistenceService;
+
+    @Autowired
+    private ISemanticDataRepository semanticDataRepository;
+
+    @Test
+    @DisplayName("Given an editing context already persisted, when it is persisted again without any change, then no document is written")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenEditingContextAlreadyPersistedWhenPersistedAgainWithoutChangeThenNoDocumentIsWritten() {
+        var editingContext = this.loadEditingContext();
+        this.editingContextPersistenceService.persist(editingContext);
+
+        var documentLastModifiedOn = this.getDocument(TestIdentifiers.ECORE_SAMPLE_DOCUMENT).getLastModifiedOn();
+        var semanticDataLastModifiedOn = this.getSemanticDataLastModifiedOn();
+
+        this.editingContextPersistenceService.persist(editingContext);
+
+        assertThat(this.getDocument(TestIdentifiers.ECORE_SAMPLE_DOCUMENT).getLastModifiedOn()).isEqualTo(documentLastModifiedOn);
+        assertThat(this.getSemanticDataLastModifiedOn()).isEqualTo(semanticDataLastModifiedOn);
+    }
+
+    @Test
+    @DisplayName("Given an editing context, when a document is modified, then its new content is persisted")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenEditingContextWhenDocumentIsModifiedThenItsNewContentIsPersisted() {
+        var editingContext = this.loadEditingContext();
+        this.editingContextPersistenceService.persist(editingContext);
+
+        var resourceSet = editingContext.getDomain().getResourceSet();
+        EPackage ePackage = (EPackage) resourceSet.getResources().get(0).getContents().get(0);
+        ePackage.setName("Sample Updated");
+
+        this.editingContextPersistenceService.persist(editingContext);
+
+        assertThat(this.getDocument(TestIdentifiers.ECORE_SAMPLE_DOCUMENT).getContent()).contains("Sample Updated");
+        assertThat(this.semanticDataRepository.findDomainUris(this.getSemanticDataId())).containsExactly(ECORE_URI);
+    }
+
+    @Test
+    @DisplayName("Given an editing context, when a resource is added and then removed, then its document is created and then deleted")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenEditingContextWhenResourceIsAddedAndRemovedThenItsDocumentIsCreatedAndDeleted() {
+        var editingContext = this.loadEditingContext();
+        this.editingContextPersistenceService.persist(editingContext);
+
+        var documentId = UUID.randomUUID();
+        var resource = new JSONResourceFactory().createResourceFromPath(documentId.toString());
+        resource.eAdapters().add(new ResourceMetadataAdapter("Added"));
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("Added");
+        resource.getContents().add(ePackage);
+
+        ResourceSet resourceSet = editingContext.getDomain().getResourceSet();
+        resourceSet.getResources().add(resource);
+        this.editingContextPersistenceService.persist(editingContext);
+
+        assertThat(this.getDocuments()).extracting(Document::getId).containsExactlyInAnyOrder(TestIdentifiers.ECORE_SAMPLE_DOCUMENT, documentId);
+        assertThat(this.getDocument(documentId).getName()).isEqualTo("Added");
+
+        resourceSet.getResources().remove(resource);
+        this.editingContextPersistenceService.persist(editingContext);
+
+        assertThat(this.getDocuments()).extracting(Document::getId).containsExactly(TestIdentifiers.ECORE_SAMPLE_DOCUMENT);
+    }
+
+    @Test
+    @DisplayName("Given a document, when it is upserted with the same content, then no row is written")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenDocumentWhenUpsertedWithSameContentThenNoRowIsWritten() {
+        var semanticDataId = this.getSemanticDataId();
+        var document = this.getDocument(TestIdentifiers.ECORE_SAMPLE_DOCUMENT);
+        var now = Instant.now();
+
+        int count = this.semanticDataRepository.upsertDocument(semanticDataId, document.getId(), document.getName(), document.getContent(), document.getCreatedOn(), now);
+        assertThat(count).isZero();
+        assertThat(this.getDocument(TestIdentifiers.ECORE_SAMPLE_DOCUMENT).getLastModifiedOn()).isEqualTo(document.getLastModifiedOn());
+
+        count = this.semanticDataRepository.upsertDocument(semanticDataId, document.getId(), "Renamed", document.getContent(), document.getCreatedOn(), now);
+        assertThat(count).isOne();
+        assertThat(this.getDocument(TestIdentifiers.ECORE_SAMPLE_DOCUMENT).getName()).isEqualTo("Renamed");
+
+        var documentId = UUID.randomUUID();
+        count = this.semanticDataRepository.upsertDocument(semanticDataId, documentId, "Created", document.getContent(), now, now);
+        assertThat(count).isOne();
+        assertThat(this.getDocuments()).hasSize(2);
+
+        count = this.semanticDataRepository.deleteDocuments(semanticDataId, List.of(documentId, UUID.randomUUID()));
+        assertThat(count).isOne();
+        assertThat(this.getDocuments()).extracting(Document::getId).containsExactly(TestIdentifiers.ECORE_SAMPLE_DOCUMENT);
+    }
+
+    private EditingContext loadEditingContext() {
+        var optionalEditingContext = this.editingContextSearchService.findById(TestIdentifiers.ECORE_SAMPLE_PROJECT.toString());
+        assertThat(optionalEditingContext).isPresent();
+
+        if (optionalEditingContext.get() instanceof EditingContext editingContext) {
+            return editingContext;
+        }
+        return fail("Invalid editing context");
+    }
+
+    private UUID getSemanticDataId() {
+        return this.semanticDataRepository.findMetadataByProjectId(TestIdentifiers.ECORE_SAMPLE_PROJECT)
+                .map(SemanticDataMetadataOnly::id)
+                .orElseGet(() -> fail("Missing semantic data"));
+    }
+
+    private Instant getSemanticDataLastModifiedOn() {
+        return this.semanticDataRepository.findMetadataByProjectId(TestIdentifiers.ECORE_SAMPLE_PROJECT)
+                .map(SemanticDataMetadataOnly::lastModifiedOn)
+                .orElseGet(() -> fail("Missing semantic data"));
+    }
+
+    private List<Document> getDocuments() {
+        return this.semanticDataRepository.findByProjectId(TestIdentifiers.ECORE_SAMPLE_PROJECT)
+                .map(semanticData -> List.copyOf(semanticData.getDocuments()))
+                .orElseGet(() -> fail("Missing semantic data"));
+    }
+
+    private Document getDocument(UUID documentId) {
+        return this.getDocuments().stream()
+                .filter(document -> document.getId().equals(documentId))
+                .findFirst()
+                .orElseGet(() -> fail("Missing document"));
+    }
+}
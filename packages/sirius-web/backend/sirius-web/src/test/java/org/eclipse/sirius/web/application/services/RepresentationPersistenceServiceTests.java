@@ -0,0 +1,344 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.web.application.representation.services.RepresentationPersistenceService;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationData;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationDataMetadataOnly;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationDataDeletedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataCreationService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataSearchService;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationDataUpdateService;
+import org.eclipse.sirius.web.domain.services.Failure;
+import org.eclipse.sirius.web.domain.services.IResult;
+import org.eclipse.sirius.web.domain.services.Success;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit tests of the delayed persistence of the representations.
+ *
+ * @author sbegaudeau
+ */
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public class RepresentationPersistenceServiceTests {
+
+    private static final String PROJECT_ID = UUID.randomUUID().toString();
+
+    private static final String REPRESENTATION_ID = UUID.randomUUID().toString();
+
+    private static final String LABEL = "Diagram";
+
+    private final InMemoryRepresentationDataStore store = new InMemoryRepresentationDataStore();
+
+    private final TestTransactionManager transactionManager = new TestTransactionManager();
+
+    private final RepresentationPersistenceService representationPersistenceService = new RepresentationPersistenceService(this.store, this.store, new ObjectMapper(), List.of(),
+            new TransactionTemplate(this.transactionManager), Duration.ofHours(1));
+
+    @AfterEach
+    public void afterEach() {
+        this.representationPersistenceService.dispose();
+    }
+
+    @Test
+    @DisplayName("Given a delayed save, when the representation is deleted before the delay has elapsed, then it is not created again")
+    public void givenDelayedSaveWhenRepresentationDeletedThenNotCreatedAgain() {
+        var representationId = UUID.fromString(REPRESENTATION_ID);
+        this.representationPersistenceService.save(() -> PROJECT_ID, new TestRepresentation(REPRESENTATION_ID, LABEL, "first"));
+        this.representationPersistenceService.save(() -> PROJECT_ID, new TestRepresentation(REPRESENTATION_ID, LABEL, "second"));
+        assertThat(this.store.getContent(representationId).orElse("")).contains("\"first\"");
+
+        var representationData = this.store.findById(representationId).orElseThrow();
+        this.store.delete(representationId);
+        this.representationPersistenceService.onRepresentationDataDeletedEvent(new RepresentationDataDeletedEvent(UUID.randomUUID(), Instant.now(), representationData));
+        this.representationPersistenceService.flush(representationId);
+
+        assertThat(this.store.existsById(representationId)).isFalse();
+        assertThat(this.store.getCreationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given a delayed save, when the representation is deleted without notification, then it is not created again")
+    public void givenDelayedSaveWhenRepresentationDeletedWithoutNotificationThenNotCreatedAgain() {
+        var representationId = UUID.fromString(REPRESENTATION_ID);
+        this.representationPersistenceService.save(() -> PROJECT_ID, new TestRepresentation(REPRESENTATION_ID, LABEL, "first"));
+        this.representationPersistenceService.save(() -> PROJECT_ID, new TestRepresentation(REPRESENTATION_ID, LABEL, "second"));
+
+        this.store.delete(representationId);
+        this.representationPersistenceService.flush(representationId);
+
+        assertThat(this.store.existsById(representationId)).isFalse();
+        assertThat(this.store.getCreationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given a delayed save, when its transaction is rolled back, then the same content is written again by the next save")
+    public void givenDelayedSaveWhenTransactionRolledBackThenContentWrittenAgain() {
+        var representationId = UUID.fromString(REPRESENTATION_ID);
+        this.representationPersistenceService.save(() -> PROJECT_ID, new TestRepresentation(REPRESENTATION_ID, LABEL, "first"));
+
+        this.representationPersistenceService.save(() -> PROJECT_ID, new TestRepresentation(REPRESENTATION_ID, LABEL, "second"));
+        this.transactionManager.setShouldRollback(true);
+        this.representationPersistenceService.flush(representationId);
+        assertThat(this.store.getUpdateCount()).isEqualTo(1);
+
+        this.transactionManager.setShouldRollback(false);
+        this.representationPersistenceService.save(() -> PROJECT_ID, new TestRepresentation(REPRESENTATION_ID, LABEL, "second"));
+        this.representationPersistenceService.flush(representationId);
+        assertThat(this.store.getUpdateCount()).isEqualTo(2);
+
+        this.representationPersistenceService.save(() -> PROJECT_ID, new TestRepresentation(REPRESENTATION_ID, LABEL, "second"));
+        this.representationPersistenceService.flush(representationId);
+        assertThat(this.store.getUpdateCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Given a written representation, when it is renamed, then its new label is written without any delay")
+    public void givenWrittenRepresentationWhenRenamedThenLabelWrittenWithoutDelay() {
+        var representationId = UUID.fromString(REPRESENTATION_ID);
+        this.representationPersistenceService.save(() -> PROJECT_ID, new TestRepresentation(REPRESENTATION_ID, LABEL, "first"));
+
+        this.representationPersistenceService.save(() -> PROJECT_ID, new TestRepresentation(REPRESENTATION_ID, "Renamed diagram", "first"));
+
+        assertThat(this.store.findById(representationId).map(RepresentationData::getLabel)).hasValue("Renamed diagram");
+        assertThat(this.store.getUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Given a representation which has not been written by this service, when it is saved, then it is updated with a single write")
+    public void givenUnknownRepresentationWhenSavedThenUpdatedWithSingleWrite() {
+        var representationId = UUID.fromString(REPRESENTATION_ID);
+        this.store.create(RepresentationData.newRepresentationData(representationId)
+                .project(AggregateReference.to(UUID.fromString(PROJECT_ID)))
+                .label(LABEL)
+                .kind("TestRepresentation")
+                .descriptionId("descriptionId")
+                .targetObjectId("targetObjectId")
+                .content("{}")
+                .lastMigrationPerformed("none")
+                .migrationVersion("0")
+                .build());
+
+        this.representationPersistenceService.save(() -> PROJECT_ID, new TestRepresentation(REPRESENTATION_ID, "Renamed diagram", "first"));
+
+        assertThat(this.store.getCreationCount()).isEqualTo(1);
+        assertThat(this.store.getUpdateCount()).isEqualTo(1);
+        assertThat(this.store.findById(representationId).map(RepresentationData::getLabel)).hasValue("Renamed diagram");
+        assertThat(this.store.getContent(representationId).orElse("")).contains("\"first\"");
+    }
+
+    /**
+     * A representation whose content can change without changing its label.
+     *
+     * @author sbegaudeau
+     */
+    private record TestRepresentation(String id, String label, String content) implements IRepresentation {
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public String getDescriptionId() {
+            return "descriptionId";
+        }
+
+        @Override
+        public String getLabel() {
+            return this.label;
+        }
+
+        @Override
+        public String getKind() {
+            return "TestRepresentation";
+        }
+
+        @Override
+        public String getTargetObjectId() {
+            return "targetObjectId";
+        }
+    }
+
+    /**
+     * Stores the representation data in memory and counts the writes.
+     *
+     * @author sbegaudeau
+     */
+    private static final class InMemoryRepresentationDataStore implements IRepresentationDataSearchService, IRepresentationDataCreationService, IRepresentationDataUpdateService {
+
+        private final Map<UUID, RepresentationData> representationData = new ConcurrentHashMap<>();
+
+        private int creationCount;
+
+        private int updateCount;
+
+        public int getCreationCount() {
+            return this.creationCount;
+        }
+
+        public int getUpdateCount() {
+            return this.updateCount;
+        }
+
+        public Optional<String> getContent(UUID id) {
+            return this.findById(id).map(RepresentationData::getContent);
+        }
+
+        public void delete(UUID id) {
+            this.representationData.remove(id);
+        }
+
+        @Override
+        public IResult<RepresentationData> create(RepresentationData newRepresentationData) {
+            this.creationCount++;
+            this.representationData.put(newRepresentationData.getId(), newRepresentationData);
+            return new Success<>(newRepresentationData);
+        }
+
+        @Override
+        public IResult<Void> updateContent(UUID id, String content) {
+            return this.updateContentWithMigrationData(id, content, "none", "0");
+        }
+
+        @Override
+        public IResult<Void> updateContentWithMigrationData(UUID id, String content, String lastMigrationPerformed, String migrationVersion) {
+            IResult<Void> result = new Failure<>("Not found");
+            var existingRepresentationData = this.representationData.get(id);
+            if (existingRepresentationData != null) {
+                this.updateCount++;
+                existingRepresentationData.updateContent(content);
+                existingRepresentationData.updateMigrationData(lastMigrationPerformed, migrationVersion);
+                result = new Success<>(null);
+            }
+            return result;
+        }
+
+        @Override
+        public IResult<Void> updateLabelAndContentWithMigrationData(UUID id, String label, String content, String lastMigrationPerformed, String migrationVersion) {
+            IResult<Void> result = new Failure<>("Not found");
+            var existingRepresentationData = this.representationData.get(id);
+            if (existingRepresentationData != null) {
+                this.updateCount++;
+                existingRepresentationData.updateLabel(label);
+                existingRepresentationData.updateContent(content);
+                existingRepresentationData.updateMigrationData(lastMigrationPerformed, migrationVersion);
+                result = new Success<>(null);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean existsById(UUID id) {
+            return this.representationData.containsKey(id);
+        }
+
+        @Override
+        public Optional<RepresentationData> findById(UUID id) {
+            return Optional.ofNullable(this.representationData.get(id));
+        }
+
+        @Override
+        public List<RepresentationData> findAllByProject(AggregateReference<Project, UUID> project) {
+            return List.copyOf(this.representationData.values());
+        }
+
+        @Override
+        public List<RepresentationDataMetadataOnly> findAllMetadataByProject(AggregateReference<Project, UUID> project) {
+            return List.of();
+        }
+
+        @Override
+        public boolean existAnyRepresentationForTargetObjectId(String targetObjectId) {
+            return false;
+        }
+
+        @Override
+        public List<RepresentationData> findAllByTargetObjectId(String targetObjectId) {
+            return List.of();
+        }
+
+        @Override
+        public Optional<AggregateReference<Project, UUID>> findProjectByRepresentationId(UUID representationId) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Transaction manager which can roll back its transactions instead of committing them.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestTransactionManager extends AbstractPlatformTransactionManager {
+
+        private static final long serialVersionUID = 1L;
+
+        private boolean shouldRollback;
+
+        public void setShouldRollback(boolean shouldRollback) {
+            this.shouldRollback = shouldRollback;
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            boolean isRollbackOnly = this.shouldRollback;
+            return new SmartTransactionObject() {
+                @Override
+                public boolean isRollbackOnly() {
+                    return isRollbackOnly;
+                }
+
+                @Override
+                public void flush() {
+                    // Do nothing
+                }
+            };
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            // Do nothing
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            // Do nothing
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            // Do nothing
+        }
+    }
+}
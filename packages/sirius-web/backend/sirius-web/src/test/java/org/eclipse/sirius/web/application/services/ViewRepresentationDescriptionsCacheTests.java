@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.components.view.emf.IViewConverter;
+import org.eclipse.sirius.web.application.studio.services.ViewRepresentationDescriptionsCache;
+import org.eclipse.sirius.web.application.studio.services.api.StudioArtifacts;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the cache of the representation descriptions converted from the views.
+ *
+ * @author sbegaudeau
+ */
+public class ViewRepresentationDescriptionsCacheTests {
+
+    private static final String NS_URI = "domain://sample";
+
+    private final UUID studioId = UUID.randomUUID();
+
+    private final AtomicInteger conversionCount = new AtomicInteger();
+
+    private final IViewConverter viewConverter = (views, visibleEPackages) -> {
+        this.conversionCount.incrementAndGet();
+        return List.of();
+    };
+
+    private final ViewRepresentationDescriptionsCache viewRepresentationDescriptionsCache;
+
+    public ViewRepresentationDescriptionsCacheTests() {
+        EPackage.Registry globalEPackageRegistry = new EPackageRegistryImpl();
+        globalEPackageRegistry.put(EcorePackage.eNS_URI, EcorePackage.eINSTANCE);
+        this.viewRepresentationDescriptionsCache = new ViewRepresentationDescriptionsCache(this.viewConverter, globalEPackageRegistry, new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void testConversionSharedUntilTheStudiosChange() {
+        var studioArtifacts = this.createStudioArtifacts(Instant.now());
+        this.getRepresentationDescriptions(studioArtifacts, studioArtifacts.ePackages());
+        this.getRepresentationDescriptions(studioArtifacts, studioArtifacts.ePackages());
+        assertThat(this.conversionCount).hasValue(1);
+
+        // A new version of the studio is loaded as new views and packages with the same namespace URIs
+        var modifiedStudioArtifacts = this.createStudioArtifacts(Instant.now().plusSeconds(1));
+        this.getRepresentationDescriptions(modifiedStudioArtifacts, modifiedStudioArtifacts.ePackages());
+        this.getRepresentationDescriptions(modifiedStudioArtifacts, modifiedStudioArtifacts.ePackages());
+        assertThat(this.conversionCount).hasValue(2);
+    }
+
+    @Test
+    public void testConversionNotSharedWithPackagesSpecificToTheEditingContext() {
+        var studioArtifacts = this.createStudioArtifacts(Instant.now());
+        this.getRepresentationDescriptions(studioArtifacts, studioArtifacts.ePackages());
+
+        // The packages converted with the domains of a domain provider are new instances for each editing context
+        for (int i = 0; i < 64; i++) {
+            this.getRepresentationDescriptions(studioArtifacts, List.of(this.createEPackage()));
+        }
+        assertThat(this.conversionCount).hasValue(65);
+
+        // The shared conversion has not been evicted
+        this.getRepresentationDescriptions(studioArtifacts, studioArtifacts.ePackages());
+        assertThat(this.conversionCount).hasValue(65);
+    }
+
+    private List<IRepresentationDescription> getRepresentationDescriptions(StudioArtifacts studioArtifacts, List<EPackage> ePackages) {
+        // Each editing context has its own lists of views and packages
+        List<View> views = new ArrayList<>(studioArtifacts.views());
+        List<EPackage> visibleEPackages = new ArrayList<>(ePackages);
+        visibleEPackages.add(EcorePackage.eINSTANCE);
+        return this.viewRepresentationDescriptionsCache.getRepresentationDescriptions(studioArtifacts, views, visibleEPackages);
+    }
+
+    private StudioArtifacts createStudioArtifacts(Instant version) {
+        View view = ViewFactory.eINSTANCE.createView();
+        return new StudioArtifacts(Map.of(this.studioId, version), List.of(), List.of(view), List.of(this.createEPackage()));
+    }
+
+    private EPackage createEPackage() {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("sample");
+        ePackage.setNsURI(NS_URI);
+        return ePackage;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,13 +12,18 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.starter;
 
+import java.util.List;
 import java.util.concurrent.Executors;
 
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextReadOnlyGuard;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationConfiguration;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManagerFactory;
+import org.eclipse.sirius.components.collaborative.editingcontext.RepresentationRefreshExecutor;
+import org.eclipse.sirius.components.collaborative.editingcontext.SharedEditingContextEventProcessorExecutorServiceProvider;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IRepresentationRefreshExecutor;
 import org.eclipse.sirius.components.collaborative.forms.WidgetSubscriptionManager;
 import org.eclipse.sirius.components.collaborative.forms.api.IWidgetSubscriptionManagerFactory;
 import org.eclipse.sirius.components.collaborative.representations.SubscriptionManager;
@@ -32,7 +37,9 @@ import org.eclipse.sirius.components.starter.services.EditingContextDispatcher;
 import org.eclipse.sirius.components.starter.services.ExceptionWrapper;
 import org.eclipse.sirius.components.web.concurrent.DelegatingRequestContextExecutorService;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -43,6 +50,7 @@ import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import reactor.core.publisher.Flux;
 
 /**
@@ -67,6 +75,8 @@ import reactor.core.publisher.Flux;
 // @formatter:on
 public class SiriusWebStarterConfiguration {
 
+    private static final String EDITING_CONTEXT_EXECUTOR_MODE_PROPERTY = "sirius.components.editingContext.executor.mode";
+
     private static final String PATH = "messages/sirius-components-starter";
 
     @Bean
@@ -90,6 +100,7 @@ public class SiriusWebStarterConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(IEditingContextEventProcessorExecutorServiceProvider.class)
+    @ConditionalOnProperty(name = EDITING_CONTEXT_EXECUTOR_MODE_PROPERTY, havingValue = "dedicated", matchIfMissing = true)
     public IEditingContextEventProcessorExecutorServiceProvider editingContextEventProcessorExecutorServiceProvider() {
         return editingContext -> {
             var executorService = Executors.newSingleThreadExecutor((Runnable runnable) -> {
@@ -101,6 +112,21 @@ public class SiriusWebStarterConfiguration {
         };
     }
 
+    @Bean
+    @ConditionalOnMissingBean(IEditingContextEventProcessorExecutorServiceProvider.class)
+    @ConditionalOnProperty(name = EDITING_CONTEXT_EXECUTOR_MODE_PROPERTY, havingValue = "shared")
+    public IEditingContextEventProcessorExecutorServiceProvider sharedEditingContextEventProcessorExecutorServiceProvider(
+            @Value("${sirius.components.editingContext.executor.maxThreads:0}") int maxThreadCount) {
+        return new SharedEditingContextEventProcessorExecutorServiceProvider(DelegatingRequestContextExecutorService::new, maxThreadCount);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(IRepresentationRefreshExecutor.class)
+    public IRepresentationRefreshExecutor representationRefreshExecutor(@Value("${sirius.components.editingContext.refreshParallelism:1}") int refreshParallelism,
+            List<IEditingContextReadOnlyGuard> editingContextReadOnlyGuards, MeterRegistry meterRegistry) {
+        return new RepresentationRefreshExecutor(refreshParallelism, DelegatingRequestContextExecutorService::new, editingContextReadOnlyGuards, meterRegistry);
+    }
+
     @Bean
     @ConditionalOnMissingBean(IGraphQLWebSocketHandlerListener.class)
     public IGraphQLWebSocketHandlerListener graphQLWebSocketHandlerListener() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,8 @@ package org.eclipse.sirius.components.collaborative.trees;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -24,11 +26,14 @@ import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPol
 import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicyRegistry;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManager;
 import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationDiffEventFlux;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationDiffer;
 import org.eclipse.sirius.components.collaborative.trees.api.ITreeEventHandler;
 import org.eclipse.sirius.components.collaborative.trees.api.ITreeEventProcessor;
 import org.eclipse.sirius.components.collaborative.trees.api.ITreeInput;
 import org.eclipse.sirius.components.collaborative.trees.api.ITreeService;
 import org.eclipse.sirius.components.collaborative.trees.api.TreeCreationParameters;
+import org.eclipse.sirius.components.collaborative.trees.dto.TreeDiffEventPayload;
 import org.eclipse.sirius.components.collaborative.trees.dto.TreeRefreshedEventPayload;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
@@ -42,9 +47,6 @@ import org.slf4j.LoggerFactory;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
-import reactor.core.publisher.Sinks.EmitResult;
 import reactor.core.publisher.Sinks.Many;
 import reactor.core.publisher.Sinks.One;
 
@@ -70,10 +72,10 @@ public class TreeEventProcessor implements ITreeEventProcessor {
 
     private final IRepresentationRefreshPolicyRegistry representationRefreshPolicyRegistry;
 
-    private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
-
     private final AtomicReference<Tree> currentTree = new AtomicReference<>();
 
+    private final RepresentationDiffEventFlux<Tree> treeEventFlux;
+
     private final Timer timer;
 
     public TreeEventProcessor(IEditingContext editingContext, ITreeService treeService, TreeCreationParameters treeCreationParameters, List<ITreeEventHandler> treeEventHandlers,
@@ -95,6 +97,9 @@ public class TreeEventProcessor implements ITreeEventProcessor {
 
         Tree tree = this.refreshTree();
         this.currentTree.set(tree);
+
+        var representationDiffer = new RepresentationDiffer(Set.of("children"), Set.of());
+        this.treeEventFlux = new RepresentationDiffEventFlux<>(tree, representationDiffer, RepresentationDiffEventFlux.DEFAULT_SNAPSHOT_INTERVAL);
     }
 
     @Override
@@ -130,13 +135,9 @@ public class TreeEventProcessor implements ITreeEventProcessor {
             Tree tree = this.refreshTree();
 
             this.currentTree.set(tree);
-            if (this.sink.currentSubscriberCount() > 0) {
-                EmitResult emitResult = this.sink.tryEmitNext(new TreeRefreshedEventPayload(changeDescription.getInput().id(), tree));
-                if (emitResult.isFailure()) {
-                    String pattern = "An error has occurred while emitting a TreeRefreshedEventPayload: {}";
-                    this.logger.warn(pattern, emitResult);
-                }
-            }
+
+            UUID id = changeDescription.getInput().id();
+            this.treeEventFlux.representationRefreshed(tree, new TreeRefreshedEventPayload(id, tree), diff -> Optional.of(new TreeDiffEventPayload(id, diff.changes(), diff.removedElementIds())));
 
             long end = System.currentTimeMillis();
             this.timer.record(end - start, TimeUnit.MILLISECONDS);
@@ -184,8 +185,7 @@ public class TreeEventProcessor implements ITreeEventProcessor {
 
     @Override
     public Flux<IPayload> getOutputEvents(IInput input) {
-        var initialRefresh = Mono.fromCallable(() -> new TreeRefreshedEventPayload(input.id(), this.currentTree.get()));
-        var refreshEventFlux = Flux.concat(initialRefresh, this.sink.asFlux());
+        var refreshEventFlux = this.treeEventFlux.getFlux(input, tree -> new TreeRefreshedEventPayload(input.id(), tree));
 
         // @formatter:off
         return Flux.merge(
@@ -200,12 +200,7 @@ public class TreeEventProcessor implements ITreeEventProcessor {
         this.logger.trace("Disposing the tree event processor {}", this.treeCreationParameters.getEditingContext().getId());
 
         this.subscriptionManager.dispose();
-
-        EmitResult emitResult = this.sink.tryEmitComplete();
-        if (emitResult.isFailure()) {
-            String pattern = "An error has occurred while marking the publisher as complete: {}";
-            this.logger.warn(pattern, emitResult);
-        }
+        this.treeEventFlux.dispose();
     }
 
 }
@@ -83,6 +83,7 @@ public class TreeEventProcessorFactory implements IRepresentationEventProcessorF
                         .activeFilterIds(treeConfiguration.getActiveFilterIds())
                         .expanded(treeConfiguration.getExpanded())
                         .editingContext(editingContext)
+                        .window(treeConfiguration.getWindow().orElse(null))
                         .build();
 
                 IRepresentationEventProcessor treeEventProcessor = new TreeEventProcessor(editingContext, this.treeService, treeCreationParameters, this.treeEventHandlers,
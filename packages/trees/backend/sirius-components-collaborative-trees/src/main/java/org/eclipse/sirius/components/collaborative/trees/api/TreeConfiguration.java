@@ -16,8 +16,10 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.collaborative.api.IRepresentationConfiguration;
+import org.eclipse.sirius.components.trees.renderer.TreeWindow;
 
 /**
  * The configuration of the tree event processor.
@@ -34,9 +36,16 @@ public class TreeConfiguration implements IRepresentationConfiguration {
 
     private final List<String> expanded;
 
+    private final TreeWindow window;
+
     public TreeConfiguration(String editingContextId, String treeId, List<String> expanded, List<String> activeFilters) {
+        this(editingContextId, treeId, expanded, activeFilters, null);
+    }
+
+    public TreeConfiguration(String editingContextId, String treeId, List<String> expanded, List<String> activeFilters, TreeWindow window) {
         this.activeFilterIds = Objects.requireNonNull(activeFilters);
         this.expanded = Objects.requireNonNull(expanded);
+        this.window = window;
 
         StringBuilder idBuilder = new StringBuilder(treeId);
         if (treeId.endsWith("://")) {
@@ -51,6 +60,10 @@ public class TreeConfiguration implements IRepresentationConfiguration {
         List<String> activatedFilterIds = activeFilters.stream().map(id -> URLEncoder.encode(id, StandardCharsets.UTF_8)).toList();
         idBuilder.append("&activeFilterIds=[").append(String.join(",", activatedFilterIds)).append("]");
 
+        if (window != null) {
+            idBuilder.append("&offset=").append(window.offset()).append("&limit=").append(window.limit());
+        }
+
         this.treeId = idBuilder.toString();
     }
 
@@ -67,4 +80,8 @@ public class TreeConfiguration implements IRepresentationConfiguration {
         return this.expanded;
     }
 
+    public Optional<TreeWindow> getWindow() {
+        return Optional.ofNullable(this.window);
+    }
+
 }
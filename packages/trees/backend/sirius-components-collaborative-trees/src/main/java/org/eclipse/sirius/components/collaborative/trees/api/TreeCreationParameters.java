@@ -15,10 +15,12 @@ package org.eclipse.sirius.components.collaborative.trees.api;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.annotations.Immutable;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.trees.description.TreeDescription;
+import org.eclipse.sirius.components.trees.renderer.TreeWindow;
 
 /**
  * This class is used because creating tree requires sending at once multiple parameters.
@@ -37,6 +39,8 @@ public final class TreeCreationParameters {
 
     private IEditingContext editingContext;
 
+    private TreeWindow window;
+
     private TreeCreationParameters() {
         // Prevent instantiation
     }
@@ -61,14 +65,18 @@ public final class TreeCreationParameters {
         return this.editingContext;
     }
 
+    public Optional<TreeWindow> getWindow() {
+        return Optional.ofNullable(this.window);
+    }
+
     public static Builder newTreeCreationParameters(String id) {
         return new Builder(id);
     }
 
     @Override
     public String toString() {
-        String pattern = "{0} '{'id: {1}, treeDescriptionId: {2}, activeFilterIds: {3}, expanded: {4}'}'";
-        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.treeDescription.getId(), this.activeFilterIds, this.expanded);
+        String pattern = "{0} '{'id: {1}, treeDescriptionId: {2}, activeFilterIds: {3}, expanded: {4}, window: {5}'}'";
+        return MessageFormat.format(pattern, this.getClass().getSimpleName(), this.id, this.treeDescription.getId(), this.activeFilterIds, this.expanded, this.window);
     }
 
     /**
@@ -88,6 +96,8 @@ public final class TreeCreationParameters {
 
         private IEditingContext editingContext;
 
+        private TreeWindow window;
+
         private Builder(String id) {
             this.id = id;
         }
@@ -112,6 +122,11 @@ public final class TreeCreationParameters {
             return this;
         }
 
+        public Builder window(TreeWindow window) {
+            this.window = window;
+            return this;
+        }
+
         public TreeCreationParameters build() {
             TreeCreationParameters treeCreationParameters = new TreeCreationParameters();
             treeCreationParameters.id = Objects.requireNonNull(this.id);
@@ -119,6 +134,7 @@ public final class TreeCreationParameters {
             treeCreationParameters.activeFilterIds = Objects.requireNonNull(this.activeFilterIds);
             treeCreationParameters.expanded = Objects.requireNonNull(this.expanded);
             treeCreationParameters.editingContext = Objects.requireNonNull(this.editingContext);
+            treeCreationParameters.window = this.window;
             return treeCreationParameters;
         }
     }
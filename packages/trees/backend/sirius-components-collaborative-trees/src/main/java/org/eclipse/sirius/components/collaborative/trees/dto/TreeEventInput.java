@@ -15,12 +15,23 @@ package org.eclipse.sirius.components.collaborative.trees.dto;
 import java.util.List;
 import java.util.UUID;
 
-import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationDiffInput;
 
 /**
  * The input of the tree event subscription.
  *
+ * <p>
+ * The offset and the limit can be used to only receive a window of the rows of the tree.
+ * </p>
+ *
  * @author sbegaudeau
  */
-public record TreeEventInput(UUID id, String editingContextId, String treeId, List<String> expanded, List<String> activeFilterIds) implements IInput {
+public record TreeEventInput(UUID id, String editingContextId, String treeId, List<String> expanded, List<String> activeFilterIds, Boolean diff, Integer offset, Integer limit) implements IRepresentationDiffInput {
+    public TreeEventInput(UUID id, String editingContextId, String treeId, List<String> expanded, List<String> activeFilterIds) {
+        this(id, editingContextId, treeId, expanded, activeFilterIds, Boolean.FALSE);
+    }
+
+    public TreeEventInput(UUID id, String editingContextId, String treeId, List<String> expanded, List<String> activeFilterIds, Boolean diff) {
+        this(id, editingContextId, treeId, expanded, activeFilterIds, diff, null, null);
+    }
 }
@@ -27,6 +27,7 @@ import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinate
 import org.eclipse.sirius.components.graphql.api.IEventProcessorSubscriptionProvider;
 import org.eclipse.sirius.components.graphql.api.IExceptionWrapper;
 import org.eclipse.sirius.components.graphql.api.LocalContextConstants;
+import org.eclipse.sirius.components.trees.renderer.TreeWindow;
 import org.reactivestreams.Publisher;
 
 import graphql.execution.DataFetcherResult;
@@ -59,7 +60,11 @@ public class SubscriptionTreeEventDataFetcher implements IDataFetcherWithFieldCo
     public Publisher<DataFetcherResult<IPayload>> get(DataFetchingEnvironment environment) throws Exception {
         Object argument = environment.getArgument(INPUT_ARGUMENT);
         var input = this.objectMapper.convertValue(argument, TreeEventInput.class);
-        var treeConfiguration = new TreeConfiguration(input.editingContextId(), input.treeId(), input.expanded(), input.activeFilterIds());
+        TreeWindow window = null;
+        if (input.offset() != null && input.limit() != null) {
+            window = new TreeWindow(input.offset(), input.limit());
+        }
+        var treeConfiguration = new TreeConfiguration(input.editingContextId(), input.treeId(), input.expanded(), input.activeFilterIds(), window);
 
         Map<String, Object> localContext = new HashMap<>();
         localContext.put(LocalContextConstants.EDITING_CONTEXT_ID, input.editingContextId());
@@ -42,6 +42,7 @@ public final class Tree implements IRepresentation {
 
     private List<TreeItem> children;
 
+    private int itemCount;
 
     private Tree() {
         // Prevent instantiation
@@ -76,6 +77,16 @@ public final class Tree implements IRepresentation {
         return this.children;
     }
 
+    /**
+     * Returns the number of rows of the tree, which is the number of items of the tree once flattened, including the
+     * items which have not been rendered if only a window of the tree has been rendered.
+     *
+     * @return The number of rows of the tree
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
     public static Builder newTree(String id) {
         return new Builder(id);
     }
@@ -105,6 +116,8 @@ public final class Tree implements IRepresentation {
 
         private List<TreeItem> children;
 
+        private int itemCount = -1;
+
         private Builder(String id) {
             this.id = Objects.requireNonNull(id);
         }
@@ -129,6 +142,11 @@ public final class Tree implements IRepresentation {
             return this;
         }
 
+        public Builder itemCount(int itemCount) {
+            this.itemCount = itemCount;
+            return this;
+        }
+
         public Tree build() {
             Tree tree = new Tree();
             tree.id = Objects.requireNonNull(this.id);
@@ -137,6 +155,10 @@ public final class Tree implements IRepresentation {
             tree.targetObjectId = Objects.requireNonNull(this.targetObjectId);
             tree.label = Objects.requireNonNull(this.label);
             tree.children = Objects.requireNonNull(this.children);
+            tree.itemCount = this.itemCount;
+            if (this.itemCount < 0) {
+                tree.itemCount = this.children.size();
+            }
             return tree;
         }
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -49,6 +49,8 @@ public final class TreeItem {
 
     private List<TreeItem> children;
 
+    private int childrenCount;
+
     private TreeItem() {
         // Prevent instantiation
     }
@@ -97,6 +99,16 @@ public final class TreeItem {
         return this.children;
     }
 
+    /**
+     * Returns the number of children of the tree item, which can be greater than the number of children rendered if
+     * only a window of the tree has been rendered.
+     *
+     * @return The number of children of the tree item
+     */
+    public int getChildrenCount() {
+        return this.childrenCount;
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'id: {1}, kind: {2}, label: {3}, editable: {4}, deletable: {5}, iconURL: {6}, hasChildren: {7}, expanded: {8}, childCount: {9}'}'";
@@ -133,6 +145,8 @@ public final class TreeItem {
 
         private List<TreeItem> children;
 
+        private int childrenCount = -1;
+
         private Builder(String id) {
             this.id = Objects.requireNonNull(id);
         }
@@ -182,6 +196,11 @@ public final class TreeItem {
             return this;
         }
 
+        public Builder childrenCount(int childrenCount) {
+            this.childrenCount = childrenCount;
+            return this;
+        }
+
         public TreeItem build() {
             TreeItem treeItem = new TreeItem();
             treeItem.id = Objects.requireNonNull(this.id);
@@ -194,6 +213,10 @@ public final class TreeItem {
             treeItem.expanded = this.expanded;
             treeItem.hasChildren = this.hasChildren;
             treeItem.children = Objects.requireNonNull(this.children);
+            treeItem.childrenCount = this.childrenCount;
+            if (this.childrenCount < 0) {
+                treeItem.childrenCount = this.children.size();
+            }
             return treeItem;
         }
     }
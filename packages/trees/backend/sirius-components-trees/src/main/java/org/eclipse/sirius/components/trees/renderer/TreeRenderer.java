@@ -15,6 +15,7 @@ package org.eclipse.sirius.components.trees.renderer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.trees.Tree;
@@ -24,6 +25,12 @@ import org.eclipse.sirius.components.trees.description.TreeDescription;
 /**
  * Renderer used to create the tree from its description and some variables.
  *
+ * <p>
+ * When a window is given, only the items of the rows in this window, and their ancestors, are rendered. The children
+ * of the expanded items are still retrieved in order to count the rows of the tree but the other providers of the
+ * description are not evaluated for the items outside of the window.
+ * </p>
+ *
  * @author hmarchadour
  */
 public class TreeRenderer {
@@ -36,9 +43,18 @@ public class TreeRenderer {
 
     private final TreeDescription treeDescription;
 
+    private final Optional<TreeWindow> optionalWindow;
+
+    private int rowCount;
+
     public TreeRenderer(VariableManager variableManager, TreeDescription treeDescription) {
+        this(variableManager, treeDescription, Optional.empty());
+    }
+
+    public TreeRenderer(VariableManager variableManager, TreeDescription treeDescription, Optional<TreeWindow> optionalWindow) {
         this.variableManager = Objects.requireNonNull(variableManager);
         this.treeDescription = Objects.requireNonNull(treeDescription);
+        this.optionalWindow = Objects.requireNonNull(optionalWindow);
     }
 
     public Tree render() {
@@ -46,12 +62,14 @@ public class TreeRenderer {
         String label = this.treeDescription.getLabelProvider().apply(this.variableManager);
         String targetObjectId = this.treeDescription.getTargetObjectIdProvider().apply(this.variableManager);
 
+        this.rowCount = 0;
+
         List<?> rootElements = this.treeDescription.getElementsProvider().apply(this.variableManager);
         List<TreeItem> childrenItems = new ArrayList<>(rootElements.size());
         for (Object rootElement : rootElements) {
             VariableManager rootElementVariableManager = this.variableManager.createChild();
             rootElementVariableManager.put(VariableManager.SELF, rootElement);
-            childrenItems.add(this.renderTreeItem(rootElementVariableManager));
+            this.renderTreeItem(rootElementVariableManager).ifPresent(childrenItems::add);
         }
 
         return Tree.newTree(treeId)
@@ -59,10 +77,31 @@ public class TreeRenderer {
                 .descriptionId(this.treeDescription.getId())
                 .label(label)
                 .children(childrenItems)
+                .itemCount(this.rowCount)
                 .build();
     }
 
-    private TreeItem renderTreeItem(VariableManager treeItemVariableManager) {
+    private Optional<TreeItem> renderTreeItem(VariableManager treeItemVariableManager) {
+        int rowIndex = this.rowCount;
+        this.rowCount++;
+
+        List<?> children = this.treeDescription.getChildrenProvider().apply(treeItemVariableManager);
+        List<TreeItem> childrenTreeItems = new ArrayList<>();
+        for (Object child : children) {
+            VariableManager childVariableManager = treeItemVariableManager.createChild();
+            childVariableManager.put(VariableManager.SELF, child);
+            this.renderTreeItem(childVariableManager).ifPresent(childrenTreeItems::add);
+        }
+
+        Optional<TreeItem> optionalTreeItem = Optional.empty();
+        boolean isRendered = this.optionalWindow.map(window -> window.contains(rowIndex)).orElse(true) || !childrenTreeItems.isEmpty();
+        if (isRendered) {
+            optionalTreeItem = Optional.of(this.createTreeItem(treeItemVariableManager, childrenTreeItems, children.size()));
+        }
+        return optionalTreeItem;
+    }
+
+    private TreeItem createTreeItem(VariableManager treeItemVariableManager, List<TreeItem> childrenTreeItems, int childrenCount) {
         String id = this.treeDescription.getTreeItemIdProvider().apply(treeItemVariableManager);
         String kind = this.treeDescription.getKindProvider().apply(treeItemVariableManager);
         String label = this.treeDescription.getLabelProvider().apply(treeItemVariableManager);
@@ -72,15 +111,6 @@ public class TreeRenderer {
         List<String> iconURL = this.treeDescription.getIconURLProvider().apply(treeItemVariableManager);
         Boolean hasChildren = this.treeDescription.getHasChildrenProvider().apply(treeItemVariableManager);
 
-        List<?> children = this.treeDescription.getChildrenProvider().apply(treeItemVariableManager);
-        List<TreeItem> childrenTreeItems = new ArrayList<>(children.size());
-
-        boolean expanded = !children.isEmpty();
-        for (Object child : children) {
-            VariableManager childVariableManager = treeItemVariableManager.createChild();
-            childVariableManager.put(VariableManager.SELF, child);
-            childrenTreeItems.add(this.renderTreeItem(childVariableManager));
-        }
         return TreeItem.newTreeItem(id)
                 .kind(kind)
                 .label(label)
@@ -89,8 +119,9 @@ public class TreeRenderer {
                 .selectable(selectable)
                 .iconURL(iconURL)
                 .children(childrenTreeItems)
+                .childrenCount(childrenCount)
                 .hasChildren(hasChildren)
-                .expanded(expanded)
+                .expanded(childrenCount > 0)
                 .build();
     }
 }
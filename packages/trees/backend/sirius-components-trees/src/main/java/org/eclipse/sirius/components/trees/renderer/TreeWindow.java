@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.trees.renderer;
+
+/**
+ * The window of the rows of the tree which should be rendered.
+ *
+ * <p>
+ * The rows are the items of the tree flattened in depth-first order, each expanded item being followed by the rows of
+ * its children. Only the items of the rows in the window and their ancestors are rendered.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record TreeWindow(int offset, int limit) {
+    public TreeWindow {
+        offset = Math.max(0, offset);
+        limit = Math.max(0, limit);
+    }
+
+    public boolean contains(int rowIndex) {
+        return rowIndex >= this.offset && rowIndex - this.offset < this.limit;
+    }
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.trees.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.trees.Tree;
+import org.eclipse.sirius.components.trees.TreeItem;
+import org.eclipse.sirius.components.trees.description.TreeDescription;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the tree renderer.
+ *
+ * @author sbegaudeau
+ */
+public class TreeRendererTests {
+
+    private static final String FIRST_ID = "1";
+
+    private static final String SECOND_ID = "2";
+
+    private static final Map<String, List<String>> CHILDREN = Map.of(
+            FIRST_ID, List.of("1.1", "1.2"),
+            SECOND_ID, List.of("2.1")
+    );
+
+    private final AtomicInteger labelCount = new AtomicInteger();
+
+    @Test
+    public void testRenderCompleteTree() {
+        Tree tree = new TreeRenderer(new VariableManager(), this.getTreeDescription()).render();
+
+        assertThat(tree.getItemCount()).isEqualTo(5);
+        assertThat(tree.getChildren()).extracting(TreeItem::getId).containsExactly(FIRST_ID, SECOND_ID);
+        assertThat(tree.getChildren().get(0).getChildren()).hasSize(2);
+        assertThat(tree.getChildren().get(0).getChildrenCount()).isEqualTo(2);
+        assertThat(this.labelCount.get()).isEqualTo(6);
+    }
+
+    @Test
+    public void testRenderWindow() {
+        Tree tree = new TreeRenderer(new VariableManager(), this.getTreeDescription(), Optional.of(new TreeWindow(2, 2))).render();
+
+        assertThat(tree.getItemCount()).isEqualTo(5);
+        assertThat(tree.getChildren()).extracting(TreeItem::getId).containsExactly(FIRST_ID, SECOND_ID);
+
+        TreeItem firstTreeItem = tree.getChildren().get(0);
+        assertThat(firstTreeItem.getChildren()).extracting(TreeItem::getId).containsExactly("1.2");
+        assertThat(firstTreeItem.getChildrenCount()).isEqualTo(2);
+        assertThat(firstTreeItem.isExpanded()).isTrue();
+
+        TreeItem secondTreeItem = tree.getChildren().get(1);
+        assertThat(secondTreeItem.getChildren()).isEmpty();
+        assertThat(secondTreeItem.getChildrenCount()).isEqualTo(1);
+
+        assertThat(this.labelCount.get()).isEqualTo(4);
+    }
+
+    private TreeDescription getTreeDescription() {
+        return TreeDescription.newTreeDescription("treeDescription")
+                .label("Tree")
+                .idProvider(variableManager -> "tree")
+                .treeItemIdProvider(this::getSelf)
+                .kindProvider(variableManager -> "kind")
+                .labelProvider(variableManager -> {
+                    this.labelCount.incrementAndGet();
+                    return this.getSelf(variableManager);
+                })
+                .targetObjectIdProvider(variableManager -> "targetObjectId")
+                .iconURLProvider(variableManager -> List.of())
+                .editableProvider(variableManager -> true)
+                .deletableProvider(variableManager -> true)
+                .selectableProvider(variableManager -> true)
+                .elementsProvider(variableManager -> List.of(FIRST_ID, SECOND_ID))
+                .childrenProvider(variableManager -> CHILDREN.getOrDefault(this.getSelf(variableManager), List.of()))
+                .hasChildrenProvider(variableManager -> CHILDREN.containsKey(this.getSelf(variableManager)))
+                .canCreatePredicate(variableManager -> true)
+                .deleteHandler(variableManager -> new Success())
+                .renameHandler((variableManager, newLabel) -> new Success())
+                .build();
+    }
+
+    private String getSelf(VariableManager variableManager) {
+        return variableManager.get(VariableManager.SELF, String.class).orElse("");
+    }
+}
@@ -23,6 +23,7 @@ import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.sirius.components.collaborative.diagrams.DiagramServices;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.emf.query.EObjectIndexServices;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.view.View;
@@ -52,7 +53,7 @@ public class ViewAQLInterpreterFactory implements IViewAQLInterpreterFactory {
         this.javaServiceProviders = new ArrayList<>();
         this.javaServiceProviders.addAll(Objects.requireNonNull(javaServiceProviders));
         IServiceProvider nodeServiceProvider = (IReadOnlyQueryEnvironment queryEnvironment) -> ServiceUtils.getReceiverServices(null, Node.class).stream().toList();
-        this.javaServiceProviders.add((View view) -> List.of(CanonicalServices.class, DiagramServices.class, nodeServiceProvider.getClass()));
+        this.javaServiceProviders.add((View view) -> List.of(CanonicalServices.class, DiagramServices.class, EObjectIndexServices.class, nodeServiceProvider.getClass()));
         this.applicationContext = Objects.requireNonNull(applicationContext);
     }
 
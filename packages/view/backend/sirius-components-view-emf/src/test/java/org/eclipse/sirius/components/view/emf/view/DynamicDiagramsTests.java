@@ -167,7 +167,7 @@ public class DynamicDiagramsTests {
 
         IObjectService objectService = new IObjectService.NoOp();
         MeterRegistry meterRegistry = new SimpleMeterRegistry();
-        var diagramCreationService = new DiagramCreationService(representationDescriptionSearchService, objectService, new IOperationValidator.NoOp(), meterRegistry);
+        var diagramCreationService = new DiagramCreationService(representationDescriptionSearchService, objectService, new IOperationValidator.NoOp(), meterRegistry, false);
 
         IEditingContext editinContext = new IEditingContext.NoOp();
 
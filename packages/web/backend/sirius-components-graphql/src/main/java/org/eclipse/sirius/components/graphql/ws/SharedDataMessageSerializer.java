@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.ws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.graphql.api.SubscriptionEventExecutionResult;
+import org.eclipse.sirius.components.graphql.api.SubscriptionEventInstrumentation;
+import org.eclipse.sirius.components.graphql.controllers.GraphQLPayload;
+
+import graphql.ExecutionResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Used to serialize the results of the subscriptions only once when they are sent to several subscribers.
+ *
+ * <p>
+ * Subscriptions which use the same query with the same variables, except for the id of their input, are grouped
+ * together. Since all the subscribers of a representation receive the same refresh events, the results of the
+ * execution of their subscription for a given event are the same. The serialized payload of the last result of each
+ * group is thus kept along with the event it has been computed from, as identified by the
+ * {@link SubscriptionEventInstrumentation}, and it is reused for the results of the other subscribers computed from the
+ * very same event. Only the envelope of the data message, which contains the identifier of the operation of each
+ * subscriber, is created for each subscriber.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class SharedDataMessageSerializer {
+
+    private static final String COUNTER_METRIC_NAME = "siriusweb_graphql_ws_payload_serializations";
+
+    private static final String SERIALIZATION = "serialization";
+
+    private static final String INPUT = "input";
+
+    private static final String ID = "id";
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<SubscriptionKey, AtomicInteger> subscriptionCounts = new ConcurrentHashMap<>();
+
+    private final Map<SubscriptionKey, SerializedPayload> lastSerializedPayloads = new ConcurrentHashMap<>();
+
+    private final Counter sharedSerializationCounter;
+
+    private final Counter computedSerializationCounter;
+
+    public SharedDataMessageSerializer(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+
+        // @formatter:off
+        this.sharedSerializationCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(SERIALIZATION, "shared")
+                .register(meterRegistry);
+        this.computedSerializationCounter = Counter.builder(COUNTER_METRIC_NAME)
+                .tag(SERIALIZATION, "computed")
+                .register(meterRegistry);
+        // @formatter:on
+    }
+
+    /**
+     * Registers a new subscription and returns the key of the group of subscriptions which will receive the same
+     * results.
+     *
+     * @param graphQLPayload
+     *            The GraphQL payload of the subscription
+     * @return The key of the group of the subscription
+     */
+    public SubscriptionKey register(GraphQLPayload graphQLPayload) {
+        Map<String, Object> variables = new LinkedHashMap<>();
+        if (graphQLPayload.getVariables() != null) {
+            variables.putAll(graphQLPayload.getVariables());
+        }
+        if (variables.get(INPUT) instanceof Map<?, ?> input) {
+            Map<Object, Object> inputWithoutId = new LinkedHashMap<>(input);
+            inputWithoutId.remove(ID);
+            variables.put(INPUT, inputWithoutId);
+        }
+
+        var subscriptionKey = new SubscriptionKey(graphQLPayload.getQuery(), graphQLPayload.getOperationName(), variables);
+        this.subscriptionCounts.computeIfAbsent(subscriptionKey, key -> new AtomicInteger()).incrementAndGet();
+        return subscriptionKey;
+    }
+
+    public void unregister(SubscriptionKey subscriptionKey) {
+        this.subscriptionCounts.computeIfPresent(subscriptionKey, (key, count) -> {
+            AtomicInteger remainingCount = count;
+            if (count.decrementAndGet() <= 0) {
+                this.lastSerializedPayloads.remove(key);
+                remainingCount = null;
+            }
+            return remainingCount;
+        });
+    }
+
+    /**
+     * Serializes the data message sent to a subscriber.
+     *
+     * @param subscriptionKey
+     *            The key of the group of the subscription
+     * @param id
+     *            The identifier of the operation of the subscriber
+     * @param executionResult
+     *            The result of the execution of the subscription
+     * @return The serialized data message
+     * @throws JsonProcessingException
+     *             If the payload cannot be serialized
+     */
+    public String serialize(SubscriptionKey subscriptionKey, String id, ExecutionResult executionResult) throws JsonProcessingException {
+        String serializedPayload;
+
+        // Results which have not been computed from an event shared with other subscribers are never reused
+        Object sourceEvent = executionResult;
+        if (executionResult instanceof SubscriptionEventExecutionResult subscriptionEventExecutionResult) {
+            sourceEvent = subscriptionEventExecutionResult.getSourceEvent();
+        }
+
+        SerializedPayload lastSerializedPayload = this.lastSerializedPayloads.get(subscriptionKey);
+        if (lastSerializedPayload != null && lastSerializedPayload.sourceEvent() == sourceEvent) {
+            serializedPayload = lastSerializedPayload.serializedPayload();
+            this.sharedSerializationCounter.increment();
+        } else {
+            serializedPayload = this.objectMapper.writeValueAsString(executionResult.toSpecification());
+            this.computedSerializationCounter.increment();
+
+            if (sourceEvent != executionResult && this.subscriptionCounts.containsKey(subscriptionKey)) {
+                this.lastSerializedPayloads.put(subscriptionKey, new SerializedPayload(sourceEvent, serializedPayload));
+            }
+        }
+
+        return "{\"id\":" + this.objectMapper.writeValueAsString(id) + ",\"payload\":" + serializedPayload + ",\"type\":\"data\"}";
+    }
+
+    /**
+     * The key of a group of subscriptions receiving the same results.
+     *
+     * @author sbegaudeau
+     */
+    public record SubscriptionKey(String query, String operationName, Map<String, Object> variables) {
+    }
+
+    /**
+     * The last payload serialized for a group of subscriptions along with the event it has been computed from.
+     *
+     * @author sbegaudeau
+     */
+    private record SerializedPayload(Object sourceEvent, String serializedPayload) {
+    }
+}
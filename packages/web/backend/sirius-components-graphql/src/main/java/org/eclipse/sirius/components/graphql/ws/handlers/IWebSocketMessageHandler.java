@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -32,9 +32,17 @@ public interface IWebSocketMessageHandler {
         try {
             String responsePayload = objectMapper.writeValueAsString(message);
             TextMessage textMessage = new TextMessage(responsePayload);
+            logger.trace("Message sent: {}", message);
+            this.send(session, textMessage, logger);
+        } catch (IOException exception) {
+            logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    default void send(WebSocketSession session, TextMessage textMessage, Logger logger) {
+        try {
             synchronized (session) {
                 if (session.isOpen()) {
-                    logger.trace("Message sent: {}", message);
                     session.sendMessage(textMessage);
                 }
             }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.graphql.ws.handlers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.ArrayList;
@@ -23,6 +24,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.sirius.components.graphql.controllers.GraphQLPayload;
+import org.eclipse.sirius.components.graphql.ws.SharedDataMessageSerializer;
+import org.eclipse.sirius.components.graphql.ws.SharedDataMessageSerializer.SubscriptionKey;
 import org.eclipse.sirius.components.graphql.ws.SubscriptionEntry;
 import org.eclipse.sirius.components.graphql.ws.dto.input.StartMessage;
 import org.eclipse.sirius.components.graphql.ws.dto.output.CompleteMessage;
@@ -31,6 +34,7 @@ import org.eclipse.sirius.components.graphql.ws.dto.output.ErrorMessage;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import graphql.ExecutionInput;
@@ -65,11 +69,19 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
     private final Timer graphQLRequestTimer;
 
+    private final SharedDataMessageSerializer sharedDataMessageSerializer;
+
     public StartMessageHandler(WebSocketSession session, GraphQL graphQL, ObjectMapper objectMapper, Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries, MeterRegistry meterRegistry) {
+        this(session, graphQL, objectMapper, sessions2entries, meterRegistry, new SharedDataMessageSerializer(objectMapper, meterRegistry));
+    }
+
+    public StartMessageHandler(WebSocketSession session, GraphQL graphQL, ObjectMapper objectMapper, Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries, MeterRegistry meterRegistry,
+            SharedDataMessageSerializer sharedDataMessageSerializer) {
         this.session = Objects.requireNonNull(session);
         this.graphQL = Objects.requireNonNull(graphQL);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.sessions2entries = Objects.requireNonNull(sessions2entries);
+        this.sharedDataMessageSerializer = Objects.requireNonNull(sharedDataMessageSerializer);
 
         this.graphQLRequestTimer = Timer.builder(COUNTER_METRIC_NAME).register(meterRegistry);
     }
@@ -99,14 +111,16 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
         if (executionResult.getData() instanceof Publisher<?>) {
             Publisher<ExecutionResult> publisher = executionResult.getData();
 
-            this.subscribe(id, publisher);
+            this.subscribe(id, graphQLPayload, publisher);
         } else {
             this.send(this.objectMapper, this.session, new DataMessage(id, executionResult.toSpecification()), this.logger);
         }
     }
 
-    private void subscribe(String id, Publisher<ExecutionResult> publisher) {
-        Consumer<ExecutionResult> consumer = result -> this.send(this.objectMapper, this.session, new DataMessage(id, result.toSpecification()), this.logger);
+    private void subscribe(String id, GraphQLPayload graphQLPayload, Publisher<ExecutionResult> publisher) {
+        SubscriptionKey subscriptionKey = this.sharedDataMessageSerializer.register(graphQLPayload);
+
+        Consumer<ExecutionResult> consumer = result -> this.sendSharedDataMessage(subscriptionKey, id, result);
         Consumer<Throwable> onErrorConsumer = error -> {
             this.logger.warn(error.getMessage(), error);
             this.send(this.objectMapper, this.session, new ErrorMessage(id, null), this.logger);
@@ -115,6 +129,7 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
         // @formatter:off
         Disposable subscription = Flux.from(publisher)
+                .doFinally(signalType -> this.sharedDataMessageSerializer.unregister(subscriptionKey))
                 .subscribe(consumer, onErrorConsumer, onCompleteConsumer);
         // @formatter:on
 
@@ -126,4 +141,16 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
     }
 
+    /**
+     * Sends the result of a subscription while reusing the serialization of the same result sent to other subscribers.
+     */
+    private void sendSharedDataMessage(SubscriptionKey subscriptionKey, String id, ExecutionResult result) {
+        try {
+            String responsePayload = this.sharedDataMessageSerializer.serialize(subscriptionKey, id, result);
+            this.send(this.session, new TextMessage(responsePayload), this.logger);
+        } catch (JsonProcessingException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2024 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,10 +19,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.sirius.components.graphql.api.SubscriptionEventInstrumentation;
 import org.eclipse.sirius.components.graphql.controllers.GraphQLPayload;
+import org.eclipse.sirius.components.graphql.ws.SharedDataMessageSerializer.SubscriptionKey;
 import org.eclipse.sirius.components.graphql.ws.dto.input.StartMessage;
 import org.eclipse.sirius.components.graphql.ws.dto.input.StopMessage;
 import org.eclipse.sirius.components.graphql.ws.handlers.ConnectionInitMessageHandler;
@@ -103,33 +106,7 @@ public class WebSocketHandlerTests {
     @Test
     public void testStartMessageHandlerWithSubscription() {
         NoOpWebSocketSession session = new NoOpWebSocketSession();
-        // @formatter:off
-        DataFetcher<Flux<String>> dataFetcher = environment -> Flux.just("OneEvent");
-
-        GraphQLCodeRegistry codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
-                .dataFetcher(FieldCoordinates.coordinates("Subscription", "eventReceived"), dataFetcher)
-                .build();
-
-        GraphQLObjectType queryType = GraphQLObjectType.newObject()
-                .name("Query")
-                .field(newFieldDefinition()
-                        .name("field")
-                        .type(Scalars.GraphQLString))
-                .build();
-        GraphQLObjectType subscriptionType = GraphQLObjectType.newObject()
-                .name("Subscription")
-                .field(newFieldDefinition()
-                        .name("eventReceived")
-                        .type(Scalars.GraphQLString))
-                .build();
-        GraphQLSchema graphQLSchema = GraphQLSchema.newSchema()
-                .query(queryType)
-                .subscription(subscriptionType)
-                .codeRegistry(codeRegistry)
-                .build();
-        GraphQL graphQL = GraphQL.newGraphQL(graphQLSchema)
-                .build();
-        // @formatter:on
+        GraphQL graphQL = this.getSubscriptionGraphQL();
 
         ObjectMapper objectMapper = new ObjectMapper();
         Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries = new HashMap<>();
@@ -158,6 +135,68 @@ public class WebSocketHandlerTests {
         assertThat(textMessage.getPayload()).isEqualTo("{\"id\":\"subscriptionOperationId\",\"type\":\"complete\"}");
     }
 
+    @Test
+    public void testSubscriptionResultSerializedOnce() {
+        // The same event instance is sent to both subscriptions, as with the refresh events of a representation
+        TestEvent event = new TestEvent("OneEvent");
+        SimpleMeterRegistry meterRegistry = this.subscribeTwice(event, event);
+
+        assertThat(this.getSerializationCount(meterRegistry, "shared")).isEqualTo(1);
+        assertThat(this.getSerializationCount(meterRegistry, "computed")).isEqualTo(1);
+    }
+
+    @Test
+    public void testSubscriptionResultsOfEqualEventsSerializedSeparately() {
+        // Events which are equal but distinct may not lead to the same result, they are never shared
+        SimpleMeterRegistry meterRegistry = this.subscribeTwice(new TestEvent("OneEvent"), new TestEvent("OneEvent"));
+
+        assertThat(this.getSerializationCount(meterRegistry, "shared")).isEqualTo(0);
+        assertThat(this.getSerializationCount(meterRegistry, "computed")).isEqualTo(2);
+    }
+
+    /**
+     * Starts two subscriptions with the same query, the first one receiving the first event and the second one
+     * receiving the second event, and returns the meter registry used to count the serializations.
+     */
+    private SimpleMeterRegistry subscribeTwice(TestEvent firstEvent, TestEvent secondEvent) {
+        Iterator<TestEvent> events = List.of(firstEvent, secondEvent).iterator();
+        GraphQL graphQL = this.getSubscriptionGraphQL(environment -> Flux.just(events.next()));
+
+        // @formatter:off
+        GraphQLPayload payload = GraphQLPayload.newGraphQLPayload()
+                .query("subscription { eventReceived }")
+                .build();
+        // @formatter:on
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SharedDataMessageSerializer sharedDataMessageSerializer = new SharedDataMessageSerializer(objectMapper, meterRegistry);
+        Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries = new HashMap<>();
+
+        NoOpWebSocketSession firstSession = new NoOpWebSocketSession();
+        NoOpWebSocketSession secondSession = new NoOpWebSocketSession();
+
+        // The subscription of the first session is kept open while the second one receives its result
+        SubscriptionKey subscriptionKey = sharedDataMessageSerializer.register(payload);
+        new StartMessageHandler(firstSession, graphQL, objectMapper, sessions2entries, meterRegistry, sharedDataMessageSerializer).handle(new StartMessage("firstOperationId", payload));
+        new StartMessageHandler(secondSession, graphQL, objectMapper, sessions2entries, meterRegistry, sharedDataMessageSerializer).handle(new StartMessage("secondOperationId", payload));
+        sharedDataMessageSerializer.unregister(subscriptionKey);
+
+        TextMessage textMessage = (TextMessage) secondSession.getMessages().get(0);
+        assertThat(textMessage.getPayload()).isEqualTo("{\"id\":\"secondOperationId\",\"payload\":{\"data\":{\"eventReceived\":\"OneEvent\"}},\"type\":\"data\"}");
+
+        return meterRegistry;
+    }
+
+    private double getSerializationCount(SimpleMeterRegistry meterRegistry, String serialization) {
+        // @formatter:off
+        return meterRegistry.get("siriusweb_graphql_ws_payload_serializations")
+                .tag("serialization", serialization)
+                .counter()
+                .count();
+        // @formatter:on
+    }
+
     @Test
     public void testStopMessageHandler() {
         NoOpWebSocketSession session = new NoOpWebSocketSession();
@@ -197,4 +236,50 @@ public class WebSocketHandlerTests {
 
         assertThat(sessions2entries.size()).isEqualTo(0);
     }
+
+    private GraphQL getSubscriptionGraphQL() {
+        return this.getSubscriptionGraphQL(environment -> Flux.just("OneEvent"));
+    }
+
+    private GraphQL getSubscriptionGraphQL(DataFetcher<Flux<?>> dataFetcher) {
+        // @formatter:off
+        GraphQLCodeRegistry codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
+                .dataFetcher(FieldCoordinates.coordinates("Subscription", "eventReceived"), dataFetcher)
+                .build();
+
+        GraphQLObjectType queryType = GraphQLObjectType.newObject()
+                .name("Query")
+                .field(newFieldDefinition()
+                        .name("field")
+                        .type(Scalars.GraphQLString))
+                .build();
+        GraphQLObjectType subscriptionType = GraphQLObjectType.newObject()
+                .name("Subscription")
+                .field(newFieldDefinition()
+                        .name("eventReceived")
+                        .type(Scalars.GraphQLString))
+                .build();
+        GraphQLSchema graphQLSchema = GraphQLSchema.newSchema()
+                .query(queryType)
+                .subscription(subscriptionType)
+                .codeRegistry(codeRegistry)
+                .build();
+        GraphQL graphQL = GraphQL.newGraphQL(graphQLSchema)
+                .instrumentation(new SubscriptionEventInstrumentation())
+                .build();
+        // @formatter:on
+        return graphQL;
+    }
+
+    /**
+     * An event whose result is serialized as its name.
+     *
+     * @author sbegaudeau
+     */
+    private record TestEvent(String name) {
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
 }